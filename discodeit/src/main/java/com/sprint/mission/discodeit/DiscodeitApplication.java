@@ -5,6 +5,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 import com.sprint.mission.discodeit.dto.request.*;
 import com.sprint.mission.discodeit.dto.response.ChannelResponse;
+import com.sprint.mission.discodeit.dto.response.LoginResponse;
 import com.sprint.mission.discodeit.dto.response.MessageResponse;
 import com.sprint.mission.discodeit.dto.response.UserResponse;
 import com.sprint.mission.discodeit.entity.BinaryContent;
@@ -23,6 +24,11 @@ public class DiscodeitApplication {
 	public static void main(String[] args) {
 		ConfigurableApplicationContext context = SpringApplication.run(DiscodeitApplication.class, args);
 
+		// 팔로워는 읽기 전용이므로 데이터를 만드는 기능 테스트를 건너뛴다
+		if ("follower".equalsIgnoreCase(context.getEnvironment().getProperty("discodeit.replication.role"))) {
+			return;
+		}
+
 		// Spring Context에서 Bean 조회
 		UserService userService = context.getBean(UserService.class);
 		ChannelService channelService = context.getBean(ChannelService.class);
@@ -57,9 +63,11 @@ public class DiscodeitApplication {
 		// ===== 2. AuthService 로그인 테스트 =====
 		System.out.println("\n--- 2. AuthService 로그인 테스트 ---");
 		LoginRequest loginRequest = new LoginRequest("woody", "woody1234");
-		UserResponse loggedInUser = authService.login(loginRequest);
+		LoginResponse loginResponse = authService.login(loginRequest);
+		UserResponse loggedInUser = loginResponse.user();
 		System.out.println("로그인 성공: " + loggedInUser.username());
 		System.out.println("  - online: " + loggedInUser.online());
+		System.out.println("  - 토큰으로 조회: " + authService.findByToken(loginResponse.token()).username());
 
 		// 잘못된 비밀번호 테스트
 		try {
@@ -77,7 +85,7 @@ public class DiscodeitApplication {
 		System.out.println("  - isOnline: " + userStatus.isOnline());
 
 		// UserStatus 업데이트
-		UserStatusUpdateRequest statusUpdateRequest = new UserStatusUpdateRequest(Instant.now());
+		UserStatusUpdateRequest statusUpdateRequest = new UserStatusUpdateRequest(Instant.now(), null);
 		userStatusService.updateByUserId(user.id(), statusUpdateRequest);
 		System.out.println("UserStatus 업데이트 완료 - lastActiveAt 갱신됨");
 
@@ -90,7 +98,7 @@ public class DiscodeitApplication {
 		System.out.println("  - type: " + publicChannel.type());
 
 		// PUBLIC Channel 수정 테스트
-		ChannelUpdateRequest channelUpdateRequest = new ChannelUpdateRequest("공지사항", "공지사항 채널입니다.");
+		ChannelUpdateRequest channelUpdateRequest = new ChannelUpdateRequest("공지사항", "공지사항 채널입니다.", null);
 		ChannelResponse updatedChannel = channelService.update(publicChannel.id(), channelUpdateRequest);
 		System.out.println("PUBLIC Channel 수정: " + updatedChannel.name());
 
@@ -159,7 +167,7 @@ public class DiscodeitApplication {
 
 		// ===== 8. Message 수정 테스트 =====
 		System.out.println("\n--- 8. Message 수정 테스트 ---");
-		MessageUpdateRequest messageUpdateRequest = new MessageUpdateRequest("수정된 메시지입니다.");
+		MessageUpdateRequest messageUpdateRequest = new MessageUpdateRequest("수정된 메시지입니다.", null);
 		MessageResponse updatedMessage = messageService.update(message2.id(), messageUpdateRequest);
 		System.out.println("Message 수정: " + updatedMessage.content());
 
@@ -193,16 +201,16 @@ public class DiscodeitApplication {
 		List<ChannelResponse> channels = channelService.findAllByUserId(user.id());
 		System.out.println("User가 볼 수 있는 Channel 수: " + channels.size());
 
-		List<MessageResponse> messages = messageService.findAllByChannelId(publicChannel.id());
+		List<MessageResponse> messages = messageService.findAllByChannelId(publicChannel.id(), 0, 100);
 		System.out.println("Channel의 Message 수: " + messages.size());
 
 		// ===== 12. 삭제 테스트 (Cascading) =====
 		System.out.println("\n--- 12. 삭제 테스트 (Cascading) ---");
 
 		// Message 삭제 (첨부파일도 함께 삭제)
-		System.out.println("Message 삭제 전 - Message 수: " + messageService.findAllByChannelId(publicChannel.id()).size());
+		System.out.println("Message 삭제 전 - Message 수: " + messageService.findAllByChannelId(publicChannel.id(), 0, 100).size());
 		messageService.delete(message.id());
-		System.out.println("Message 삭제 후 - Message 수: " + messageService.findAllByChannelId(publicChannel.id()).size());
+		System.out.println("Message 삭제 후 - Message 수: " + messageService.findAllByChannelId(publicChannel.id(), 0, 100).size());
 
 		// Channel 삭제 (관련 Message, ReadStatus 함께 삭제)
 		System.out.println("\nPRIVATE Channel 삭제 테스트");
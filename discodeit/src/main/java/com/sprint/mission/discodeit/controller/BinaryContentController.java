@@ -0,0 +1,78 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.service.BinaryContentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/binaryContents")
+@RequiredArgsConstructor
+public class BinaryContentController {
+    private final BinaryContentService binaryContentService;
+
+    @GetMapping("/{binaryContentId}")
+    public ResponseEntity<BinaryContent> find(@PathVariable UUID binaryContentId) {
+        return ResponseEntity.ok(binaryContentService.find(binaryContentId));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<BinaryContent>> findAllByIdIn(@RequestParam("binaryContentIds") List<UUID> ids) {
+        return ResponseEntity.ok(binaryContentService.findAllByIdIn(ids));
+    }
+
+    // 메타데이터 없이 원본 바이트만 내려준다
+    @GetMapping("/{binaryContentId}/download")
+    public ResponseEntity<byte[]> download(@PathVariable UUID binaryContentId) {
+        return toDownload(binaryContentService.find(binaryContentId));
+    }
+
+    // 아바타 등 작게 표시할 이미지는 요청한 크기(px)에 맞는 축소본을 내려준다
+    @GetMapping("/{binaryContentId}/variant")
+    public ResponseEntity<byte[]> downloadVariant(@PathVariable UUID binaryContentId, @RequestParam("size") int size) {
+        return toDownload(binaryContentService.findVariant(binaryContentId, size));
+    }
+
+    @DeleteMapping("/{binaryContentId}")
+    public ResponseEntity<Void> delete(@PathVariable UUID binaryContentId) {
+        binaryContentService.delete(binaryContentId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static ResponseEntity<byte[]> toDownload(BinaryContent binaryContent) {
+        return ResponseEntity.ok()
+                .contentType(mediaTypeOf(binaryContent.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(binaryContent.getFileName()).toString())
+                .body(binaryContent.getData());
+    }
+
+    // 업로드 때 받은 Content-Type을 그대로 저장하므로 형식이 잘못됐으면 일반 바이너리로 내려준다
+    private static MediaType mediaTypeOf(String contentType) {
+        if (contentType == null) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        try {
+            return MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
+    // 파일 이름의 따옴표/줄바꿈을 이스케이프하고, ASCII가 아니면 RFC 5987 filename*로 인코딩한다
+    private static ContentDisposition contentDisposition(String fileName) {
+        ContentDisposition.Builder builder = ContentDisposition.attachment();
+        if (fileName != null) {
+            builder.filename(fileName, StandardCharsets.UTF_8);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.dto.response.ChangeFeedStatsResponse;
+import com.sprint.mission.discodeit.event.ChangeFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/changeFeed")
+@RequiredArgsConstructor
+public class ChangeFeedController {
+    private final ChangeFeed changeFeed;
+
+    @GetMapping("/stats")
+    public ResponseEntity<ChangeFeedStatsResponse> stats() {
+        return ResponseEntity.ok(changeFeed.stats());
+    }
+}
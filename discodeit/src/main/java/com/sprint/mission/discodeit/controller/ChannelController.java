@@ -0,0 +1,77 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.dto.request.ChannelRetentionRequest;
+import com.sprint.mission.discodeit.dto.request.ChannelUpdateRequest;
+import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
+import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
+import com.sprint.mission.discodeit.dto.response.ChannelResponse;
+import com.sprint.mission.discodeit.event.ChannelEventBroker;
+import com.sprint.mission.discodeit.service.ChannelService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/channels")
+@RequiredArgsConstructor
+public class ChannelController {
+    private final ChannelService channelService;
+    private final JsonArrayStreamer jsonArrayStreamer;
+    private final ChannelEventBroker channelEventBroker;
+
+    @PostMapping("/public")
+    public ResponseEntity<ChannelResponse> createPublic(@RequestBody PublicChannelCreateRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(channelService.createPublic(request));
+    }
+
+    @PostMapping("/private")
+    public ResponseEntity<ChannelResponse> createPrivate(@RequestBody PrivateChannelCreateRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(channelService.createPrivate(request));
+    }
+
+    @GetMapping("/{channelId}")
+    public ResponseEntity<ChannelResponse> find(@PathVariable UUID channelId) {
+        return ResponseEntity.ok(channelService.find(channelId));
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> findAllByUserId(@RequestParam UUID userId) {
+        return jsonArrayStreamer.stream(channelService.findAllByUserId(userId).stream());
+    }
+
+    // 채널의 메시지 생성/수정/삭제 이벤트 구독 (폴링 대체)
+    @GetMapping(value = "/{channelId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable UUID channelId) {
+        channelService.find(channelId);
+        return channelEventBroker.subscribe(channelId);
+    }
+
+    @PatchMapping("/{channelId}")
+    public ResponseEntity<ChannelResponse> update(
+            @PathVariable UUID channelId,
+            @RequestBody ChannelUpdateRequest request
+    ) {
+        return ResponseEntity.ok(channelService.update(channelId, request));
+    }
+
+    // 메시지 보존 기간과 만료 시 처리 방식(DELETE, ARCHIVE) 설정
+    @PutMapping("/{channelId}/retention")
+    public ResponseEntity<ChannelResponse> updateRetention(
+            @PathVariable UUID channelId,
+            @RequestBody ChannelRetentionRequest request
+    ) {
+        return ResponseEntity.ok(channelService.updateRetention(channelId, request));
+    }
+
+    @DeleteMapping("/{channelId}")
+    public ResponseEntity<Void> delete(@PathVariable UUID channelId) {
+        channelService.delete(channelId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.stream.Stream;
+
+/**
+ * 컬렉션 응답을 리스트 전체를 직렬화해 버퍼링하지 않고 원소 단위로 JSON 배열에 흘려 쓴다.
+ * 응답 쓰기는 MVC 비동기 실행기(가상 스레드)에서 진행된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonArrayStreamer {
+    private static final int FLUSH_INTERVAL = 256;
+
+    private final ObjectMapper objectMapper;
+
+    public <T> ResponseEntity<StreamingResponseBody> stream(Stream<T> elements) {
+        StreamingResponseBody body = outputStream -> {
+            try (
+                    Stream<T> source = elements;
+                    JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+            ) {
+                generator.writeStartArray();
+                int written = 0;
+                for (T element : (Iterable<T>) source::iterator) {
+                    generator.writeObject(element);
+                    if (++written % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
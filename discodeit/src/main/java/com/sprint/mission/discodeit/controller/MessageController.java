@@ -0,0 +1,79 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
+import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.MessageResponse;
+import com.sprint.mission.discodeit.service.MessageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/messages")
+@RequiredArgsConstructor
+public class MessageController {
+    private final MessageService messageService;
+    private final JsonArrayStreamer jsonArrayStreamer;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<MessageResponse> create(
+            @RequestPart("messageCreateRequest") MessageCreateRequest request,
+            @RequestPart(value = "attachments", required = false) List<MultipartFile> attachments
+    ) {
+        List<BinaryContentCreateRequest> attachmentRequests = attachments == null
+                ? List.of()
+                : attachments.stream()
+                        .filter(file -> !file.isEmpty())
+                        .map(this::toBinaryContentRequest)
+                        .toList();
+        MessageResponse message = messageService.create(request, attachmentRequests);
+        return ResponseEntity.status(HttpStatus.CREATED).body(message);
+    }
+
+    @GetMapping("/{messageId}")
+    public ResponseEntity<MessageResponse> find(@PathVariable UUID messageId) {
+        return ResponseEntity.ok(messageService.find(messageId));
+    }
+
+    // 채널 히스토리는 순번 커서로 나눠 조회 (다음 페이지는 마지막 메시지의 sequence를 afterSequence로)
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> findAllByChannelId(
+            @RequestParam UUID channelId,
+            @RequestParam(defaultValue = "0") long afterSequence,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return jsonArrayStreamer.stream(messageService.streamAllByChannelId(channelId, afterSequence, limit));
+    }
+
+    @PatchMapping("/{messageId}")
+    public ResponseEntity<MessageResponse> update(
+            @PathVariable UUID messageId,
+            @RequestBody MessageUpdateRequest request
+    ) {
+        return ResponseEntity.ok(messageService.update(messageId, request));
+    }
+
+    @DeleteMapping("/{messageId}")
+    public ResponseEntity<Void> delete(@PathVariable UUID messageId) {
+        messageService.delete(messageId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private BinaryContentCreateRequest toBinaryContentRequest(MultipartFile file) {
+        try {
+            return new BinaryContentCreateRequest(file.getOriginalFilename(), file.getContentType(), file.getBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
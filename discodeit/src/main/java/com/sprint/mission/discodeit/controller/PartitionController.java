@@ -0,0 +1,28 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.dto.request.PartitionNodesRequest;
+import com.sprint.mission.discodeit.dto.response.PartitionStatusResponse;
+import com.sprint.mission.discodeit.service.partition.PartitionRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/partitions")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "discodeit.partition.enabled", havingValue = "true")
+public class PartitionController {
+    private final PartitionRouter partitionRouter;
+
+    @GetMapping
+    public ResponseEntity<PartitionStatusResponse> status() {
+        return ResponseEntity.ok(partitionRouter.status());
+    }
+
+    // 노드 추가/제거: 모든 노드에 새 목록을 알리고 채널 재배치가 끝나면 응답
+    @PutMapping("/nodes")
+    public ResponseEntity<PartitionStatusResponse> changeNodes(@RequestBody PartitionNodesRequest request) {
+        return ResponseEntity.ok(partitionRouter.changeNodes(request.nodes()));
+    }
+}
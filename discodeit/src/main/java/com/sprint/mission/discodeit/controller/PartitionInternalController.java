@@ -0,0 +1,126 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.request.ChannelRetentionRequest;
+import com.sprint.mission.discodeit.dto.request.ChannelUpdateRequest;
+import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
+import com.sprint.mission.discodeit.dto.request.PartitionImportRequest;
+import com.sprint.mission.discodeit.dto.request.PartitionMessageCreateRequest;
+import com.sprint.mission.discodeit.dto.response.ChannelResponse;
+import com.sprint.mission.discodeit.dto.response.MessageResponse;
+import com.sprint.mission.discodeit.service.basic.BasicBinaryContentService;
+import com.sprint.mission.discodeit.service.basic.BasicChannelService;
+import com.sprint.mission.discodeit.service.basic.BasicMessageService;
+import com.sprint.mission.discodeit.service.partition.PartitionRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 노드 사이 호출 전용. 라우팅 없이 이 노드의 데이터만 다룬다. 공유 비밀값이 있어야 한다 ({@code PartitionAuthConfig}).
+ */
+@RestController
+@RequestMapping("/internal/partition")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "discodeit.partition.enabled", havingValue = "true")
+public class PartitionInternalController {
+    private final BasicChannelService channelService;
+    private final BasicMessageService messageService;
+    private final BasicBinaryContentService binaryContentService;
+    private final PartitionRouter partitionRouter;
+
+    @PutMapping("/nodes")
+    public ResponseEntity<Void> rebalance(@RequestBody List<String> nodes) {
+        partitionRouter.rebalance(nodes);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/import")
+    public ResponseEntity<Void> importPartition(@RequestBody PartitionImportRequest request) {
+        partitionRouter.importPartition(request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/channels/{channelId}")
+    public ResponseEntity<ChannelResponse> findChannel(@PathVariable UUID channelId) {
+        return ResponseEntity.ok(channelService.find(channelId));
+    }
+
+    @GetMapping("/channels")
+    public ResponseEntity<List<ChannelResponse>> findChannelsByUserId(@RequestParam UUID userId) {
+        return ResponseEntity.ok(channelService.findAllByUserId(userId));
+    }
+
+    @PatchMapping("/channels/{channelId}")
+    public ResponseEntity<ChannelResponse> updateChannel(@PathVariable UUID channelId, @RequestBody ChannelUpdateRequest request) {
+        return ResponseEntity.ok(channelService.update(channelId, request));
+    }
+
+    @PutMapping("/channels/{channelId}/retention")
+    public ResponseEntity<ChannelResponse> updateRetention(@PathVariable UUID channelId, @RequestBody ChannelRetentionRequest request) {
+        return ResponseEntity.ok(channelService.updateRetention(channelId, request));
+    }
+
+    @DeleteMapping("/channels/{channelId}")
+    public ResponseEntity<Void> deleteChannel(@PathVariable UUID channelId) {
+        channelService.delete(channelId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/messages")
+    public ResponseEntity<MessageResponse> createMessage(@RequestBody PartitionMessageCreateRequest request) {
+        List<BinaryContentCreateRequest> attachments =
+                request.attachments() == null ? List.of() : request.attachments();
+        return ResponseEntity.status(HttpStatus.CREATED).body(messageService.create(request.request(), attachments));
+    }
+
+    @GetMapping("/messages/{messageId}")
+    public ResponseEntity<MessageResponse> findMessage(@PathVariable UUID messageId) {
+        return ResponseEntity.ok(messageService.find(messageId));
+    }
+
+    @GetMapping("/messages")
+    public ResponseEntity<List<MessageResponse>> findMessagesByChannelId(
+            @RequestParam UUID channelId,
+            @RequestParam long afterSequence,
+            @RequestParam int limit
+    ) {
+        return ResponseEntity.ok(messageService.findAllByChannelId(channelId, afterSequence, limit));
+    }
+
+    @PatchMapping("/messages/{messageId}")
+    public ResponseEntity<MessageResponse> updateMessage(@PathVariable UUID messageId, @RequestBody MessageUpdateRequest request) {
+        return ResponseEntity.ok(messageService.update(messageId, request));
+    }
+
+    @DeleteMapping("/messages/{messageId}")
+    public ResponseEntity<Void> deleteMessage(@PathVariable UUID messageId) {
+        messageService.delete(messageId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/binaryContents/{binaryContentId}")
+    public ResponseEntity<PartitionImportRequest.AttachmentData> findBinaryContent(@PathVariable UUID binaryContentId) {
+        return ResponseEntity.ok(PartitionImportRequest.AttachmentData.of(binaryContentService.find(binaryContentId)));
+    }
+
+    @GetMapping("/binaryContents")
+    public ResponseEntity<List<PartitionImportRequest.AttachmentData>> findBinaryContents(
+            @RequestParam("binaryContentIds") List<UUID> ids
+    ) {
+        return ResponseEntity.ok(binaryContentService.findAllByIdIn(ids).stream()
+                .map(PartitionImportRequest.AttachmentData::of)
+                .toList());
+    }
+
+    @DeleteMapping("/binaryContents/{binaryContentId}")
+    public ResponseEntity<Void> deleteBinaryContent(@PathVariable UUID binaryContentId) {
+        binaryContentService.delete(binaryContentId);
+        return ResponseEntity.noContent().build();
+    }
+}
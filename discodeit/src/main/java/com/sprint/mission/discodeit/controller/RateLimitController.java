@@ -0,0 +1,21 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.dto.response.RateLimitStatsResponse;
+import com.sprint.mission.discodeit.ratelimit.MessageRateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/rateLimits")
+@RequiredArgsConstructor
+public class RateLimitController {
+    private final MessageRateLimiter messageRateLimiter;
+
+    @GetMapping("/stats")
+    public ResponseEntity<RateLimitStatsResponse> stats() {
+        return ResponseEntity.ok(messageRateLimiter.stats());
+    }
+}
@@ -0,0 +1,49 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.dto.request.ReadStatusCreateRequest;
+import com.sprint.mission.discodeit.dto.request.ReadStatusUpdateRequest;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.service.ReadStatusService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/readStatuses")
+@RequiredArgsConstructor
+public class ReadStatusController {
+    private final ReadStatusService readStatusService;
+
+    @PostMapping
+    public ResponseEntity<ReadStatus> create(@RequestBody ReadStatusCreateRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(readStatusService.create(request));
+    }
+
+    @GetMapping("/{readStatusId}")
+    public ResponseEntity<ReadStatus> find(@PathVariable UUID readStatusId) {
+        return ResponseEntity.ok(readStatusService.find(readStatusId));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ReadStatus>> findAllByUserId(@RequestParam UUID userId) {
+        return ResponseEntity.ok(readStatusService.findAllByUserId(userId));
+    }
+
+    @PatchMapping("/{readStatusId}")
+    public ResponseEntity<ReadStatus> update(
+            @PathVariable UUID readStatusId,
+            @RequestBody ReadStatusUpdateRequest request
+    ) {
+        return ResponseEntity.ok(readStatusService.update(readStatusId, request));
+    }
+
+    @DeleteMapping("/{readStatusId}")
+    public ResponseEntity<Void> delete(@PathVariable UUID readStatusId) {
+        readStatusService.delete(readStatusId);
+        return ResponseEntity.noContent().build();
+    }
+}
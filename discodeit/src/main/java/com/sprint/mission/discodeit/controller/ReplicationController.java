@@ -0,0 +1,35 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.dto.response.ReplicationStatusResponse;
+import com.sprint.mission.discodeit.replication.ReplicationFollower;
+import com.sprint.mission.discodeit.replication.ReplicationLeader;
+import com.sprint.mission.discodeit.replication.ReplicationRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/replication")
+@RequiredArgsConstructor
+public class ReplicationController {
+    private final ObjectProvider<ReplicationLeader> replicationLeader;
+    private final ObjectProvider<ReplicationFollower> replicationFollower;
+
+    @GetMapping("/status")
+    public ResponseEntity<ReplicationStatusResponse> status() {
+        ReplicationFollower follower = replicationFollower.getIfAvailable();
+        if (follower != null) {
+            return ResponseEntity.ok(follower.status());
+        }
+        ReplicationLeader leader = replicationLeader.getIfAvailable();
+        if (leader != null) {
+            return ResponseEntity.ok(leader.status());
+        }
+        return ResponseEntity.ok(new ReplicationStatusResponse(ReplicationRole.NONE, false, 0, 0, 0, 0, Map.of()));
+    }
+}
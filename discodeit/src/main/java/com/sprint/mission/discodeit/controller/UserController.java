@@ -0,0 +1,71 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
+import com.sprint.mission.discodeit.dto.request.UserUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.UserResponse;
+import com.sprint.mission.discodeit.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserController {
+    private final UserService userService;
+    private final JsonArrayStreamer jsonArrayStreamer;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<UserResponse> create(
+            @RequestPart("userCreateRequest") UserCreateRequest request,
+            @RequestPart(value = "profile", required = false) MultipartFile profile
+    ) {
+        UserResponse user = userService.create(request, toBinaryContentRequest(profile));
+        return ResponseEntity.status(HttpStatus.CREATED).body(user);
+    }
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<UserResponse> find(@PathVariable UUID userId) {
+        return ResponseEntity.ok(userService.find(userId));
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> findAll() {
+        return jsonArrayStreamer.stream(userService.findAll().stream());
+    }
+
+    @PatchMapping(value = "/{userId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<UserResponse> update(
+            @PathVariable UUID userId,
+            @RequestPart("userUpdateRequest") UserUpdateRequest request,
+            @RequestPart(value = "profile", required = false) MultipartFile profile
+    ) {
+        return ResponseEntity.ok(userService.update(userId, request, toBinaryContentRequest(profile)));
+    }
+
+    @DeleteMapping("/{userId}")
+    public ResponseEntity<Void> delete(@PathVariable UUID userId) {
+        userService.delete(userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private BinaryContentCreateRequest toBinaryContentRequest(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BinaryContentCreateRequest(file.getOriginalFilename(), file.getContentType(), file.getBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
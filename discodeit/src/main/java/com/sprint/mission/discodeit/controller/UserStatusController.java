@@ -0,0 +1,62 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.dto.request.UserStatusCreateRequest;
+import com.sprint.mission.discodeit.dto.request.UserStatusUpdateRequest;
+import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.service.UserStatusService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/userStatuses")
+@RequiredArgsConstructor
+public class UserStatusController {
+    private final UserStatusService userStatusService;
+
+    @PostMapping
+    public ResponseEntity<UserStatus> create(@RequestBody UserStatusCreateRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(userStatusService.create(request));
+    }
+
+    @GetMapping("/{userStatusId}")
+    public ResponseEntity<UserStatus> find(@PathVariable UUID userStatusId) {
+        return ResponseEntity.ok(userStatusService.find(userStatusId));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<UserStatus>> findAll() {
+        return ResponseEntity.ok(userStatusService.findAll());
+    }
+
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<UserStatus> findByUserId(@PathVariable UUID userId) {
+        return ResponseEntity.ok(userStatusService.findByUserId(userId));
+    }
+
+    @PatchMapping("/{userStatusId}")
+    public ResponseEntity<UserStatus> update(
+            @PathVariable UUID userStatusId,
+            @RequestBody UserStatusUpdateRequest request
+    ) {
+        return ResponseEntity.ok(userStatusService.update(userStatusId, request));
+    }
+
+    @PatchMapping("/users/{userId}")
+    public ResponseEntity<UserStatus> updateByUserId(
+            @PathVariable UUID userId,
+            @RequestBody UserStatusUpdateRequest request
+    ) {
+        return ResponseEntity.ok(userStatusService.updateByUserId(userId, request));
+    }
+
+    @DeleteMapping("/{userStatusId}")
+    public ResponseEntity<Void> delete(@PathVariable UUID userStatusId) {
+        userStatusService.delete(userStatusId);
+        return ResponseEntity.noContent().build();
+    }
+}
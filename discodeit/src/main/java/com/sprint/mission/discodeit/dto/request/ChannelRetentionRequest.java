@@ -0,0 +1,8 @@
+package com.sprint.mission.discodeit.dto.request;
+
+import com.sprint.mission.discodeit.entity.RetentionAction;
+
+public record ChannelRetentionRequest(
+        Integer retentionDays,              // null이면 보존 정책 해제
+        RetentionAction retentionAction     // 생략하면 DELETE
+) {}
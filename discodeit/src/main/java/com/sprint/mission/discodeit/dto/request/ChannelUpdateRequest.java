@@ -2,5 +2,6 @@ package com.sprint.mission.discodeit.dto.request;
 
 public record ChannelUpdateRequest(
         String name,
-        String description
+        String description,
+        Long expectedVersion   // 수정 전에 읽은 version, 그 사이 바뀌었으면 409 (없으면 확인하지 않음)
 ) {}
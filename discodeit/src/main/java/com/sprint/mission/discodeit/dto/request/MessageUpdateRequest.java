@@ -1,5 +1,6 @@
 package com.sprint.mission.discodeit.dto.request;
 
 public record MessageUpdateRequest(
-        String content
+        String content,
+        Long expectedVersion   // 수정 전에 읽은 version, 그 사이 바뀌었으면 409 (없으면 확인하지 않음)
 ) {}
@@ -0,0 +1,72 @@
+package com.sprint.mission.discodeit.dto.request;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.RetentionAction;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// 노드 사이에 옮기는 채널 하나의 데이터 (ID, 순번, 버전을 그대로 유지)
+public record PartitionImportRequest(
+        ChannelData channel,
+        List<MessageData> messages,        // 보관된 메시지 포함
+        List<ReadStatusData> readStatuses,
+        List<AttachmentData> attachments
+) {
+    public record ChannelData(
+            UUID id,
+            Instant createdAt,
+            Instant updatedAt,
+            long version,
+            ChannelType type,
+            String name,
+            String description,
+            Integer retentionDays,
+            RetentionAction retentionAction
+    ) {}
+
+    public record MessageData(
+            UUID id,
+            Instant createdAt,
+            Instant updatedAt,
+            long version,
+            String content,
+            UUID channelId,
+            UUID authorId,
+            List<UUID> attachmentIds,
+            long sequence
+    ) {}
+
+    public record ReadStatusData(
+            UUID id,
+            Instant createdAt,
+            Instant updatedAt,
+            long version,
+            UUID userId,
+            UUID channelId,
+            Instant lastReadAt
+    ) {}
+
+    public record AttachmentData(
+            UUID id,
+            Instant createdAt,
+            String fileName,
+            String contentType,
+            byte[] data,        // JSON에서는 base64
+            UUID originalId,
+            int variantSize
+    ) {
+        public static AttachmentData of(BinaryContent binaryContent) {
+            return new AttachmentData(
+                    binaryContent.getId(), binaryContent.getCreatedAt(), binaryContent.getFileName(),
+                    binaryContent.getContentType(), binaryContent.getData(), binaryContent.getOriginalId(),
+                    binaryContent.getVariantSize());
+        }
+
+        public BinaryContent toBinaryContent() {
+            return new BinaryContent(id, createdAt, fileName, contentType, data, originalId, variantSize);
+        }
+    }
+}
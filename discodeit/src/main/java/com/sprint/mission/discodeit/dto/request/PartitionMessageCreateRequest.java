@@ -0,0 +1,9 @@
+package com.sprint.mission.discodeit.dto.request;
+
+import java.util.List;
+
+// 다른 노드가 채널 담당 노드로 메시지 생성을 넘길 때 사용
+public record PartitionMessageCreateRequest(
+        MessageCreateRequest request,
+        List<BinaryContentCreateRequest> attachments
+) {}
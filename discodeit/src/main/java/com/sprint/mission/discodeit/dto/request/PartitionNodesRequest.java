@@ -0,0 +1,7 @@
+package com.sprint.mission.discodeit.dto.request;
+
+import java.util.List;
+
+public record PartitionNodesRequest(
+        List<String> nodes   // 노드 base URL 목록 (예: http://localhost:8081)
+) {}
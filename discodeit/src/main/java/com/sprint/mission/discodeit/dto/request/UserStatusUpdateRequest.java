@@ -3,5 +3,6 @@ package com.sprint.mission.discodeit.dto.request;
 import java.time.Instant;
 
 public record UserStatusUpdateRequest(
-        Instant lastActiveAt
+        Instant lastActiveAt,
+        Long expectedVersion   // 수정 전에 읽은 version, 그 사이 바뀌었으면 409 (없으면 확인하지 않음)
 ) {}
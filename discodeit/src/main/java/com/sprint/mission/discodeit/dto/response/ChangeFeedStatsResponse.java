@@ -0,0 +1,12 @@
+package com.sprint.mission.discodeit.dto.response;
+
+import java.util.Map;
+
+public record ChangeFeedStatsResponse(
+        long lastSequence,
+        long oldestRetainedSequence,
+        int capacity,
+        long retainedBytes,
+        long skippedEvents,
+        Map<String, Long> consumerOffsets
+) {}
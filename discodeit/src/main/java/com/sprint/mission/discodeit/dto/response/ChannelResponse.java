@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.dto.response;
 
 import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.RetentionAction;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -12,6 +13,9 @@ public record ChannelResponse(
         String description,
         List<UUID> participantIds,
         Instant lastMessageAt,
+        Integer retentionDays,
+        RetentionAction retentionAction,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        long version
 ) {}
@@ -0,0 +1,6 @@
+package com.sprint.mission.discodeit.dto.response;
+
+public record ErrorResponse(
+        int status,
+        String message
+) {}
@@ -0,0 +1,6 @@
+package com.sprint.mission.discodeit.dto.response;
+
+public record LoginResponse(
+        String token,
+        UserResponse user
+) {}
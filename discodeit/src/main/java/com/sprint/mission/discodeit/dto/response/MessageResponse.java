@@ -10,6 +10,8 @@ public record MessageResponse(
         UUID channelId,
         UUID authorId,
         List<UUID> attachmentIds,
+        long sequence,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        long version
 ) {}
@@ -0,0 +1,11 @@
+package com.sprint.mission.discodeit.dto.response;
+
+import java.util.List;
+
+public record PartitionStatusResponse(
+        String self,
+        List<String> nodes,
+        int virtualNodes,
+        int localChannels,   // 이 노드에 저장된 채널 수
+        long handedOffChannels   // 노드 변경으로 다른 노드에 넘긴 채널 수 (누적)
+) {}
@@ -0,0 +1,11 @@
+package com.sprint.mission.discodeit.dto.response;
+
+public record RateLimitStatsResponse(
+        boolean enabled,
+        long allowed,
+        long rejectedByUser,
+        long rejectedByChannel,
+        long rejectedByAttachmentBytes,
+        int trackedUsers,
+        int trackedChannels
+) {}
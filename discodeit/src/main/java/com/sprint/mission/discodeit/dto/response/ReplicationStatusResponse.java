@@ -0,0 +1,15 @@
+package com.sprint.mission.discodeit.dto.response;
+
+import com.sprint.mission.discodeit.replication.ReplicationRole;
+
+import java.util.Map;
+
+public record ReplicationStatusResponse(
+        ReplicationRole role,
+        boolean connected,
+        long appliedSequence,
+        long leaderSequence,
+        long lagEvents,             // 리더가 발행했지만 아직 적용하지 않은 변경 수
+        long lastApplyDelayMillis,  // 마지막으로 적용한 변경이 리더에서 발생한 뒤 적용되기까지 걸린 시간
+        Map<String, Long> followerLag   // 리더: 팔로워별로 아직 보내지 않은 변경 수
+) {}
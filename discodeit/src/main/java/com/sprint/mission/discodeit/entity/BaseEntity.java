@@ -1,26 +1,66 @@
 package com.sprint.mission.discodeit.entity;
 
+import com.sprint.mission.discodeit.util.IdGenerator;
 import lombok.Getter;
 import java.io.Serial;
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.ConcurrentModificationException;
 import java.util.UUID;
 
 @Getter
-public class BaseEntity implements Serializable {
+public class BaseEntity implements Serializable, Cloneable {
     @Serial
     private static final long serialVersionUID = 1L;
     protected UUID id;
     protected Instant createdAt;
     protected Instant updatedAt;
+    protected long version;     // 저장소에서 수정될 때마다 1 증가 (computeIfPresent)
 
     public BaseEntity() {
-        this.id = UUID.randomUUID();
+        this.id = IdGenerator.next();
         Instant now = Instant.now();
         this.createdAt = now;
         this.updatedAt = now;
     }
 
+    // 저장소에서 엔티티를 다시 구성할 때 사용
+    protected BaseEntity(UUID id, Instant createdAt, Instant updatedAt, long version) {
+        this.id = id;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    /**
+     * 저장소가 들고 있는 인스턴스를 직접 고치지 않도록 수정 전에 만드는 얕은 복사본
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends BaseEntity> T copy() {
+        try {
+            return (T) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 수정 요청이 읽었던 버전과 현재 버전이 다르면 그 사이 다른 수정이 있었던 것이므로 거절한다 (409, 다시 읽고 재시도).
+     * computeIfPresent의 수정 함수 안에서 호출해 확인과 수정이 한 번에 일어나게 한다. null이면 확인하지 않는다.
+     */
+    public void checkVersion(Long expectedVersion) {
+        if (expectedVersion != null && expectedVersion != version) {
+            throw new ConcurrentModificationException(getClass().getSimpleName() + " " + id
+                    + " was modified: expected version " + expectedVersion + ", current " + version);
+        }
+    }
+
+    /**
+     * 저장소가 최신 값을 직접 수정한 경우(computeIfPresent) 이전 값의 다음 버전으로 올린다
+     */
+    public void advanceVersionFrom(BaseEntity previous) {
+        this.version = previous.version + 1;
+    }
 
     protected void updateTimeStamp() {
         this.updatedAt = Instant.now();
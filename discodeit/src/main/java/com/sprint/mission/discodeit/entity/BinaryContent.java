@@ -1,8 +1,10 @@
 package com.sprint.mission.discodeit.entity;
 
+import com.sprint.mission.discodeit.util.IdGenerator;
 import lombok.Getter;
 import java.io.Serial;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -17,12 +19,42 @@ public class BinaryContent implements Serializable {
     private final String fileName;      // 파일명
     private final String contentType;   // MIME 타입 (예: image/png, application/pdf)
     private final byte[] data;          // 실제 바이너리 데이터
+    private final UUID originalId;      // 축소 이미지(variant)면 원본 BinaryContent ID, 원본이면 null
+    private final int variantSize;      // 축소 이미지의 긴 변 픽셀 수, 원본이면 0
 
     public BinaryContent(String fileName, String contentType, byte[] data) {
-        this.id = UUID.randomUUID();
-        this.createdAt = Instant.now();
+        this(IdGenerator.next(), Instant.now(), fileName, contentType, data, null, 0);
+    }
+
+    // 원본에서 만든 축소 이미지 (ID는 원본 ID와 크기로 정해진다)
+    public BinaryContent(String fileName, String contentType, byte[] data, UUID originalId, int variantSize) {
+        this(variantId(originalId, variantSize), Instant.now(), fileName, contentType, data, originalId, variantSize);
+    }
+
+    // 저장소에서 기존 파일을 다시 구성할 때 사용
+    public BinaryContent(UUID id, Instant createdAt, String fileName, String contentType, byte[] data,
+                         UUID originalId, int variantSize) {
+        this.id = id;
+        this.createdAt = createdAt;
         this.fileName = fileName;
         this.contentType = contentType;
         this.data = data;
+        this.originalId = originalId;
+        this.variantSize = variantSize;
+    }
+
+    public boolean isVariant() {
+        return originalId != null;
+    }
+
+    /**
+     * 원본의 size 크기 축소본 ID. 원본 ID와 크기에서 결정되므로 축소본을 찾을 때 전체를 훑지 않고 바로 조회한다.
+     */
+    public static UUID variantId(UUID originalId, int size) {
+        ByteBuffer key = ByteBuffer.allocate(20)
+                .putLong(originalId.getMostSignificantBits())
+                .putLong(originalId.getLeastSignificantBits())
+                .putInt(size);
+        return UUID.nameUUIDFromBytes(key.array());
     }
 }
\ No newline at end of file
@@ -1,11 +1,21 @@
 package com.sprint.mission.discodeit.entity;
 import lombok.Getter;
 
+import java.io.Serial;
+import java.time.Instant;
+import java.util.UUID;
+
 @Getter
 public class Channel extends BaseEntity {
+    // 필드 추가 전에 저장된 채널도 읽을 수 있도록 기존 기본값으로 고정
+    @Serial
+    private static final long serialVersionUID = 5214017615380612168L;
+
     private final ChannelType type;
     private String name;
     private String description;
+    private Integer retentionDays;              // 메시지 보존 기간(일), null이면 무기한
+    private RetentionAction retentionAction;    // 보존 기간이 지난 메시지 처리 방식
 
     public Channel(ChannelType type, String name, String description) {
         super();
@@ -14,9 +24,31 @@ public class Channel extends BaseEntity {
         this.description = description;
     }
 
+    // 저장소에서 기존 채널을 다시 구성할 때 사용
+    public Channel(UUID id, Instant createdAt, Instant updatedAt, ChannelType type, String name, String description,
+                   Integer retentionDays, RetentionAction retentionAction, long version) {
+        super(id, createdAt, updatedAt, version);
+        this.type = type;
+        this.name = name;
+        this.description = description;
+        this.retentionDays = retentionDays;
+        this.retentionAction = retentionAction;
+    }
+
     public void update(String name, String description) {
         if (name != null) this.name = name;
         if (description != null) this.description = description;
         updateTimeStamp();
     }
-}
\ No newline at end of file
+
+    public void updateRetention(Integer retentionDays, RetentionAction retentionAction) {
+        this.retentionDays = retentionDays;
+        this.retentionAction = retentionDays == null ? null
+                : retentionAction != null ? retentionAction : RetentionAction.DELETE;
+        updateTimeStamp();
+    }
+
+    public boolean hasRetention() {
+        return retentionDays != null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.sprint.mission.discodeit.entity;
+
+import java.io.Serializable;
+
+/**
+ * 저장소가 다루는 엔티티 종류 (스냅샷, 로그 등 바이너리 포맷에서는 ordinal 대신 tag를 사용)
+ */
+public enum EntityType {
+    USER(1, User.class),
+    CHANNEL(2, Channel.class),
+    MESSAGE(3, Message.class),
+    READ_STATUS(4, ReadStatus.class),
+    USER_STATUS(5, UserStatus.class),
+    BINARY_CONTENT(6, BinaryContent.class);
+
+    private final byte tag;
+    private final Class<? extends Serializable> javaType;
+
+    EntityType(int tag, Class<? extends Serializable> javaType) {
+        this.tag = (byte) tag;
+        this.javaType = javaType;
+    }
+
+    public byte tag() {
+        return tag;
+    }
+
+    public Class<? extends Serializable> javaType() {
+        return javaType;
+    }
+
+    public static EntityType fromTag(byte tag) {
+        for (EntityType type : values()) {
+            if (type.tag == tag) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown entity type tag: " + tag);
+    }
+}
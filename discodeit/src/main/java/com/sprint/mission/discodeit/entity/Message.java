@@ -1,15 +1,22 @@
 package com.sprint.mission.discodeit.entity;
 
 import lombok.Getter;
+
+import java.io.Serial;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 @Getter
 public class Message extends BaseEntity {
+    // sequence 필드 추가 전에 저장된 메시지(파일, 스냅샷, 보관 세그먼트)도 읽을 수 있도록 기존 기본값으로 고정
+    @Serial
+    private static final long serialVersionUID = 8222794822979629426L;
     private String content;
     private final UUID channelId;
     private final UUID authorId;
     private final List<UUID> attachmentIds;  // 첨부파일 ID 목록 (BinaryContent 참조)
+    private long sequence;                   // 채널 내 순번 (ingest 파이프라인이 부여, 0이면 미부여)
 
     public Message(String content, UUID channelId, UUID authorId, List<UUID> attachmentIds) {
         super();
@@ -19,6 +26,21 @@ public class Message extends BaseEntity {
         this.attachmentIds = attachmentIds;
     }
 
+    // 저장소에서 기존 메시지를 다시 구성할 때 사용
+    public Message(UUID id, Instant createdAt, Instant updatedAt,
+                   String content, UUID channelId, UUID authorId, List<UUID> attachmentIds, long sequence, long version) {
+        super(id, createdAt, updatedAt, version);
+        this.content = content;
+        this.channelId = channelId;
+        this.authorId = authorId;
+        this.attachmentIds = attachmentIds;
+        this.sequence = sequence;
+    }
+
+    public void assignSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
     public void update(String content) {
         if (content != null) {
             this.content = content;
@@ -21,6 +21,15 @@ public class ReadStatus extends BaseEntity {
         this.lastReadAt = lastReadAt;
     }
 
+    // 저장소에서 기존 상태를 다시 구성할 때 사용
+    public ReadStatus(UUID id, Instant createdAt, Instant updatedAt,
+                      UUID userId, UUID channelId, Instant lastReadAt, long version) {
+        super(id, createdAt, updatedAt, version);
+        this.userId = userId;
+        this.channelId = channelId;
+        this.lastReadAt = lastReadAt;
+    }
+
     public void update(Instant lastReadAt) {
         if (lastReadAt != null) {
             this.lastReadAt = lastReadAt;
@@ -0,0 +1,9 @@
+package com.sprint.mission.discodeit.entity;
+
+/**
+ * 보존 기간이 지난 메시지 처리 방식
+ */
+public enum RetentionAction {
+    DELETE,     // 첨부파일과 함께 삭제
+    ARCHIVE     // 압축된 읽기 전용 보관 세그먼트로 이동 (조회는 계속 가능)
+}
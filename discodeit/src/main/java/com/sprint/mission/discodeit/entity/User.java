@@ -1,10 +1,17 @@
 package com.sprint.mission.discodeit.entity;
 
 import lombok.Getter;
+
+import java.io.Serial;
+import java.time.Instant;
 import java.util.UUID;
 
 @Getter
 public class User extends BaseEntity {
+    // 생성자 추가 전에 저장된 사용자도 읽을 수 있도록 기존 기본값으로 고정
+    @Serial
+    private static final long serialVersionUID = 1216949459297832050L;
+
     private String username;
     private String email;
     private String password;
@@ -18,6 +25,16 @@ public class User extends BaseEntity {
         this.profileId = profileId;
     }
 
+    // 저장소에서 기존 사용자를 다시 구성할 때 사용
+    public User(UUID id, Instant createdAt, Instant updatedAt,
+                String username, String email, String password, UUID profileId, long version) {
+        super(id, createdAt, updatedAt, version);
+        this.username = username;
+        this.email = email;
+        this.password = password;
+        this.profileId = profileId;
+    }
+
     public void update(String username, String email, String password, UUID profileId) {
         if (username != null) this.username = username;
         if (email != null) this.email = email;
@@ -19,6 +19,13 @@ public class UserStatus extends BaseEntity {
         this.lastActiveAt = lastActiveAt;
     }
 
+    // 저장소에서 기존 상태를 다시 구성할 때 사용
+    public UserStatus(UUID id, Instant createdAt, Instant updatedAt, UUID userId, Instant lastActiveAt, long version) {
+        super(id, createdAt, updatedAt, version);
+        this.userId = userId;
+        this.lastActiveAt = lastActiveAt;
+    }
+
     public void update(Instant lastActiveAt) {
         if (lastActiveAt != null) {
             this.lastActiveAt = lastActiveAt;
@@ -0,0 +1,13 @@
+package com.sprint.mission.discodeit.event;
+
+import java.util.List;
+
+/**
+ * 소비자가 한 번에 읽은 변경 이벤트
+ *
+ * @param skipped 소비자가 너무 뒤처져 버퍼에서 밀려난 이벤트 수. 0보다 크면 파생 데이터를 저장소에서 다시 만들어야 한다.
+ */
+public record ChangeBatch(
+        List<ChangeEvent> events,
+        long skipped
+) {}
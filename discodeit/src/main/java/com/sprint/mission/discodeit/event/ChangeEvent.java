@@ -0,0 +1,78 @@
+package com.sprint.mission.discodeit.event;
+
+import com.sprint.mission.discodeit.entity.EntityType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 저장소 쓰기 한 건. sequence는 피드 전체에서 1부터 빈틈없이 증가하며,
+ * 같은 엔티티에 대한 이벤트는 저장소에 적용된 순서대로 발행된다.
+ * <p>
+ * 엔티티는 발행 시점에 직렬화해 둔다. 저장소의 엔티티는 가변이라 참조를 들고 있으면 이후의 수정이 이벤트에 비친다.
+ * {@link #entity()}는 호출할 때마다 새 사본을 만든다.
+ * <p>
+ * {@link ChangeFeed#REFERENCE_ONLY} 타입의 SAVED 이벤트는 페이로드가 없다. 필요한 소비자는 저장소에서 현재 값을 읽어
+ * {@link #withEntity}로 채운다.
+ */
+public record ChangeEvent(
+        long sequence,
+        EntityType entityType,
+        ChangeType type,
+        UUID entityId,
+        byte[] payload,   // 직렬화한 엔티티, DELETED 이벤트와 참조만 남기는 타입은 null
+        Instant occurredAt
+) implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2L;
+
+    // 애플리케이션 엔티티와 JDK 클래스 외에는 역직렬화하지 않는다 (팔로워 소켓 스트림에도 같은 필터를 쓴다)
+    public static final ObjectInputFilter ENTITY_FILTER =
+            ObjectInputFilter.Config.createFilter("com.sprint.mission.discodeit.**;java.**;!*");
+
+    public Serializable entity() {
+        if (payload == null) {
+            return null;
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+            ois.setObjectInputFilter(ENTITY_FILTER);
+            return (Serializable) ois.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Cannot deserialize change event " + sequence, e);
+        }
+    }
+
+    /**
+     * 같은 sequence에 현재 엔티티를 담은 이벤트. 엔티티가 이미 지워졌으면(null) DELETED 이벤트가 된다.
+     */
+    public ChangeEvent withEntity(Serializable current) {
+        if (current == null) {
+            return new ChangeEvent(sequence, entityType, ChangeType.DELETED, entityId, null, occurredAt);
+        }
+        return new ChangeEvent(sequence, entityType, type, entityId, serialize(current), occurredAt);
+    }
+
+    static byte[] serialize(Serializable entity) {
+        if (entity == null) {
+            return null;
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+            oos.writeObject(entity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,201 @@
+package com.sprint.mission.discodeit.event;
+
+import com.sprint.mission.discodeit.dto.response.ChangeFeedStatsResponse;
+import com.sprint.mission.discodeit.entity.EntityType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 저장소 변경 이벤트의 순서 있는 인메모리 피드
+ * <p>
+ * 최근 capacity개의 이벤트를 링 버퍼에 보관하고, 소비자는 각자 마지막으로 읽은 sequence(offset)를 들고
+ * 원하는 속도로 읽는다. 발행자는 소비자를 기다리지 않으며, 버퍼에서 밀려난 이벤트는 해당 소비자에게
+ * 건너뛴 개수로 알려준다 (ChannelEventBroker의 RESYNC와 같은 방식).
+ * <p>
+ * 버퍼는 이벤트 수(capacity)와 직렬화한 엔티티의 총 바이트(max-bytes) 중 먼저 닿는 쪽에서 오래된 이벤트를 밀어낸다.
+ * 첨부파일처럼 크고 바뀌지 않는 엔티티는 본문을 담지 않고 id만 남긴다 ({@link #REFERENCE_ONLY}, 필요한 소비자가 저장소에서 읽는다).
+ */
+@Component
+public class ChangeFeed {
+    public static final Set<EntityType> REFERENCE_ONLY = EnumSet.of(EntityType.BINARY_CONTENT);
+    // 페이로드 외에 이벤트 하나가 차지하는 대략의 크기
+    private static final int EVENT_OVERHEAD_BYTES = 96;
+
+    private final ChangeEvent[] ring;
+    private final long maxBytes;
+    private final int mask;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final Map<String, Consumer> consumers = new ConcurrentHashMap<>();
+    private final LongAdder skippedTotal = new LongAdder();
+    // lock으로 보호 (읽기 전용 조회는 volatile 복사본 사용)
+    private long lastSequence;
+    private long oldest = 1;
+    private long retainedBytes;
+    private volatile long publishedSequence;
+    private volatile long publishedOldest = 1;
+    private volatile long publishedBytes;
+
+    public ChangeFeed(
+            @Value("${discodeit.change-feed.capacity:65536}") int capacity,
+            @Value("${discodeit.change-feed.max-bytes:67108864}") long maxBytes
+    ) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.ring = new ChangeEvent[size];
+        this.mask = size - 1;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 엔티티는 락 밖에서 직렬화해 이벤트에 담는다. 발행 후 엔티티를 수정해도 이벤트에는 영향이 없다.
+     */
+    public ChangeEvent publish(EntityType entityType, ChangeType type, UUID entityId, Serializable entity) {
+        byte[] payload = REFERENCE_ONLY.contains(entityType) ? null : ChangeEvent.serialize(entity);
+        lock.lock();
+        try {
+            ChangeEvent event = new ChangeEvent(lastSequence + 1, entityType, type, entityId, payload, Instant.now());
+            if (event.sequence() - oldest >= ring.length) {
+                evictOldest();
+            }
+            ring[(int) (event.sequence() & mask)] = event;
+            retainedBytes += sizeOf(event);
+            lastSequence = event.sequence();
+            // 방금 넣은 이벤트 하나는 크기와 관계없이 남긴다
+            while (retainedBytes > maxBytes && oldest < lastSequence) {
+                evictOldest();
+            }
+            publishedSequence = lastSequence;
+            publishedOldest = oldest;
+            publishedBytes = retainedBytes;
+            appended.signalAll();
+            return event;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long lastSequence() {
+        return publishedSequence;
+    }
+
+    /**
+     * 아직 버퍼에 남아 있는 가장 오래된 이벤트의 sequence (이보다 앞에서 읽으면 건너뛴 이벤트가 생긴다)
+     */
+    public long oldestSequence() {
+        return publishedOldest;
+    }
+
+    /**
+     * afterSequence 다음 이벤트부터 최대 maxEvents개를 읽는다. 새 이벤트가 없으면 timeout까지 기다린다.
+     */
+    public ChangeBatch read(long afterSequence, int maxEvents, Duration timeout) throws InterruptedException {
+        long remainingNanos = timeout.toNanos();
+        lock.lock();
+        try {
+            while (lastSequence <= afterSequence && remainingNanos > 0) {
+                remainingNanos = appended.awaitNanos(remainingNanos);
+            }
+            long from = Math.max(afterSequence + 1, oldest);
+            long skipped = from - (afterSequence + 1);
+            long to = Math.min(lastSequence, from + maxEvents - 1);
+            List<ChangeEvent> events = new ArrayList<>((int) Math.max(0, to - from + 1));
+            for (long sequence = from; sequence <= to; sequence++) {
+                events.add(ring[(int) (sequence & mask)]);
+            }
+            if (skipped > 0) {
+                skippedTotal.add(skipped);
+            }
+            return new ChangeBatch(events, skipped);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 이름 있는 소비자를 등록한다. fromSequence 이후의 이벤트부터 읽으며, 현재 시점부터 받으려면 {@link #lastSequence()}를 넘긴다.
+     */
+    public Consumer subscribe(String name, long fromSequence) {
+        Consumer consumer = new Consumer(name, fromSequence);
+        if (consumers.putIfAbsent(name, consumer) != null) {
+            throw new IllegalArgumentException("Change feed consumer already exists: " + name);
+        }
+        return consumer;
+    }
+
+    public ChangeFeedStatsResponse stats() {
+        Map<String, Long> offsets = new TreeMap<>();
+        consumers.forEach((name, consumer) -> offsets.put(name, consumer.offset()));
+        return new ChangeFeedStatsResponse(
+                lastSequence(),
+                oldestSequence(),
+                ring.length,
+                publishedBytes,
+                skippedTotal.sum(),
+                offsets
+        );
+    }
+
+    private void evictOldest() {
+        int slot = (int) (oldest & mask);
+        retainedBytes -= sizeOf(ring[slot]);
+        ring[slot] = null;
+        oldest++;
+    }
+
+    private static long sizeOf(ChangeEvent event) {
+        return EVENT_OVERHEAD_BYTES + (event.payload() != null ? event.payload().length : 0);
+    }
+
+    /**
+     * 자기 offset을 가진 소비자. 한 스레드에서 읽는 것을 전제로 한다.
+     */
+    public class Consumer implements AutoCloseable {
+        private final String name;
+        private volatile long offset;
+
+        private Consumer(String name, long offset) {
+            this.name = name;
+            this.offset = offset;
+        }
+
+        public ChangeBatch poll(int maxEvents, Duration timeout) throws InterruptedException {
+            ChangeBatch batch = read(offset, maxEvents, timeout);
+            if (!batch.events().isEmpty()) {
+                offset = batch.events().get(batch.events().size() - 1).sequence();
+            }
+            return batch;
+        }
+
+        public void seek(long offset) {
+            this.offset = offset;
+        }
+
+        public long offset() {
+            return offset;
+        }
+
+        public long lag() {
+            return Math.max(0, lastSequence() - offset);
+        }
+
+        @Override
+        public void close() {
+            consumers.remove(name, this);
+        }
+    }
+}
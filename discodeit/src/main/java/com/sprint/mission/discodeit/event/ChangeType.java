@@ -0,0 +1,6 @@
+package com.sprint.mission.discodeit.event;
+
+public enum ChangeType {
+    SAVED,     // 생성 또는 수정 (entity에 저장된 값)
+    DELETED    // 삭제 (entity는 null)
+}
@@ -0,0 +1,141 @@
+package com.sprint.mission.discodeit.event;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+/**
+ * 채널별 메시지 이벤트를 SSE 구독자에게 전달한다.
+ * 구독자마다 크기가 제한된 큐와 전송 전용 가상 스레드를 두고, 발행자는 큐에 offer만 하므로
+ * 느린 구독자가 있어도 발행 스레드가 막히지 않는다.
+ */
+@Slf4j
+@Component
+public class ChannelEventBroker {
+    private final Map<UUID, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final ExecutorService senderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int queueCapacity;
+    private final SlowConsumerPolicy slowConsumerPolicy;
+    private final long emitterTimeoutMillis;
+
+    public ChannelEventBroker(
+            @Value("${discodeit.push.queue-capacity:256}") int queueCapacity,
+            @Value("${discodeit.push.slow-consumer-policy:coalesce}") SlowConsumerPolicy slowConsumerPolicy,
+            @Value("${discodeit.push.emitter-timeout-ms:1800000}") long emitterTimeoutMillis
+    ) {
+        this.queueCapacity = queueCapacity;
+        this.slowConsumerPolicy = slowConsumerPolicy;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    public SseEmitter subscribe(UUID channelId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscription subscription = new Subscription(channelId, emitter);
+        subscriptions.computeIfAbsent(channelId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        subscription.start();
+        return emitter;
+    }
+
+    public void publish(MessageEvent event) {
+        Set<Subscription> subscribers = subscriptions.get(event.channelId());
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscription subscription : subscribers) {
+            subscription.offer(event);
+        }
+    }
+
+    public int subscriberCount(UUID channelId) {
+        Set<Subscription> subscribers = subscriptions.get(channelId);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.values().forEach(subscribers -> subscribers.forEach(Subscription::close));
+        senderExecutor.shutdownNow();
+    }
+
+    private class Subscription {
+        private final UUID channelId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<MessageEvent> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private volatile boolean closed;
+        private Future<?> sender;
+
+        Subscription(UUID channelId, SseEmitter emitter) {
+            this.channelId = channelId;
+            this.emitter = emitter;
+        }
+
+        void start() {
+            sender = senderExecutor.submit(this::drain);
+        }
+
+        void offer(MessageEvent event) {
+            if (closed || queue.offer(event)) {
+                return;
+            }
+            switch (slowConsumerPolicy) {
+                case DROP -> log.debug("Dropped {} event for slow subscriber on channel {}", event.type(), channelId);
+                case COALESCE -> {
+                    // 밀린 이벤트를 버리고 재동기화 신호 하나만 남긴다
+                    queue.clear();
+                    queue.offer(MessageEvent.resync(channelId));
+                }
+                case DISCONNECT -> {
+                    log.debug("Disconnecting slow subscriber on channel {}", channelId);
+                    emitter.complete();
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed) {
+                    MessageEvent event = queue.take();
+                    SseEmitter.SseEventBuilder sseEvent = SseEmitter.event()
+                            .name(event.type().name())
+                            .data(event);
+                    if (event.messageId() != null) {
+                        sseEvent.id(event.messageId().toString());
+                    }
+                    emitter.send(sseEvent);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료
+                close();
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscriptions.computeIfPresent(channelId, (id, subscribers) -> {
+                subscribers.remove(this);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+            if (sender != null) {
+                sender.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.sprint.mission.discodeit.event;
+
+import com.sprint.mission.discodeit.dto.response.MessageResponse;
+
+import java.util.UUID;
+
+public record MessageEvent(
+        MessageEventType type,
+        UUID channelId,
+        UUID messageId,
+        MessageResponse message   // DELETED, RESYNC 이벤트는 null
+) {
+    public static MessageEvent created(MessageResponse message) {
+        return new MessageEvent(MessageEventType.CREATED, message.channelId(), message.id(), message);
+    }
+
+    public static MessageEvent updated(MessageResponse message) {
+        return new MessageEvent(MessageEventType.UPDATED, message.channelId(), message.id(), message);
+    }
+
+    public static MessageEvent deleted(UUID channelId, UUID messageId) {
+        return new MessageEvent(MessageEventType.DELETED, channelId, messageId, null);
+    }
+
+    public static MessageEvent resync(UUID channelId) {
+        return new MessageEvent(MessageEventType.RESYNC, channelId, null, null);
+    }
+}
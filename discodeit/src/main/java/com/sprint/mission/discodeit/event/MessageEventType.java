@@ -0,0 +1,6 @@
+package com.sprint.mission.discodeit.event;
+
+public enum MessageEventType {
+    CREATED, UPDATED, DELETED,
+    RESYNC   // 구독자 큐가 넘쳐 이벤트를 합친 경우, 클라이언트가 히스토리를 다시 조회해야 함
+}
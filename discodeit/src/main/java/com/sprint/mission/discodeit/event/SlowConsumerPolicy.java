@@ -0,0 +1,10 @@
+package com.sprint.mission.discodeit.event;
+
+/**
+ * 구독자 큐가 가득 찼을 때의 처리 방식
+ */
+public enum SlowConsumerPolicy {
+    DROP,        // 새 이벤트를 버린다
+    COALESCE,    // 밀린 이벤트를 비우고 RESYNC 이벤트 하나로 대체한다
+    DISCONNECT   // 구독을 끊는다
+}
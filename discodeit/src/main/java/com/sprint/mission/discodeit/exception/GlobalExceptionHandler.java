@@ -0,0 +1,69 @@
+package com.sprint.mission.discodeit.exception;
+
+import com.sprint.mission.discodeit.dto.response.ErrorResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.RestClientException;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    // 존재하지 않는 리소스 조회
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<ErrorResponse> handleNoSuchElement(NoSuchElementException e) {
+        return toResponse(HttpStatus.NOT_FOUND, e);
+    }
+
+    // 중복, 수정 불가 등 잘못된 요청
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e) {
+        return toResponse(HttpStatus.BAD_REQUEST, e);
+    }
+
+    // 저장된 버전이 기대한 버전과 다른 수정 (동시 수정 충돌)
+    @ExceptionHandler(ConcurrentModificationException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentModification(ConcurrentModificationException e) {
+        return toResponse(HttpStatus.CONFLICT, e);
+    }
+
+    // 메시지 생성 빈도 제한 초과
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException e) {
+        return toResponse(HttpStatus.TOO_MANY_REQUESTS, e);
+    }
+
+    // 비밀번호 해시 풀, 메시지 저장 파이프라인 등이 포화 상태
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException e) {
+        return toResponse(HttpStatus.SERVICE_UNAVAILABLE, e);
+    }
+
+    // 읽기 전용 팔로워에 들어온 쓰기 요청
+    @ExceptionHandler(ReadOnlyReplicaException.class)
+    public ResponseEntity<ErrorResponse> handleReadOnlyReplica(ReadOnlyReplicaException e) {
+        return toResponse(HttpStatus.METHOD_NOT_ALLOWED, e);
+    }
+
+    // 공유 비밀값이 없거나 틀린 노드 간/관리 요청
+    @ExceptionHandler(UntrustedPeerException.class)
+    public ResponseEntity<ErrorResponse> handleUntrustedPeer(UntrustedPeerException e) {
+        return toResponse(HttpStatus.FORBIDDEN, e);
+    }
+
+    // 파티션의 다른 노드가 응답하지 않거나 알 수 없는 오류를 돌려줌
+    @ExceptionHandler(RestClientException.class)
+    public ResponseEntity<ErrorResponse> handleRestClient(RestClientException e) {
+        return toResponse(HttpStatus.BAD_GATEWAY, e);
+    }
+
+    private ResponseEntity<ErrorResponse> toResponse(HttpStatus status, Exception e) {
+        return ResponseEntity.status(status)
+                .body(new ErrorResponse(status.value(), e.getMessage()));
+    }
+}
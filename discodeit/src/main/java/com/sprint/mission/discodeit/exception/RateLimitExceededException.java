@@ -0,0 +1,11 @@
+package com.sprint.mission.discodeit.exception;
+
+/**
+ * 요청 빈도 제한 초과 (429)
+ * 스택 트레이스를 만들지 않아 거절 비용을 최소화한다.
+ */
+public class RateLimitExceededException extends RuntimeException {
+    public RateLimitExceededException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,10 @@
+package com.sprint.mission.discodeit.exception;
+
+/**
+ * 팔로워 노드에 들어온 쓰기 요청 (405)
+ */
+public class ReadOnlyReplicaException extends RuntimeException {
+    public ReadOnlyReplicaException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,10 @@
+package com.sprint.mission.discodeit.exception;
+
+/**
+ * 공유 비밀값 없이 들어온 노드 간/관리 요청 (403)
+ */
+public class UntrustedPeerException extends RuntimeException {
+    public UntrustedPeerException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,125 @@
+package com.sprint.mission.discodeit.ratelimit;
+
+import com.sprint.mission.discodeit.dto.response.RateLimitStatsResponse;
+import com.sprint.mission.discodeit.exception.RateLimitExceededException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메시지 생성 빈도 제한
+ * 작성자별, 채널별 메시지 수와 작성자별 첨부파일 바이트 수를 각각의 토큰 버킷으로 제한한다.
+ * 버킷 맵은 ConcurrentHashMap(내부 스트라이핑), 버킷 자체는 AtomicLong 하나라 검사 비용이 작고,
+ * 통과/거절 건수는 LongAdder로 집계한다.
+ */
+@Component
+public class MessageRateLimiter {
+    private final boolean enabled;
+    private final double userMessagesPerSecond;
+    private final long userBurst;
+    private final double channelMessagesPerSecond;
+    private final long channelBurst;
+    private final double userAttachmentBytesPerSecond;
+    private final long userAttachmentBurstBytes;
+
+    private final Map<UUID, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    private final Map<UUID, TokenBucket> channelBuckets = new ConcurrentHashMap<>();
+    private final Map<UUID, TokenBucket> attachmentBuckets = new ConcurrentHashMap<>();
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejectedByUser = new LongAdder();
+    private final LongAdder rejectedByChannel = new LongAdder();
+    private final LongAdder rejectedByAttachmentBytes = new LongAdder();
+
+    private final ScheduledExecutorService sweeper;
+
+    public MessageRateLimiter(
+            @Value("${discodeit.rate-limit.enabled:true}") boolean enabled,
+            @Value("${discodeit.rate-limit.user-messages-per-second:5}") double userMessagesPerSecond,
+            @Value("${discodeit.rate-limit.user-burst:20}") long userBurst,
+            @Value("${discodeit.rate-limit.channel-messages-per-second:50}") double channelMessagesPerSecond,
+            @Value("${discodeit.rate-limit.channel-burst:200}") long channelBurst,
+            @Value("${discodeit.rate-limit.user-attachment-bytes-per-second:1048576}") double userAttachmentBytesPerSecond,
+            @Value("${discodeit.rate-limit.user-attachment-burst-bytes:10485760}") long userAttachmentBurstBytes
+    ) {
+        this.enabled = enabled;
+        this.userMessagesPerSecond = userMessagesPerSecond;
+        this.userBurst = userBurst;
+        this.channelMessagesPerSecond = channelMessagesPerSecond;
+        this.channelBurst = channelBurst;
+        this.userAttachmentBytesPerSecond = userAttachmentBytesPerSecond;
+        this.userAttachmentBurstBytes = userAttachmentBurstBytes;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("rate-limit-sweeper").daemon(true).factory());
+        sweeper.scheduleWithFixedDelay(this::removeIdleBuckets, 1, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 메시지 한 건과 첨부파일 바이트를 소비한다. 하나라도 한도를 넘으면 앞서 소비한 몫을 되돌리고
+     * RateLimitExceededException
+     */
+    public void acquire(UUID authorId, UUID channelId, long attachmentBytes) {
+        if (!enabled) {
+            return;
+        }
+        TokenBucket userBucket = userBuckets.computeIfAbsent(authorId,
+                id -> new TokenBucket(userMessagesPerSecond, userBurst));
+        if (!userBucket.tryAcquire(1)) {
+            rejectedByUser.increment();
+            throw new RateLimitExceededException("Too many messages from user: " + authorId);
+        }
+
+        TokenBucket channelBucket = channelBuckets.computeIfAbsent(channelId,
+                id -> new TokenBucket(channelMessagesPerSecond, channelBurst));
+        if (!channelBucket.tryAcquire(1)) {
+            userBucket.release(1);
+            rejectedByChannel.increment();
+            throw new RateLimitExceededException("Too many messages in channel: " + channelId);
+        }
+
+        if (attachmentBytes > 0) {
+            TokenBucket attachmentBucket = attachmentBuckets.computeIfAbsent(authorId,
+                    id -> new TokenBucket(userAttachmentBytesPerSecond, userAttachmentBurstBytes));
+            if (!attachmentBucket.tryAcquire(attachmentBytes)) {
+                userBucket.release(1);
+                channelBucket.release(1);
+                rejectedByAttachmentBytes.increment();
+                throw new RateLimitExceededException("Attachment upload rate exceeded for user: " + authorId);
+            }
+        }
+        allowed.increment();
+    }
+
+    public RateLimitStatsResponse stats() {
+        return new RateLimitStatsResponse(
+                enabled,
+                allowed.sum(),
+                rejectedByUser.sum(),
+                rejectedByChannel.sum(),
+                rejectedByAttachmentBytes.sum(),
+                userBuckets.size(),
+                channelBuckets.size()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    // 한동안 요청이 없어 가득 찬 버킷은 지워 메모리를 회수한다
+    private void removeIdleBuckets() {
+        long now = System.nanoTime();
+        userBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+        channelBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+        attachmentBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+}
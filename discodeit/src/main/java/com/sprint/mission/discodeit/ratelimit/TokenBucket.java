@@ -0,0 +1,53 @@
+package com.sprint.mission.discodeit.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 방식의 토큰 버킷
+ * 상태는 "이론상 다음 도착 시각(TAT)" 하나뿐이라 AtomicLong 하나를 CAS로 갱신하며, 락을 쓰지 않는다.
+ * 단위 하나를 쓸 때마다 TAT가 emissionInterval만큼 미래로 밀리고, 현재 시각보다
+ * burst * emissionInterval 이상 앞서게 되면 거절한다.
+ */
+class TokenBucket {
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(double unitsPerSecond, long burst) {
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / unitsPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(1L, burst);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * units만큼 소비할 수 있으면 소비하고 true
+     */
+    boolean tryAcquire(long units) {
+        long increment = emissionIntervalNanos * units;
+        while (true) {
+            long now = System.nanoTime();
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + increment;
+            if (next - now > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 다른 버킷에서 거절되어 되돌리는 경우
+     */
+    void release(long units) {
+        theoreticalArrival.addAndGet(-emissionIntervalNanos * units);
+    }
+
+    /**
+     * 버킷이 가득 찬(쉬고 있는) 상태면 지워도 다음 요청에 영향이 없다
+     */
+    boolean isIdle(long now) {
+        return theoreticalArrival.get() - now <= 0;
+    }
+}
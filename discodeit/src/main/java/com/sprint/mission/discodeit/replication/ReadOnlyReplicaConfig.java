@@ -0,0 +1,35 @@
+package com.sprint.mission.discodeit.replication;
+
+import com.sprint.mission.discodeit.exception.ReadOnlyReplicaException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Set;
+
+/**
+ * 팔로워는 조회 요청만 처리한다. 쓰기는 리더로 보내야 한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "discodeit.replication.role", havingValue = "follower")
+public class ReadOnlyReplicaConfig implements WebMvcConfigurer {
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (!READ_METHODS.contains(request.getMethod())) {
+                    throw new ReadOnlyReplicaException("This node is a read-only replica; send " + request.getMethod()
+                            + " requests to the replication leader");
+                }
+                return true;
+            }
+        });
+    }
+}
@@ -0,0 +1,254 @@
+package com.sprint.mission.discodeit.replication;
+
+import com.sprint.mission.discodeit.dto.response.ReplicationStatusResponse;
+import com.sprint.mission.discodeit.entity.*;
+import com.sprint.mission.discodeit.event.ChangeEvent;
+import com.sprint.mission.discodeit.event.ChangeType;
+import com.sprint.mission.discodeit.exception.UntrustedPeerException;
+import com.sprint.mission.discodeit.repository.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 리더에 접속해 스냅샷과 이후의 변경을 로컬 저장소에 순서대로 적용한다.
+ * 연결이 끊기면 마지막으로 적용한 sequence를 들고 다시 접속하고, 리더가 이어서 보낼 수 없으면 스냅샷을 다시 받는다.
+ * 적용은 전용 스레드 하나에서만 하므로 리더에서의 순서가 그대로 유지된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "discodeit.replication.role", havingValue = "follower")
+public class ReplicationFollower {
+    private final Map<EntityType, Target<?>> targets = new EnumMap<>(EntityType.class);
+    private final String leaderHost;
+    private final int leaderPort;
+    private final byte[] secret;
+    private final Duration reconnectDelay;
+    private final Duration readTimeout;
+    private final Thread worker;
+
+    private volatile boolean running = true;
+    private volatile Socket socket;
+    private volatile boolean connected;
+    private volatile UUID leaderEpoch = new UUID(0, 0);
+    private volatile long appliedSequence;
+    private volatile long leaderSequence;
+    private volatile long lastApplyDelayMillis;
+
+    public ReplicationFollower(
+            UserRepository userRepository,
+            ChannelRepository channelRepository,
+            MessageRepository messageRepository,
+            ReadStatusRepository readStatusRepository,
+            UserStatusRepository userStatusRepository,
+            BinaryContentRepository binaryContentRepository,
+            @Value("${discodeit.replication.leader-host:localhost}") String leaderHost,
+            @Value("${discodeit.replication.port:7070}") int leaderPort,
+            @Value("${discodeit.replication.secret:}") String secret,
+            @Value("${discodeit.replication.reconnect-ms:1000}") long reconnectMillis,
+            @Value("${discodeit.replication.heartbeat-ms:1000}") long heartbeatMillis
+    ) {
+        targets.put(EntityType.USER, new Target<>(User.class, User::getId, userRepository::save, userRepository::deleteById, userRepository::streamAll));
+        targets.put(EntityType.CHANNEL, new Target<>(Channel.class, Channel::getId, channelRepository::save, channelRepository::deleteById, channelRepository::streamAll));
+        targets.put(EntityType.MESSAGE, new Target<>(Message.class, Message::getId, messageRepository::save, messageRepository::deleteById, messageRepository::streamAll));
+        targets.put(EntityType.READ_STATUS, new Target<>(ReadStatus.class, ReadStatus::getId, readStatusRepository::save, readStatusRepository::deleteById, readStatusRepository::streamAll));
+        targets.put(EntityType.USER_STATUS, new Target<>(UserStatus.class, UserStatus::getId, userStatusRepository::save, userStatusRepository::deleteById, userStatusRepository::streamAll));
+        targets.put(EntityType.BINARY_CONTENT, new Target<>(BinaryContent.class, BinaryContent::getId, binaryContentRepository::save, binaryContentRepository::deleteById, binaryContentRepository::streamAll));
+        if (secret.isBlank()) {
+            throw new IllegalStateException("Replication follower requires discodeit.replication.secret");
+        }
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        this.leaderHost = leaderHost;
+        this.leaderPort = leaderPort;
+        this.reconnectDelay = Duration.ofMillis(reconnectMillis);
+        // heartbeat가 몇 번 연속 오지 않으면 연결이 죽은 것으로 본다
+        this.readTimeout = Duration.ofMillis(heartbeatMillis * 5);
+        this.worker = Thread.ofPlatform().name("replication-follower").daemon(true).unstarted(this::run);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.start();
+    }
+
+    public ReplicationStatusResponse status() {
+        long applied = appliedSequence;
+        long leader = Math.max(leaderSequence, applied);
+        return new ReplicationStatusResponse(
+                ReplicationRole.FOLLOWER,
+                connected,
+                applied,
+                leader,
+                leader - applied,
+                lastApplyDelayMillis,
+                Map.of()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        closeSocket();
+        worker.interrupt();
+        worker.join(5_000);
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                session();
+            } catch (IOException | ClassNotFoundException e) {
+                if (running) {
+                    log.warn("Replication connection to {}:{} lost: {}", leaderHost, leaderPort, e.getMessage());
+                }
+            } catch (UntrustedPeerException e) {
+                log.error("Replication leader {}:{} rejected: {}", leaderHost, leaderPort, e.getMessage());
+            } catch (RuntimeException e) {
+                log.error("Failed to apply replicated change", e);
+            } finally {
+                connected = false;
+                closeSocket();
+            }
+            try {
+                Thread.sleep(reconnectDelay);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void session() throws IOException, ClassNotFoundException {
+        Socket socket = new Socket();
+        this.socket = socket;
+        socket.connect(new InetSocketAddress(leaderHost, leaderPort), (int) reconnectDelay.toMillis() * 5);
+        socket.setSoTimeout((int) readTimeout.toMillis());
+        socket.setTcpNoDelay(true);
+
+        BufferedInputStream input = new BufferedInputStream(socket.getInputStream(), 64 * 1024);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        authenticate(new DataInputStream(input), out);
+        out.writeLong(leaderEpoch.getMostSignificantBits());
+        out.writeLong(leaderEpoch.getLeastSignificantBits());
+        out.writeLong(appliedSequence);
+        out.flush();
+
+        ObjectInputStream in = new ObjectInputStream(input);
+        // 리더가 보내는 메시지 외의 클래스는 역직렬화하지 않는다
+        in.setObjectInputFilter(ChangeEvent.ENTITY_FILTER);
+        connected = true;
+        log.info("Connected to replication leader {}:{}", leaderHost, leaderPort);
+
+        Map<EntityType, Set<UUID>> snapshotIds = null;
+        while (running) {
+            switch ((ReplicationMessage) in.readObject()) {
+                case ReplicationMessage.SnapshotStart start -> {
+                    leaderEpoch = start.epoch();
+                    snapshotIds = new EnumMap<>(EntityType.class);
+                }
+                case ReplicationMessage.SnapshotEntity entity -> {
+                    Target<?> target = targets.get(entity.entityType());
+                    UUID id = target.save(entity.entity());
+                    snapshotIds.computeIfAbsent(entity.entityType(), type -> new HashSet<>()).add(id);
+                }
+                case ReplicationMessage.SnapshotEnd end -> {
+                    // 스냅샷에 없는 로컬 엔티티는 리더에서 이미 지워진 것이다
+                    removeMissing(snapshotIds);
+                    snapshotIds = null;
+                    appliedSequence = end.sequence();
+                    leaderSequence = Math.max(leaderSequence, end.sequence());
+                    log.info("Applied replication snapshot at sequence {}", end.sequence());
+                }
+                case ReplicationMessage.Resume resume ->
+                        log.info("Resumed replication after sequence {}", resume.afterSequence());
+                case ReplicationMessage.Changes changes -> {
+                    leaderSequence = changes.leaderSequence();
+                    changes.events().forEach(this::apply);
+                }
+                case ReplicationMessage.Heartbeat heartbeat -> {
+                    leaderSequence = heartbeat.leaderSequence();
+                    if (appliedSequence == leaderSequence) {
+                        lastApplyDelayMillis = 0;
+                    }
+                }
+            }
+        }
+    }
+
+    // 리더가 같은 비밀값을 안다는 증명을 먼저 확인한 뒤에만 팔로워 증명을 보낸다 (비밀값 자체는 보내지 않는다)
+    private void authenticate(DataInputStream in, DataOutputStream out) throws IOException {
+        byte[] followerNonce = ReplicationHandshake.nonce();
+        out.write(followerNonce);
+        out.flush();
+        byte[] leaderNonce = new byte[ReplicationHandshake.NONCE_BYTES];
+        byte[] leaderProof = new byte[ReplicationHandshake.PROOF_BYTES];
+        in.readFully(leaderNonce);
+        in.readFully(leaderProof);
+        if (!ReplicationHandshake.matches(ReplicationHandshake.leaderProof(secret, followerNonce, leaderNonce), leaderProof)) {
+            throw new UntrustedPeerException("leader could not prove it knows discodeit.replication.secret");
+        }
+        out.write(ReplicationHandshake.followerProof(secret, followerNonce, leaderNonce));
+    }
+
+    private void apply(ChangeEvent event) {
+        Target<?> target = targets.get(event.entityType());
+        if (event.type() == ChangeType.SAVED) {
+            target.save(event.entity());
+        } else {
+            target.delete().accept(event.entityId());
+        }
+        appliedSequence = event.sequence();
+        lastApplyDelayMillis = Math.max(0, Duration.between(event.occurredAt(), Instant.now()).toMillis());
+    }
+
+    private void removeMissing(Map<EntityType, Set<UUID>> snapshotIds) {
+        targets.forEach((type, target) ->
+                target.idsNotIn(snapshotIds.getOrDefault(type, Set.of())).forEach(target.delete()));
+    }
+
+    private void closeSocket() {
+        Socket current = socket;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                // 이미 닫힘
+            }
+        }
+    }
+
+    private record Target<T>(
+            Class<T> type,
+            Function<T, UUID> idOf,
+            Consumer<T> saver,
+            Consumer<UUID> delete,
+            Supplier<Stream<T>> streamAll
+    ) {
+        UUID save(Serializable entity) {
+            T typed = type.cast(entity);
+            saver.accept(typed);
+            return idOf.apply(typed);
+        }
+
+        // 엔티티를 목록으로 모으지 않고 훑으며 지울 id만 남긴다 (지우는 것은 스트림을 닫은 뒤)
+        List<UUID> idsNotIn(Set<UUID> keep) {
+            try (Stream<T> entities = streamAll.get()) {
+                return entities.map(idOf).filter(id -> !keep.contains(id)).toList();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.sprint.mission.discodeit.replication;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+
+/**
+ * 리더와 팔로워의 상호 인증 (공유 비밀값으로 만든 HMAC-SHA256 challenge/response)
+ * <pre>
+ * 팔로워 -> 리더: [팔로워 nonce(32)]
+ * 리더 -> 팔로워: [리더 nonce(32)][HMAC(secret, "leader" | 팔로워 nonce | 리더 nonce)]
+ * 팔로워 -> 리더: [HMAC(secret, "follower" | 리더 nonce | 팔로워 nonce)]
+ * </pre>
+ * 비밀값은 전송하지 않으므로 리더를 사칭하는 서버에 접속해도 새지 않고, 증명은 접속마다 새 nonce에 묶여 재사용할 수 없다.
+ * 역할 이름이 HMAC에 들어가므로 한쪽의 증명을 상대 역할의 증명으로 되돌려 쓸 수도 없다.
+ */
+final class ReplicationHandshake {
+    static final int NONCE_BYTES = 32;
+    static final int PROOF_BYTES = 32;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte[] LEADER_ROLE = "discodeit-replication-leader".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FOLLOWER_ROLE = "discodeit-replication-follower".getBytes(StandardCharsets.UTF_8);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private ReplicationHandshake() {
+    }
+
+    static byte[] nonce() {
+        byte[] nonce = new byte[NONCE_BYTES];
+        RANDOM.nextBytes(nonce);
+        return nonce;
+    }
+
+    static byte[] leaderProof(byte[] secret, byte[] followerNonce, byte[] leaderNonce) {
+        return hmac(secret, LEADER_ROLE, followerNonce, leaderNonce);
+    }
+
+    static byte[] followerProof(byte[] secret, byte[] followerNonce, byte[] leaderNonce) {
+        return hmac(secret, FOLLOWER_ROLE, leaderNonce, followerNonce);
+    }
+
+    // 일치하는 앞부분 길이로 시간 차이가 나지 않게 비교한다
+    static boolean matches(byte[] expected, byte[] presented) {
+        return MessageDigest.isEqual(expected, presented);
+    }
+
+    private static byte[] hmac(byte[] secret, byte[] role, byte[] first, byte[] second) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            mac.update(role);
+            mac.update(first);
+            mac.update(second);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Replication handshake failed", e);
+        }
+    }
+}
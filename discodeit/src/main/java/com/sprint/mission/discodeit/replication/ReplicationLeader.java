@@ -0,0 +1,268 @@
+package com.sprint.mission.discodeit.replication;
+
+import com.sprint.mission.discodeit.dto.response.ReplicationStatusResponse;
+import com.sprint.mission.discodeit.entity.EntityType;
+import com.sprint.mission.discodeit.event.ChangeBatch;
+import com.sprint.mission.discodeit.event.ChangeEvent;
+import com.sprint.mission.discodeit.event.ChangeFeed;
+import com.sprint.mission.discodeit.event.ChangeType;
+import com.sprint.mission.discodeit.repository.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 변경 피드를 TCP로 팔로워에게 전송한다.
+ * 팔로워마다 가상 스레드 하나와 피드 소비자 하나를 두어, 느린 팔로워가 다른 팔로워나 쓰기 요청을 막지 않는다.
+ * 팔로워가 피드 버퍼보다 뒤처지면 연결을 끊고, 다시 접속하면 스냅샷부터 새로 보낸다.
+ * <p>
+ * 접속 프로토콜: 공유 비밀값으로 서로 인증한 뒤({@link ReplicationHandshake}) 팔로워가
+ * [epoch msb(8)][epoch lsb(8)][마지막으로 적용한 sequence(8)]를 보내면, 같은 epoch(리더 프로세스)이고
+ * 그 다음 이벤트가 버퍼에 남아 있을 때만 이어서 보낸다.
+ * 스냅샷에는 비밀번호 해시와 모든 첨부파일이 들어 있으므로 기본으로는 loopback에만 바인딩한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "discodeit.replication.role", havingValue = "leader")
+public class ReplicationLeader {
+    private static final int RESET_INTERVAL = 1024;
+    private static final int HANDSHAKE_TIMEOUT_MILLIS = 5_000;
+    // Changes 메시지 하나에 담는 페이로드 크기 (첨부파일이 한꺼번에 버퍼에 쌓이지 않도록)
+    private static final int MAX_CHANGES_BYTES = 1024 * 1024;
+
+    // 재시작하면 피드 sequence가 1부터 다시 시작하므로 프로세스마다 새로 만든다
+    private final UUID epoch = UUID.randomUUID();
+    private final ChangeFeed changeFeed;
+    private final BinaryContentRepository binaryContentRepository;
+    private final Map<EntityType, Supplier<Stream<? extends Serializable>>> snapshotSources = new LinkedHashMap<>();
+    private final String bindAddress;
+    private final int port;
+    private final byte[] secret;
+    private final int batchSize;
+    private final Duration heartbeatInterval;
+    private final Map<String, ChangeFeed.Consumer> followers = new ConcurrentHashMap<>();
+    private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sessionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong sessionCounter = new AtomicLong();
+    private ServerSocket serverSocket;
+
+    public ReplicationLeader(
+            ChangeFeed changeFeed,
+            UserRepository userRepository,
+            ChannelRepository channelRepository,
+            MessageRepository messageRepository,
+            ReadStatusRepository readStatusRepository,
+            UserStatusRepository userStatusRepository,
+            BinaryContentRepository binaryContentRepository,
+            @Value("${discodeit.change-feed.enabled:true}") boolean changeFeedEnabled,
+            @Value("${discodeit.replication.bind-address:127.0.0.1}") String bindAddress,
+            @Value("${discodeit.replication.port:7070}") int port,
+            @Value("${discodeit.replication.secret:}") String secret,
+            @Value("${discodeit.replication.batch-size:512}") int batchSize,
+            @Value("${discodeit.replication.heartbeat-ms:1000}") long heartbeatMillis
+    ) {
+        if (!changeFeedEnabled) {
+            throw new IllegalStateException("Replication leader requires discodeit.change-feed.enabled=true");
+        }
+        if (secret.isBlank()) {
+            throw new IllegalStateException("Replication leader requires discodeit.replication.secret");
+        }
+        this.changeFeed = changeFeed;
+        this.binaryContentRepository = binaryContentRepository;
+        // 참조 무결성을 위해 참조되는 엔티티부터 보낸다
+        snapshotSources.put(EntityType.BINARY_CONTENT, binaryContentRepository::streamAll);
+        snapshotSources.put(EntityType.USER, userRepository::streamAll);
+        snapshotSources.put(EntityType.USER_STATUS, userStatusRepository::streamAll);
+        snapshotSources.put(EntityType.CHANNEL, channelRepository::streamAll);
+        snapshotSources.put(EntityType.READ_STATUS, readStatusRepository::streamAll);
+        snapshotSources.put(EntityType.MESSAGE, messageRepository::streamAll);
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        this.batchSize = batchSize;
+        this.heartbeatInterval = Duration.ofMillis(heartbeatMillis);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(port, 50, InetAddress.getByName(bindAddress));
+        Thread.ofPlatform().name("replication-leader").daemon(true).start(this::acceptLoop);
+        log.info("Replication leader listening on {}:{} (epoch {})", bindAddress, port, epoch);
+    }
+
+    public ReplicationStatusResponse status() {
+        Map<String, Long> followerLag = new TreeMap<>();
+        followers.forEach((name, consumer) -> followerLag.put(name, consumer.lag()));
+        long last = changeFeed.lastSequence();
+        return new ReplicationStatusResponse(ReplicationRole.LEADER, true, last, last, 0, 0, followerLag);
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        serverSocket.close();
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+        sessionExecutor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                sockets.add(socket);
+                sessionExecutor.submit(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    log.warn("Failed to accept replication connection", e);
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        String name = "replica-" + sessionCounter.incrementAndGet() + "@" + socket.getRemoteSocketAddress();
+        ChangeFeed.Consumer consumer = null;
+        try (socket) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream handshakeOut = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 64 * 1024));
+            // 팔로워의 증명을 확인하기 전에는 복제 데이터를 보내지 않는다
+            socket.setSoTimeout(HANDSHAKE_TIMEOUT_MILLIS);
+            if (!authenticate(in, handshakeOut)) {
+                log.warn("Rejected replication connection from {}: invalid secret", socket.getRemoteSocketAddress());
+                return;
+            }
+            socket.setSoTimeout(0);
+            UUID followerEpoch = new UUID(in.readLong(), in.readLong());
+            long appliedSequence = in.readLong();
+            ObjectOutputStream out = new ObjectOutputStream(handshakeOut);
+
+            boolean resumable = epoch.equals(followerEpoch)
+                    && appliedSequence + 1 >= changeFeed.oldestSequence()
+                    && appliedSequence <= changeFeed.lastSequence();
+            if (resumable) {
+                consumer = changeFeed.subscribe(name, appliedSequence);
+                followers.put(name, consumer);
+                out.writeObject(new ReplicationMessage.Resume(epoch, appliedSequence));
+                log.info("Follower {} resumed after sequence {}", name, appliedSequence);
+            } else {
+                // 스캔 전에 구독해 두면 스캔 중의 변경이 뒤이어 전송되므로 빠지는 쓰기가 없다
+                consumer = changeFeed.subscribe(name, changeFeed.lastSequence());
+                followers.put(name, consumer);
+                sendSnapshot(out, consumer.offset());
+                log.info("Follower {} received snapshot at sequence {}", name, consumer.offset());
+            }
+            out.flush();
+            stream(consumer, out, name);
+        } catch (IOException e) {
+            log.info("Follower {} disconnected: {}", name, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            sockets.remove(socket);
+            if (consumer != null) {
+                followers.remove(name);
+                consumer.close();
+            }
+        }
+    }
+
+    // 팔로워의 nonce에 리더 증명으로 답하고, 리더 nonce에 대한 팔로워 증명을 확인한다
+    private boolean authenticate(DataInputStream in, DataOutputStream out) throws IOException {
+        byte[] followerNonce = in.readNBytes(ReplicationHandshake.NONCE_BYTES);
+        if (followerNonce.length != ReplicationHandshake.NONCE_BYTES) {
+            return false;
+        }
+        byte[] leaderNonce = ReplicationHandshake.nonce();
+        out.write(leaderNonce);
+        out.write(ReplicationHandshake.leaderProof(secret, followerNonce, leaderNonce));
+        out.flush();
+        byte[] presented = in.readNBytes(ReplicationHandshake.PROOF_BYTES);
+        return ReplicationHandshake.matches(ReplicationHandshake.followerProof(secret, followerNonce, leaderNonce), presented);
+    }
+
+    private void sendSnapshot(ObjectOutputStream out, long sequence) throws IOException {
+        out.writeObject(new ReplicationMessage.SnapshotStart(epoch));
+        int written = 0;
+        for (Map.Entry<EntityType, Supplier<Stream<? extends Serializable>>> source : snapshotSources.entrySet()) {
+            // 전체를 목록으로 모으지 않고 읽는 대로 보낸다
+            try (Stream<? extends Serializable> entities = source.getValue().get()) {
+                Iterator<? extends Serializable> iterator = entities.iterator();
+                while (iterator.hasNext()) {
+                    out.writeObject(new ReplicationMessage.SnapshotEntity(source.getKey(), iterator.next()));
+                    if (++written % RESET_INTERVAL == 0) {
+                        out.reset();   // 핸들 테이블이 계속 커지지 않도록
+                    }
+                }
+            }
+        }
+        out.writeObject(new ReplicationMessage.SnapshotEnd(sequence));
+        out.reset();
+    }
+
+    private void stream(ChangeFeed.Consumer consumer, ObjectOutputStream out, String name)
+            throws IOException, InterruptedException {
+        while (!serverSocket.isClosed()) {
+            ChangeBatch batch = consumer.poll(batchSize, heartbeatInterval);
+            if (batch.skipped() > 0) {
+                // 이어서 보낼 수 없으므로 끊는다. 팔로워가 다시 접속하면 스냅샷부터 받는다.
+                log.warn("Follower {} fell {} events behind the change feed, disconnecting", name, batch.skipped());
+                return;
+            }
+            long leaderSequence = changeFeed.lastSequence();
+            if (batch.events().isEmpty()) {
+                out.writeObject(new ReplicationMessage.Heartbeat(leaderSequence));
+            } else {
+                sendChanges(out, batch.events(), leaderSequence);
+            }
+            out.flush();
+            out.reset();
+        }
+    }
+
+    // 페이로드 크기 기준으로 나눠 보낸다. 이벤트 하나가 한도보다 커도 혼자 한 메시지로 보낸다.
+    private void sendChanges(ObjectOutputStream out, List<ChangeEvent> events, long leaderSequence) throws IOException {
+        List<ChangeEvent> chunk = new ArrayList<>();
+        long chunkBytes = 0;
+        for (ChangeEvent event : events) {
+            ChangeEvent resolved = resolve(event);
+            long size = resolved.payload() != null ? resolved.payload().length : 0;
+            if (!chunk.isEmpty() && chunkBytes + size > MAX_CHANGES_BYTES) {
+                out.writeObject(new ReplicationMessage.Changes(chunk, leaderSequence));
+                out.reset();
+                chunk = new ArrayList<>();
+                chunkBytes = 0;
+            }
+            chunk.add(resolved);
+            chunkBytes += size;
+        }
+        out.writeObject(new ReplicationMessage.Changes(chunk, leaderSequence));
+    }
+
+    // 피드에 id만 남긴 첨부파일은 보내는 시점에 저장소에서 읽는다. 그 사이 지워졌으면 삭제로 보낸다 (뒤따르는 삭제 이벤트와 같은 결과).
+    private ChangeEvent resolve(ChangeEvent event) {
+        if (event.type() != ChangeType.SAVED || event.payload() != null
+                || !ChangeFeed.REFERENCE_ONLY.contains(event.entityType())) {
+            return event;
+        }
+        return event.withEntity(binaryContentRepository.findById(event.entityId()).orElse(null));
+    }
+}
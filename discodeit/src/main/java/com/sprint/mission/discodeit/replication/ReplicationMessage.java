@@ -0,0 +1,30 @@
+package com.sprint.mission.discodeit.replication;
+
+import com.sprint.mission.discodeit.entity.EntityType;
+import com.sprint.mission.discodeit.event.ChangeEvent;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 리더가 팔로워에게 보내는 메시지 (ObjectOutputStream 하나로 순서대로 전송)
+ * <p>
+ * 처음 접속했거나 팔로워가 너무 뒤처진 경우: SnapshotStart, SnapshotEntity..., SnapshotEnd 후 Changes를 이어 보낸다.
+ * 이어받을 수 있는 경우: Resume 후 바로 Changes를 보낸다. 보낼 변경이 없으면 주기적으로 Heartbeat를 보낸다.
+ */
+sealed interface ReplicationMessage extends Serializable {
+
+    record SnapshotStart(UUID epoch) implements ReplicationMessage {}
+
+    record SnapshotEntity(EntityType entityType, Serializable entity) implements ReplicationMessage {}
+
+    // 스냅샷 이후의 변경은 sequence 다음부터 이어진다
+    record SnapshotEnd(long sequence) implements ReplicationMessage {}
+
+    record Resume(UUID epoch, long afterSequence) implements ReplicationMessage {}
+
+    record Changes(List<ChangeEvent> events, long leaderSequence) implements ReplicationMessage {}
+
+    record Heartbeat(long leaderSequence) implements ReplicationMessage {}
+}
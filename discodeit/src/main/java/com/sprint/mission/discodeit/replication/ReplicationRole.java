@@ -0,0 +1,7 @@
+package com.sprint.mission.discodeit.replication;
+
+public enum ReplicationRole {
+    NONE,       // 단일 노드
+    LEADER,     // 쓰기를 받고 변경 피드를 팔로워에게 전송
+    FOLLOWER    // 리더의 변경을 적용하고 조회 요청만 처리
+}
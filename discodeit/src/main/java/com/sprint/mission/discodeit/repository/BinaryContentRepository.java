@@ -4,12 +4,28 @@ import com.sprint.mission.discodeit.entity.BinaryContent;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public interface BinaryContentRepository {
     BinaryContent save(BinaryContent binaryContent);
     Optional<BinaryContent> findById(UUID id);
     List<BinaryContent> findAll();
+    Stream<BinaryContent> streamAll();   // 추가: findAll의 지연 스트림 (필요할 때 읽어 메모리 일정, 반드시 close)
     List<BinaryContent> findAllByIdIn(List<UUID> ids);
     void deleteById(UUID id);
     boolean existsById(UUID id);
-}
\ No newline at end of file
+
+    // 추가: 비동기 변형. 기본 구현은 호출 스레드에서 바로 실행하고 이미 완료된(실패하면 예외로 완료된) future를 돌려준다
+    default CompletableFuture<Optional<BinaryContent>> findByIdAsync(UUID id) {
+        return CompletableFuture.supplyAsync(() -> findById(id), Runnable::run);
+    }
+
+    default CompletableFuture<BinaryContent> saveAsync(BinaryContent binaryContent) {
+        return CompletableFuture.supplyAsync(() -> save(binaryContent), Runnable::run);
+    }
+
+    default CompletableFuture<Void> deleteByIdAsync(UUID id) {
+        return CompletableFuture.runAsync(() -> deleteById(id), Runnable::run);
+    }
+}
@@ -1,18 +1,52 @@
 package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.repository.query.Criterion;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.QueryPlan;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 public interface ReadStatusRepository {
     ReadStatus save(ReadStatus readStatus);
+    Optional<ReadStatus> computeIfPresent(UUID id, UnaryOperator<ReadStatus> remapping);   // 추가: 저장소 안에서 원자적으로 수정 (버전 자동 증가)
     Optional<ReadStatus> findById(UUID id);
     List<ReadStatus> findAll();
+    Stream<ReadStatus> streamAll();   // 추가: findAll의 지연 스트림 (필요할 때 읽어 메모리 일정, 반드시 close)
+    List<ReadStatus> findAll(Query query);   // 추가: 조건/정렬/개수 제한 조회 (저장소가 가능한 인덱스로 실행)
+    Stream<ReadStatus> stream(Query query);     // 추가: findAll(Query)의 지연 스트림 (정렬이 없으면 메모리 일정, 반드시 close)
+    QueryPlan explain(Query query);          // 추가: findAll(Query)가 어떤 방식(id 조회, 인덱스, 전체 스캔)으로 실행되는지
     List<ReadStatus> findAllByUserId(UUID userId);
     List<ReadStatus> findAllByChannelId(UUID channelId);
     Optional<ReadStatus> findByUserIdAndChannelId(UUID userId, UUID channelId);
+
+    // 추가: findAllByUserId / findAllByChannelId의 지연 스트림 (반드시 close)
+    default Stream<ReadStatus> streamAllByUserId(UUID userId) {
+        return stream(Query.where(Criterion.eq("userId", userId)));
+    }
+
+    default Stream<ReadStatus> streamAllByChannelId(UUID channelId) {
+        return stream(Query.where(Criterion.eq("channelId", channelId)));
+    }
+
     void deleteById(UUID id);
     void deleteAllByChannelId(UUID channelId);
     boolean existsById(UUID id);
-}
\ No newline at end of file
+
+    // 추가: 비동기 변형. 기본 구현은 호출 스레드에서 바로 실행하고 이미 완료된(실패하면 예외로 완료된) future를 돌려준다
+    default CompletableFuture<Optional<ReadStatus>> findByIdAsync(UUID id) {
+        return CompletableFuture.supplyAsync(() -> findById(id), Runnable::run);
+    }
+
+    default CompletableFuture<ReadStatus> saveAsync(ReadStatus readStatus) {
+        return CompletableFuture.supplyAsync(() -> save(readStatus), Runnable::run);
+    }
+
+    default CompletableFuture<Void> deleteByIdAsync(UUID id) {
+        return CompletableFuture.runAsync(() -> deleteById(id), Runnable::run);
+    }
+}
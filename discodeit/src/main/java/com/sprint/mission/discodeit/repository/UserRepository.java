@@ -5,15 +5,33 @@ import com.sprint.mission.discodeit.entity.User;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 public interface UserRepository {
     User save(User user);
+    Optional<User> computeIfPresent(UUID id, UnaryOperator<User> remapping);   // 추가: 저장소 안에서 원자적으로 수정 (버전 자동 증가)
     Optional<User> findById(UUID id);
     Optional<User> findByUsername(String username);  // 추가: 로그인 시 사용
     Optional<User> findByEmail(String email);        // 추가: 이메일 중복 체크
     List<User> findAll();
+    Stream<User> streamAll();   // 추가: findAll의 지연 스트림 (필요할 때 읽어 메모리 일정, 반드시 close)
     void deleteById(UUID id);
     boolean existsById(UUID id);
     boolean existsByUsername(String username);       // 추가: username 중복 체크
     boolean existsByEmail(String email);             // 추가: email 중복 체크
-}
\ No newline at end of file
+
+    // 추가: 비동기 변형. 기본 구현은 호출 스레드에서 바로 실행하고 이미 완료된(실패하면 예외로 완료된) future를 돌려준다
+    default CompletableFuture<Optional<User>> findByIdAsync(UUID id) {
+        return CompletableFuture.supplyAsync(() -> findById(id), Runnable::run);
+    }
+
+    default CompletableFuture<User> saveAsync(User user) {
+        return CompletableFuture.supplyAsync(() -> save(user), Runnable::run);
+    }
+
+    default CompletableFuture<Void> deleteByIdAsync(UUID id) {
+        return CompletableFuture.runAsync(() -> deleteById(id), Runnable::run);
+    }
+}
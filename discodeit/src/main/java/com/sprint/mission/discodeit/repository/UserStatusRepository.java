@@ -4,14 +4,32 @@ import com.sprint.mission.discodeit.entity.UserStatus;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 public interface UserStatusRepository {
     UserStatus save(UserStatus userStatus);
+    Optional<UserStatus> computeIfPresent(UUID id, UnaryOperator<UserStatus> remapping);   // 추가: 저장소 안에서 원자적으로 수정 (버전 자동 증가)
     Optional<UserStatus> findById(UUID id);
     Optional<UserStatus> findByUserId(UUID userId);
     List<UserStatus> findAll();
+    Stream<UserStatus> streamAll();   // 추가: findAll의 지연 스트림 (필요할 때 읽어 메모리 일정, 반드시 close)
     void deleteById(UUID id);
     void deleteByUserId(UUID userId);
     boolean existsById(UUID id);
     boolean existsByUserId(UUID userId);
-}
\ No newline at end of file
+
+    // 추가: 비동기 변형. 기본 구현은 호출 스레드에서 바로 실행하고 이미 완료된(실패하면 예외로 완료된) future를 돌려준다
+    default CompletableFuture<Optional<UserStatus>> findByIdAsync(UUID id) {
+        return CompletableFuture.supplyAsync(() -> findById(id), Runnable::run);
+    }
+
+    default CompletableFuture<UserStatus> saveAsync(UserStatus userStatus) {
+        return CompletableFuture.supplyAsync(() -> save(userStatus), Runnable::run);
+    }
+
+    default CompletableFuture<Void> deleteByIdAsync(UUID id) {
+        return CompletableFuture.runAsync(() -> deleteById(id), Runnable::run);
+    }
+}
@@ -0,0 +1,158 @@
+package com.sprint.mission.discodeit.repository.cdc;
+
+import com.sprint.mission.discodeit.entity.EntityType;
+import com.sprint.mission.discodeit.event.ChangeFeed;
+import com.sprint.mission.discodeit.event.ChangeType;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 저장소 쓰기와 변경 이벤트 발행을 묶는다.
+ * 같은 ID에 대한 쓰기는 ID 해시로 고른 락 안에서 저장 후 바로 발행하므로, 피드의 순서가 저장소에 적용된 순서와 같다.
+ * 서로 다른 ID의 쓰기는 락을 나눠 가져 병렬로 진행된다.
+ * <p>
+ * 비동기 쓰기는 저장소의 비동기 구현이 끝나는 스레드에서 발행하고 락을 푼다. 그래서 락은 잡은 스레드와 다른 스레드에서도
+ * 풀 수 있는 허가 1개짜리 Semaphore다 (재진입하지 않는다).
+ * <p>
+ * 일괄 저장({@link #savedAll})과 조건 삭제({@link #deletedAll})는 bulkLock으로 서로 배제한다.
+ * 조건 삭제는 지울 ID를 모으는 것부터 발행까지 쓰기 락 안에서 하므로, 그 사이에 저장된 엔티티가 DELETED 이벤트 없이 지워지지 않는다.
+ */
+class ChangeCapture {
+    private static final int LOCK_STRIPES = 64;
+
+    private final ChangeFeed changeFeed;
+    private final Semaphore[] locks = new Semaphore[LOCK_STRIPES];
+    private final ReadWriteLock bulkLock = new ReentrantReadWriteLock();
+
+    ChangeCapture(ChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Semaphore(1);
+        }
+    }
+
+    <T extends Serializable> T saved(EntityType type, UUID id, Supplier<T> write) {
+        Semaphore lock = lockFor(id);
+        lock.acquireUninterruptibly();
+        try {
+            T saved = write.get();
+            changeFeed.publish(type, ChangeType.SAVED, id, saved);
+            return saved;
+        } finally {
+            lock.release();
+        }
+    }
+
+    <T extends Serializable> Optional<T> savedIfPresent(EntityType type, UUID id, Supplier<Optional<T>> write) {
+        Semaphore lock = lockFor(id);
+        lock.acquireUninterruptibly();
+        try {
+            Optional<T> saved = write.get();
+            saved.ifPresent(entity -> changeFeed.publish(type, ChangeType.SAVED, id, entity));
+            return saved;
+        } finally {
+            lock.release();
+        }
+    }
+
+    /**
+     * 새로 만든 엔티티의 일괄 저장 (ingest 배치, 파티션 가져오기). 저장이 끝나기 전에는 ID가 밖에 알려지지 않았으므로
+     * ID 락은 잡지 않고, 조건 삭제와만 bulkLock 읽기 락으로 배제한다.
+     */
+    <T extends Serializable> List<T> savedAll(EntityType type, Function<T, UUID> idOf, Supplier<List<T>> write) {
+        bulkLock.readLock().lock();
+        try {
+            List<T> saved = write.get();
+            saved.forEach(entity -> changeFeed.publish(type, ChangeType.SAVED, idOf.apply(entity), entity));
+            return saved;
+        } finally {
+            bulkLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장소의 비동기 쓰기(saveAsync)를 그대로 시작한다. 락은 시작 전에 잡고, 쓰기가 성공하면 발행한 뒤 완료 스레드에서 푼다.
+     * 호출자는 락을 얻을 때까지만 기다리고 I/O는 기다리지 않는다.
+     */
+    <T extends Serializable> CompletableFuture<T> savedAsync(EntityType type, UUID id, Supplier<CompletableFuture<T>> write) {
+        return async(id, write, saved -> changeFeed.publish(type, ChangeType.SAVED, id, saved));
+    }
+
+    CompletableFuture<Void> deletedAsync(EntityType type, UUID id, Supplier<CompletableFuture<Void>> delete) {
+        return async(id, delete, ignored -> changeFeed.publish(type, ChangeType.DELETED, id, null));
+    }
+
+    void deleted(EntityType type, UUID id, Runnable delete) {
+        deleteLocked(type, List.of(id), delete);
+    }
+
+    /**
+     * 조건으로 여러 건을 지우는 경우. bulkLock 쓰기 락 안에서 지울 ID를 모으고, 그 ID들의 락을 모두 잡은 채로 한 번에 삭제하고 발행한다.
+     */
+    void deletedAll(EntityType type, Supplier<? extends Collection<UUID>> ids, Runnable delete) {
+        bulkLock.writeLock().lock();
+        try {
+            deleteLocked(type, ids.get(), delete);
+        } finally {
+            bulkLock.writeLock().unlock();
+        }
+    }
+
+    private void deleteLocked(EntityType type, Collection<UUID> ids, Runnable delete) {
+        // 교착을 피하려고 항상 같은 순서로 잡는다
+        int[] stripes = ids.stream().mapToInt(ChangeCapture::stripeOf).distinct().sorted().toArray();
+        for (int stripe : stripes) {
+            locks[stripe].acquireUninterruptibly();
+        }
+        try {
+            delete.run();
+            ids.forEach(id -> changeFeed.publish(type, ChangeType.DELETED, id, null));
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                locks[stripes[i]].release();
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> async(UUID id, Supplier<CompletableFuture<T>> write, Consumer<T> publish) {
+        Semaphore lock = lockFor(id);
+        lock.acquireUninterruptibly();
+        CompletableFuture<T> started;
+        try {
+            started = write.get();
+        } catch (RuntimeException e) {
+            lock.release();
+            throw e;
+        }
+        return started.whenComplete((result, e) -> {
+            try {
+                if (e == null) {
+                    publish.accept(result);
+                }
+            } finally {
+                lock.release();
+            }
+        });
+    }
+
+    private Semaphore lockFor(UUID id) {
+        return locks[stripeOf(id)];
+    }
+
+    private static int stripeOf(UUID id) {
+        long bits = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        int hash = (int) (bits ^ (bits >>> 32));
+        return Math.floorMod(hash ^ (hash >>> 16), LOCK_STRIPES);
+    }
+}
@@ -0,0 +1,74 @@
+package com.sprint.mission.discodeit.repository.cdc;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.EntityType;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+class ChangeCapturingBinaryContentRepository implements BinaryContentRepository, ChangeCapturingRepository<BinaryContentRepository> {
+    private final BinaryContentRepository delegate;
+    private final ChangeCapture capture;
+
+    @Override
+    public BinaryContentRepository delegate() {
+        return delegate;
+    }
+
+    @Override
+    public BinaryContent save(BinaryContent binaryContent) {
+        return capture.saved(EntityType.BINARY_CONTENT, binaryContent.getId(), () -> delegate.save(binaryContent));
+    }
+
+    @Override
+    public Optional<BinaryContent> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<BinaryContent> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Stream<BinaryContent> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<BinaryContent> findAllByIdIn(List<UUID> ids) {
+        return delegate.findAllByIdIn(ids);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        capture.deleted(EntityType.BINARY_CONTENT, id, () -> delegate.deleteById(id));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public CompletableFuture<Optional<BinaryContent>> findByIdAsync(UUID id) {
+        return delegate.findByIdAsync(id);
+    }
+
+    // 저장소의 비동기 구현을 그대로 쓰고, 같은 ID의 락 안에서 완료 후 발행한다
+    @Override
+    public CompletableFuture<BinaryContent> saveAsync(BinaryContent binaryContent) {
+        return capture.savedAsync(EntityType.BINARY_CONTENT, binaryContent.getId(), () -> delegate.saveAsync(binaryContent));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteByIdAsync(UUID id) {
+        return capture.deletedAsync(EntityType.BINARY_CONTENT, id, () -> delegate.deleteByIdAsync(id));
+    }
+}
@@ -0,0 +1,92 @@
+package com.sprint.mission.discodeit.repository.cdc;
+
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.EntityType;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.QueryPlan;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+class ChangeCapturingChannelRepository implements ChannelRepository, ChangeCapturingRepository<ChannelRepository> {
+    private final ChannelRepository delegate;
+    private final ChangeCapture capture;
+
+    @Override
+    public ChannelRepository delegate() {
+        return delegate;
+    }
+
+    @Override
+    public Channel save(Channel channel) {
+        return capture.saved(EntityType.CHANNEL, channel.getId(), () -> delegate.save(channel));
+    }
+
+    @Override
+    public Optional<Channel> computeIfPresent(UUID id, UnaryOperator<Channel> remapping) {
+        return capture.savedIfPresent(EntityType.CHANNEL, id, () -> delegate.computeIfPresent(id, remapping));
+    }
+
+    @Override
+    public Optional<Channel> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Channel> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Stream<Channel> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<Channel> findAll(Query query) {
+        return delegate.findAll(query);
+    }
+
+    @Override
+    public Stream<Channel> stream(Query query) {
+        return delegate.stream(query);
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return delegate.explain(query);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        capture.deleted(EntityType.CHANNEL, id, () -> delegate.deleteById(id));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Channel>> findByIdAsync(UUID id) {
+        return delegate.findByIdAsync(id);
+    }
+
+    // 저장소의 비동기 구현을 그대로 쓰고, 같은 ID의 락 안에서 완료 후 발행한다
+    @Override
+    public CompletableFuture<Channel> saveAsync(Channel channel) {
+        return capture.savedAsync(EntityType.CHANNEL, channel.getId(), () -> delegate.saveAsync(channel));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteByIdAsync(UUID id) {
+        return capture.deletedAsync(EntityType.CHANNEL, id, () -> delegate.deleteByIdAsync(id));
+    }
+}
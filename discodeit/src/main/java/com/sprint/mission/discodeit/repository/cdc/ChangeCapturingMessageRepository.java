@@ -0,0 +1,110 @@
+package com.sprint.mission.discodeit.repository.cdc;
+
+import com.sprint.mission.discodeit.entity.EntityType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.QueryPlan;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+class ChangeCapturingMessageRepository implements MessageRepository, ChangeCapturingRepository<MessageRepository> {
+    private final MessageRepository delegate;
+    private final ChangeCapture capture;
+
+    @Override
+    public MessageRepository delegate() {
+        return delegate;
+    }
+
+    @Override
+    public Message save(Message message) {
+        return capture.saved(EntityType.MESSAGE, message.getId(), () -> delegate.save(message));
+    }
+
+    @Override
+    public Optional<Message> computeIfPresent(UUID id, UnaryOperator<Message> remapping) {
+        return capture.savedIfPresent(EntityType.MESSAGE, id, () -> delegate.computeIfPresent(id, remapping));
+    }
+
+    @Override
+    public List<Message> saveAll(List<Message> messages) {
+        return capture.savedAll(EntityType.MESSAGE, Message::getId, () -> delegate.saveAll(messages));
+    }
+
+    @Override
+    public Optional<Message> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Message> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Stream<Message> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<Message> findAll(Query query) {
+        return delegate.findAll(query);
+    }
+
+    @Override
+    public Stream<Message> stream(Query query) {
+        return delegate.stream(query);
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return delegate.explain(query);
+    }
+
+    @Override
+    public List<Message> findAllByChannelId(UUID channelId) {
+        return delegate.findAllByChannelId(channelId);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        capture.deleted(EntityType.MESSAGE, id, () -> delegate.deleteById(id));
+    }
+
+    @Override
+    public void deleteAllByChannelId(UUID channelId) {
+        // 메시지는 saveAll(ingest 배치)로만 생기므로, ID 수집부터 삭제까지 그 사이에 끼어드는 저장이 없다
+        capture.deletedAll(EntityType.MESSAGE,
+                () -> delegate.findAllByChannelId(channelId).stream().map(Message::getId).toList(),
+                () -> delegate.deleteAllByChannelId(channelId));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Message>> findByIdAsync(UUID id) {
+        return delegate.findByIdAsync(id);
+    }
+
+    // 저장소의 비동기 구현을 그대로 쓰고, 같은 ID의 락 안에서 완료 후 발행한다
+    @Override
+    public CompletableFuture<Message> saveAsync(Message message) {
+        return capture.savedAsync(EntityType.MESSAGE, message.getId(), () -> delegate.saveAsync(message));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteByIdAsync(UUID id) {
+        return capture.deletedAsync(EntityType.MESSAGE, id, () -> delegate.deleteByIdAsync(id));
+    }
+}
@@ -0,0 +1,114 @@
+package com.sprint.mission.discodeit.repository.cdc;
+
+import com.sprint.mission.discodeit.entity.EntityType;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.QueryPlan;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+class ChangeCapturingReadStatusRepository implements ReadStatusRepository, ChangeCapturingRepository<ReadStatusRepository> {
+    private final ReadStatusRepository delegate;
+    private final ChangeCapture capture;
+
+    @Override
+    public ReadStatusRepository delegate() {
+        return delegate;
+    }
+
+    @Override
+    public ReadStatus save(ReadStatus readStatus) {
+        return capture.saved(EntityType.READ_STATUS, readStatus.getId(), () -> delegate.save(readStatus));
+    }
+
+    @Override
+    public Optional<ReadStatus> computeIfPresent(UUID id, UnaryOperator<ReadStatus> remapping) {
+        return capture.savedIfPresent(EntityType.READ_STATUS, id, () -> delegate.computeIfPresent(id, remapping));
+    }
+
+    @Override
+    public Optional<ReadStatus> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<ReadStatus> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Stream<ReadStatus> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<ReadStatus> findAll(Query query) {
+        return delegate.findAll(query);
+    }
+
+    @Override
+    public Stream<ReadStatus> stream(Query query) {
+        return delegate.stream(query);
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return delegate.explain(query);
+    }
+
+    @Override
+    public List<ReadStatus> findAllByUserId(UUID userId) {
+        return delegate.findAllByUserId(userId);
+    }
+
+    @Override
+    public List<ReadStatus> findAllByChannelId(UUID channelId) {
+        return delegate.findAllByChannelId(channelId);
+    }
+
+    @Override
+    public Optional<ReadStatus> findByUserIdAndChannelId(UUID userId, UUID channelId) {
+        return delegate.findByUserIdAndChannelId(userId, channelId);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        capture.deleted(EntityType.READ_STATUS, id, () -> delegate.deleteById(id));
+    }
+
+    @Override
+    public void deleteAllByChannelId(UUID channelId) {
+        capture.deletedAll(EntityType.READ_STATUS,
+                () -> delegate.findAllByChannelId(channelId).stream().map(ReadStatus::getId).toList(),
+                () -> delegate.deleteAllByChannelId(channelId));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public CompletableFuture<Optional<ReadStatus>> findByIdAsync(UUID id) {
+        return delegate.findByIdAsync(id);
+    }
+
+    // 저장소의 비동기 구현을 그대로 쓰고, 같은 ID의 락 안에서 완료 후 발행한다
+    @Override
+    public CompletableFuture<ReadStatus> saveAsync(ReadStatus readStatus) {
+        return capture.savedAsync(EntityType.READ_STATUS, readStatus.getId(), () -> delegate.saveAsync(readStatus));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteByIdAsync(UUID id) {
+        return capture.deletedAsync(EntityType.READ_STATUS, id, () -> delegate.deleteByIdAsync(id));
+    }
+}
@@ -0,0 +1,16 @@
+package com.sprint.mission.discodeit.repository.cdc;
+
+/**
+ * 변경 이벤트를 발행하는 저장소 데코레이터. 이벤트 없이 원래 저장소에 써야 하는 경우(스냅샷 복구 등)에 감싼 저장소를 꺼낸다.
+ */
+public interface ChangeCapturingRepository<R> {
+    R delegate();
+
+    /**
+     * 데코레이터면 감싼 저장소를, 아니면(피드 비활성화) 그대로 돌려준다
+     */
+    @SuppressWarnings("unchecked")
+    static <R> R unwrap(R repository) {
+        return repository instanceof ChangeCapturingRepository<?> decorator ? (R) decorator.delegate() : repository;
+    }
+}
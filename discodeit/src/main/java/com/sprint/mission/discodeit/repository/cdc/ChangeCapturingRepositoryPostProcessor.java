@@ -0,0 +1,48 @@
+package com.sprint.mission.discodeit.repository.cdc;
+
+import com.sprint.mission.discodeit.event.ChangeFeed;
+import com.sprint.mission.discodeit.repository.*;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장소 구현(jcf, file, jdbc)에 상관없이 여섯 저장소 빈을 변경 이벤트를 발행하는 데코레이터로 감싼다.
+ * 서비스와 다른 컴포넌트는 감싼 빈을 주입받으므로 모든 쓰기가 {@link ChangeFeed}를 거친다.
+ */
+@Component
+@ConditionalOnProperty(name = "discodeit.change-feed.enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeCapturingRepositoryPostProcessor implements BeanPostProcessor {
+    private final ObjectProvider<ChangeFeed> changeFeed;
+    private volatile ChangeCapture capture;
+
+    public ChangeCapturingRepositoryPostProcessor(ObjectProvider<ChangeFeed> changeFeed) {
+        // BeanPostProcessor는 일찍 만들어지므로 피드는 첫 저장소를 감쌀 때 가져온다
+        this.changeFeed = changeFeed;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return switch (bean) {
+            case UserRepository repository -> new ChangeCapturingUserRepository(repository, capture());
+            case ChannelRepository repository -> new ChangeCapturingChannelRepository(repository, capture());
+            case MessageRepository repository -> new ChangeCapturingMessageRepository(repository, capture());
+            case ReadStatusRepository repository -> new ChangeCapturingReadStatusRepository(repository, capture());
+            case UserStatusRepository repository -> new ChangeCapturingUserStatusRepository(repository, capture());
+            case BinaryContentRepository repository -> new ChangeCapturingBinaryContentRepository(repository, capture());
+            default -> bean;
+        };
+    }
+
+    private ChangeCapture capture() {
+        if (capture == null) {
+            synchronized (this) {
+                if (capture == null) {
+                    capture = new ChangeCapture(changeFeed.getObject());
+                }
+            }
+        }
+        return capture;
+    }
+}
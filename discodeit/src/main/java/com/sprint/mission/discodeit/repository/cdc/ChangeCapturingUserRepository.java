@@ -0,0 +1,95 @@
+package com.sprint.mission.discodeit.repository.cdc;
+
+import com.sprint.mission.discodeit.entity.EntityType;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+class ChangeCapturingUserRepository implements UserRepository, ChangeCapturingRepository<UserRepository> {
+    private final UserRepository delegate;
+    private final ChangeCapture capture;
+
+    @Override
+    public UserRepository delegate() {
+        return delegate;
+    }
+
+    @Override
+    public User save(User user) {
+        return capture.saved(EntityType.USER, user.getId(), () -> delegate.save(user));
+    }
+
+    @Override
+    public Optional<User> computeIfPresent(UUID id, UnaryOperator<User> remapping) {
+        return capture.savedIfPresent(EntityType.USER, id, () -> delegate.computeIfPresent(id, remapping));
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return delegate.findByUsername(username);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Stream<User> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        capture.deleted(EntityType.USER, id, () -> delegate.deleteById(id));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return delegate.existsByUsername(username);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public CompletableFuture<Optional<User>> findByIdAsync(UUID id) {
+        return delegate.findByIdAsync(id);
+    }
+
+    // 저장소의 비동기 구현을 그대로 쓰고, 같은 ID의 락 안에서 완료 후 발행한다
+    @Override
+    public CompletableFuture<User> saveAsync(User user) {
+        return capture.savedAsync(EntityType.USER, user.getId(), () -> delegate.saveAsync(user));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteByIdAsync(UUID id) {
+        return capture.deletedAsync(EntityType.USER, id, () -> delegate.deleteByIdAsync(id));
+    }
+}
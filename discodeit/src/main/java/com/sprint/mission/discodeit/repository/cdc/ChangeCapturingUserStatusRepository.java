@@ -0,0 +1,92 @@
+package com.sprint.mission.discodeit.repository.cdc;
+
+import com.sprint.mission.discodeit.entity.EntityType;
+import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.repository.UserStatusRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+class ChangeCapturingUserStatusRepository implements UserStatusRepository, ChangeCapturingRepository<UserStatusRepository> {
+    private final UserStatusRepository delegate;
+    private final ChangeCapture capture;
+
+    @Override
+    public UserStatusRepository delegate() {
+        return delegate;
+    }
+
+    @Override
+    public UserStatus save(UserStatus userStatus) {
+        return capture.saved(EntityType.USER_STATUS, userStatus.getId(), () -> delegate.save(userStatus));
+    }
+
+    @Override
+    public Optional<UserStatus> computeIfPresent(UUID id, UnaryOperator<UserStatus> remapping) {
+        return capture.savedIfPresent(EntityType.USER_STATUS, id, () -> delegate.computeIfPresent(id, remapping));
+    }
+
+    @Override
+    public Optional<UserStatus> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<UserStatus> findByUserId(UUID userId) {
+        return delegate.findByUserId(userId);
+    }
+
+    @Override
+    public List<UserStatus> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Stream<UserStatus> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        capture.deleted(EntityType.USER_STATUS, id, () -> delegate.deleteById(id));
+    }
+
+    @Override
+    public void deleteByUserId(UUID userId) {
+        capture.deletedAll(EntityType.USER_STATUS,
+                () -> delegate.findByUserId(userId).map(UserStatus::getId).stream().toList(),
+                () -> delegate.deleteByUserId(userId));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByUserId(UUID userId) {
+        return delegate.existsByUserId(userId);
+    }
+
+    @Override
+    public CompletableFuture<Optional<UserStatus>> findByIdAsync(UUID id) {
+        return delegate.findByIdAsync(id);
+    }
+
+    // 저장소의 비동기 구현을 그대로 쓰고, 같은 ID의 락 안에서 완료 후 발행한다
+    @Override
+    public CompletableFuture<UserStatus> saveAsync(UserStatus userStatus) {
+        return capture.savedAsync(EntityType.USER_STATUS, userStatus.getId(), () -> delegate.saveAsync(userStatus));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteByIdAsync(UUID id) {
+        return capture.deletedAsync(EntityType.USER_STATUS, id, () -> delegate.deleteByIdAsync(id));
+    }
+}
@@ -0,0 +1,25 @@
+package com.sprint.mission.discodeit.repository.file;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * file 모드에서 BinaryContent의 메타데이터 ({uuid}.ser)
+ * 실제 데이터는 같은 샤드 디렉토리의 {uuid}.bin에 따로 두며, compressed면 gzip 스트림이다.
+ */
+record BinaryContentMetadata(
+        UUID id,
+        Instant createdAt,
+        String fileName,
+        String contentType,
+        int size,           // 원본 바이트 수
+        long storedSize,    // 디스크에 저장된 바이트 수
+        boolean compressed,
+        UUID originalId,    // 축소 이미지면 원본 ID (이전에 저장된 메타데이터에는 없어 null)
+        int variantSize
+) implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+}
@@ -0,0 +1,131 @@
+package com.sprint.mission.discodeit.repository.file;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 필드별 Bloom 필터로 "없음"을 전체 스캔 없이 판정한다
+ * <p>
+ * 부팅 시 저장된 엔티티를 한 번 스캔해 엔티티 수의 두 배를 용량으로 필터를 만들고, 이후 저장할 때마다 키를 추가한다.
+ * 추가된 키가 용량을 넘으면 오탐률이 올라가므로 백그라운드에서 다시 스캔해 크게 만든다.
+ * 삭제되거나 바뀐 옛 키는 지울 수 없어 오탐으로만 남고(스캔으로 확인), 다음 재구성 때 사라진다.
+ * <p>
+ * 저장소는 파일을 쓰기 전과 쓴 후에 {@link #add}를 호출한다. 쓰기 전 추가는 파일이 보이는데 필터에 없는 구간을 없애고,
+ * 쓴 후 추가는 재구성 스캔이 지나간 뒤 쓰인 파일의 키를 새 필터에 넘긴다.
+ */
+@Slf4j
+class ExistenceFilter<T> {
+    private static final long MIN_CAPACITY = 1024;
+
+    private final String name;
+    private final Map<String, Function<T, ?>> fields;
+    private final Supplier<Stream<T>> source;
+    private final double falsePositiveRate;
+    // add는 읽기 락, 재구성의 시작/교체는 쓰기 락 (스캔 중에는 락을 잡지 않음)
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile Map<String, BloomFilter> filters;
+    private volatile long capacity;
+    // 재구성 스캔 중 추가된 엔티티 (새 필터에 다시 넣음)
+    private Queue<T> pending;
+
+    ExistenceFilter(String name, Map<String, Function<T, ?>> fields, Supplier<Stream<T>> source, double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        this.name = name;
+        this.fields = new LinkedHashMap<>(fields);
+        this.source = source;
+        this.falsePositiveRate = falsePositiveRate;
+        rebuild();
+    }
+
+    /**
+     * false면 해당 필드 값을 가진 엔티티가 확실히 없다
+     */
+    boolean mightContain(String field, Object key) {
+        return filters.get(field).mightContain(String.valueOf(key));
+    }
+
+    void add(T entity) {
+        boolean full = false;
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<String, BloomFilter> filter : filters.entrySet()) {
+                filter.getValue().put(keyOf(filter.getKey(), entity));
+                full |= filter.getValue().inserted() > capacity;
+            }
+            Queue<T> queue = pending;
+            if (queue != null) {
+                queue.add(entity);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (full && rebuilding.compareAndSet(false, true)) {
+            // 저장 요청이 스캔을 기다리지 않도록 별도 스레드에서 재구성
+            Thread.ofVirtual().name("bloom-rebuild-" + name).start(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.error("Failed to rebuild {} bloom filters", name, e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pending = new ConcurrentLinkedQueue<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, List<String>> keys = new LinkedHashMap<>();
+        fields.keySet().forEach(field -> keys.put(field, new ArrayList<>()));
+        try (Stream<T> entities = source.get()) {
+            entities.forEach(entity -> keys.forEach((field, list) -> list.add(keyOf(field, entity))));
+        }
+        int count = keys.values().stream().mapToInt(List::size).max().orElse(0);
+        long nextCapacity = Math.max(MIN_CAPACITY, count * 2L);
+        Map<String, BloomFilter> next = new LinkedHashMap<>();
+        keys.forEach((field, list) -> {
+            BloomFilter filter = new BloomFilter(nextCapacity, falsePositiveRate);
+            list.forEach(filter::put);
+            next.put(field, filter);
+        });
+
+        lock.writeLock().lock();
+        try {
+            for (T entity : pending) {
+                next.forEach((field, filter) -> filter.put(keyOf(field, entity)));
+            }
+            pending = null;
+            filters = next;
+            capacity = nextCapacity;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Built {} bloom filters for {} entities (capacity {}) in {} ms",
+                name, count, nextCapacity, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private String keyOf(String field, T entity) {
+        return String.valueOf(fields.get(field).apply(entity));
+    }
+}
@@ -2,6 +2,9 @@ package com.sprint.mission.discodeit.repository.file;
 
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
@@ -10,102 +13,229 @@ import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+/**
+ * 메타데이터({uuid}.ser)와 데이터({uuid}.bin)를 나눠 저장한다.
+ * 데이터는 contentType을 보고 이미 압축된 형식(png, jpeg, zip 등)이 아니면 gzip 스트림으로 압축하고,
+ * 압축해도 작아지지 않으면 원본 그대로 둔다. 읽을 때는 원본 크기만큼의 배열에 바로 풀어 중간 버퍼를 두지 않는다.
+ * 메타데이터 없이 BinaryContent 전체를 직렬화해 둔 이전 형식의 파일도 그대로 읽는다.
+ */
+@Slf4j
 @Repository
 @ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "file")
 public class FileBinaryContentRepository implements BinaryContentRepository {
-    private final Path DIRECTORY;
-    private final String EXTENSION = ".ser";
+    private static final String PAYLOAD_EXTENSION = ".bin";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // 이미 압축된 형식은 다시 압축해도 줄지 않는다
+    // (application/octet-stream처럼 내용을 알 수 없는 형식은 일단 압축해 보고, 줄지 않으면 save에서 원본으로 다시 쓴다)
+    private static final Set<String> COMPRESSED_TYPES = Set.of(
+            "image/png", "image/jpeg", "image/jpg", "image/gif", "image/webp", "image/avif", "image/heic",
+            "application/zip", "application/gzip", "application/x-gzip", "application/x-7z-compressed",
+            "application/x-rar-compressed", "application/vnd.rar", "application/x-bzip2", "application/x-xz",
+            "application/zstd", "application/pdf"
+    );
+    private static final Set<String> COMPRESSED_TYPE_PREFIXES = Set.of("video/", "audio/", "font/woff");
 
-    public FileBinaryContentRepository(@Value("${discodeit.repository.file-directory}") String fileDirectory) {
-        this.DIRECTORY = Paths.get(fileDirectory, BinaryContent.class.getSimpleName());
-        if (Files.notExists(DIRECTORY)) {
-            try {
-                Files.createDirectories(DIRECTORY);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-    }
+    private final ShardedFileStore<Serializable> store;
+    private final boolean compressionEnabled;
+    private final int compressionMinBytes;
+    private final LongAdder originalBytes = new LongAdder();
+    private final LongAdder storedBytes = new LongAdder();
 
-    private Path resolvePath(UUID id) {
-        return DIRECTORY.resolve(id + EXTENSION);
+    public FileBinaryContentRepository(
+            @Value("${discodeit.repository.file-directory}") String fileDirectory,
+            @Qualifier("fileScanExecutor") ExecutorService fileScanExecutor,
+            @Value("${discodeit.repository.binary-compression.enabled:true}") boolean compressionEnabled,
+            @Value("${discodeit.repository.binary-compression.min-bytes:512}") int compressionMinBytes
+    ) {
+        this.store = new ShardedFileStore<>(Paths.get(fileDirectory, BinaryContent.class.getSimpleName()), Serializable.class, fileScanExecutor);
+        this.compressionEnabled = compressionEnabled;
+        this.compressionMinBytes = compressionMinBytes;
     }
 
     @Override
     public BinaryContent save(BinaryContent binaryContent) {
-        Path path = resolvePath(binaryContent.getId());
-        try (
-                FileOutputStream fos = new FileOutputStream(path.toFile());
-                ObjectOutputStream oos = new ObjectOutputStream(fos)
-        ) {
-            oos.writeObject(binaryContent);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        UUID id = binaryContent.getId();
+        byte[] data = binaryContent.getData() != null ? binaryContent.getData() : new byte[0];
+        boolean compress = shouldCompress(binaryContent.getContentType(), data.length);
+
+        // 데이터를 먼저 쓰고 메타데이터를 나중에 써서, 메타데이터가 보이면 데이터도 항상 있게 한다
+        long storedSize = writePayload(id, data, compress);
+        if (compress && storedSize >= data.length) {
+            compress = false;
+            storedSize = writePayload(id, data, false);
+        }
+        store.write(id, new BinaryContentMetadata(
+                id,
+                binaryContent.getCreatedAt(),
+                binaryContent.getFileName(),
+                binaryContent.getContentType(),
+                data.length,
+                storedSize,
+                compress,
+                binaryContent.getOriginalId(),
+                binaryContent.getVariantSize()
+        ));
+
+        originalBytes.add(data.length);
+        storedBytes.add(storedSize);
+        if (compress) {
+            log.debug("Compressed {} ({}) {} -> {} bytes (ratio {})", id, binaryContent.getContentType(),
+                    data.length, storedSize, String.format("%.2f", (double) storedSize / data.length));
         }
         return binaryContent;
     }
 
     @Override
     public Optional<BinaryContent> findById(UUID id) {
-        Path path = resolvePath(id);
-        if (Files.notExists(path)) {
-            return Optional.empty();
-        }
-        try (
-                FileInputStream fis = new FileInputStream(path.toFile());
-                ObjectInputStream ois = new ObjectInputStream(fis)
-        ) {
-            return Optional.of((BinaryContent) ois.readObject());
-        } catch (IOException | ClassNotFoundException e) {
-            throw new RuntimeException(e);
-        }
+        return store.read(id).map(this::toBinaryContent);
     }
 
     @Override
     public List<BinaryContent> findAll() {
-        try {
-            return Files.list(DIRECTORY)
-                    .filter(path -> path.toString().endsWith(EXTENSION))
-                    .map(path -> {
-                        try (
-                                FileInputStream fis = new FileInputStream(path.toFile());
-                                ObjectInputStream ois = new ObjectInputStream(fis)
-                        ) {
-                            return (BinaryContent) ois.readObject();
-                        } catch (IOException | ClassNotFoundException e) {
-                            throw new RuntimeException(e);
-                        }
-                    })
-                    .toList();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return store.readAll().stream()
+                .map(this::toBinaryContent)
+                .toList();
+    }
+
+    // 메타데이터 파일을 하나씩 읽으며 데이터 파일도 그때 읽는다
+    @Override
+    public Stream<BinaryContent> streamAll() {
+        return store.stream().map(this::toBinaryContent);
     }
 
+    // id 목록이 주어지므로 전체 스캔 대신 파일을 직접 읽는다
     @Override
     public List<BinaryContent> findAllByIdIn(List<UUID> ids) {
-        return findAll().stream()
-                .filter(bc -> ids.contains(bc.getId()))
+        return ids.stream()
+                .map(this::findById)
+                .flatMap(Optional::stream)
                 .toList();
     }
 
     @Override
     public void deleteById(UUID id) {
-        Path path = resolvePath(id);
+        store.delete(id);
         try {
-            Files.deleteIfExists(path);
+            Files.deleteIfExists(payloadPath(id));
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new UncheckedIOException(e);
         }
     }
 
     @Override
     public boolean existsById(UUID id) {
-        Path path = resolvePath(id);
-        return Files.exists(path);
+        return store.exists(id);
+    }
+
+    @PreDestroy
+    public void logCompressionRatio() {
+        long original = originalBytes.sum();
+        if (original > 0) {
+            log.info("Binary contents written since startup: {} bytes stored as {} bytes (ratio {})",
+                    original, storedBytes.sum(), String.format("%.2f", (double) storedBytes.sum() / original));
+        }
+    }
+
+    private boolean shouldCompress(String contentType, int size) {
+        if (!compressionEnabled || size < compressionMinBytes) {
+            return false;
+        }
+        if (contentType == null) {
+            return true;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        int parameters = type.indexOf(';');
+        if (parameters >= 0) {
+            type = type.substring(0, parameters).trim();
+        }
+        if (COMPRESSED_TYPES.contains(type)) {
+            return false;
+        }
+        for (String prefix : COMPRESSED_TYPE_PREFIXES) {
+            if (type.startsWith(prefix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private BinaryContent toBinaryContent(Serializable stored) {
+        // 이전 형식: BinaryContent 전체가 .ser 하나에 들어 있다
+        if (stored instanceof BinaryContent legacy) {
+            return legacy;
+        }
+        BinaryContentMetadata metadata = (BinaryContentMetadata) stored;
+        return new BinaryContent(
+                metadata.id(),
+                metadata.createdAt(),
+                metadata.fileName(),
+                metadata.contentType(),
+                readPayload(metadata),
+                metadata.originalId(),
+                metadata.variantSize()
+        );
+    }
+
+    // 임시 파일에 스트리밍으로 쓴 뒤 원자적으로 교체하고, 디스크에 쓰인 바이트 수를 돌려준다
+    private long writePayload(UUID id, byte[] data, boolean compress) {
+        Path path = payloadPath(id);
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), id.toString(), PAYLOAD_EXTENSION + ".tmp");
+            try {
+                try (OutputStream out = openPayloadOutput(temp, compress)) {
+                    for (int offset = 0; offset < data.length; offset += BUFFER_SIZE) {
+                        out.write(data, offset, Math.min(BUFFER_SIZE, data.length - offset));
+                    }
+                }
+                long size = Files.size(temp);
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                return size;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static OutputStream openPayloadOutput(Path path, boolean compress) throws IOException {
+        OutputStream out = Files.newOutputStream(path);
+        return compress
+                ? new GZIPOutputStream(out, BUFFER_SIZE)
+                : new BufferedOutputStream(out, BUFFER_SIZE);
+    }
+
+    // 원본 크기를 알고 있으므로 그 크기의 배열에 바로 풀어 넣는다
+    private byte[] readPayload(BinaryContentMetadata metadata) {
+        Path path = payloadPath(metadata.id());
+        try (InputStream in = metadata.compressed()
+                ? new GZIPInputStream(Files.newInputStream(path), BUFFER_SIZE)
+                : Files.newInputStream(path)) {
+            byte[] data = in.readNBytes(metadata.size());
+            if (data.length != metadata.size()) {
+                throw new EOFException("Truncated binary content payload: " + path);
+            }
+            return data;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path payloadPath(UUID id) {
+        Path metadataPath = store.resolvePath(id);
+        return metadataPath.resolveSibling(id + PAYLOAD_EXTENSION);
     }
-}
\ No newline at end of file
+}
@@ -2,103 +2,105 @@ package com.sprint.mission.discodeit.repository.file;
 
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.query.EntityFields;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.QueryExecutor;
+import com.sprint.mission.discodeit.repository.query.QueryPlan;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
-import java.io.*;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 @Repository
 @ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "file")
 public class FileChannelRepository implements ChannelRepository {
-    private final Path DIRECTORY;
-    private final String EXTENSION = ".ser";
-
-    public FileChannelRepository(@Value("${discodeit.repository.file-directory}") String fileDirectory) {
-        this.DIRECTORY = Paths.get(fileDirectory, Channel.class.getSimpleName());
-        if (Files.notExists(DIRECTORY)) {
-            try {
-                Files.createDirectories(DIRECTORY);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-    }
+    private final ShardedFileStore<Channel> store;
+    // 파일 모드에는 보조 인덱스가 없으므로 id 조건이 아니면 파일을 하나씩 읽으며 조건 적용
+    private final QueryExecutor<Channel> queryExecutor;
 
-    private Path resolvePath(UUID id) {
-        return DIRECTORY.resolve(id + EXTENSION);
+    public FileChannelRepository(
+            @Value("${discodeit.repository.file-directory}") String fileDirectory,
+            @Qualifier("fileScanExecutor") ExecutorService fileScanExecutor
+    ) {
+        this.store = new ShardedFileStore<>(Paths.get(fileDirectory, Channel.class.getSimpleName()), Channel.class, fileScanExecutor);
+        this.queryExecutor = new QueryExecutor<>(EntityFields.CHANNEL, Map.of(), store::read, store::stream);
     }
 
     @Override
     public Channel save(Channel channel) {
-        Path path = resolvePath(channel.getId());
-        try (
-                FileOutputStream fos = new FileOutputStream(path.toFile());
-                ObjectOutputStream oos = new ObjectOutputStream(fos)
-        ) {
-            oos.writeObject(channel);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        store.write(channel.getId(), channel);
         return channel;
     }
 
+    @Override
+    public Optional<Channel> computeIfPresent(UUID id, UnaryOperator<Channel> remapping) {
+        // 파일에서 읽은 인스턴스는 다른 곳과 공유되지 않으므로 그대로 수정해 한 번만 다시 쓴다
+        return store.computeIfPresent(id, stored -> {
+            Channel next = Objects.requireNonNull(remapping.apply(stored));
+            next.advanceVersionFrom(stored);
+            return next;
+        });
+    }
+
     @Override
     public Optional<Channel> findById(UUID id) {
-        Path path = resolvePath(id);
-        if (Files.notExists(path)) {
-            return Optional.empty();
-        }
-        try (
-                FileInputStream fis = new FileInputStream(path.toFile());
-                ObjectInputStream ois = new ObjectInputStream(fis)
-        ) {
-            return Optional.of((Channel) ois.readObject());
-        } catch (IOException | ClassNotFoundException e) {
-            throw new RuntimeException(e);
-        }
+        return store.read(id);
     }
 
     @Override
     public List<Channel> findAll() {
-        try {
-            return Files.list(DIRECTORY)
-                    .filter(path -> path.toString().endsWith(EXTENSION))
-                    .map(path -> {
-                        try (
-                                FileInputStream fis = new FileInputStream(path.toFile());
-                                ObjectInputStream ois = new ObjectInputStream(fis)
-                        ) {
-                            return (Channel) ois.readObject();
-                        } catch (IOException | ClassNotFoundException e) {
-                            throw new RuntimeException(e);
-                        }
-                    })
-                    .toList();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return store.readAll();
+    }
+
+    @Override
+    public Stream<Channel> streamAll() {
+        return store.stream();
+    }
+
+    @Override
+    public List<Channel> findAll(Query query) {
+        return queryExecutor.execute(query);
+    }
+
+    @Override
+    public Stream<Channel> stream(Query query) {
+        return queryExecutor.stream(query);
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return queryExecutor.explain(query);
     }
 
     @Override
     public void deleteById(UUID id) {
-        Path path = resolvePath(id);
-        try {
-            Files.deleteIfExists(path);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        store.delete(id);
+    }
+
+    // AsynchronousFileChannel로 읽고 쓴다 (호출 스레드는 I/O를 기다리지 않음)
+    @Override
+    public CompletableFuture<Optional<Channel>> findByIdAsync(UUID id) {
+        return store.readAsync(id);
+    }
+
+    @Override
+    public CompletableFuture<Channel> saveAsync(Channel channel) {
+        return store.writeAsync(channel.getId(), channel);
     }
 
     @Override
     public boolean existsById(UUID id) {
-        Path path = resolvePath(id);
-        return Files.exists(path);
+        return store.exists(id);
     }
 }
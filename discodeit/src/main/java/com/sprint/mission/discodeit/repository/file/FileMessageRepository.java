@@ -2,105 +2,102 @@ package com.sprint.mission.discodeit.repository.file;
 
 import com.sprint.mission.discodeit.entity.Message;
 import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.query.Criterion;
+import com.sprint.mission.discodeit.repository.query.EntityFields;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.QueryExecutor;
+import com.sprint.mission.discodeit.repository.query.QueryPlan;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
-import java.io.*;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 @Repository
 @ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "file")
 public class FileMessageRepository implements MessageRepository {
-    private final Path DIRECTORY;
-    private final String EXTENSION = ".ser";
+    private final ShardedFileStore<Message> store;
+    // 파일 모드에는 보조 인덱스가 없으므로 id 조건이 아니면 파일을 하나씩 읽으며 조건 적용
+    private final QueryExecutor<Message> queryExecutor;
 
-    public FileMessageRepository(@Value("${discodeit.repository.file-directory}") String fileDirectory) {
-        this.DIRECTORY = Paths.get(fileDirectory, Message.class.getSimpleName());
-        if (Files.notExists(DIRECTORY)) {
-            try {
-                Files.createDirectories(DIRECTORY);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-    }
-
-    private Path resolvePath(UUID id) {
-        return DIRECTORY.resolve(id + EXTENSION);
+    public FileMessageRepository(
+            @Value("${discodeit.repository.file-directory}") String fileDirectory,
+            @Qualifier("fileScanExecutor") ExecutorService fileScanExecutor
+    ) {
+        this.store = new ShardedFileStore<>(Paths.get(fileDirectory, Message.class.getSimpleName()), Message.class, fileScanExecutor);
+        this.queryExecutor = new QueryExecutor<>(EntityFields.MESSAGE, Map.of(), store::read, store::stream);
     }
 
     @Override
     public Message save(Message message) {
-        Path path = resolvePath(message.getId());
-        try (
-                FileOutputStream fos = new FileOutputStream(path.toFile());
-                ObjectOutputStream oos = new ObjectOutputStream(fos)
-        ) {
-            oos.writeObject(message);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        store.write(message.getId(), message);
         return message;
     }
 
+    @Override
+    public Optional<Message> computeIfPresent(UUID id, UnaryOperator<Message> remapping) {
+        // 파일에서 읽은 인스턴스는 다른 곳과 공유되지 않으므로 그대로 수정해 한 번만 다시 쓴다
+        return store.computeIfPresent(id, stored -> {
+            Message next = Objects.requireNonNull(remapping.apply(stored));
+            next.advanceVersionFrom(stored);
+            return next;
+        });
+    }
+
+    @Override
+    public List<Message> saveAll(List<Message> messages) {
+        messages.forEach(this::save);
+        return messages;
+    }
+
     @Override
     public Optional<Message> findById(UUID id) {
-        Path path = resolvePath(id);
-        if (Files.notExists(path)) {
-            return Optional.empty();
-        }
-        try (
-                FileInputStream fis = new FileInputStream(path.toFile());
-                ObjectInputStream ois = new ObjectInputStream(fis)
-        ) {
-            return Optional.of((Message) ois.readObject());
-        } catch (IOException | ClassNotFoundException e) {
-            throw new RuntimeException(e);
-        }
+        return store.read(id);
     }
 
     @Override
     public List<Message> findAll() {
-        try {
-            return Files.list(DIRECTORY)
-                    .filter(path -> path.toString().endsWith(EXTENSION))
-                    .map(path -> {
-                        try (
-                                FileInputStream fis = new FileInputStream(path.toFile());
-                                ObjectInputStream ois = new ObjectInputStream(fis)
-                        ) {
-                            return (Message) ois.readObject();
-                        } catch (IOException | ClassNotFoundException e) {
-                            throw new RuntimeException(e);
-                        }
-                    })
-                    .toList();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return store.readAll();
+    }
+
+    @Override
+    public Stream<Message> streamAll() {
+        return store.stream();
+    }
+
+    @Override
+    public List<Message> findAll(Query query) {
+        return queryExecutor.execute(query);
+    }
+
+    @Override
+    public Stream<Message> stream(Query query) {
+        return queryExecutor.stream(query);
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return queryExecutor.explain(query);
     }
 
     @Override
     public List<Message> findAllByChannelId(UUID channelId) {
-        return findAll().stream()
-                .filter(msg -> msg.getChannelId().equals(channelId))
-                .toList();
+        return findAll(Query.where(Criterion.eq("channelId", channelId)));
     }
 
     @Override
     public void deleteById(UUID id) {
-        Path path = resolvePath(id);
-        try {
-            Files.deleteIfExists(path);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        store.delete(id);
     }
 
     @Override
@@ -108,9 +105,19 @@ public class FileMessageRepository implements MessageRepository {
         findAllByChannelId(channelId).forEach(msg -> deleteById(msg.getId()));
     }
 
+    // AsynchronousFileChannel로 읽고 쓴다 (호출 스레드는 I/O를 기다리지 않음)
+    @Override
+    public CompletableFuture<Optional<Message>> findByIdAsync(UUID id) {
+        return store.readAsync(id);
+    }
+
+    @Override
+    public CompletableFuture<Message> saveAsync(Message message) {
+        return store.writeAsync(message.getId(), message);
+    }
+
     @Override
     public boolean existsById(UUID id) {
-        Path path = resolvePath(id);
-        return Files.exists(path);
+        return store.exists(id);
     }
-}
\ No newline at end of file
+}
@@ -2,119 +2,108 @@ package com.sprint.mission.discodeit.repository.file;
 
 import com.sprint.mission.discodeit.entity.ReadStatus;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import com.sprint.mission.discodeit.repository.query.Criterion;
+import com.sprint.mission.discodeit.repository.query.EntityFields;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.QueryExecutor;
+import com.sprint.mission.discodeit.repository.query.QueryPlan;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
-import java.io.*;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 @Repository
 @ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "file")
 public class FileReadStatusRepository implements ReadStatusRepository {
-    private final Path DIRECTORY;
-    private final String EXTENSION = ".ser";
+    private final ShardedFileStore<ReadStatus> store;
+    // 파일 모드에는 보조 인덱스가 없으므로 id 조건이 아니면 파일을 하나씩 읽으며 조건 적용
+    private final QueryExecutor<ReadStatus> queryExecutor;
 
-    public FileReadStatusRepository(@Value("${discodeit.repository.file-directory}") String fileDirectory) {
-        this.DIRECTORY = Paths.get(fileDirectory, ReadStatus.class.getSimpleName());
-        if (Files.notExists(DIRECTORY)) {
-            try {
-                Files.createDirectories(DIRECTORY);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-    }
-
-    private Path resolvePath(UUID id) {
-        return DIRECTORY.resolve(id + EXTENSION);
+    public FileReadStatusRepository(
+            @Value("${discodeit.repository.file-directory}") String fileDirectory,
+            @Qualifier("fileScanExecutor") ExecutorService fileScanExecutor
+    ) {
+        this.store = new ShardedFileStore<>(Paths.get(fileDirectory, ReadStatus.class.getSimpleName()), ReadStatus.class, fileScanExecutor);
+        this.queryExecutor = new QueryExecutor<>(EntityFields.READ_STATUS, Map.of(), store::read, store::stream);
     }
 
     @Override
     public ReadStatus save(ReadStatus readStatus) {
-        Path path = resolvePath(readStatus.getId());
-        try (
-                FileOutputStream fos = new FileOutputStream(path.toFile());
-                ObjectOutputStream oos = new ObjectOutputStream(fos)
-        ) {
-            oos.writeObject(readStatus);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        store.write(readStatus.getId(), readStatus);
         return readStatus;
     }
 
+    @Override
+    public Optional<ReadStatus> computeIfPresent(UUID id, UnaryOperator<ReadStatus> remapping) {
+        // 파일에서 읽은 인스턴스는 다른 곳과 공유되지 않으므로 그대로 수정해 한 번만 다시 쓴다
+        return store.computeIfPresent(id, stored -> {
+            ReadStatus next = Objects.requireNonNull(remapping.apply(stored));
+            next.advanceVersionFrom(stored);
+            return next;
+        });
+    }
+
     @Override
     public Optional<ReadStatus> findById(UUID id) {
-        Path path = resolvePath(id);
-        if (Files.notExists(path)) {
-            return Optional.empty();
-        }
-        try (
-                FileInputStream fis = new FileInputStream(path.toFile());
-                ObjectInputStream ois = new ObjectInputStream(fis)
-        ) {
-            return Optional.of((ReadStatus) ois.readObject());
-        } catch (IOException | ClassNotFoundException e) {
-            throw new RuntimeException(e);
-        }
+        return store.read(id);
     }
 
     @Override
     public List<ReadStatus> findAll() {
-        try {
-            return Files.list(DIRECTORY)
-                    .filter(path -> path.toString().endsWith(EXTENSION))
-                    .map(path -> {
-                        try (
-                                FileInputStream fis = new FileInputStream(path.toFile());
-                                ObjectInputStream ois = new ObjectInputStream(fis)
-                        ) {
-                            return (ReadStatus) ois.readObject();
-                        } catch (IOException | ClassNotFoundException e) {
-                            throw new RuntimeException(e);
-                        }
-                    })
-                    .toList();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return store.readAll();
+    }
+
+    @Override
+    public Stream<ReadStatus> streamAll() {
+        return store.stream();
+    }
+
+    @Override
+    public List<ReadStatus> findAll(Query query) {
+        return queryExecutor.execute(query);
+    }
+
+    @Override
+    public Stream<ReadStatus> stream(Query query) {
+        return queryExecutor.stream(query);
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return queryExecutor.explain(query);
     }
 
     @Override
     public List<ReadStatus> findAllByUserId(UUID userId) {
-        return findAll().stream()
-                .filter(rs -> rs.getUserId().equals(userId))
-                .toList();
+        return findAll(Query.where(Criterion.eq("userId", userId)));
     }
 
     @Override
     public List<ReadStatus> findAllByChannelId(UUID channelId) {
-        return findAll().stream()
-                .filter(rs -> rs.getChannelId().equals(channelId))
-                .toList();
+        return findAll(Query.where(Criterion.eq("channelId", channelId)));
     }
 
     @Override
     public Optional<ReadStatus> findByUserIdAndChannelId(UUID userId, UUID channelId) {
-        return findAll().stream()
-                .filter(rs -> rs.getUserId().equals(userId) && rs.getChannelId().equals(channelId))
+        return findAll(Query.where(Criterion.eq("userId", userId), Criterion.eq("channelId", channelId)).limit(1))
+                .stream()
                 .findFirst();
     }
 
     @Override
     public void deleteById(UUID id) {
-        Path path = resolvePath(id);
-        try {
-            Files.deleteIfExists(path);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        store.delete(id);
     }
 
     @Override
@@ -122,9 +111,19 @@ public class FileReadStatusRepository implements ReadStatusRepository {
         findAllByChannelId(channelId).forEach(rs -> deleteById(rs.getId()));
     }
 
+    // AsynchronousFileChannel로 읽고 쓴다 (호출 스레드는 I/O를 기다리지 않음)
+    @Override
+    public CompletableFuture<Optional<ReadStatus>> findByIdAsync(UUID id) {
+        return store.readAsync(id);
+    }
+
+    @Override
+    public CompletableFuture<ReadStatus> saveAsync(ReadStatus readStatus) {
+        return store.writeAsync(readStatus.getId(), readStatus);
+    }
+
     @Override
     public boolean existsById(UUID id) {
-        Path path = resolvePath(id);
-        return Files.exists(path);
+        return store.exists(id);
     }
-}
\ No newline at end of file
+}
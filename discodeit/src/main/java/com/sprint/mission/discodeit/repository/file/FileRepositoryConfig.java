@@ -0,0 +1,21 @@
+package com.sprint.mission.discodeit.repository.file;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "file")
+public class FileRepositoryConfig {
+
+    // 파일 저장소 전체 스캔용 풀 (모든 File*Repository가 공유, 동시에 읽고 역직렬화하는 파일 수를 제한)
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService fileScanExecutor(@Value("${discodeit.repository.file-scan-parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("file-scan-", 0).daemon(true).factory());
+    }
+}
@@ -2,129 +2,134 @@ package com.sprint.mission.discodeit.repository.file;
 
 import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
-import java.io.*;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 @Repository
 @ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "file")
 public class FileUserRepository implements UserRepository {
-    private final Path DIRECTORY;
-    private final String EXTENSION = ".ser";
-
-    public FileUserRepository(@Value("${discodeit.repository.file-directory}") String fileDirectory) {
-        this.DIRECTORY = Paths.get(fileDirectory, User.class.getSimpleName());
-        if (Files.notExists(DIRECTORY)) {
-            try {
-                Files.createDirectories(DIRECTORY);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-    }
+    private final ShardedFileStore<User> store;
+    // 가입 시 중복 체크는 대부분 "없음"이므로 Bloom 필터로 전체 스캔을 건너뛴다
+    private final ExistenceFilter<User> filter;
 
-    private Path resolvePath(UUID id) {
-        return DIRECTORY.resolve(id + EXTENSION);
+    public FileUserRepository(
+            @Value("${discodeit.repository.file-directory}") String fileDirectory,
+            @Qualifier("fileScanExecutor") ExecutorService fileScanExecutor,
+            @Value("${discodeit.repository.bloom-false-positive-rate:0.01}") double bloomFalsePositiveRate
+    ) {
+        this.store = new ShardedFileStore<>(Paths.get(fileDirectory, User.class.getSimpleName()), User.class, fileScanExecutor);
+        this.filter = new ExistenceFilter<>(
+                "user",
+                Map.of("username", User::getUsername, "email", User::getEmail),
+                store::stream,
+                bloomFalsePositiveRate
+        );
     }
 
     @Override
     public User save(User user) {
-        Path path = resolvePath(user.getId());
-        try (
-                FileOutputStream fos = new FileOutputStream(path.toFile());
-                ObjectOutputStream oos = new ObjectOutputStream(fos)
-        ) {
-            oos.writeObject(user);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        filter.add(user);
+        store.write(user.getId(), user);
+        filter.add(user);
         return user;
     }
 
+    @Override
+    public Optional<User> computeIfPresent(UUID id, UnaryOperator<User> remapping) {
+        // 파일에서 읽은 인스턴스는 다른 곳과 공유되지 않으므로 그대로 수정해 한 번만 다시 쓴다
+        return store.computeIfPresent(id, stored -> {
+            User next = Objects.requireNonNull(remapping.apply(stored));
+            next.advanceVersionFrom(stored);
+            filter.add(next);
+            return next;
+        }).map(this::recorded);
+    }
+
     @Override
     public Optional<User> findById(UUID id) {
-        Path path = resolvePath(id);
-        if (Files.notExists(path)) {
-            return Optional.empty();
-        }
-        try (
-                FileInputStream fis = new FileInputStream(path.toFile());
-                ObjectInputStream ois = new ObjectInputStream(fis)
-        ) {
-            return Optional.of((User) ois.readObject());
-        } catch (IOException | ClassNotFoundException e) {
-            throw new RuntimeException(e);
-        }
+        return store.read(id);
     }
 
     @Override
     public Optional<User> findByUsername(String username) {
-        return findAll().stream()
-                .filter(user -> user.getUsername().equals(username))
-                .findFirst();
+        if (!filter.mightContain("username", username)) {
+            return Optional.empty();
+        }
+        try (Stream<User> users = store.stream()) {
+            return users.filter(user -> user.getUsername().equals(username))
+                    .findFirst();
+        }
     }
 
     @Override
     public Optional<User> findByEmail(String email) {
-        return findAll().stream()
-                .filter(user -> user.getEmail().equals(email))
-                .findFirst();
+        if (!filter.mightContain("email", email)) {
+            return Optional.empty();
+        }
+        try (Stream<User> users = store.stream()) {
+            return users.filter(user -> user.getEmail().equals(email))
+                    .findFirst();
+        }
     }
 
     @Override
     public List<User> findAll() {
-        try {
-            return Files.list(DIRECTORY)
-                    .filter(path -> path.toString().endsWith(EXTENSION))
-                    .map(path -> {
-                        try (
-                                FileInputStream fis = new FileInputStream(path.toFile());
-                                ObjectInputStream ois = new ObjectInputStream(fis)
-                        ) {
-                            return (User) ois.readObject();
-                        } catch (IOException | ClassNotFoundException e) {
-                            throw new RuntimeException(e);
-                        }
-                    })
-                    .toList();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return store.readAll();
+    }
+
+    @Override
+    public Stream<User> streamAll() {
+        return store.stream();
     }
 
     @Override
     public void deleteById(UUID id) {
-        Path path = resolvePath(id);
-        try {
-            Files.deleteIfExists(path);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        store.delete(id);
+    }
+
+    // AsynchronousFileChannel로 읽고 쓴다 (호출 스레드는 I/O를 기다리지 않음)
+    @Override
+    public CompletableFuture<Optional<User>> findByIdAsync(UUID id) {
+        return store.readAsync(id);
+    }
+
+    @Override
+    public CompletableFuture<User> saveAsync(User user) {
+        filter.add(user);
+        return store.writeAsync(user.getId(), user).thenApply(this::recorded);
     }
 
     @Override
     public boolean existsById(UUID id) {
-        Path path = resolvePath(id);
-        return Files.exists(path);
+        return store.exists(id);
     }
 
     @Override
     public boolean existsByUsername(String username) {
-        return findAll().stream()
-                .anyMatch(user -> user.getUsername().equals(username));
+        return findByUsername(username).isPresent();
     }
 
     @Override
     public boolean existsByEmail(String email) {
-        return findAll().stream()
-                .anyMatch(user -> user.getEmail().equals(email));
+        return findByEmail(email).isPresent();
+    }
+
+    // 파일을 쓴 뒤 다시 추가해 그 사이 시작된 필터 재구성에도 반영되게 한다
+    private User recorded(User user) {
+        filter.add(user);
+        return user;
     }
-}
\ No newline at end of file
+}
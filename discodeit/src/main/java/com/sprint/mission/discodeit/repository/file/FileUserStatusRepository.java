@@ -2,105 +2,90 @@ package com.sprint.mission.discodeit.repository.file;
 
 import com.sprint.mission.discodeit.entity.UserStatus;
 import com.sprint.mission.discodeit.repository.UserStatusRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
-import java.io.*;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 @Repository
 @ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "file")
 public class FileUserStatusRepository implements UserStatusRepository {
-    private final Path DIRECTORY;
-    private final String EXTENSION = ".ser";
-
-    public FileUserStatusRepository(@Value("${discodeit.repository.file-directory}") String fileDirectory) {
-        this.DIRECTORY = Paths.get(fileDirectory, UserStatus.class.getSimpleName());
-        if (Files.notExists(DIRECTORY)) {
-            try {
-                Files.createDirectories(DIRECTORY);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-    }
+    private final ShardedFileStore<UserStatus> store;
+    // userId로 찾는 조회가 "없음"이면 Bloom 필터로 전체 스캔을 건너뛴다
+    private final ExistenceFilter<UserStatus> filter;
 
-    private Path resolvePath(UUID id) {
-        return DIRECTORY.resolve(id + EXTENSION);
+    public FileUserStatusRepository(
+            @Value("${discodeit.repository.file-directory}") String fileDirectory,
+            @Qualifier("fileScanExecutor") ExecutorService fileScanExecutor,
+            @Value("${discodeit.repository.bloom-false-positive-rate:0.01}") double bloomFalsePositiveRate
+    ) {
+        this.store = new ShardedFileStore<>(Paths.get(fileDirectory, UserStatus.class.getSimpleName()), UserStatus.class, fileScanExecutor);
+        this.filter = new ExistenceFilter<>(
+                "userStatus",
+                Map.of("userId", UserStatus::getUserId),
+                store::stream,
+                bloomFalsePositiveRate
+        );
     }
 
     @Override
     public UserStatus save(UserStatus userStatus) {
-        Path path = resolvePath(userStatus.getId());
-        try (
-                FileOutputStream fos = new FileOutputStream(path.toFile());
-                ObjectOutputStream oos = new ObjectOutputStream(fos)
-        ) {
-            oos.writeObject(userStatus);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        filter.add(userStatus);
+        store.write(userStatus.getId(), userStatus);
+        filter.add(userStatus);
         return userStatus;
     }
 
+    @Override
+    public Optional<UserStatus> computeIfPresent(UUID id, UnaryOperator<UserStatus> remapping) {
+        // 파일에서 읽은 인스턴스는 다른 곳과 공유되지 않으므로 그대로 수정해 한 번만 다시 쓴다
+        return store.computeIfPresent(id, stored -> {
+            UserStatus next = Objects.requireNonNull(remapping.apply(stored));
+            next.advanceVersionFrom(stored);
+            return next;
+        });
+    }
+
     @Override
     public Optional<UserStatus> findById(UUID id) {
-        Path path = resolvePath(id);
-        if (Files.notExists(path)) {
+        return store.read(id);
+    }
+
+    @Override
+    public Optional<UserStatus> findByUserId(UUID userId) {
+        if (!filter.mightContain("userId", userId)) {
             return Optional.empty();
         }
-        try (
-                FileInputStream fis = new FileInputStream(path.toFile());
-                ObjectInputStream ois = new ObjectInputStream(fis)
-        ) {
-            return Optional.of((UserStatus) ois.readObject());
-        } catch (IOException | ClassNotFoundException e) {
-            throw new RuntimeException(e);
+        try (Stream<UserStatus> userStatuses = store.stream()) {
+            return userStatuses.filter(us -> us.getUserId().equals(userId))
+                    .findFirst();
         }
     }
 
     @Override
-    public Optional<UserStatus> findByUserId(UUID userId) {
-        return findAll().stream()
-                .filter(us -> us.getUserId().equals(userId))
-                .findFirst();
+    public List<UserStatus> findAll() {
+        return store.readAll();
     }
 
     @Override
-    public List<UserStatus> findAll() {
-        try {
-            return Files.list(DIRECTORY)
-                    .filter(path -> path.toString().endsWith(EXTENSION))
-                    .map(path -> {
-                        try (
-                                FileInputStream fis = new FileInputStream(path.toFile());
-                                ObjectInputStream ois = new ObjectInputStream(fis)
-                        ) {
-                            return (UserStatus) ois.readObject();
-                        } catch (IOException | ClassNotFoundException e) {
-                            throw new RuntimeException(e);
-                        }
-                    })
-                    .toList();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    public Stream<UserStatus> streamAll() {
+        return store.stream();
     }
 
     @Override
     public void deleteById(UUID id) {
-        Path path = resolvePath(id);
-        try {
-            Files.deleteIfExists(path);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        store.delete(id);
     }
 
     @Override
@@ -108,15 +93,29 @@ public class FileUserStatusRepository implements UserStatusRepository {
         findByUserId(userId).ifPresent(us -> deleteById(us.getId()));
     }
 
+    // AsynchronousFileChannel로 읽고 쓴다 (호출 스레드는 I/O를 기다리지 않음)
+    @Override
+    public CompletableFuture<Optional<UserStatus>> findByIdAsync(UUID id) {
+        return store.readAsync(id);
+    }
+
+    @Override
+    public CompletableFuture<UserStatus> saveAsync(UserStatus userStatus) {
+        filter.add(userStatus);
+        return store.writeAsync(userStatus.getId(), userStatus).thenApply(saved -> {
+            // 파일을 쓴 뒤 다시 추가해 그 사이 시작된 필터 재구성에도 반영되게 한다
+            filter.add(saved);
+            return saved;
+        });
+    }
+
     @Override
     public boolean existsById(UUID id) {
-        Path path = resolvePath(id);
-        return Files.exists(path);
+        return store.exists(id);
     }
 
     @Override
     public boolean existsByUserId(UUID userId) {
-        return findAll().stream()
-                .anyMatch(us -> us.getUserId().equals(userId));
+        return findByUserId(userId).isPresent();
     }
-}
\ No newline at end of file
+}
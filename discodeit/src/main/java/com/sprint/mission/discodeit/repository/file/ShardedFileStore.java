@@ -0,0 +1,487 @@
+package com.sprint.mission.discodeit.repository.file;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 엔티티 하나를 {@code .ser} 파일 하나로 저장하되, UUID 해시로 고른 256개의 하위 디렉토리에 나눠 둔다.
+ * <pre>
+ * {root}/{Entity}/
+ * ├── 00/{uuid}.ser
+ * ├── 01/{uuid}.ser
+ * └── ...
+ * </pre>
+ * 한 디렉토리의 항목 수를 줄여 파일 생성/조회가 느려지지 않게 하고, 전체 스캔은 파일 단위로 나눠 병렬로 읽는다.
+ * 이전의 평면 구조({Entity}/{uuid}.ser)에 남아 있는 파일은 생성 시점에 제자리에서 샤드로 옮긴다.
+ * <p>
+ * 같은 id에 대한 쓰기는 id 해시로 고른 줄무늬(stripe) 락으로 직렬화한다. 읽기는 락을 잡지 않는다.
+ */
+public class ShardedFileStore<T extends Serializable> {
+    private static final String EXTENSION = ".ser";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int SHARD_COUNT = 256;
+    private static final int LOCK_STRIPES = 64;
+    private static final int SCAN_WINDOW = 256;   // 스캔 하나가 미리 맡겨 두는 최대 파일 수 (동시 실행 수는 스캔 풀 크기로 제한)
+
+    private final Path directory;
+    private final Class<T> type;
+    private final ExecutorService scanExecutor;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    // 진행 중인 비동기 쓰기. 값 리스트는 해당 id의 락 안에서만 바꾼다
+    private final Map<UUID, List<PendingWrite>> pendingWrites = new ConcurrentHashMap<>();
+
+    public ShardedFileStore(Path directory, Class<T> type, ExecutorService scanExecutor) {
+        this.directory = directory;
+        this.type = type;
+        this.scanExecutor = scanExecutor;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        try {
+            Files.createDirectories(directory);
+            migrateFlatLayout();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path resolvePath(UUID id) {
+        return shardDirectory(id).resolve(id + EXTENSION);
+    }
+
+    public void write(UUID id, T entity) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            supersedePending(id);
+            writeFile(id, entity);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저장된 값을 읽어 remapping 결과로 교체한다. 같은 id의 다른 쓰기와 겹치지 않으며,
+     * remapping이 예외를 던지면 파일은 바뀌지 않는다. 파일이 없으면 비어 있는 Optional
+     */
+    public Optional<T> computeIfPresent(UUID id, UnaryOperator<T> remapping) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            Optional<T> current = read(id);
+            if (current.isEmpty()) {
+                return Optional.empty();
+            }
+            T next = remapping.apply(current.get());
+            supersedePending(id);
+            writeFile(id, next);
+            return Optional.of(next);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<T> read(UUID id) {
+        Path path = resolvePath(id);
+        if (Files.notExists(path)) {
+            return Optional.empty();
+        }
+        return Optional.of(readFile(path));
+    }
+
+    /**
+     * 모든 엔티티를 읽는다. 순서는 stream()과 같다.
+     */
+    public List<T> readAll() {
+        try (Stream<T> entities = stream()) {
+            return entities.toList();
+        }
+    }
+
+    /**
+     * 샤드 디렉토리를 차례로 훑으며 파일 읽기와 역직렬화를 스캔 풀에 나눠 맡기는 지연 스트림.
+     * 스캔 하나가 미리 맡겨 두는 파일은 최대 SCAN_WINDOW개이고, 결과는 맡긴 순서(샤드 번호, 파일 이름 순)대로
+     * 꺼내므로 순서가 항상 같다. 읽기 실패는 그 항목을 꺼낼 때 호출자에게 던지고, close하면 남은 읽기를 취소한다.
+     * 순회 중 지워진 파일은 건너뛴다.
+     */
+    public Stream<T> stream() {
+        ParallelScan scan = new ParallelScan();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(scan, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(scan::close);
+    }
+
+    /**
+     * AsynchronousFileChannel로 파일을 읽고, 다 읽으면 I/O 완료 스레드에서 역직렬화한다. 파일이 없으면 비어 있는 Optional
+     */
+    public CompletableFuture<Optional<T>> readAsync(UUID id) {
+        Path path = resolvePath(id);
+        AsynchronousFileChannel channel;
+        try {
+            channel = AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new UncheckedIOException(e));
+        }
+        ByteBuffer buffer;
+        try {
+            buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+        } catch (IOException e) {
+            closeQuietly(channel);
+            return CompletableFuture.failedFuture(new UncheckedIOException(e));
+        }
+        return transfer(channel, buffer, false)
+                .thenApply(ignored -> Optional.of(deserialize(buffer.array(), path)));
+    }
+
+    /**
+     * 호출 스레드에서 직렬화해 임시 파일에 AsynchronousFileChannel로 쓰고, 쓰기가 끝나면 같은 id의 락 안에서 원자적으로 교체한다.
+     * 같은 id의 쓰기는 호출 순서대로 반영된다. 쓰는 도중 같은 id에 동기 쓰기/삭제가 있었거나 나중에 시작한 비동기 쓰기가
+     * 먼저 교체했으면 이 쓰기는 교체하지 않고 버린다 (I/O가 늦게 끝난 이전 값이 새 값을 덮거나 삭제된 엔티티를 되살리지 않는다).
+     */
+    public CompletableFuture<T> writeAsync(UUID id, T entity) {
+        Path path = resolvePath(id);
+        Path temp;
+        AsynchronousFileChannel channel;
+        try {
+            byte[] bytes = serialize(entity);
+            Files.createDirectories(path.getParent());
+            temp = Files.createTempFile(path.getParent(), id.toString(), TEMP_SUFFIX);
+            try {
+                channel = AsynchronousFileChannel.open(temp, StandardOpenOption.WRITE);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            PendingWrite pending = register(id);
+            return transfer(channel, ByteBuffer.wrap(bytes), true)
+                    .thenApply(ignored -> {
+                        replace(id, temp, path, pending);
+                        return entity;
+                    })
+                    .whenComplete((saved, e) -> {
+                        if (e != null) {
+                            complete(id, pending);
+                        }
+                        deleteQuietly(temp);   // 교체에 성공했으면 이미 없음
+                    });
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new UncheckedIOException(e));
+        }
+    }
+
+    public void delete(UUID id) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            supersedePending(id);
+            Files.deleteIfExists(resolvePath(id));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean exists(UUID id) {
+        return Files.exists(resolvePath(id));
+    }
+
+    // 디렉토리 목록은 순서가 정해져 있지 않으므로 이름순으로 정렬한다 (샤드 하나는 전체의 1/256)
+    private List<Path> listShard(int shard) {
+        try (Stream<Path> paths = Files.list(directory.resolve(shardName(shard)))) {
+            return paths
+                    .filter(path -> path.toString().endsWith(EXTENSION))
+                    .sorted()
+                    .toList();
+        } catch (NoSuchFileException e) {
+            return List.of();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Optional<T> readIfExists(Path path) {
+        try {
+            return Optional.of(readFile(path));
+        } catch (UncheckedIOException e) {
+            if (Files.notExists(path)) {
+                return Optional.empty();   // 목록을 읽은 뒤 삭제됨
+            }
+            throw e;
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 원자적으로 교체해, 락 없이 읽는 쪽이 쓰는 중인 파일을 보지 않게 한다
+    private void writeFile(UUID id, T entity) {
+        Path path = resolvePath(id);
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), id.toString(), TEMP_SUFFIX);
+            try {
+                Files.write(temp, serialize(entity));
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 진행 중인 비동기 쓰기는 지금의 쓰기/삭제보다 먼저 시작했으므로 교체하지 않게 표시한다 (해당 id의 락 안에서 호출)
+    private void supersedePending(UUID id) {
+        pendingWrites.getOrDefault(id, List.of()).forEach(pending -> pending.superseded = true);
+    }
+
+    private PendingWrite register(UUID id) {
+        PendingWrite pending = new PendingWrite();
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            pendingWrites.computeIfAbsent(id, key -> new ArrayList<>(1)).add(pending);
+        } finally {
+            lock.unlock();
+        }
+        return pending;
+    }
+
+    private void replace(UUID id, Path temp, Path path, PendingWrite pending) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            if (!pending.superseded) {
+                // 리스트는 등록 순서이므로 이 쓰기보다 앞에 시작한 비동기 쓰기는 더 이상 교체하지 않는다
+                for (PendingWrite earlier : pendingWrites.getOrDefault(id, List.of())) {
+                    if (earlier == pending) {
+                        break;
+                    }
+                    earlier.superseded = true;
+                }
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            complete(id, pending);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void complete(UUID id, PendingWrite pending) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            List<PendingWrite> pendings = pendingWrites.get(id);
+            if (pendings != null && pendings.remove(pending) && pendings.isEmpty()) {
+                pendingWrites.remove(id);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class PendingWrite {
+        boolean superseded;   // 해당 id의 락 안에서만 읽고 쓴다
+    }
+
+    // 버퍼를 다 채우거나(읽기) 다 쓸 때까지 완료 핸들러에서 다음 요청을 이어 붙이고, 끝나면 채널을 닫는다
+    private static CompletableFuture<Void> transfer(AsynchronousFileChannel channel, ByteBuffer buffer, boolean write) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        CompletionHandler<Integer, Long> handler = new CompletionHandler<>() {
+            @Override
+            public void completed(Integer count, Long position) {
+                if (count < 0 || !buffer.hasRemaining()) {
+                    done.complete(null);   // count < 0: 파일 끝
+                    return;
+                }
+                long next = position + count;
+                try {
+                    if (write) {
+                        channel.write(buffer, next, next, this);
+                    } else {
+                        channel.read(buffer, next, next, this);
+                    }
+                } catch (RuntimeException e) {
+                    done.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Throwable exc, Long position) {
+                done.completeExceptionally(exc instanceof IOException e ? new UncheckedIOException(e) : exc);
+            }
+        };
+        handler.completed(0, 0L);
+        return done.whenComplete((ignored, e) -> closeQuietly(channel));
+    }
+
+    private static byte[] serialize(Object entity) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(entity);
+        }
+        return bytes.toByteArray();
+    }
+
+    private T deserialize(byte[] bytes, Path path) {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return type.cast(ois.readObject());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Cannot deserialize " + path, e);
+        }
+    }
+
+    private static void closeQuietly(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // 읽기/쓰기 결과는 이미 정해졌다
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // 남은 임시 파일은 스캔에서 확장자로 걸러진다
+        }
+    }
+
+    private T readFile(Path path) {
+        try (
+                FileInputStream fis = new FileInputStream(path.toFile());
+                ObjectInputStream ois = new ObjectInputStream(new BufferedInputStream(fis))
+        ) {
+            return type.cast(ois.readObject());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Cannot deserialize " + path, e);
+        }
+    }
+
+    // 평면 구조로 저장된 기존 파일을 해시 샤드 디렉토리로 옮긴다 (파일 단위 원자적 이동이라 중단돼도 재시작 시 이어서 진행)
+    private void migrateFlatLayout() throws IOException {
+        List<Path> legacyFiles;
+        try (Stream<Path> paths = Files.list(directory)) {
+            legacyFiles = paths
+                    .filter(Files::isRegularFile)
+                    .filter(path -> path.toString().endsWith(EXTENSION))
+                    .toList();
+        }
+        for (Path legacyFile : legacyFiles) {
+            String fileName = legacyFile.getFileName().toString();
+            UUID id;
+            try {
+                id = UUID.fromString(fileName.substring(0, fileName.length() - EXTENSION.length()));
+            } catch (IllegalArgumentException e) {
+                continue;   // 엔티티 파일이 아님
+            }
+            Path target = resolvePath(id);
+            Files.createDirectories(target.getParent());
+            Files.move(legacyFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Path shardDirectory(UUID id) {
+        return directory.resolve(shardName(hash(id) & (SHARD_COUNT - 1)));
+    }
+
+    private ReentrantLock lockFor(UUID id) {
+        return locks[(hash(id) >>> 8) & (LOCK_STRIPES - 1)];
+    }
+
+    private static int hash(UUID id) {
+        long bits = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        int hash = (int) (bits ^ (bits >>> 32));
+        return hash ^ (hash >>> 16);
+    }
+
+    private static String shardName(int shard) {
+        return String.format("%02x", shard);
+    }
+
+    private final class ParallelScan implements Iterator<T> {
+        private final Iterator<Path> paths = IntStream.range(0, SHARD_COUNT)
+                .boxed()
+                .flatMap(shard -> listShard(shard).stream())
+                .iterator();
+        private final ArrayDeque<Future<Optional<T>>> window = new ArrayDeque<>(SCAN_WINDOW);
+        private T next;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                fill();
+                Future<Optional<T>> head = window.poll();
+                if (head == null) {
+                    return false;
+                }
+                try {
+                    next = await(head).orElse(null);
+                } catch (RuntimeException e) {
+                    close();
+                    throw e;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result = next;
+            next = null;
+            return result;
+        }
+
+        // 앞의 결과를 기다리는 동안에도 뒤의 파일을 읽도록 창을 채워 둔다
+        private void fill() {
+            while (window.size() < SCAN_WINDOW && paths.hasNext()) {
+                Path path = paths.next();
+                window.add(scanExecutor.submit(() -> readIfExists(path)));
+            }
+        }
+
+        void close() {
+            window.forEach(future -> future.cancel(false));
+            window.clear();
+        }
+    }
+
+    private static <R> R await(Future<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scanning files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof IOException cause) {
+                throw new UncheckedIOException(cause);
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
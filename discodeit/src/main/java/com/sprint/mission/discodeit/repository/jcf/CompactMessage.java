@@ -0,0 +1,180 @@
+package com.sprint.mission.discodeit.repository.jcf;
+
+import com.sprint.mission.discodeit.entity.Message;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JCF 저장소 내부에서 사용하는 메모리 절약형 메시지 표현
+ * <ul>
+ *     <li>id는 맵 키 배열에만 두고 여기에는 저장하지 않는다</li>
+ *     <li>본문은 String 대신 byte[] (UTF-8, 한글처럼 UTF-8이 더 길어지는 경우 UTF-16)</li>
+ *     <li>channelId, authorId는 저장소 전체에서 공유되는 UUID 인스턴스를 참조</li>
+ *     <li>첨부파일이 없으면 공유되는 빈 리스트</li>
+ *     <li>시각은 Instant 객체 대신 epoch 기준 나노초 long</li>
+ * </ul>
+ * 본문은 힙의 byte[]에 두거나({@link OffHeapMode#NONE}) 슬랩에 둔다({@link OffHeapMode#CONTENT}).
+ * 조회 시 {@link #toMessage(UUID)}로 원래의 Message를 다시 만든다.
+ */
+abstract sealed class CompactMessage implements StoredMessage {
+    static final byte UTF_8 = 0;
+    static final byte UTF_16 = 1;
+
+    private final UUID channelId;
+    private final UUID authorId;
+    private final List<UUID> attachmentIds;
+    private final long createdAt;
+    private final long updatedAt;
+    private final long sequence;
+    private final long version;
+
+    private CompactMessage(Message message, UUID channelId, UUID authorId) {
+        this.channelId = channelId;
+        this.authorId = authorId;
+        this.attachmentIds = message.getAttachmentIds() == null || message.getAttachmentIds().isEmpty()
+                ? List.of()
+                : List.copyOf(message.getAttachmentIds());
+        this.createdAt = pack(message.getCreatedAt());
+        this.updatedAt = pack(message.getUpdatedAt());
+        this.sequence = message.getSequence();
+        this.version = message.getVersion();
+    }
+
+    static CompactMessage of(Message message, UUID canonicalChannelId, UUID canonicalAuthorId) {
+        return new OnHeap(message, canonicalChannelId, canonicalAuthorId);
+    }
+
+    /**
+     * 본문만 슬랩에 쓴다
+     */
+    static CompactMessage of(Message message, UUID canonicalChannelId, UUID canonicalAuthorId, OffHeapSlabs slabs) {
+        return new OffHeapContent(message, canonicalChannelId, canonicalAuthorId, slabs);
+    }
+
+    @Override
+    public Message toMessage(UUID id) {
+        return new Message(
+                id,
+                unpack(createdAt),
+                unpack(updatedAt),
+                content(),
+                channelId,
+                authorId,
+                attachmentIds,
+                sequence,
+                version
+        );
+    }
+
+    @Override
+    public UUID channelId() {
+        return channelId;
+    }
+
+    @Override
+    public UUID authorId() {
+        return authorId;
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+
+    abstract String content();
+
+    private static final class OnHeap extends CompactMessage {
+        private final byte[] content;
+        private final byte coding;
+
+        OnHeap(Message message, UUID channelId, UUID authorId) {
+            super(message, channelId, authorId);
+            EncodedContent encoded = EncodedContent.of(message.getContent());
+            this.content = encoded.bytes();
+            this.coding = encoded.coding();
+        }
+
+        @Override
+        String content() {
+            return decode(content, coding);
+        }
+    }
+
+    private static final class OffHeapContent extends CompactMessage {
+        private final ByteBuffer slab;
+        private final int offset;
+
+        OffHeapContent(Message message, UUID channelId, UUID authorId, OffHeapSlabs slabs) {
+            super(message, channelId, authorId);
+            EncodedContent encoded = EncodedContent.of(message.getContent());
+            OffHeapSlabs.Region region = slabs.allocate(encoded.size());
+            encoded.writeTo(region.slab(), region.offset());
+            this.slab = region.slab();
+            this.offset = region.offset();
+        }
+
+        @Override
+        String content() {
+            return EncodedContent.readFrom(slab, offset);
+        }
+    }
+
+    /**
+     * 인코딩한 본문. 슬랩에는 [헤더 int][바이트]로 쓰며 헤더는 null이면 -1, 아니면 (길이 << 1 | coding)
+     */
+    record EncodedContent(byte[] bytes, byte coding) {
+        static EncodedContent of(String content) {
+            if (content == null) {
+                return new EncodedContent(null, UTF_8);
+            }
+            byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > content.length() * 2) {
+                return new EncodedContent(content.getBytes(StandardCharsets.UTF_16LE), UTF_16);
+            }
+            return new EncodedContent(bytes, UTF_8);
+        }
+
+        int size() {
+            return Integer.BYTES + (bytes != null ? bytes.length : 0);
+        }
+
+        void writeTo(ByteBuffer slab, int offset) {
+            if (bytes == null) {
+                slab.putInt(offset, -1);
+                return;
+            }
+            slab.putInt(offset, bytes.length << 1 | coding);
+            slab.put(offset + Integer.BYTES, bytes);
+        }
+
+        static String readFrom(ByteBuffer slab, int offset) {
+            int header = slab.getInt(offset);
+            if (header < 0) {
+                return null;
+            }
+            byte[] bytes = new byte[header >>> 1];
+            slab.get(offset + Integer.BYTES, bytes);
+            return decode(bytes, (byte) (header & 1));
+        }
+    }
+
+    private static String decode(byte[] content, byte coding) {
+        if (content == null) {
+            return null;
+        }
+        return new String(content, coding == UTF_16 ? StandardCharsets.UTF_16LE : StandardCharsets.UTF_8);
+    }
+
+    // 2262년까지 표현 가능한 epoch 나노초
+    static long pack(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    static Instant unpack(long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L), Math.floorMod(epochNanos, 1_000_000_000L));
+    }
+}
@@ -1,20 +1,32 @@
 package com.sprint.mission.discodeit.repository.jcf;
 
+import com.sprint.mission.discodeit.entity.EntityType;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
-import java.util.*;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
+@RequiredArgsConstructor
 @ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "jcf", matchIfMissing = true)
 public class JCFBinaryContentRepository implements BinaryContentRepository {
-    private final Map<UUID, BinaryContent> data = new HashMap<>();
+    private final UuidMap<BinaryContent> data = new UuidMap<>();
+    private final JCFOperationLog operationLog;
 
     @Override
     public BinaryContent save(BinaryContent binaryContent) {
-        data.put(binaryContent.getId(), binaryContent);
+        // 같은 키에 대한 쓰기는 로그에도 같은 순서로 남도록 compute 안에서 기록
+        data.compute(binaryContent.getId(), (id, previous) -> {
+            operationLog.appendSave(EntityType.BINARY_CONTENT, binaryContent);
+            return binaryContent;
+        });
         return binaryContent;
     }
 
@@ -25,19 +37,28 @@ public class JCFBinaryContentRepository implements BinaryContentRepository {
 
     @Override
     public List<BinaryContent> findAll() {
-        return new ArrayList<>(data.values());
+        return data.values().toList();
+    }
+
+    @Override
+    public Stream<BinaryContent> streamAll() {
+        return data.values();
     }
 
     @Override
     public List<BinaryContent> findAllByIdIn(List<UUID> ids) {
-        return data.values().stream()
-                .filter(bc -> ids.contains(bc.getId()))
+        return ids.stream()
+                .map(data::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
     @Override
     public void deleteById(UUID id) {
-        data.remove(id);
+        data.computeIfPresent(id, (key, previous) -> {
+            operationLog.appendDelete(EntityType.BINARY_CONTENT, key);
+            return null;
+        });
     }
 
     @Override
@@ -1,23 +1,61 @@
 package com.sprint.mission.discodeit.repository.jcf;
 
+import com.sprint.mission.discodeit.entity.EntityType;
 import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.query.EntityFields;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.QueryExecutor;
+import com.sprint.mission.discodeit.repository.query.QueryPlan;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
-import java.util.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 @Repository
 @ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "jcf", matchIfMissing = true)
 public class JCFChannelRepository implements ChannelRepository {
-    private final Map<UUID, Channel> data = new HashMap<>();
+    private final UuidMap<Channel> data = new UuidMap<>();
+    // PUBLIC 채널 목록 조회가 전체를 훑지 않도록 compute 안에서 함께 갱신하는 보조 인덱스
+    private final SecondaryIndex<ChannelType> byType = new SecondaryIndex<>();
+    private final QueryExecutor<Channel> queryExecutor;
+    private final JCFOperationLog operationLog;
+
+    public JCFChannelRepository(JCFOperationLog operationLog) {
+        this.operationLog = operationLog;
+        this.queryExecutor = new QueryExecutor<>(EntityFields.CHANNEL, Map.of("type", byType::get), this::findById, data::values);
+    }
 
     @Override
     public Channel save(Channel channel) {
-        data.put(channel.getId(), channel);
+        // 같은 키에 대한 쓰기는 로그에도 같은 순서로 남도록 compute 안에서 기록
+        data.compute(channel.getId(), (id, previous) -> {
+            operationLog.appendSave(EntityType.CHANNEL, channel);
+            index(id, previous, channel);
+            return channel;
+        });
         return channel;
     }
 
+    @Override
+    public Optional<Channel> computeIfPresent(UUID id, UnaryOperator<Channel> remapping) {
+        // 공유 인스턴스를 고치지 않도록 복사본에 수정 함수를 적용하고, 같은 키의 compute 안에서 교체
+        return Optional.ofNullable(data.computeIfPresent(id, (key, previous) -> {
+            Channel next = Objects.requireNonNull(remapping.apply(previous.copy()));
+            next.advanceVersionFrom(previous);
+            operationLog.appendSave(EntityType.CHANNEL, next);
+            index(key, previous, next);
+            return next;
+        }));
+    }
+
     @Override
     public Optional<Channel> findById(UUID id) {
         return Optional.ofNullable(data.get(id));
@@ -25,16 +63,44 @@ public class JCFChannelRepository implements ChannelRepository {
 
     @Override
     public List<Channel> findAll() {
-        return new ArrayList<>(data.values());
+        return data.values().toList();
+    }
+
+    @Override
+    public Stream<Channel> streamAll() {
+        return data.values();
+    }
+
+    @Override
+    public List<Channel> findAll(Query query) {
+        return queryExecutor.execute(query);
+    }
+
+    @Override
+    public Stream<Channel> stream(Query query) {
+        return queryExecutor.stream(query);
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return queryExecutor.explain(query);
     }
 
     @Override
     public void deleteById(UUID id) {
-        data.remove(id);
+        data.computeIfPresent(id, (key, previous) -> {
+            operationLog.appendDelete(EntityType.CHANNEL, key);
+            index(key, previous, null);
+            return null;
+        });
     }
 
     @Override
     public boolean existsById(UUID id) {
         return data.containsKey(id);
     }
-}
+
+    private void index(UUID id, Channel previous, Channel next) {
+        byType.update(id, previous != null ? previous.getType() : null, next != null ? next.getType() : null);
+    }
+}
\ No newline at end of file
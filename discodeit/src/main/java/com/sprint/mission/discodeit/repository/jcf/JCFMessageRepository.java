@@ -1,52 +1,211 @@
 package com.sprint.mission.discodeit.repository.jcf;
 
+import com.sprint.mission.discodeit.entity.EntityType;
 import com.sprint.mission.discodeit.entity.Message;
 import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.query.Criterion;
+import com.sprint.mission.discodeit.repository.query.EntityFields;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.QueryExecutor;
+import com.sprint.mission.discodeit.repository.query.QueryPlan;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
-import java.util.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
+@Slf4j
 @Repository
 @ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "jcf", matchIfMissing = true)
 public class JCFMessageRepository implements MessageRepository {
-    private final Map<UUID, Message> data = new HashMap<>();
+    // 메시지는 StoredMessage(CompactMessage 또는 SlabMessage)로 저장하고 조회할 때마다 Message를 새로 만든다
+    private final UuidMap<StoredMessage> data = new UuidMap<>();
+    // channelId, authorId를 메시지마다 따로 들고 있지 않도록 공유하는 UUID 인스턴스와 참조하는 메시지 수
+    // (참조가 0이 되면 빼므로 삭제된 채널, 사용자의 id가 계속 남지 않는다)
+    private final UuidMap<CanonicalId> canonicalIds = new UuidMap<>();
+    // 채널별 조회가 전체를 훑지 않도록 compute 안에서 함께 갱신하는 보조 인덱스
+    private final SecondaryIndex<UUID> byChannelId = new SecondaryIndex<>();
+    private final QueryExecutor<Message> queryExecutor;
+    private final JCFOperationLog operationLog;
+    // 본문(또는 레코드 전체)을 힙 밖에 두어 힙 크기와 GC 시간을 줄인다
+    private final OffHeapMode offHeapMode;
+    private final OffHeapSlabs slabs;
+
+    public JCFMessageRepository(
+            JCFOperationLog operationLog,
+            @Value("${discodeit.repository.jcf.off-heap:none}") OffHeapMode offHeapMode,
+            @Value("${discodeit.repository.jcf.slab-mb:64}") int slabMegabytes
+    ) {
+        this.operationLog = operationLog;
+        this.offHeapMode = offHeapMode;
+        this.slabs = offHeapMode != OffHeapMode.NONE ? new OffHeapSlabs(Math.multiplyExact(slabMegabytes, 1 << 20)) : null;
+        this.queryExecutor = new QueryExecutor<>(EntityFields.MESSAGE, Map.of("channelId", byChannelId::get),
+                this::findById, this::streamAll);
+    }
 
     @Override
     public Message save(Message message) {
-        data.put(message.getId(), message);
+        UUID channelId = acquire(message.getChannelId());
+        UUID authorId = acquire(message.getAuthorId());
+        try {
+            StoredMessage stored = encode(message, channelId, authorId);
+            // 같은 키에 대한 쓰기는 로그에도 같은 순서로 남도록 compute 안에서 기록
+            data.compute(message.getId(), (id, previous) -> {
+                operationLog.appendSave(EntityType.MESSAGE, message);
+                index(id, previous, stored);
+                release(previous);
+                return stored;
+            });
+        } catch (RuntimeException e) {
+            release(channelId);
+            release(authorId);
+            throw e;
+        }
         return message;
     }
 
+    @Override
+    public Optional<Message> computeIfPresent(UUID id, UnaryOperator<Message> remapping) {
+        Message[] result = new Message[1];
+        // 수정 함수는 같은 키의 compute 안에서 실행되고, 채널/작성자 id는 바뀌지 않으므로 공유 UUID를 그대로 쓴다
+        data.computeIfPresent(id, (key, previous) -> {
+            Message current = previous.toMessage(key);
+            Message next = Objects.requireNonNull(remapping.apply(current));
+            next.advanceVersionFrom(current);
+            operationLog.appendSave(EntityType.MESSAGE, next);
+            result[0] = next;
+            return encode(next, previous.channelId(), previous.authorId());
+        });
+        return Optional.ofNullable(result[0]);
+    }
+
+    @Override
+    public List<Message> saveAll(List<Message> messages) {
+        messages.forEach(this::save);
+        return messages;
+    }
+
     @Override
     public Optional<Message> findById(UUID id) {
-        return Optional.ofNullable(data.get(id));
+        return Optional.ofNullable(data.get(id))
+                .map(stored -> stored.toMessage(id));
     }
 
     @Override
     public List<Message> findAll() {
-        return new ArrayList<>(data.values());
+        return streamAll().toList();
+    }
+
+    // 세그먼트 하나씩 복사해 순회하므로 Message는 꺼낼 때마다 하나씩 만들어진다
+    @Override
+    public Stream<Message> streamAll() {
+        return data.mapEntries((msb, lsb, stored) -> stored.toMessage(new UUID(msb, lsb)));
+    }
+
+    @Override
+    public List<Message> findAll(Query query) {
+        return queryExecutor.execute(query);
+    }
+
+    @Override
+    public Stream<Message> stream(Query query) {
+        return queryExecutor.stream(query);
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return queryExecutor.explain(query);
     }
 
     @Override
     public List<Message> findAllByChannelId(UUID channelId) {
-        return data.values().stream()
-                .filter(msg -> msg.getChannelId().equals(channelId))
-                .toList();
+        return findAll(Query.where(Criterion.eq("channelId", channelId)));
     }
 
     @Override
     public void deleteById(UUID id) {
-        data.remove(id);
+        data.computeIfPresent(id, (key, previous) -> {
+            operationLog.appendDelete(EntityType.MESSAGE, key);
+            index(key, previous, null);
+            release(previous);
+            return null;
+        });
     }
 
     @Override
     public void deleteAllByChannelId(UUID channelId) {
-        data.values().removeIf(msg -> msg.getChannelId().equals(channelId));
+        findAllByChannelId(channelId).forEach(msg -> deleteById(msg.getId()));
     }
 
     @Override
     public boolean existsById(UUID id) {
         return data.containsKey(id);
     }
+
+    @PreDestroy
+    public void logOffHeapUsage() {
+        if (slabs != null) {
+            log.info("Off-heap message slabs ({}): {} bytes written since startup, {} bytes reserved",
+                    offHeapMode, slabs.writtenBytes(), slabs.reservedBytes());
+        }
+    }
+
+    private StoredMessage encode(Message message, UUID channelId, UUID authorId) {
+        return switch (offHeapMode) {
+            case NONE -> CompactMessage.of(message, channelId, authorId);
+            case CONTENT -> CompactMessage.of(message, channelId, authorId, slabs);
+            case RECORD -> SlabMessage.of(message, slabs);
+        };
+    }
+
+    private void index(UUID id, StoredMessage previous, StoredMessage next) {
+        byChannelId.update(id, previous != null ? previous.channelId() : null, next != null ? next.channelId() : null);
+    }
+
+    /**
+     * 공유 UUID를 돌려주고 참조 수를 하나 늘린다. 저장한 메시지가 바뀌거나 지워질 때 {@link #release}로 돌려놓는다.
+     * 레코드 전체를 슬랩에 두는 경우에는 UUID 인스턴스를 들고 있지 않으므로 공유하지 않는다.
+     */
+    private UUID acquire(UUID id) {
+        if (id == null || offHeapMode == OffHeapMode.RECORD) {
+            return id;
+        }
+        return canonicalIds.compute(id, (key, previous) -> {
+            CanonicalId canonical = previous != null ? previous : new CanonicalId(key);
+            canonical.references++;
+            return canonical;
+        }).id;
+    }
+
+    private void release(UUID id) {
+        if (id == null || offHeapMode == OffHeapMode.RECORD) {
+            return;
+        }
+        canonicalIds.computeIfPresent(id, (key, canonical) -> --canonical.references > 0 ? canonical : null);
+    }
+
+    private void release(StoredMessage stored) {
+        if (stored != null) {
+            release(stored.channelId());
+            release(stored.authorId());
+        }
+    }
+
+    // 참조 수는 canonicalIds의 같은 키 compute 안에서만 바꾼다
+    private static final class CanonicalId {
+        private final UUID id;
+        private int references;
+
+        private CanonicalId(UUID id) {
+            this.id = id;
+        }
+    }
 }
@@ -0,0 +1,158 @@
+package com.sprint.mission.discodeit.repository.jcf;
+
+import com.sprint.mission.discodeit.entity.EntityType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 스냅샷 사이의 JCF 저장소 변경 내역을 세그먼트 파일에 순서대로 남긴다.
+ * 기록이 시작되기 전(스냅샷 비활성화, 복구 중)에는 아무것도 하지 않는다.
+ * <p>
+ * 레코드 포맷: [op(1)] [entity tag(1)] 이후 SAVE는 [length(4)][직렬화된 엔티티], DELETE는 [msb(8)][lsb(8)]
+ */
+@Component
+@ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "jcf", matchIfMissing = true)
+public class JCFOperationLog {
+    static final byte OP_SAVE = 1;
+    static final byte OP_DELETE = 2;
+    private static final String SEGMENT_PREFIX = "oplog-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final Object lock = new Object();
+    private DataOutputStream out;
+    private long segment;
+    private volatile boolean recording;
+
+    public JCFOperationLog(@Value("${discodeit.repository.jcf.snapshot.directory:.discodeit/snapshot}") String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    public void appendSave(EntityType type, Serializable entity) {
+        if (!recording) {
+            return;
+        }
+        byte[] payload = serialize(entity);
+        synchronized (lock) {
+            try {
+                out.writeByte(OP_SAVE);
+                out.writeByte(type.tag());
+                out.writeInt(payload.length);
+                out.write(payload);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public void appendDelete(EntityType type, UUID id) {
+        if (!recording) {
+            return;
+        }
+        synchronized (lock) {
+            try {
+                out.writeByte(OP_DELETE);
+                out.writeByte(type.tag());
+                out.writeLong(id.getMostSignificantBits());
+                out.writeLong(id.getLeastSignificantBits());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 지정한 세그먼트부터 기록을 시작한다 (복구가 끝난 뒤 호출)
+     */
+    void startRecording(long segment) throws IOException {
+        synchronized (lock) {
+            openSegment(segment);
+            recording = true;
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 닫고 다음 세그먼트로 넘어간다. 이후의 모든 쓰기는 새 세그먼트에 기록된다.
+     */
+    long rotate() throws IOException {
+        synchronized (lock) {
+            out.close();
+            openSegment(segment + 1);
+            return segment;
+        }
+    }
+
+    void flush() throws IOException {
+        synchronized (lock) {
+            if (recording) {
+                out.flush();
+            }
+        }
+    }
+
+    void close() throws IOException {
+        synchronized (lock) {
+            if (recording) {
+                recording = false;
+                out.close();
+            }
+        }
+    }
+
+    boolean isRecording() {
+        return recording;
+    }
+
+    List<Path> segmentsFrom(long firstSegment) throws IOException {
+        if (Files.notExists(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> segmentNumber(path) >= firstSegment)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    void deleteSegmentsBefore(long segment) throws IOException {
+        for (Path path : segmentsFrom(0)) {
+            if (segmentNumber(path) < segment) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    static long segmentNumber(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private void openSegment(long segment) throws IOException {
+        Files.createDirectories(directory);
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+        this.out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(path.toFile(), true), 64 * 1024));
+        this.segment = segment;
+    }
+
+    private static byte[] serialize(Serializable entity) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+            oos.writeObject(entity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -1,23 +1,68 @@
 package com.sprint.mission.discodeit.repository.jcf;
 
+import com.sprint.mission.discodeit.entity.EntityType;
 import com.sprint.mission.discodeit.entity.ReadStatus;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import com.sprint.mission.discodeit.repository.query.Criterion;
+import com.sprint.mission.discodeit.repository.query.EntityFields;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.QueryExecutor;
+import com.sprint.mission.discodeit.repository.query.QueryPlan;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
-import java.util.*;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 @Repository
 @ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "jcf", matchIfMissing = true)
 public class JCFReadStatusRepository implements ReadStatusRepository {
-    private final Map<UUID, ReadStatus> data = new HashMap<>();
+    private final UuidMap<ReadStatus> data = new UuidMap<>();
+    // 사용자별/채널별 조회가 전체를 훑지 않도록 compute 안에서 함께 갱신하는 보조 인덱스
+    private final SecondaryIndex<UUID> byUserId = new SecondaryIndex<>();
+    private final SecondaryIndex<UUID> byChannelId = new SecondaryIndex<>();
+    private final QueryExecutor<ReadStatus> queryExecutor;
+    private final JCFOperationLog operationLog;
+
+    public JCFReadStatusRepository(JCFOperationLog operationLog) {
+        this.operationLog = operationLog;
+        Map<String, Function<Object, Collection<UUID>>> indexes = new LinkedHashMap<>();
+        indexes.put("userId", byUserId::get);
+        indexes.put("channelId", byChannelId::get);
+        this.queryExecutor = new QueryExecutor<>(EntityFields.READ_STATUS, indexes, this::findById, data::values);
+    }
 
     @Override
     public ReadStatus save(ReadStatus readStatus) {
-        data.put(readStatus.getId(), readStatus);
+        // 같은 키에 대한 쓰기는 로그에도 같은 순서로 남도록 compute 안에서 기록
+        data.compute(readStatus.getId(), (id, previous) -> {
+            operationLog.appendSave(EntityType.READ_STATUS, readStatus);
+            index(id, previous, readStatus);
+            return readStatus;
+        });
         return readStatus;
     }
 
+    @Override
+    public Optional<ReadStatus> computeIfPresent(UUID id, UnaryOperator<ReadStatus> remapping) {
+        // 공유 인스턴스를 고치지 않도록 복사본에 수정 함수를 적용하고, 같은 키의 compute 안에서 교체
+        return Optional.ofNullable(data.computeIfPresent(id, (key, previous) -> {
+            ReadStatus next = Objects.requireNonNull(remapping.apply(previous.copy()));
+            next.advanceVersionFrom(previous);
+            operationLog.appendSave(EntityType.READ_STATUS, next);
+            index(key, previous, next);
+            return next;
+        }));
+    }
+
     @Override
     public Optional<ReadStatus> findById(UUID id) {
         return Optional.ofNullable(data.get(id));
@@ -25,42 +70,67 @@ public class JCFReadStatusRepository implements ReadStatusRepository {
 
     @Override
     public List<ReadStatus> findAll() {
-        return new ArrayList<>(data.values());
+        return data.values().toList();
+    }
+
+    @Override
+    public Stream<ReadStatus> streamAll() {
+        return data.values();
     }
 
     @Override
     public List<ReadStatus> findAllByUserId(UUID userId) {
-        return data.values().stream()
-                .filter(rs -> rs.getUserId().equals(userId))
-                .toList();
+        return findAll(Query.where(Criterion.eq("userId", userId)));
     }
 
     @Override
     public List<ReadStatus> findAllByChannelId(UUID channelId) {
-        return data.values().stream()
-                .filter(rs -> rs.getChannelId().equals(channelId))
-                .toList();
+        return findAll(Query.where(Criterion.eq("channelId", channelId)));
     }
 
     @Override
     public Optional<ReadStatus> findByUserIdAndChannelId(UUID userId, UUID channelId) {
-        return data.values().stream()
-                .filter(rs -> rs.getUserId().equals(userId) && rs.getChannelId().equals(channelId))
+        return findAll(Query.where(Criterion.eq("userId", userId), Criterion.eq("channelId", channelId)).limit(1))
+                .stream()
                 .findFirst();
     }
 
+    @Override
+    public List<ReadStatus> findAll(Query query) {
+        return queryExecutor.execute(query);
+    }
+
+    @Override
+    public Stream<ReadStatus> stream(Query query) {
+        return queryExecutor.stream(query);
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return queryExecutor.explain(query);
+    }
+
     @Override
     public void deleteById(UUID id) {
-        data.remove(id);
+        data.computeIfPresent(id, (key, previous) -> {
+            operationLog.appendDelete(EntityType.READ_STATUS, key);
+            index(key, previous, null);
+            return null;
+        });
     }
 
     @Override
     public void deleteAllByChannelId(UUID channelId) {
-        data.values().removeIf(rs -> rs.getChannelId().equals(channelId));
+        findAllByChannelId(channelId).forEach(rs -> deleteById(rs.getId()));
     }
 
     @Override
     public boolean existsById(UUID id) {
         return data.containsKey(id);
     }
+
+    private void index(UUID id, ReadStatus previous, ReadStatus next) {
+        byUserId.update(id, previous != null ? previous.getUserId() : null, next != null ? next.getUserId() : null);
+        byChannelId.update(id, previous != null ? previous.getChannelId() : null, next != null ? next.getChannelId() : null);
+    }
 }
\ No newline at end of file
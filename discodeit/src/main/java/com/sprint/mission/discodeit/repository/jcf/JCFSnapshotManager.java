@@ -0,0 +1,239 @@
+package com.sprint.mission.discodeit.repository.jcf;
+
+import com.sprint.mission.discodeit.entity.EntityType;
+import com.sprint.mission.discodeit.repository.*;
+import com.sprint.mission.discodeit.repository.cdc.ChangeCapturingRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * JCF 저장소 전체를 주기적으로 하나의 바이너리 스냅샷 파일로 기록하고, 부팅 시 스냅샷과
+ * 이후의 operation log를 메모리 매핑으로 순차 읽어 복구한다.
+ * <p>
+ * 스냅샷 직전에 로그 세그먼트를 넘기므로, 스냅샷에 반영되지 않았을 수 있는 쓰기는 모두 새 세그먼트에 남는다.
+ * 복구 시 해당 세그먼트부터 다시 적용하면 된다 (save는 덮어쓰기, delete는 멱등이므로 중복 적용해도 안전).
+ * <p>
+ * 스냅샷 포맷: [magic(4)][version(4)][log segment(8)][createdAt millis(8)] 이후 하나의 ObjectOutputStream에
+ * 엔티티 종류별로 [tag(1)][count(4)][엔티티 x count] 를 쓰고 tag 0으로 끝낸다.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${discodeit.repository.type:jcf}' == 'jcf' and ${discodeit.repository.jcf.snapshot.enabled:false}")
+public class JCFSnapshotManager {
+    private static final int MAGIC = 0x44534E50;   // "DSNP"
+    private static final int VERSION = 1;
+    private static final byte END_OF_SNAPSHOT = 0;
+    private static final int RESET_INTERVAL = 1024;
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+
+    private final Map<EntityType, Section<?>> sections = new EnumMap<>(EntityType.class);
+    private final JCFOperationLog operationLog;
+    private final Path directory;
+    private final long intervalSeconds;
+    private final boolean operationLogEnabled;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("jcf-snapshot").daemon(true).factory());
+
+    public JCFSnapshotManager(
+            UserRepository userRepository,
+            ChannelRepository channelRepository,
+            MessageRepository messageRepository,
+            ReadStatusRepository readStatusRepository,
+            UserStatusRepository userStatusRepository,
+            BinaryContentRepository binaryContentRepository,
+            JCFOperationLog operationLog,
+            @Value("${discodeit.repository.jcf.snapshot.directory:.discodeit/snapshot}") String directory,
+            @Value("${discodeit.repository.jcf.snapshot.interval-seconds:300}") long intervalSeconds,
+            @Value("${discodeit.repository.jcf.snapshot.operation-log:true}") boolean operationLogEnabled
+    ) {
+        // 복구는 이미 기록된 상태를 되살리는 것이므로 변경 피드 데코레이터를 거치지 않는다 (SAVED 이벤트가 재발행되지 않도록)
+        userRepository = ChangeCapturingRepository.unwrap(userRepository);
+        channelRepository = ChangeCapturingRepository.unwrap(channelRepository);
+        messageRepository = ChangeCapturingRepository.unwrap(messageRepository);
+        readStatusRepository = ChangeCapturingRepository.unwrap(readStatusRepository);
+        userStatusRepository = ChangeCapturingRepository.unwrap(userStatusRepository);
+        binaryContentRepository = ChangeCapturingRepository.unwrap(binaryContentRepository);
+        sections.put(EntityType.USER, new Section<>(userRepository::findAll, userRepository::save, userRepository::deleteById));
+        sections.put(EntityType.CHANNEL, new Section<>(channelRepository::findAll, channelRepository::save, channelRepository::deleteById));
+        sections.put(EntityType.MESSAGE, new Section<>(messageRepository::findAll, messageRepository::save, messageRepository::deleteById));
+        sections.put(EntityType.READ_STATUS, new Section<>(readStatusRepository::findAll, readStatusRepository::save, readStatusRepository::deleteById));
+        sections.put(EntityType.USER_STATUS, new Section<>(userStatusRepository::findAll, userStatusRepository::save, userStatusRepository::deleteById));
+        sections.put(EntityType.BINARY_CONTENT, new Section<>(binaryContentRepository::findAll, binaryContentRepository::save, binaryContentRepository::deleteById));
+        this.operationLog = operationLog;
+        this.directory = Paths.get(directory);
+        this.intervalSeconds = intervalSeconds;
+        this.operationLogEnabled = operationLogEnabled;
+    }
+
+    @PostConstruct
+    public void recover() throws IOException {
+        Files.createDirectories(directory);
+        long started = System.nanoTime();
+
+        long firstSegment = 0;
+        long restored = 0;
+        Path snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshotPath)) {
+            try (MappedFileInputStream in = new MappedFileInputStream(snapshotPath)) {
+                DataInputStream header = new DataInputStream(in);
+                if (header.readInt() != MAGIC || header.readInt() != VERSION) {
+                    throw new IllegalStateException("Unsupported snapshot file: " + snapshotPath);
+                }
+                firstSegment = header.readLong();
+                header.readLong();
+                restored = readEntities(in);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Cannot restore snapshot " + snapshotPath, e);
+            }
+        }
+
+        long replayed = 0;
+        long nextSegment = firstSegment;
+        for (Path segment : operationLog.segmentsFrom(firstSegment)) {
+            replayed += replay(segment);
+            nextSegment = JCFOperationLog.segmentNumber(segment) + 1;
+        }
+        log.info("Restored {} entities from snapshot and replayed {} logged operations in {} ms",
+                restored, replayed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        if (operationLogEnabled) {
+            operationLog.startRecording(nextSegment);
+            scheduler.scheduleWithFixedDelay(this::flushLog, 1, 1, TimeUnit.SECONDS);
+        }
+        scheduler.scheduleWithFixedDelay(this::snapshotQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 현재 저장소 상태를 스냅샷 파일로 기록한다. 임시 파일에 쓰고 fsync 후 원자적으로 교체한다.
+     */
+    public synchronized void snapshot() throws IOException {
+        long started = System.nanoTime();
+        long segment = operationLog.isRecording() ? operationLog.rotate() : 0;
+
+        Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        long written = 0;
+        try (FileOutputStream fos = new FileOutputStream(temp.toFile())) {
+            DataOutputStream header = new DataOutputStream(fos);
+            header.writeInt(MAGIC);
+            header.writeInt(VERSION);
+            header.writeLong(segment);
+            header.writeLong(System.currentTimeMillis());
+            header.flush();
+
+            ObjectOutputStream oos = new ObjectOutputStream(new BufferedOutputStream(fos, 256 * 1024));
+            for (Map.Entry<EntityType, Section<?>> entry : sections.entrySet()) {
+                List<?> entities = entry.getValue().findAll().get();
+                oos.writeByte(entry.getKey().tag());
+                oos.writeInt(entities.size());
+                for (int i = 0; i < entities.size(); i++) {
+                    oos.writeObject(entities.get(i));
+                    if ((i + 1) % RESET_INTERVAL == 0) {
+                        oos.reset();   // 직렬화 핸들 테이블이 엔티티를 계속 붙잡지 않도록
+                    }
+                }
+                written += entities.size();
+            }
+            oos.writeByte(END_OF_SNAPSHOT);
+            oos.flush();
+            fos.getChannel().force(true);
+        }
+        Files.move(temp, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        operationLog.deleteSegmentsBefore(segment);
+
+        log.info("Wrote snapshot of {} entities in {} ms", written,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        scheduler.shutdownNow();
+        snapshot();
+        operationLog.close();
+    }
+
+    private long readEntities(InputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream ois = new ObjectInputStream(new BufferedInputStream(in, 256 * 1024));
+        long count = 0;
+        byte tag;
+        while ((tag = ois.readByte()) != END_OF_SNAPSHOT) {
+            Section<?> section = sections.get(EntityType.fromTag(tag));
+            int size = ois.readInt();
+            for (int i = 0; i < size; i++) {
+                section.restore(ois.readObject());
+            }
+            count += size;
+        }
+        return count;
+    }
+
+    private long replay(Path segment) throws IOException {
+        long count = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new MappedFileInputStream(segment)))) {
+            while (true) {
+                byte op;
+                try {
+                    op = in.readByte();
+                } catch (EOFException e) {
+                    break;
+                }
+                Section<?> section = sections.get(EntityType.fromTag(in.readByte()));
+                if (op == JCFOperationLog.OP_SAVE) {
+                    byte[] payload = new byte[in.readInt()];
+                    in.readFully(payload);
+                    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+                        section.restore(ois.readObject());
+                    }
+                } else {
+                    section.delete().accept(new UUID(in.readLong(), in.readLong()));
+                }
+                count++;
+            }
+        } catch (EOFException e) {
+            // 마지막 레코드가 기록 도중 끊긴 경우: 그 전까지만 반영
+            log.warn("Operation log {} ends with a truncated record", segment.getFileName());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Cannot replay operation log " + segment, e);
+        }
+        return count;
+    }
+
+    private void flushLog() {
+        try {
+            operationLog.flush();
+        } catch (IOException e) {
+            log.error("Failed to flush operation log", e);
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to write snapshot", e);
+        }
+    }
+
+    private record Section<T>(Supplier<List<T>> findAll, Consumer<T> save, Consumer<UUID> delete) {
+        @SuppressWarnings("unchecked")
+        void restore(Object entity) {
+            save.accept((T) entity);
+        }
+    }
+}
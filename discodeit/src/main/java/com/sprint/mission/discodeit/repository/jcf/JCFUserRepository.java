@@ -1,23 +1,47 @@
 package com.sprint.mission.discodeit.repository.jcf;
 
+import com.sprint.mission.discodeit.entity.EntityType;
 import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
-import java.util.*;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 @Repository
+@RequiredArgsConstructor
 @ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "jcf", matchIfMissing = true)
 public class JCFUserRepository implements UserRepository {
-    private final Map<UUID, User> data = new HashMap<>();
+    private final UuidMap<User> data = new UuidMap<>();
+    private final JCFOperationLog operationLog;
 
     @Override
     public User save(User user) {
-        data.put(user.getId(), user);
+        // 같은 키에 대한 쓰기는 로그에도 같은 순서로 남도록 compute 안에서 기록
+        data.compute(user.getId(), (id, previous) -> {
+            operationLog.appendSave(EntityType.USER, user);
+            return user;
+        });
         return user;
     }
 
+    @Override
+    public Optional<User> computeIfPresent(UUID id, UnaryOperator<User> remapping) {
+        // 공유 인스턴스를 고치지 않도록 복사본에 수정 함수를 적용하고, 같은 키의 compute 안에서 교체
+        return Optional.ofNullable(data.computeIfPresent(id, (key, previous) -> {
+            User next = Objects.requireNonNull(remapping.apply(previous.copy()));
+            next.advanceVersionFrom(previous);
+            operationLog.appendSave(EntityType.USER, next);
+            return next;
+        }));
+    }
+
     @Override
     public Optional<User> findById(UUID id) {
         return Optional.ofNullable(data.get(id));
@@ -25,26 +49,34 @@ public class JCFUserRepository implements UserRepository {
 
     @Override
     public Optional<User> findByUsername(String username) {
-        return data.values().stream()
+        return data.values()
                 .filter(user -> user.getUsername().equals(username))
                 .findFirst();
     }
 
     @Override
     public Optional<User> findByEmail(String email) {
-        return data.values().stream()
+        return data.values()
                 .filter(user -> user.getEmail().equals(email))
                 .findFirst();
     }
 
     @Override
     public List<User> findAll() {
-        return new ArrayList<>(data.values());
+        return data.values().toList();
+    }
+
+    @Override
+    public Stream<User> streamAll() {
+        return data.values();
     }
 
     @Override
     public void deleteById(UUID id) {
-        data.remove(id);
+        data.computeIfPresent(id, (key, previous) -> {
+            operationLog.appendDelete(EntityType.USER, key);
+            return null;
+        });
     }
 
     @Override
@@ -54,13 +86,13 @@ public class JCFUserRepository implements UserRepository {
 
     @Override
     public boolean existsByUsername(String username) {
-        return data.values().stream()
+        return data.values()
                 .anyMatch(user -> user.getUsername().equals(username));
     }
 
     @Override
     public boolean existsByEmail(String email) {
-        return data.values().stream()
+        return data.values()
                 .anyMatch(user -> user.getEmail().equals(email));
     }
 }
\ No newline at end of file
@@ -1,23 +1,47 @@
 package com.sprint.mission.discodeit.repository.jcf;
 
+import com.sprint.mission.discodeit.entity.EntityType;
 import com.sprint.mission.discodeit.entity.UserStatus;
 import com.sprint.mission.discodeit.repository.UserStatusRepository;
+import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
-import java.util.*;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 @Repository
+@RequiredArgsConstructor
 @ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "jcf", matchIfMissing = true)
 public class JCFUserStatusRepository implements UserStatusRepository {
-    private final Map<UUID, UserStatus> data = new HashMap<>();
+    private final UuidMap<UserStatus> data = new UuidMap<>();
+    private final JCFOperationLog operationLog;
 
     @Override
     public UserStatus save(UserStatus userStatus) {
-        data.put(userStatus.getId(), userStatus);
+        // 같은 키에 대한 쓰기는 로그에도 같은 순서로 남도록 compute 안에서 기록
+        data.compute(userStatus.getId(), (id, previous) -> {
+            operationLog.appendSave(EntityType.USER_STATUS, userStatus);
+            return userStatus;
+        });
         return userStatus;
     }
 
+    @Override
+    public Optional<UserStatus> computeIfPresent(UUID id, UnaryOperator<UserStatus> remapping) {
+        // 공유 인스턴스를 고치지 않도록 복사본에 수정 함수를 적용하고, 같은 키의 compute 안에서 교체
+        return Optional.ofNullable(data.computeIfPresent(id, (key, previous) -> {
+            UserStatus next = Objects.requireNonNull(remapping.apply(previous.copy()));
+            next.advanceVersionFrom(previous);
+            operationLog.appendSave(EntityType.USER_STATUS, next);
+            return next;
+        }));
+    }
+
     @Override
     public Optional<UserStatus> findById(UUID id) {
         return Optional.ofNullable(data.get(id));
@@ -25,24 +49,32 @@ public class JCFUserStatusRepository implements UserStatusRepository {
 
     @Override
     public Optional<UserStatus> findByUserId(UUID userId) {
-        return data.values().stream()
+        return data.values()
                 .filter(us -> us.getUserId().equals(userId))
                 .findFirst();
     }
 
     @Override
     public List<UserStatus> findAll() {
-        return new ArrayList<>(data.values());
+        return data.values().toList();
+    }
+
+    @Override
+    public Stream<UserStatus> streamAll() {
+        return data.values();
     }
 
     @Override
     public void deleteById(UUID id) {
-        data.remove(id);
+        data.computeIfPresent(id, (key, previous) -> {
+            operationLog.appendDelete(EntityType.USER_STATUS, key);
+            return null;
+        });
     }
 
     @Override
     public void deleteByUserId(UUID userId) {
-        data.values().removeIf(us -> us.getUserId().equals(userId));
+        findByUserId(userId).ifPresent(us -> deleteById(us.getId()));
     }
 
     @Override
@@ -52,7 +84,7 @@ public class JCFUserStatusRepository implements UserStatusRepository {
 
     @Override
     public boolean existsByUserId(UUID userId) {
-        return data.values().stream()
+        return data.values()
                 .anyMatch(us -> us.getUserId().equals(userId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.sprint.mission.discodeit.repository.jcf;
+
+/**
+ * JCF 메시지 저장소에서 힙 밖(direct buffer 슬랩)에 두는 범위
+ */
+enum OffHeapMode {
+    NONE,      // 모두 힙에 둔다
+    CONTENT,   // 본문만 슬랩에 두고 나머지 필드는 힙에 둔다
+    RECORD     // 레코드 전체를 슬랩에 두고 힙에는 슬랩 위치만 둔다
+}
@@ -0,0 +1,70 @@
+package com.sprint.mission.discodeit.repository.jcf;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메시지 본문/레코드를 담는 direct ByteBuffer 슬랩 할당기
+ * <p>
+ * 현재 슬랩 끝에 이어 붙이는 bump 할당만 하고 개별 해제는 하지 않는다. 메시지가 슬랩 버퍼를 직접 참조하므로,
+ * 슬랩 안의 메시지가 모두 수정/삭제되어 참조가 사라지면 GC가 버퍼를 회수하면서 네이티브 메모리도 돌려준다.
+ * 메시지는 거의 시간 순으로 쓰이고 보존 정책도 오래된 것부터 지우므로 슬랩은 대체로 통째로 비워진다.
+ * <p>
+ * 한 번 쓴 영역은 바뀌지 않으므로 읽기는 절대 위치 get으로 락 없이 한다.
+ * 쓰기 결과는 UuidMap의 compute(세그먼트 락 해제)를 거쳐 공개되므로 읽는 쪽에 보인다.
+ */
+final class OffHeapSlabs {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final int slabBytes;
+    private final AtomicLong reservedBytes = new AtomicLong();
+    private final AtomicLong writtenBytes = new AtomicLong();
+    private ByteBuffer current;   // this로 보호
+    private int position;
+
+    OffHeapSlabs(int slabBytes) {
+        if (slabBytes <= 0) {
+            throw new IllegalArgumentException("Slab size must be positive: " + slabBytes);
+        }
+        this.slabBytes = slabBytes;
+    }
+
+    record Region(ByteBuffer slab, int offset) {}
+
+    /**
+     * length 바이트 영역을 예약한다. 현재 슬랩에 자리가 없으면 새 슬랩을 만든다 (남은 공간은 버림)
+     */
+    synchronized Region allocate(int length) {
+        if (current == null || current.capacity() - position < length) {
+            current = newSlab(Math.max(slabBytes, length));
+            position = 0;
+        }
+        Region region = new Region(current, position);
+        position += length;
+        writtenBytes.addAndGet(length);
+        return region;
+    }
+
+    /**
+     * 아직 GC되지 않은 슬랩의 총 크기
+     */
+    long reservedBytes() {
+        return reservedBytes.get();
+    }
+
+    /**
+     * 시작 이후 슬랩에 쓴 총 바이트 (수정/삭제로 버려진 영역 포함)
+     */
+    long writtenBytes() {
+        return writtenBytes.get();
+    }
+
+    private ByteBuffer newSlab(int capacity) {
+        ByteBuffer slab = ByteBuffer.allocateDirect(capacity);
+        AtomicLong reserved = reservedBytes;
+        reserved.addAndGet(capacity);
+        CLEANER.register(slab, () -> reserved.addAndGet(-capacity));
+        return slab;
+    }
+}
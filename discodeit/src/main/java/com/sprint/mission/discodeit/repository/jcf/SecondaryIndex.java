@@ -0,0 +1,43 @@
+package com.sprint.mission.discodeit.repository.jcf;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 필드 값 -> 엔티티 ID 집합 보조 인덱스
+ * 저장소의 compute 안에서 갱신하므로 같은 엔티티에 대한 변경은 순서대로 반영된다.
+ * 읽기는 UuidMap.values()와 같은 약한 일관성이며, 조회하는 쪽에서 본 데이터로 조건을 다시 확인한다.
+ */
+class SecondaryIndex<K> {
+    private final ConcurrentHashMap<K, Set<UUID>> ids = new ConcurrentHashMap<>();
+
+    /**
+     * 엔티티의 인덱스 값이 previous에서 next로 바뀐 것을 반영한다 (null은 없음)
+     */
+    void update(UUID id, K previous, K next) {
+        if (Objects.equals(previous, next)) {
+            return;
+        }
+        if (previous != null) {
+            ids.computeIfPresent(previous, (key, set) -> {
+                set.remove(id);
+                return set.isEmpty() ? null : set;
+            });
+        }
+        if (next != null) {
+            ids.compute(next, (key, set) -> {
+                Set<UUID> target = set != null ? set : ConcurrentHashMap.newKeySet();
+                target.add(id);
+                return target;
+            });
+        }
+    }
+
+    Collection<UUID> get(Object key) {
+        Set<UUID> set = ids.get(key);
+        return set != null ? Set.copyOf(set) : Set.of();
+    }
+}
@@ -0,0 +1,112 @@
+package com.sprint.mission.discodeit.repository.jcf;
+
+import com.sprint.mission.discodeit.entity.Message;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 레코드 전체를 슬랩에 인코딩해 두는 메시지 표현 ({@link OffHeapMode#RECORD})
+ * 힙에는 슬랩 참조와 위치만 남고, 조회할 때마다 슬랩에서 읽어 Message를 만든다.
+ * <pre>
+ * [flags 1][channelId 16][authorId 16][createdAt 8][updatedAt 8][sequence 8][version 8]
+ * [첨부 수 4][첨부 id 16 * n][본문 (CompactMessage.EncodedContent 형식)]
+ * </pre>
+ */
+final class SlabMessage implements StoredMessage {
+    private static final int HAS_CHANNEL = 1;
+    private static final int HAS_AUTHOR = 2;
+
+    private static final int CHANNEL = 1;
+    private static final int AUTHOR = CHANNEL + 16;
+    private static final int CREATED_AT = AUTHOR + 16;
+    private static final int UPDATED_AT = CREATED_AT + 8;
+    private static final int SEQUENCE = UPDATED_AT + 8;
+    private static final int VERSION = SEQUENCE + 8;
+    private static final int ATTACHMENT_COUNT = VERSION + 8;
+    private static final int ATTACHMENTS = ATTACHMENT_COUNT + 4;
+
+    private final ByteBuffer slab;
+    private final int offset;
+
+    private SlabMessage(ByteBuffer slab, int offset) {
+        this.slab = slab;
+        this.offset = offset;
+    }
+
+    static SlabMessage of(Message message, OffHeapSlabs slabs) {
+        List<UUID> attachmentIds = message.getAttachmentIds() != null ? message.getAttachmentIds() : List.of();
+        CompactMessage.EncodedContent content = CompactMessage.EncodedContent.of(message.getContent());
+        int contentOffset = ATTACHMENTS + attachmentIds.size() * 16;
+        OffHeapSlabs.Region region = slabs.allocate(contentOffset + content.size());
+        ByteBuffer slab = region.slab();
+        int base = region.offset();
+
+        int flags = (message.getChannelId() != null ? HAS_CHANNEL : 0) | (message.getAuthorId() != null ? HAS_AUTHOR : 0);
+        slab.put(base, (byte) flags);
+        putUuid(slab, base + CHANNEL, message.getChannelId());
+        putUuid(slab, base + AUTHOR, message.getAuthorId());
+        slab.putLong(base + CREATED_AT, CompactMessage.pack(message.getCreatedAt()));
+        slab.putLong(base + UPDATED_AT, CompactMessage.pack(message.getUpdatedAt()));
+        slab.putLong(base + SEQUENCE, message.getSequence());
+        slab.putLong(base + VERSION, message.getVersion());
+        slab.putInt(base + ATTACHMENT_COUNT, attachmentIds.size());
+        for (int i = 0; i < attachmentIds.size(); i++) {
+            putUuid(slab, base + ATTACHMENTS + i * 16, attachmentIds.get(i));
+        }
+        content.writeTo(slab, base + contentOffset);
+        return new SlabMessage(slab, base);
+    }
+
+    @Override
+    public Message toMessage(UUID id) {
+        int count = slab.getInt(offset + ATTACHMENT_COUNT);
+        List<UUID> attachmentIds = List.of();
+        if (count > 0) {
+            List<UUID> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ids.add(getUuid(offset + ATTACHMENTS + i * 16));
+            }
+            attachmentIds = List.copyOf(ids);
+        }
+        return new Message(
+                id,
+                CompactMessage.unpack(slab.getLong(offset + CREATED_AT)),
+                CompactMessage.unpack(slab.getLong(offset + UPDATED_AT)),
+                CompactMessage.EncodedContent.readFrom(slab, offset + ATTACHMENTS + count * 16),
+                channelId(),
+                authorId(),
+                attachmentIds,
+                slab.getLong(offset + SEQUENCE),
+                version()
+        );
+    }
+
+    @Override
+    public UUID channelId() {
+        return (slab.get(offset) & HAS_CHANNEL) != 0 ? getUuid(offset + CHANNEL) : null;
+    }
+
+    @Override
+    public UUID authorId() {
+        return (slab.get(offset) & HAS_AUTHOR) != 0 ? getUuid(offset + AUTHOR) : null;
+    }
+
+    @Override
+    public long version() {
+        return slab.getLong(offset + VERSION);
+    }
+
+    private UUID getUuid(int index) {
+        return new UUID(slab.getLong(index), slab.getLong(index + 8));
+    }
+
+    private static void putUuid(ByteBuffer slab, int index, UUID id) {
+        if (id != null) {
+            slab.putLong(index, id.getMostSignificantBits());
+            slab.putLong(index + 8, id.getLeastSignificantBits());
+        }
+    }
+}
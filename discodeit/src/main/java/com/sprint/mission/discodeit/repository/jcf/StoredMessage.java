@@ -0,0 +1,19 @@
+package com.sprint.mission.discodeit.repository.jcf;
+
+import com.sprint.mission.discodeit.entity.Message;
+
+import java.util.UUID;
+
+/**
+ * JCF 메시지 저장소가 맵에 두는 값
+ * 힙에 두는 {@link CompactMessage}(본문은 힙 또는 슬랩)와 레코드 전체를 슬랩에 두는 {@link SlabMessage}가 있다.
+ */
+interface StoredMessage {
+    Message toMessage(UUID id);
+
+    UUID channelId();
+
+    UUID authorId();
+
+    long version();
+}
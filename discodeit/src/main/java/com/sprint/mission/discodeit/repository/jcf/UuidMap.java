@@ -0,0 +1,298 @@
+package com.sprint.mission.discodeit.repository.jcf;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * UUID 키 전용 open addressing 해시 맵
+ * <p>
+ * 키의 두 long을 primitive 배열에 그대로 저장해 HashMap.Node와 UUID 키 객체, 포인터 추적 비용을 없앤다.
+ * 슬롯당 비용은 키 16바이트 + 값 참조 하나이며, 선형 탐사와 삭제 표시(tombstone)를 사용한다.
+ * <p>
+ * 키 해시로 고른 세그먼트마다 StampedLock을 두어, 쓰기는 세그먼트 단위로 직렬화하고
+ * 읽기는 낙관적 읽기(검증 실패 시에만 읽기 락)로 락 없이 진행한다.
+ */
+class UuidMap<V> {
+    private static final int SEGMENT_BITS = 4;
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.7f;
+    private static final Object TOMBSTONE = new Object();
+
+    @SuppressWarnings("unchecked")
+    private final Segment<V>[] segments = new Segment[SEGMENT_COUNT];
+
+    UuidMap() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    V get(UUID key) {
+        long hash = hash(key);
+        return segmentFor(hash).get(key.getMostSignificantBits(), key.getLeastSignificantBits(), (int) hash);
+    }
+
+    boolean containsKey(UUID key) {
+        return get(key) != null;
+    }
+
+    V put(UUID key, V value) {
+        Objects.requireNonNull(value);
+        return compute(key, (k, previous) -> value);
+    }
+
+    V remove(UUID key) {
+        V[] removed = newHolder();
+        compute(key, (k, previous) -> {
+            removed[0] = previous;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * {@link java.util.Map#compute}와 같은 의미. 함수는 세그먼트 쓰기 락 안에서 실행되므로
+     * 같은 키에 대한 compute는 순서대로 적용된다. 함수 안에서 이 맵을 다시 호출하면 안 된다.
+     */
+    V compute(UUID key, BiFunction<UUID, ? super V, ? extends V> remapping) {
+        long hash = hash(key);
+        return segmentFor(hash).compute(key, (int) hash, remapping, false);
+    }
+
+    V computeIfPresent(UUID key, BiFunction<UUID, ? super V, ? extends V> remapping) {
+        long hash = hash(key);
+        return segmentFor(hash).compute(key, (int) hash, remapping, true);
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * 세그먼트별 시점 복사본을 지연 순회한다 (약한 일관성, 순회 중 변경은 반영되지 않을 수 있음)
+     */
+    Stream<V> values() {
+        return Arrays.stream(segments).flatMap(Segment::values);
+    }
+
+    /**
+     * 키를 UUID 객체로 만들지 않고 (msb, lsb, 값)으로 순회한다. mapper가 null을 반환한 항목은 제외된다.
+     */
+    <R> Stream<R> mapEntries(EntryMapper<? super V, ? extends R> mapper) {
+        return Arrays.stream(segments).flatMap(segment -> segment.mapEntries(mapper));
+    }
+
+    @FunctionalInterface
+    interface EntryMapper<V, R> {
+        R map(long msb, long lsb, V value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V[] newHolder() {
+        return (V[]) new Object[1];
+    }
+
+    private Segment<V> segmentFor(long hash) {
+        return segments[(int) (hash >>> (64 - SEGMENT_BITS))];
+    }
+
+    private static long hash(UUID key) {
+        return hash(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    private static long hash(long msb, long lsb) {
+        long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        h *= 0xC2B2AE3D27D4EB4FL;
+        return h ^ (h >>> 29);
+    }
+
+    private static final class Segment<V> {
+        private final StampedLock lock = new StampedLock();
+        private long[] keys = new long[INITIAL_CAPACITY * 2];   // [msb, lsb] 쌍
+        private Object[] values = new Object[INITIAL_CAPACITY];
+        private int live;
+        private int used;   // live + tombstone
+
+        V get(long msb, long lsb, int hash) {
+            long stamp = lock.tryOptimisticRead();
+            V value = find(msb, lsb, hash);
+            if (lock.validate(stamp)) {
+                return value;
+            }
+            stamp = lock.readLock();
+            try {
+                return find(msb, lsb, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        int size() {
+            long stamp = lock.tryOptimisticRead();
+            int size = live;
+            if (lock.validate(stamp)) {
+                return size;
+            }
+            stamp = lock.readLock();
+            try {
+                return live;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        Stream<V> values() {
+            Object[] copy;
+            long stamp = lock.tryOptimisticRead();
+            copy = values.clone();
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    copy = values.clone();
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return Arrays.stream(copy)
+                    .filter(value -> value != null && value != TOMBSTONE)
+                    .map(this::cast);
+        }
+
+        <R> Stream<R> mapEntries(EntryMapper<? super V, ? extends R> mapper) {
+            long[] keysCopy;
+            Object[] valuesCopy;
+            long stamp = lock.readLock();
+            try {
+                keysCopy = keys.clone();
+                valuesCopy = values.clone();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+            return IntStream.range(0, valuesCopy.length)
+                    .filter(slot -> valuesCopy[slot] != null && valuesCopy[slot] != TOMBSTONE)
+                    .<R>mapToObj(slot -> mapper.map(keysCopy[slot * 2], keysCopy[slot * 2 + 1], cast(valuesCopy[slot])))
+                    .filter(Objects::nonNull);
+        }
+
+        V compute(UUID key, int hash, BiFunction<UUID, ? super V, ? extends V> remapping, boolean onlyIfPresent) {
+            long msb = key.getMostSignificantBits();
+            long lsb = key.getLeastSignificantBits();
+            long stamp = lock.writeLock();
+            try {
+                int slot = indexOf(msb, lsb, hash);
+                V previous = slot >= 0 ? cast(values[slot]) : null;
+                if (previous == null && onlyIfPresent) {
+                    return null;
+                }
+                V next = remapping.apply(key, previous);
+                if (next == null) {
+                    if (slot >= 0) {
+                        values[slot] = TOMBSTONE;
+                        live--;
+                    }
+                } else if (slot >= 0) {
+                    values[slot] = next;
+                } else {
+                    insert(msb, lsb, hash, next);
+                }
+                return next;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        // 락 밖에서(낙관적 읽기) 호출될 수 있으므로 배열 참조를 한 번만 읽는다
+        private V find(long msb, long lsb, int hash) {
+            long[] keys = this.keys;
+            Object[] values = this.values;
+            if (keys.length != values.length * 2) {
+                return null;   // 리사이즈 중간 상태, validate에서 걸러진다
+            }
+            int mask = values.length - 1;
+            for (int i = 0, slot = hash & mask; i < values.length; i++, slot = (slot + 1) & mask) {
+                Object value = values[slot];
+                if (value == null) {
+                    return null;
+                }
+                if (value != TOMBSTONE && keys[slot * 2] == msb && keys[slot * 2 + 1] == lsb) {
+                    return cast(value);
+                }
+            }
+            return null;
+        }
+
+        private int indexOf(long msb, long lsb, int hash) {
+            int mask = values.length - 1;
+            for (int i = 0, slot = hash & mask; i < values.length; i++, slot = (slot + 1) & mask) {
+                Object value = values[slot];
+                if (value == null) {
+                    return -1;
+                }
+                if (value != TOMBSTONE && keys[slot * 2] == msb && keys[slot * 2 + 1] == lsb) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private void insert(long msb, long lsb, int hash, Object value) {
+            if (used + 1 > values.length * LOAD_FACTOR) {
+                // tombstone이 대부분이면 같은 크기로 정리만 한다
+                resize(live + 1 > values.length * LOAD_FACTOR / 2 ? values.length * 2 : values.length);
+            }
+            int mask = values.length - 1;
+            int slot = hash & mask;
+            while (values[slot] != null && values[slot] != TOMBSTONE) {
+                slot = (slot + 1) & mask;
+            }
+            if (values[slot] == null) {
+                used++;
+            }
+            keys[slot * 2] = msb;
+            keys[slot * 2 + 1] = lsb;
+            values[slot] = value;
+            live++;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            long[] newKeys = new long[capacity * 2];
+            Object[] newValues = new Object[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldValues.length; i++) {
+                Object value = oldValues[i];
+                if (value == null || value == TOMBSTONE) {
+                    continue;
+                }
+                long msb = oldKeys[i * 2];
+                long lsb = oldKeys[i * 2 + 1];
+                int slot = (int) UuidMap.hash(msb, lsb) & mask;
+                while (newValues[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                newKeys[slot * 2] = msb;
+                newKeys[slot * 2 + 1] = lsb;
+                newValues[slot] = value;
+            }
+            keys = newKeys;
+            values = newValues;
+            used = live;
+        }
+
+        @SuppressWarnings("unchecked")
+        private V cast(Object value) {
+            return (V) value;
+        }
+    }
+}
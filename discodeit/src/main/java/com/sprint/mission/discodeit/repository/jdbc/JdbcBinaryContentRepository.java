@@ -0,0 +1,83 @@
+package com.sprint.mission.discodeit.repository.jdbc;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.sprint.mission.discodeit.repository.jdbc.JdbcTable.*;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "jdbc")
+public class JdbcBinaryContentRepository implements BinaryContentRepository {
+    private static final String SELECT_SQL =
+            "SELECT id, created_at, file_name, content_type, data, original_id, variant_size FROM binary_contents";
+    private static final RowMapper<BinaryContent> ROW_MAPPER = (rs, rowNum) -> new BinaryContent(
+            uuid(rs, "id"), instant(rs, "created_at"), rs.getString("file_name"), rs.getString("content_type"),
+            rs.getBytes("data"), uuid(rs, "original_id"), rs.getInt("variant_size"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public BinaryContent save(BinaryContent binaryContent) {
+        jdbcTemplate.update(
+                "MERGE INTO binary_contents (id, created_at, file_name, content_type, data, original_id, variant_size) "
+                        + "KEY (id) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                binaryContent.getId(), timestamp(binaryContent.getCreatedAt()), binaryContent.getFileName(),
+                binaryContent.getContentType(), binaryContent.getData(), binaryContent.getOriginalId(),
+                binaryContent.getVariantSize());
+        return binaryContent;
+    }
+
+    @Override
+    public Optional<BinaryContent> findById(UUID id) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE id = ?", ROW_MAPPER, id).stream().findFirst();
+    }
+
+    @Override
+    public List<BinaryContent> findAll() {
+        return jdbcTemplate.query(SELECT_SQL, ROW_MAPPER);
+    }
+
+    // close할 때까지 연결 하나를 잡고 있으므로 반드시 닫아야 한다
+    @Override
+    public Stream<BinaryContent> streamAll() {
+        return jdbcTemplate.queryForStream(SELECT_SQL, ROW_MAPPER);
+    }
+
+    @Override
+    public List<BinaryContent> findAllByIdIn(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // 한 번의 IN 조회 후 요청한 ID 순서대로 돌려준다
+        Map<UUID, BinaryContent> found = namedParameterJdbcTemplate
+                .query(SELECT_SQL + " WHERE id IN (:ids)", Map.of("ids", ids), ROW_MAPPER).stream()
+                .collect(Collectors.toMap(BinaryContent::getId, Function.identity()));
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        jdbcTemplate.update("DELETE FROM binary_contents WHERE id = ?", id);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM binary_contents WHERE id = ? LIMIT 1", id).isEmpty();
+    }
+}
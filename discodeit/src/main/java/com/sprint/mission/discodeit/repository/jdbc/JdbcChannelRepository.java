@@ -0,0 +1,100 @@
+package com.sprint.mission.discodeit.repository.jdbc;
+
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.RetentionAction;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.QueryPlan;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static com.sprint.mission.discodeit.repository.jdbc.JdbcTable.*;
+
+@Repository
+@ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "jdbc")
+public class JdbcChannelRepository implements ChannelRepository {
+    // Query 필드 이름 -> 컬럼 이름
+    private static final Map<String, String> QUERY_COLUMNS = Map.of(
+            "id", "id", "type", "type", "name", "name", "createdAt", "created_at", "updatedAt", "updated_at");
+
+    private final JdbcTable<Channel> table;
+
+    public JdbcChannelRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.table = new JdbcTable<>(jdbcTemplate, transactionTemplate, "channels", Channel.class,
+                List.of("id", "created_at", "updated_at", "version", "type", "name", "description",
+                        "retention_days", "retention_action"),
+                (rs, rowNum) -> {
+                    String retentionAction = rs.getString("retention_action");
+                    return new Channel(
+                            uuid(rs, "id"), instant(rs, "created_at"), instant(rs, "updated_at"),
+                            ChannelType.valueOf(rs.getString("type")), rs.getString("name"), rs.getString("description"),
+                            rs.getObject("retention_days", Integer.class),
+                            retentionAction == null ? null : RetentionAction.valueOf(retentionAction),
+                            rs.getLong("version"));
+                },
+                channel -> new Object[]{
+                        channel.getId(), timestamp(channel.getCreatedAt()), timestamp(channel.getUpdatedAt()), channel.getVersion(),
+                        channel.getType().name(), channel.getName(), channel.getDescription(), channel.getRetentionDays(),
+                        channel.getRetentionAction() == null ? null : channel.getRetentionAction().name()});
+    }
+
+    @Override
+    public Channel save(Channel channel) {
+        return table.save(channel);
+    }
+
+    @Override
+    public Optional<Channel> computeIfPresent(UUID id, UnaryOperator<Channel> remapping) {
+        return table.computeIfPresent(id, remapping);
+    }
+
+    @Override
+    public Optional<Channel> findById(UUID id) {
+        return table.findById(id);
+    }
+
+    @Override
+    public List<Channel> findAll() {
+        return table.findAll();
+    }
+
+    @Override
+    public Stream<Channel> streamAll() {
+        return table.streamAll();
+    }
+
+    @Override
+    public List<Channel> findAll(Query query) {
+        return table.query(query, QUERY_COLUMNS);
+    }
+
+    @Override
+    public Stream<Channel> stream(Query query) {
+        return table.stream(query, QUERY_COLUMNS);
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return table.explain(query, QUERY_COLUMNS);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        table.delete("id = ?", id);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return table.exists("id = ?", id);
+    }
+}
@@ -0,0 +1,119 @@
+package com.sprint.mission.discodeit.repository.jdbc;
+
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.QueryPlan;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static com.sprint.mission.discodeit.repository.jdbc.JdbcTable.*;
+
+@Repository
+@ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "jdbc")
+public class JdbcMessageRepository implements MessageRepository {
+    // Query 필드 이름 -> 컬럼 이름
+    private static final Map<String, String> QUERY_COLUMNS = Map.of(
+            "id", "id", "channelId", "channel_id", "authorId", "author_id", "sequence", "sequence",
+            "createdAt", "created_at", "updatedAt", "updated_at");
+
+    private final JdbcTable<Message> table;
+
+    public JdbcMessageRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.table = new JdbcTable<>(jdbcTemplate, transactionTemplate, "messages", Message.class,
+                List.of("id", "created_at", "updated_at", "version", "content", "channel_id", "author_id",
+                        "attachment_ids", "sequence"),
+                (rs, rowNum) -> {
+                    Array attachmentIds = rs.getArray("attachment_ids");
+                    return new Message(
+                            uuid(rs, "id"), instant(rs, "created_at"), instant(rs, "updated_at"),
+                            rs.getString("content"), uuid(rs, "channel_id"), uuid(rs, "author_id"),
+                            attachmentIds == null ? null
+                                    : Arrays.stream((Object[]) attachmentIds.getArray()).map(UUID.class::cast).toList(),
+                            rs.getLong("sequence"), rs.getLong("version"));
+                },
+                message -> new Object[]{
+                        message.getId(), timestamp(message.getCreatedAt()), timestamp(message.getUpdatedAt()), message.getVersion(),
+                        message.getContent(), message.getChannelId(), message.getAuthorId(),
+                        message.getAttachmentIds() == null ? null : message.getAttachmentIds().toArray(UUID[]::new),
+                        message.getSequence()});
+    }
+
+    @Override
+    public Message save(Message message) {
+        return table.save(message);
+    }
+
+    @Override
+    public Optional<Message> computeIfPresent(UUID id, UnaryOperator<Message> remapping) {
+        return table.computeIfPresent(id, remapping);
+    }
+
+    @Override
+    public List<Message> saveAll(List<Message> messages) {
+        // ingest writer의 배치를 한 번의 JDBC batch로 보낸다
+        return table.saveAll(messages);
+    }
+
+    @Override
+    public Optional<Message> findById(UUID id) {
+        return table.findById(id);
+    }
+
+    @Override
+    public List<Message> findAll() {
+        return table.findAll();
+    }
+
+    @Override
+    public Stream<Message> streamAll() {
+        return table.streamAll();
+    }
+
+    @Override
+    public List<Message> findAll(Query query) {
+        return table.query(query, QUERY_COLUMNS);
+    }
+
+    @Override
+    public Stream<Message> stream(Query query) {
+        return table.stream(query, QUERY_COLUMNS);
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return table.explain(query, QUERY_COLUMNS);
+    }
+
+    @Override
+    public List<Message> findAllByChannelId(UUID channelId) {
+        // (channel_id, sequence) 인덱스 순서 그대로 읽는다
+        return table.findAll("channel_id = ? ORDER BY sequence", channelId);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        table.delete("id = ?", id);
+    }
+
+    @Override
+    public void deleteAllByChannelId(UUID channelId) {
+        table.delete("channel_id = ?", channelId);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return table.exists("id = ?", id);
+    }
+}
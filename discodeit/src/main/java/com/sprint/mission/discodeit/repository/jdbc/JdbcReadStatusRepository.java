@@ -0,0 +1,111 @@
+package com.sprint.mission.discodeit.repository.jdbc;
+
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.QueryPlan;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static com.sprint.mission.discodeit.repository.jdbc.JdbcTable.*;
+
+@Repository
+@ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "jdbc")
+public class JdbcReadStatusRepository implements ReadStatusRepository {
+    // Query 필드 이름 -> 컬럼 이름
+    private static final Map<String, String> QUERY_COLUMNS = Map.of(
+            "id", "id", "userId", "user_id", "channelId", "channel_id", "lastReadAt", "last_read_at",
+            "createdAt", "created_at", "updatedAt", "updated_at");
+
+    private final JdbcTable<ReadStatus> table;
+
+    public JdbcReadStatusRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.table = new JdbcTable<>(jdbcTemplate, transactionTemplate, "read_statuses", ReadStatus.class,
+                List.of("id", "created_at", "updated_at", "version", "user_id", "channel_id", "last_read_at"),
+                (rs, rowNum) -> new ReadStatus(
+                        uuid(rs, "id"), instant(rs, "created_at"), instant(rs, "updated_at"),
+                        uuid(rs, "user_id"), uuid(rs, "channel_id"), instant(rs, "last_read_at"), rs.getLong("version")),
+                status -> new Object[]{
+                        status.getId(), timestamp(status.getCreatedAt()), timestamp(status.getUpdatedAt()), status.getVersion(),
+                        status.getUserId(), status.getChannelId(), timestamp(status.getLastReadAt())});
+    }
+
+    @Override
+    public ReadStatus save(ReadStatus readStatus) {
+        return table.save(readStatus);
+    }
+
+    @Override
+    public Optional<ReadStatus> computeIfPresent(UUID id, UnaryOperator<ReadStatus> remapping) {
+        return table.computeIfPresent(id, remapping);
+    }
+
+    @Override
+    public Optional<ReadStatus> findById(UUID id) {
+        return table.findById(id);
+    }
+
+    @Override
+    public List<ReadStatus> findAll() {
+        return table.findAll();
+    }
+
+    @Override
+    public Stream<ReadStatus> streamAll() {
+        return table.streamAll();
+    }
+
+    @Override
+    public List<ReadStatus> findAll(Query query) {
+        return table.query(query, QUERY_COLUMNS);
+    }
+
+    @Override
+    public Stream<ReadStatus> stream(Query query) {
+        return table.stream(query, QUERY_COLUMNS);
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return table.explain(query, QUERY_COLUMNS);
+    }
+
+    @Override
+    public List<ReadStatus> findAllByUserId(UUID userId) {
+        return table.findAll("user_id = ?", userId);
+    }
+
+    @Override
+    public List<ReadStatus> findAllByChannelId(UUID channelId) {
+        return table.findAll("channel_id = ?", channelId);
+    }
+
+    @Override
+    public Optional<ReadStatus> findByUserIdAndChannelId(UUID userId, UUID channelId) {
+        return table.findOne("user_id = ? AND channel_id = ?", userId, channelId);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        table.delete("id = ?", id);
+    }
+
+    @Override
+    public void deleteAllByChannelId(UUID channelId) {
+        table.delete("channel_id = ?", channelId);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return table.exists("id = ?", id);
+    }
+}
@@ -0,0 +1,196 @@
+package com.sprint.mission.discodeit.repository.jdbc;
+
+import com.sprint.mission.discodeit.entity.BaseEntity;
+import com.sprint.mission.discodeit.repository.query.Criterion;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.QueryPlan;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 엔티티 하나를 테이블 하나에 저장하는 공통 SQL
+ * 저장은 MERGE(KEY id) upsert이고 여러 건은 JDBC batch로 보낸다. 버전 비교가 필요한 수정은
+ * 트랜잭션 안에서 행을 SELECT ... FOR UPDATE로 잠근 뒤 처리해, 같은 행에 대한 수정만 직렬화된다.
+ *
+ * @param <T> 엔티티 타입 (columns의 첫 네 컬럼은 id, created_at, updated_at, version)
+ */
+class JdbcTable<T extends BaseEntity> {
+    // H2 EXPLAIN 결과에서 선택된 접근 경로: /* PUBLIC.IX_...: ... */, /* PUBLIC.PRIMARY_KEY_...: ... */, /* PUBLIC.TABLE.tableScan */
+    private static final Pattern ACCESS_PATH = Pattern.compile("/\\* PUBLIC\\.([A-Za-z0-9_.]+)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String table;
+    private final String entityName;
+    private final RowMapper<T> rowMapper;
+    private final Function<T, Object[]> toRow;
+    private final String selectSql;
+    private final String mergeSql;
+
+    JdbcTable(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, String table, Class<T> type,
+              List<String> columns, RowMapper<T> rowMapper, Function<T, Object[]> toRow) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.table = table;
+        this.entityName = type.getSimpleName();
+        this.rowMapper = rowMapper;
+        this.toRow = toRow;
+        String columnList = String.join(", ", columns);
+        this.selectSql = "SELECT " + columnList + " FROM " + table;
+        this.mergeSql = "MERGE INTO " + table + " (" + columnList + ") KEY (id) VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+    }
+
+    T save(T entity) {
+        jdbcTemplate.update(mergeSql, toRow.apply(entity));
+        return entity;
+    }
+
+    List<T> saveAll(List<T> entities) {
+        jdbcTemplate.batchUpdate(mergeSql, entities.stream().map(toRow).toList());
+        return entities;
+    }
+
+    Optional<T> findById(UUID id) {
+        return findOne("id = ?", id);
+    }
+
+    Optional<T> findOne(String where, Object... args) {
+        return jdbcTemplate.query(selectSql + " WHERE " + where + " LIMIT 1", rowMapper, args).stream().findFirst();
+    }
+
+    List<T> findAll() {
+        return jdbcTemplate.query(selectSql, rowMapper);
+    }
+
+    /**
+     * 커서를 열어 두고 행을 하나씩 읽는 지연 스트림. close할 때까지 연결 하나를 잡고 있으므로 반드시 닫아야 한다.
+     */
+    Stream<T> streamAll() {
+        return jdbcTemplate.queryForStream(selectSql, rowMapper);
+    }
+
+    List<T> findAll(String where, Object... args) {
+        return jdbcTemplate.query(selectSql + " WHERE " + where, rowMapper, args);
+    }
+
+    /**
+     * Query를 WHERE / ORDER BY / LIMIT로 바꿔 실행한다 (인덱스 선택은 DB가 한다)
+     *
+     * @param columns Query 필드 이름 -> 컬럼 이름
+     */
+    List<T> query(Query query, Map<String, String> columns) {
+        List<Object> args = new ArrayList<>();
+        String sql = selectSql + clauses(query, columns, args);
+        return jdbcTemplate.query(sql, rowMapper, args.toArray());
+    }
+
+    Stream<T> stream(Query query, Map<String, String> columns) {
+        List<Object> args = new ArrayList<>();
+        String sql = selectSql + clauses(query, columns, args);
+        return jdbcTemplate.queryForStream(sql, rowMapper, args.toArray());
+    }
+
+    QueryPlan explain(Query query, Map<String, String> columns) {
+        List<Object> args = new ArrayList<>();
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + selectSql + clauses(query, columns, args), String.class, args.toArray());
+        Matcher matcher = ACCESS_PATH.matcher(plan);
+        if (!matcher.find() || matcher.group(1).endsWith(".tableScan")) {
+            return new QueryPlan(QueryPlan.Strategy.FULL_SCAN, null, plan);
+        }
+        String index = matcher.group(1).toLowerCase(Locale.ROOT);
+        return index.startsWith("primary_key")
+                ? new QueryPlan(QueryPlan.Strategy.ID_LOOKUP, "id", plan)
+                : new QueryPlan(QueryPlan.Strategy.INDEX, index, plan);
+    }
+
+    void delete(String where, Object... args) {
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE " + where, args);
+    }
+
+    boolean exists(String where, Object... args) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM " + table + " WHERE " + where + " LIMIT 1", args).isEmpty();
+    }
+
+    Optional<T> computeIfPresent(UUID id, UnaryOperator<T> remapping) {
+        return transactionTemplate.execute(status -> {
+            List<T> current = jdbcTemplate.query(selectSql + " WHERE id = ? FOR UPDATE", rowMapper, id);
+            if (current.isEmpty()) {
+                return Optional.empty();
+            }
+            T previous = current.get(0);
+            T next = Objects.requireNonNull(remapping.apply(previous));
+            next.advanceVersionFrom(previous);
+            return Optional.of(save(next));
+        });
+    }
+
+    private String clauses(Query query, Map<String, String> columns, List<Object> args) {
+        StringBuilder sql = new StringBuilder();
+        for (Criterion criterion : query.criteria()) {
+            sql.append(sql.isEmpty() ? " WHERE " : " AND ").append(column(columns, criterion.field()));
+            switch (criterion.operator()) {
+                case EQ -> sql.append(" = ?");
+                case LT -> sql.append(" < ?");
+                case GT -> sql.append(" > ?");
+                // 빈 목록은 IN (NULL)로 보내 어떤 행과도 맞지 않게 한다
+                case IN -> sql.append(" IN (").append(criterion.values().isEmpty()
+                        ? "NULL"
+                        : String.join(", ", Collections.nCopies(criterion.values().size(), "?"))).append(")");
+            }
+            criterion.values().forEach(value -> args.add(parameter(value)));
+        }
+        if (query.sort() != null) {
+            sql.append(" ORDER BY ").append(column(columns, query.sort().field()))
+                    .append(query.sort().ascending() ? " ASC" : " DESC");
+        }
+        if (query.limit() > 0) {
+            sql.append(" LIMIT ").append(query.limit());
+        }
+        return sql.toString();
+    }
+
+    private String column(Map<String, String> columns, String field) {
+        String column = columns.get(field);
+        if (column == null) {
+            throw new IllegalArgumentException("Unknown " + entityName + " query field: " + field);
+        }
+        return column;
+    }
+
+    private static Object parameter(Object value) {
+        if (value instanceof Instant instant) {
+            return timestamp(instant);
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value;
+    }
+
+    static OffsetDateTime timestamp(Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
+
+    static Instant instant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value == null ? null : value.toInstant();
+    }
+
+    static UUID uuid(ResultSet rs, String column) throws SQLException {
+        return rs.getObject(column, UUID.class);
+    }
+}
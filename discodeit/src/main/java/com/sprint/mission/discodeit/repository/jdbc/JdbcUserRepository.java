@@ -0,0 +1,89 @@
+package com.sprint.mission.discodeit.repository.jdbc;
+
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static com.sprint.mission.discodeit.repository.jdbc.JdbcTable.*;
+
+@Repository
+@ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "jdbc")
+public class JdbcUserRepository implements UserRepository {
+    private final JdbcTable<User> table;
+
+    public JdbcUserRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.table = new JdbcTable<>(jdbcTemplate, transactionTemplate, "users", User.class,
+                List.of("id", "created_at", "updated_at", "version", "username", "email", "password", "profile_id"),
+                (rs, rowNum) -> new User(
+                        uuid(rs, "id"), instant(rs, "created_at"), instant(rs, "updated_at"),
+                        rs.getString("username"), rs.getString("email"), rs.getString("password"),
+                        uuid(rs, "profile_id"), rs.getLong("version")),
+                user -> new Object[]{
+                        user.getId(), timestamp(user.getCreatedAt()), timestamp(user.getUpdatedAt()), user.getVersion(),
+                        user.getUsername(), user.getEmail(), user.getPassword(), user.getProfileId()});
+    }
+
+    @Override
+    public User save(User user) {
+        return table.save(user);
+    }
+
+    @Override
+    public Optional<User> computeIfPresent(UUID id, UnaryOperator<User> remapping) {
+        return table.computeIfPresent(id, remapping);
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        return table.findById(id);
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return table.findOne("username = ?", username);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return table.findOne("email = ?", email);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return table.findAll();
+    }
+
+    @Override
+    public Stream<User> streamAll() {
+        return table.streamAll();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        table.delete("id = ?", id);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return table.exists("id = ?", id);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return table.exists("username = ?", username);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return table.exists("email = ?", email);
+    }
+}
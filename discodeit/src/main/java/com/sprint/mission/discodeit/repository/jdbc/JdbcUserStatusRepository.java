@@ -0,0 +1,83 @@
+package com.sprint.mission.discodeit.repository.jdbc;
+
+import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.repository.UserStatusRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static com.sprint.mission.discodeit.repository.jdbc.JdbcTable.*;
+
+@Repository
+@ConditionalOnProperty(name = "discodeit.repository.type", havingValue = "jdbc")
+public class JdbcUserStatusRepository implements UserStatusRepository {
+    private final JdbcTable<UserStatus> table;
+
+    public JdbcUserStatusRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.table = new JdbcTable<>(jdbcTemplate, transactionTemplate, "user_statuses", UserStatus.class,
+                List.of("id", "created_at", "updated_at", "version", "user_id", "last_active_at"),
+                (rs, rowNum) -> new UserStatus(
+                        uuid(rs, "id"), instant(rs, "created_at"), instant(rs, "updated_at"),
+                        uuid(rs, "user_id"), instant(rs, "last_active_at"), rs.getLong("version")),
+                status -> new Object[]{
+                        status.getId(), timestamp(status.getCreatedAt()), timestamp(status.getUpdatedAt()), status.getVersion(),
+                        status.getUserId(), timestamp(status.getLastActiveAt())});
+    }
+
+    @Override
+    public UserStatus save(UserStatus userStatus) {
+        return table.save(userStatus);
+    }
+
+    @Override
+    public Optional<UserStatus> computeIfPresent(UUID id, UnaryOperator<UserStatus> remapping) {
+        return table.computeIfPresent(id, remapping);
+    }
+
+    @Override
+    public Optional<UserStatus> findById(UUID id) {
+        return table.findById(id);
+    }
+
+    @Override
+    public Optional<UserStatus> findByUserId(UUID userId) {
+        return table.findOne("user_id = ?", userId);
+    }
+
+    @Override
+    public List<UserStatus> findAll() {
+        return table.findAll();
+    }
+
+    @Override
+    public Stream<UserStatus> streamAll() {
+        return table.streamAll();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        table.delete("id = ?", id);
+    }
+
+    @Override
+    public void deleteByUserId(UUID userId) {
+        table.delete("user_id = ?", userId);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return table.exists("id = ?", id);
+    }
+
+    @Override
+    public boolean existsByUserId(UUID userId) {
+        return table.exists("user_id = ?", userId);
+    }
+}
@@ -0,0 +1,44 @@
+package com.sprint.mission.discodeit.repository.query;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 필드 하나에 대한 조건. field는 엔티티의 getter 이름에서 get을 뺀 이름 (예: channelId, createdAt)
+ */
+public record Criterion(
+        String field,
+        Operator operator,
+        Object value   // IN이면 Collection
+) {
+    public enum Operator {
+        EQ,   // 같음
+        IN,   // 목록 중 하나
+        LT,   // 미만 (Comparable 필드)
+        GT    // 초과 (Comparable 필드)
+    }
+
+    public static Criterion eq(String field, Object value) {
+        return new Criterion(field, Operator.EQ, value);
+    }
+
+    public static Criterion in(String field, Collection<?> values) {
+        return new Criterion(field, Operator.IN, List.copyOf(values));
+    }
+
+    public static Criterion lt(String field, Comparable<?> value) {
+        return new Criterion(field, Operator.LT, value);
+    }
+
+    public static Criterion gt(String field, Comparable<?> value) {
+        return new Criterion(field, Operator.GT, value);
+    }
+
+    public Collection<?> values() {
+        return operator == Operator.IN ? (Collection<?>) value : List.of(value);
+    }
+
+    public boolean isLookup() {
+        return operator == Operator.EQ || operator == Operator.IN;
+    }
+}
@@ -0,0 +1,39 @@
+package com.sprint.mission.discodeit.repository.query;
+
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+
+/**
+ * Query로 조회할 수 있는 엔티티별 필드 (모든 저장소 백엔드가 같은 이름을 쓴다)
+ */
+public final class EntityFields {
+    public static final QueryFields<Channel> CHANNEL = QueryFields.of(Channel.class)
+            .field("id", Channel::getId)
+            .field("type", Channel::getType)
+            .field("name", Channel::getName)
+            .field("createdAt", Channel::getCreatedAt)
+            .field("updatedAt", Channel::getUpdatedAt)
+            .build();
+
+    public static final QueryFields<Message> MESSAGE = QueryFields.of(Message.class)
+            .field("id", Message::getId)
+            .field("channelId", Message::getChannelId)
+            .field("authorId", Message::getAuthorId)
+            .field("sequence", Message::getSequence)
+            .field("createdAt", Message::getCreatedAt)
+            .field("updatedAt", Message::getUpdatedAt)
+            .build();
+
+    public static final QueryFields<ReadStatus> READ_STATUS = QueryFields.of(ReadStatus.class)
+            .field("id", ReadStatus::getId)
+            .field("userId", ReadStatus::getUserId)
+            .field("channelId", ReadStatus::getChannelId)
+            .field("lastReadAt", ReadStatus::getLastReadAt)
+            .field("createdAt", ReadStatus::getCreatedAt)
+            .field("updatedAt", ReadStatus::getUpdatedAt)
+            .build();
+
+    private EntityFields() {
+    }
+}
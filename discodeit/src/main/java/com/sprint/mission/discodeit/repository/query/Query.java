@@ -0,0 +1,56 @@
+package com.sprint.mission.discodeit.repository.query;
+
+import java.util.List;
+
+/**
+ * 저장소에 넘기는 조회 조건 (모든 조건의 AND, 정렬, 최대 개수)
+ * 각 저장소는 가능한 인덱스로 후보를 좁힌 뒤 나머지 조건을 적용하고, 쓸 인덱스가 없을 때만 전체를 훑는다.
+ * 어떤 방식으로 실행되는지는 저장소의 explain(Query)로 확인할 수 있다.
+ */
+public final class Query {
+    private final List<Criterion> criteria;
+    private final Sort sort;   // null이면 순서 보장 없음
+    private final int limit;   // 0이면 제한 없음
+
+    private Query(List<Criterion> criteria, Sort sort, int limit) {
+        this.criteria = criteria;
+        this.sort = sort;
+        this.limit = limit;
+    }
+
+    public static Query where(Criterion... criteria) {
+        return new Query(List.of(criteria), null, 0);
+    }
+
+    public static Query all() {
+        return where();
+    }
+
+    public Query orderBy(Sort sort) {
+        return new Query(criteria, sort, limit);
+    }
+
+    public Query limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Query limit must not be negative: " + limit);
+        }
+        return new Query(criteria, sort, limit);
+    }
+
+    public List<Criterion> criteria() {
+        return criteria;
+    }
+
+    public Sort sort() {
+        return sort;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        return "Query" + criteria + (sort != null ? " order by " + sort : "") + (limit > 0 ? " limit " + limit : "");
+    }
+}
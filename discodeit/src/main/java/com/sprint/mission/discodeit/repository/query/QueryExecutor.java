@@ -0,0 +1,93 @@
+package com.sprint.mission.discodeit.repository.query;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 메모리/파일 저장소용 실행기
+ * id 조건이 있으면 id로 직접 읽고, 다음으로 EQ/IN 조건이 걸린 보조 인덱스가 있으면 그 후보만 읽는다.
+ * 둘 다 없을 때만 전체 스캔한다. 어떤 경우든 남은 조건, 정렬, limit는 후보 스트림에 적용한다.
+ */
+public final class QueryExecutor<T> {
+    private final QueryFields<T> fields;
+    private final Map<String, Function<Object, Collection<UUID>>> indexes;
+    private final Function<UUID, Optional<T>> findById;
+    private final Supplier<Stream<T>> scan;
+
+    /**
+     * @param indexes 필드 이름 -> (값 -> 그 값을 가진 엔티티 ID들). 순서대로 우선한다.
+     */
+    public QueryExecutor(QueryFields<T> fields, Map<String, Function<Object, Collection<UUID>>> indexes,
+                         Function<UUID, Optional<T>> findById, Supplier<Stream<T>> scan) {
+        this.fields = fields;
+        this.indexes = indexes;
+        this.findById = findById;
+        this.scan = scan;
+    }
+
+    public List<T> execute(Query query) {
+        try (Stream<T> result = stream(query)) {
+            return result.toList();
+        }
+    }
+
+    /**
+     * 후보를 필요할 때 읽는 지연 스트림. 정렬이 있으면 정렬 단계에서만 후보 전체를 모은다.
+     */
+    public Stream<T> stream(Query query) {
+        fields.validate(query);
+        return fields.apply(candidates(query), query);
+    }
+
+    public QueryPlan explain(Query query) {
+        fields.validate(query);
+        Optional<Criterion> byId = lookup(query, "id");
+        if (byId.isPresent()) {
+            return new QueryPlan(QueryPlan.Strategy.ID_LOOKUP, "id", describe(query));
+        }
+        return indexCriterion(query)
+                .map(criterion -> new QueryPlan(QueryPlan.Strategy.INDEX, criterion.field(), describe(query)))
+                .orElseGet(() -> new QueryPlan(QueryPlan.Strategy.FULL_SCAN, null, describe(query)));
+    }
+
+    private Stream<T> candidates(Query query) {
+        Optional<Criterion> byId = lookup(query, "id");
+        if (byId.isPresent()) {
+            return byId.get().values().stream()
+                    .map(id -> findById.apply((UUID) id))
+                    .flatMap(Optional::stream);
+        }
+        Optional<Criterion> indexed = indexCriterion(query);
+        if (indexed.isPresent()) {
+            Function<Object, Collection<UUID>> index = indexes.get(indexed.get().field());
+            return indexed.get().values().stream()
+                    .flatMap(value -> index.apply(value).stream())
+                    .distinct()
+                    .map(findById)
+                    .flatMap(Optional::stream);
+        }
+        return scan.get();
+    }
+
+    private Optional<Criterion> indexCriterion(Query query) {
+        for (String field : indexes.keySet()) {
+            Optional<Criterion> criterion = lookup(query, field);
+            if (criterion.isPresent()) {
+                return criterion;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Criterion> lookup(Query query, String field) {
+        return query.criteria().stream()
+                .filter(criterion -> criterion.field().equals(field) && criterion.isLookup())
+                .findFirst();
+    }
+
+    private static String describe(Query query) {
+        return query.toString();
+    }
+}
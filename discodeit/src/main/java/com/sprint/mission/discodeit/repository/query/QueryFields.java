@@ -0,0 +1,95 @@
+package com.sprint.mission.discodeit.repository.query;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 엔티티 타입별로 조회 가능한 필드와 값을 꺼내는 함수. 인덱스로 좁힌 후보나 전체 스캔에 조건, 정렬, limit를 적용한다.
+ */
+public final class QueryFields<T> {
+    private final String entityName;
+    private final Map<String, Function<T, ?>> accessors;
+
+    private QueryFields(String entityName, Map<String, Function<T, ?>> accessors) {
+        this.entityName = entityName;
+        this.accessors = accessors;
+    }
+
+    public static <T> Builder<T> of(Class<T> type) {
+        return new Builder<>(type.getSimpleName());
+    }
+
+    /**
+     * 알 수 없는 필드나 정렬할 수 없는 조건이면 IllegalArgumentException
+     */
+    public void validate(Query query) {
+        query.criteria().forEach(criterion -> accessor(criterion.field()));
+        if (query.sort() != null) {
+            accessor(query.sort().field());
+        }
+    }
+
+    public Stream<T> apply(Stream<T> candidates, Query query) {
+        validate(query);
+        Stream<T> result = candidates.filter(predicate(query));
+        if (query.sort() != null) {
+            result = result.sorted(comparator(query.sort()));
+        }
+        return query.limit() > 0 ? result.limit(query.limit()) : result;
+    }
+
+    public Predicate<T> predicate(Query query) {
+        Predicate<T> predicate = entity -> true;
+        for (Criterion criterion : query.criteria()) {
+            Function<T, ?> accessor = accessor(criterion.field());
+            predicate = predicate.and(entity -> matches(accessor.apply(entity), criterion));
+        }
+        return predicate;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Comparator<T> comparator(Sort sort) {
+        Function<T, ?> accessor = accessor(sort.field());
+        Comparator<T> comparator = Comparator.comparing(entity -> (Comparable) accessor.apply(entity),
+                Comparator.nullsFirst(Comparator.naturalOrder()));
+        return sort.ascending() ? comparator : comparator.reversed();
+    }
+
+    private Function<T, ?> accessor(String field) {
+        Function<T, ?> accessor = accessors.get(field);
+        if (accessor == null) {
+            throw new IllegalArgumentException("Unknown " + entityName + " query field: " + field);
+        }
+        return accessor;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean matches(Object actual, Criterion criterion) {
+        return switch (criterion.operator()) {
+            case EQ -> Objects.equals(actual, criterion.value());
+            case IN -> criterion.values().contains(actual);
+            case LT -> actual != null && ((Comparable) actual).compareTo(criterion.value()) < 0;
+            case GT -> actual != null && ((Comparable) actual).compareTo(criterion.value()) > 0;
+        };
+    }
+
+    public static final class Builder<T> {
+        private final String entityName;
+        private final Map<String, Function<T, ?>> accessors = new LinkedHashMap<>();
+
+        private Builder(String entityName) {
+            this.entityName = entityName;
+        }
+
+        public Builder<T> field(String name, Function<T, ?> accessor) {
+            accessors.put(name, accessor);
+            return this;
+        }
+
+        public QueryFields<T> build() {
+            return new QueryFields<>(entityName, Map.copyOf(accessors));
+        }
+    }
+}
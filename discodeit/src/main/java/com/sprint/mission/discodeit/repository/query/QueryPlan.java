@@ -0,0 +1,16 @@
+package com.sprint.mission.discodeit.repository.query;
+
+/**
+ * 저장소가 Query를 실행하는 방식
+ */
+public record QueryPlan(
+        Strategy strategy,
+        String index,    // 사용한 인덱스 (FULL_SCAN이면 null)
+        String detail    // 백엔드별 설명 (jdbc는 EXPLAIN 결과)
+) {
+    public enum Strategy {
+        ID_LOOKUP,   // id 조건으로 직접 조회
+        INDEX,       // 보조 인덱스로 후보를 좁힘
+        FULL_SCAN    // 모든 엔티티를 훑으며 조건 적용
+    }
+}
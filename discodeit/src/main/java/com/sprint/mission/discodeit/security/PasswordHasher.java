@@ -0,0 +1,138 @@
+package com.sprint.mission.discodeit.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PBKDF2(HmacSHA256) 비밀번호 해시
+ * 저장 형식: {@code pbkdf2$<반복 횟수>$<salt>$<hash>} (Base64)
+ * <p>
+ * 해시 한 번에 수십 ms의 CPU를 쓰므로 전용 플랫폼 스레드 풀에서만 계산한다.
+ * 풀과 대기열 크기가 고정되어 있어 대기열이 가득 차면 {@link RejectedExecutionException}으로
+ * 바로 거절하고(503), 로그인이 몰려도 메시지 처리 스레드의 CPU를 빼앗지 않는다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+    private static final String PREFIX = "pbkdf2";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    private final SecureRandom random = new SecureRandom();
+    private final ThreadPoolExecutor executor;
+    private final int iterations;
+    // 존재하지 않는 username도 같은 비용을 치르게 하기 위한 더미 해시
+    private final String dummyHash;
+
+    public PasswordHasher(
+            @Value("${discodeit.auth.pbkdf2-iterations:120000}") int iterations,
+            @Value("${discodeit.auth.hash-threads:0}") int threads,
+            @Value("${discodeit.auth.hash-queue-capacity:64}") int queueCapacity
+    ) {
+        this.iterations = iterations;
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger index = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> Thread.ofPlatform()
+                        .name("password-hash-" + index.getAndIncrement())
+                        .daemon(true)
+                        .unstarted(task),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.dummyHash = encode(new byte[SALT_BYTES], derive("dummy".toCharArray(), new byte[SALT_BYTES], iterations), iterations);
+    }
+
+    /**
+     * 새 salt로 비밀번호를 해시한다. 풀이 포화 상태면 RejectedExecutionException
+     */
+    public String hash(String rawPassword) {
+        return await(executor.submit(() -> {
+            byte[] salt = new byte[SALT_BYTES];
+            random.nextBytes(salt);
+            return encode(salt, derive(rawPassword.toCharArray(), salt, iterations), iterations);
+        }));
+    }
+
+    /**
+     * 저장된 값과 비밀번호를 비교한다. 해시 형식이 아닌 값은 이전 버전의 평문 비밀번호로 보고 그대로 비교한다.
+     * storedPassword가 null이면 더미 해시와 비교해 응답 시간을 맞추고 false를 돌려준다.
+     */
+    public boolean matches(String rawPassword, String storedPassword) {
+        String stored = storedPassword != null ? storedPassword : dummyHash;
+        boolean matched = await(executor.submit(() -> verify(rawPassword, stored)));
+        return matched && storedPassword != null;
+    }
+
+    /**
+     * 평문이거나 현재 설정보다 반복 횟수가 적은 해시면 다시 해시해야 한다
+     */
+    public boolean needsRehash(String storedPassword) {
+        String[] parts = storedPassword.split("\\$");
+        return parts.length != 4 || !PREFIX.equals(parts[0]) || Integer.parseInt(parts[1]) < iterations;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static boolean verify(String rawPassword, String stored) {
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4 || !PREFIX.equals(parts[0])) {
+            return MessageDigest.isEqual(
+                    stored.getBytes(StandardCharsets.UTF_8),
+                    rawPassword.getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        int rounds = Integer.parseInt(parts[1]);
+        byte[] salt = Base64.getDecoder().decode(parts[2]);
+        byte[] expected = Base64.getDecoder().decode(parts[3]);
+        return MessageDigest.isEqual(expected, derive(rawPassword.toCharArray(), salt, rounds));
+    }
+
+    private static byte[] derive(char[] password, byte[] salt, int rounds) {
+        PBEKeySpec spec = new PBEKeySpec(password, salt, rounds, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Password hashing failed", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private static String encode(byte[] salt, byte[] hash, int rounds) {
+        Base64.Encoder encoder = Base64.getEncoder();
+        return PREFIX + "$" + rounds + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash);
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new RejectedExecutionException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
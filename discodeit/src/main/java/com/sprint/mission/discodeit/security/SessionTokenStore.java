@@ -0,0 +1,85 @@
+package com.sprint.mission.discodeit.security;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 세션 토큰 저장소
+ * 토큰은 256bit 난수이며, 검증은 해시맵 조회 한 번이라 이후 요청에서는 비밀번호를 다시 해시하지 않는다.
+ * 만료된 토큰은 조회 시점과 1분 주기 정리 작업에서 제거한다.
+ */
+@Component
+public class SessionTokenStore {
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final ScheduledExecutorService sweeper;
+
+    public SessionTokenStore(@Value("${discodeit.auth.session-ttl-minutes:1440}") long ttlMinutes) {
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("session-sweeper").daemon(true).factory());
+        sweeper.scheduleWithFixedDelay(this::removeExpired, 1, 1, TimeUnit.MINUTES);
+    }
+
+    public String issue(UUID userId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        sessions.put(token, new Session(userId, Instant.now().plus(ttl)));
+        return token;
+    }
+
+    public Optional<UUID> resolve(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        Session session = sessions.get(token);
+        if (session == null) {
+            return Optional.empty();
+        }
+        if (session.expiresAt().isBefore(Instant.now())) {
+            sessions.remove(token, session);
+            return Optional.empty();
+        }
+        return Optional.of(session.userId());
+    }
+
+    public void revoke(String token) {
+        if (token != null) {
+            sessions.remove(token);
+        }
+    }
+
+    // 사용자 삭제 시 남아 있는 세션을 모두 끊는다
+    public void revokeAll(UUID userId) {
+        sessions.values().removeIf(session -> session.userId().equals(userId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    private void removeExpired() {
+        Instant now = Instant.now();
+        sessions.values().removeIf(session -> session.expiresAt().isBefore(now));
+    }
+
+    private record Session(UUID userId, Instant expiresAt) {}
+}
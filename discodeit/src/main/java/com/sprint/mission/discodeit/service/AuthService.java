@@ -1,8 +1,11 @@
 package com.sprint.mission.discodeit.service;
 
 import com.sprint.mission.discodeit.dto.request.LoginRequest;
+import com.sprint.mission.discodeit.dto.response.LoginResponse;
 import com.sprint.mission.discodeit.dto.response.UserResponse;
 
 public interface AuthService {
-    UserResponse login(LoginRequest request);
-}
\ No newline at end of file
+    LoginResponse login(LoginRequest request);
+    UserResponse findByToken(String token);
+    void logout(String token);
+}
@@ -8,6 +8,7 @@ import java.util.UUID;
 public interface BinaryContentService {
     BinaryContent create(BinaryContentCreateRequest request);
     BinaryContent find(UUID id);
+    BinaryContent findVariant(UUID id, int size);
     List<BinaryContent> findAllByIdIn(List<UUID> ids);
     void delete(UUID id);
 }
\ No newline at end of file
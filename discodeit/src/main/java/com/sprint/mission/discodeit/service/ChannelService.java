@@ -1,5 +1,6 @@
 package com.sprint.mission.discodeit.service;
 
+import com.sprint.mission.discodeit.dto.request.ChannelRetentionRequest;
 import com.sprint.mission.discodeit.dto.request.ChannelUpdateRequest;
 import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
@@ -13,5 +14,6 @@ public interface ChannelService {
     ChannelResponse find(UUID id);
     List<ChannelResponse> findAllByUserId(UUID userId);
     ChannelResponse update(UUID id, ChannelUpdateRequest request);
+    ChannelResponse updateRetention(UUID id, ChannelRetentionRequest request);
     void delete(UUID id);
 }
\ No newline at end of file
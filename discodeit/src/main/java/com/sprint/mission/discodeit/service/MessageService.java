@@ -6,11 +6,15 @@ import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
 import com.sprint.mission.discodeit.dto.response.MessageResponse;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public interface MessageService {
     MessageResponse create(MessageCreateRequest request, List<BinaryContentCreateRequest> attachmentRequests);
+    CompletableFuture<MessageResponse> createAsync(MessageCreateRequest request, List<BinaryContentCreateRequest> attachmentRequests);
     MessageResponse find(UUID id);
-    List<MessageResponse> findAllByChannelId(UUID channelId);
+    List<MessageResponse> findAllByChannelId(UUID channelId, long afterSequence, int limit);
+    Stream<MessageResponse> streamAllByChannelId(UUID channelId, long afterSequence, int limit);  // findAllByChannelId의 지연 스트림 (반드시 close)
     MessageResponse update(UUID id, MessageUpdateRequest request);
     void delete(UUID id);
 }
\ No newline at end of file
@@ -1,34 +1,73 @@
 package com.sprint.mission.discodeit.service.basic;
 
 import com.sprint.mission.discodeit.dto.request.LoginRequest;
+import com.sprint.mission.discodeit.dto.response.LoginResponse;
 import com.sprint.mission.discodeit.dto.response.UserResponse;
 import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.entity.UserStatus;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.repository.UserStatusRepository;
+import com.sprint.mission.discodeit.security.PasswordHasher;
+import com.sprint.mission.discodeit.security.SessionTokenStore;
 import com.sprint.mission.discodeit.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class BasicAuthService implements AuthService {
     private final UserRepository userRepository;
     private final UserStatusRepository userStatusRepository;
+    private final PasswordHasher passwordHasher;
+    private final SessionTokenStore sessionTokenStore;
 
     @Override
-    public UserResponse login(LoginRequest request) {
-        // username으로 User 조회
-        User user = userRepository.findByUsername(request.username())
-                .orElseThrow(() -> new NoSuchElementException("Invalid username or password"));
+    public LoginResponse login(LoginRequest request) {
+        // username으로 User 조회 (없어도 더미 해시로 비교해 응답 시간을 맞춘다)
+        User user = userRepository.findByUsername(request.username()).orElse(null);
 
-        // password 확인
-        if (!user.getPassword().equals(request.password())) {
+        // password 확인 (전용 해시 풀에서 검증)
+        if (!passwordHasher.matches(request.password(), user != null ? user.getPassword() : null)) {
             throw new NoSuchElementException("Invalid username or password");
         }
 
+        // 평문으로 저장된 이전 비밀번호는 로그인 성공 시 해시로 교체
+        // (해시는 저장소 밖에서 미리 만들고, 그 사이 다른 요청이 비밀번호를 바꿨다면 그대로 둔다)
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            String verified = user.getPassword();
+            String rehashed = passwordHasher.hash(request.password());
+            user = userRepository.computeIfPresent(user.getId(), current -> {
+                        if (Objects.equals(current.getPassword(), verified)) {
+                            current.update(null, null, rehashed, null);
+                        }
+                        return current;
+                    })
+                    .orElse(user);
+        }
+
+        String token = sessionTokenStore.issue(user.getId());
+        return new LoginResponse(token, toUserResponse(user));
+    }
+
+    @Override
+    public UserResponse findByToken(String token) {
+        UUID userId = sessionTokenStore.resolve(token)
+                .orElseThrow(() -> new NoSuchElementException("Invalid or expired session"));
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NoSuchElementException("User not found: " + userId));
+        return toUserResponse(user);
+    }
+
+    @Override
+    public void logout(String token) {
+        sessionTokenStore.revoke(token);
+    }
+
+    private UserResponse toUserResponse(User user) {
         // 온라인 상태 확인
         boolean isOnline = userStatusRepository.findByUserId(user.getId())
                 .map(UserStatus::isOnline)
@@ -44,4 +83,4 @@ public class BasicAuthService implements AuthService {
                 user.getUpdatedAt()
         );
     }
-}
\ No newline at end of file
+}
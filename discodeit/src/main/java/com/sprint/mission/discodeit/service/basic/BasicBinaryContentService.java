@@ -4,6 +4,7 @@ import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.service.BinaryContentService;
+import com.sprint.mission.discodeit.service.thumbnail.ThumbnailGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -15,6 +16,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class BasicBinaryContentService implements BinaryContentService {
     private final BinaryContentRepository binaryContentRepository;
+    private final ThumbnailGenerator thumbnailGenerator;
 
     @Override
     public BinaryContent create(BinaryContentCreateRequest request) {
@@ -32,6 +34,12 @@ public class BasicBinaryContentService implements BinaryContentService {
                 .orElseThrow(() -> new NoSuchElementException("BinaryContent not found: " + id));
     }
 
+    // 요청 크기에 가장 잘 맞는 축소본 (아직 생성 전이거나 이미지가 아니면 원본)
+    @Override
+    public BinaryContent findVariant(UUID id, int size) {
+        return thumbnailGenerator.selectBestFit(find(id), size);
+    }
+
     @Override
     public List<BinaryContent> findAllByIdIn(List<UUID> ids) {
         return binaryContentRepository.findAllByIdIn(ids);
@@ -39,6 +47,6 @@ public class BasicBinaryContentService implements BinaryContentService {
 
     @Override
     public void delete(UUID id) {
-        binaryContentRepository.deleteById(id);
+        thumbnailGenerator.deleteWithVariants(id);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.sprint.mission.discodeit.service.basic;
 
+import com.sprint.mission.discodeit.dto.request.ChannelRetentionRequest;
 import com.sprint.mission.discodeit.dto.request.ChannelUpdateRequest;
 import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
@@ -8,18 +9,25 @@ import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.Message;
 import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.entity.RetentionAction;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import com.sprint.mission.discodeit.repository.query.Criterion;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.Sort;
 import com.sprint.mission.discodeit.service.ChannelService;
+import com.sprint.mission.discodeit.service.retention.MessageArchive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +36,7 @@ public class BasicChannelService implements ChannelService {
     private final ReadStatusRepository readStatusRepository;
     private final MessageRepository messageRepository;
     private final BinaryContentRepository binaryContentRepository;
+    private final MessageArchive messageArchive;
 
     @Override
     public ChannelResponse createPublic(PublicChannelCreateRequest request) {
@@ -60,34 +69,51 @@ public class BasicChannelService implements ChannelService {
 
     @Override
     public List<ChannelResponse> findAllByUserId(UUID userId) {
-        List<Channel> allChannels = channelRepository.findAll();
-
-        return allChannels.stream()
-                .filter(channel -> {
-                    if (channel.getType() == ChannelType.PUBLIC) {
-                        // PUBLIC 채널은 모두 조회 가능
-                        return true;
-                    } else {
-                        // PRIVATE 채널은 참여한 User만 조회 가능
-                        return readStatusRepository.findByUserIdAndChannelId(userId, channel.getId()).isPresent();
-                    }
-                })
+        // PUBLIC 채널은 모두, PRIVATE 채널은 참여한(ReadStatus가 있는) 채널만 조회 가능
+        List<Channel> publicChannels = channelRepository.findAll(Query.where(Criterion.eq("type", ChannelType.PUBLIC)));
+        List<UUID> joinedChannelIds = readStatusRepository.findAll(Query.where(Criterion.eq("userId", userId))).stream()
+                .map(ReadStatus::getChannelId)
+                .toList();
+        List<Channel> privateChannels = joinedChannelIds.isEmpty()
+                ? List.of()
+                : channelRepository.findAll(Query.where(
+                        Criterion.in("id", joinedChannelIds),
+                        Criterion.eq("type", ChannelType.PRIVATE)));
+
+        return Stream.concat(publicChannels.stream(), privateChannels.stream())
                 .map(this::toChannelResponse)
                 .toList();
     }
 
     @Override
     public ChannelResponse update(UUID id, ChannelUpdateRequest request) {
-        Channel channel = channelRepository.findById(id)
+        Channel savedChannel = channelRepository.computeIfPresent(id, channel -> {
+                    // PRIVATE 채널은 수정 불가
+                    if (channel.getType() == ChannelType.PRIVATE) {
+                        throw new IllegalArgumentException("Private channel cannot be updated");
+                    }
+                    channel.checkVersion(request.expectedVersion());
+                    channel.update(request.name(), request.description());
+                    return channel;
+                })
                 .orElseThrow(() -> new NoSuchElementException("Channel not found: " + id));
+        return toChannelResponse(savedChannel);
+    }
 
-        // PRIVATE 채널은 수정 불가
-        if (channel.getType() == ChannelType.PRIVATE) {
-            throw new IllegalArgumentException("Private channel cannot be updated");
+    @Override
+    public ChannelResponse updateRetention(UUID id, ChannelRetentionRequest request) {
+        if (request.retentionDays() != null && request.retentionDays() < 0) {
+            throw new IllegalArgumentException("Retention days must not be negative: " + request.retentionDays());
         }
-
-        channel.update(request.name(), request.description());
-        Channel savedChannel = channelRepository.save(channel);
+        // 보관 세그먼트는 복제되지 않으므로 복제 리더에서는 ARCHIVE를 받지 않는다
+        if (request.retentionAction() == RetentionAction.ARCHIVE && !messageArchive.isAvailable()) {
+            throw new IllegalArgumentException("ARCHIVE retention is not supported on a replication leader");
+        }
+        Channel savedChannel = channelRepository.computeIfPresent(id, channel -> {
+                    channel.updateRetention(request.retentionDays(), request.retentionAction());
+                    return channel;
+                })
+                .orElseThrow(() -> new NoSuchElementException("Channel not found: " + id));
         return toChannelResponse(savedChannel);
     }
 
@@ -96,17 +122,21 @@ public class BasicChannelService implements ChannelService {
         Channel channel = channelRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("Channel not found: " + id));
 
-        // 관련 Message의 첨부파일 삭제 후 Message 삭제
-        List<Message> messages = messageRepository.findAllByChannelId(id);
-        for (Message message : messages) {
-            if (message.getAttachmentIds() != null) {
-                for (UUID attachmentId : message.getAttachmentIds()) {
-                    binaryContentRepository.deleteById(attachmentId);
-                }
-            }
+        // 관련 Message(보관된 메시지 포함)의 첨부파일을 동시에 삭제한 뒤 Message 삭제
+        // 첨부파일 id를 먼저 모으고 스트림을 닫은 뒤 지운다 (jdbc에서는 열린 스트림이 커넥션 하나를 계속 붙잡는다)
+        List<UUID> attachmentIds = new ArrayList<>(messageArchive.attachmentIds(id));
+        try (Stream<Message> messages = messageRepository.streamAllByChannelId(id)) {
+            messages.filter(message -> message.getAttachmentIds() != null)
+                    .forEach(message -> attachmentIds.addAll(message.getAttachmentIds()));
         }
+        Futures.joinAll(attachmentIds.stream()
+                .map(binaryContentRepository::deleteByIdAsync)
+                .toList());
         messageRepository.deleteAllByChannelId(id);
 
+        // 보관된 메시지 삭제
+        messageArchive.deleteChannel(id);
+
         // 관련 ReadStatus 삭제
         readStatusRepository.deleteAllByChannelId(id);
         // Channel 삭제
@@ -114,10 +144,13 @@ public class BasicChannelService implements ChannelService {
     }
 
     private ChannelResponse toChannelResponse(Channel channel) {
-        // 최근 메시지 시간 조회
-        Instant lastMessageAt = messageRepository.findAllByChannelId(channel.getId()).stream()
+        // 최근 메시지 시간 조회 (채널 안의 순서는 sequence이고, jdbc에서는 (channel_id, sequence) 인덱스를 거꾸로 한 행만 읽는다)
+        Instant lastMessageAt = messageRepository.findAll(Query.where(Criterion.eq("channelId", channel.getId()))
+                        .orderBy(Sort.desc("sequence"))
+                        .limit(1))
+                .stream()
                 .map(Message::getCreatedAt)
-                .max(Instant::compareTo)
+                .findFirst()
                 .orElse(null);
 
         // PRIVATE 채널인 경우 참여자 ID 목록 조회
@@ -135,8 +168,11 @@ public class BasicChannelService implements ChannelService {
                 channel.getDescription(),
                 participantIds,
                 lastMessageAt,
+                channel.getRetentionDays(),
+                channel.getRetentionAction(),
                 channel.getCreatedAt(),
-                channel.getUpdatedAt()
+                channel.getUpdatedAt(),
+                channel.getVersion()
         );
     }
 }
\ No newline at end of file
@@ -6,36 +6,74 @@ import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
 import com.sprint.mission.discodeit.dto.response.MessageResponse;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.event.ChannelEventBroker;
+import com.sprint.mission.discodeit.event.MessageEvent;
+import com.sprint.mission.discodeit.ratelimit.MessageRateLimiter;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.query.Criterion;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.Sort;
 import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.service.ingest.MessageIngestPipeline;
+import com.sprint.mission.discodeit.service.retention.MessageArchive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Service
 @RequiredArgsConstructor
 public class BasicMessageService implements MessageService {
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final MessageRepository messageRepository;
     private final BinaryContentRepository binaryContentRepository;
+    private final ChannelEventBroker channelEventBroker;
+    private final MessageIngestPipeline messageIngestPipeline;
+    private final MessageRateLimiter messageRateLimiter;
+    private final MessageArchive messageArchive;
 
     @Override
     public MessageResponse create(MessageCreateRequest request, List<BinaryContentCreateRequest> attachmentRequests) {
-        // 첨부파일 저장 (선택적)
-        List<UUID> attachmentIds = new ArrayList<>();
+        return Futures.join(createAsync(request, attachmentRequests));
+    }
+
+    @Override
+    public CompletableFuture<MessageResponse> createAsync(MessageCreateRequest request, List<BinaryContentCreateRequest> attachmentRequests) {
+        // 작성자/채널별 빈도 제한 (저장 작업 전에 거절)
+        long attachmentBytes = 0;
+        if (attachmentRequests != null) {
+            for (BinaryContentCreateRequest attachmentRequest : attachmentRequests) {
+                attachmentBytes += attachmentRequest.data().length;
+            }
+        }
+        messageRateLimiter.acquire(request.authorId(), request.channelId(), attachmentBytes);
+
+        // 첨부파일 저장 (선택적, 없으면 공유되는 빈 리스트 사용)
+        // ID는 생성 시 정해지므로 저장 완료를 기다리지 않고 모두 동시에 시작한다
+        List<UUID> attachmentIds = List.of();
+        List<CompletableFuture<BinaryContent>> attachmentWrites = List.of();
         if (attachmentRequests != null && !attachmentRequests.isEmpty()) {
+            attachmentIds = new ArrayList<>(attachmentRequests.size());
+            attachmentWrites = new ArrayList<>(attachmentRequests.size());
             for (BinaryContentCreateRequest attachmentRequest : attachmentRequests) {
                 BinaryContent attachment = new BinaryContent(
                         attachmentRequest.fileName(),
                         attachmentRequest.contentType(),
                         attachmentRequest.data()
                 );
-                BinaryContent savedAttachment = binaryContentRepository.save(attachment);
-                attachmentIds.add(savedAttachment.getId());
+                attachmentWrites.add(binaryContentRepository.saveAsync(attachment));
+                attachmentIds.add(attachment.getId());
             }
         }
 
@@ -46,8 +84,14 @@ public class BasicMessageService implements MessageService {
                 request.authorId(),
                 attachmentIds
         );
-        Message savedMessage = messageRepository.save(message);
-        return toMessageResponse(savedMessage);
+        // 첨부파일이 모두 저장된 뒤 채널 샤드의 writer가 순번을 부여하고 저장한다
+        return CompletableFuture.allOf(attachmentWrites.toArray(CompletableFuture[]::new))
+                .thenCompose(saved -> messageIngestPipeline.submit(message))
+                .thenApply(savedMessage -> {
+                    MessageResponse response = toMessageResponse(savedMessage);
+                    channelEventBroker.publish(MessageEvent.created(response));
+                    return response;
+                });
     }
 
     @Override
@@ -57,20 +101,47 @@ public class BasicMessageService implements MessageService {
         return toMessageResponse(message);
     }
 
+    /**
+     * 순번이 afterSequence보다 큰 메시지를 순번 순으로 최대 limit개 (다음 페이지는 마지막 순번을 afterSequence로 요청)
+     */
+    @Override
+    public List<MessageResponse> findAllByChannelId(UUID channelId, long afterSequence, int limit) {
+        try (Stream<MessageResponse> messages = streamAllByChannelId(channelId, afterSequence, limit)) {
+            return messages.toList();
+        }
+    }
+
     @Override
-    public List<MessageResponse> findAllByChannelId(UUID channelId) {
-        return messageRepository.findAllByChannelId(channelId).stream()
-                .map(this::toMessageResponse)
-                .toList();
+    public Stream<MessageResponse> streamAllByChannelId(UUID channelId, long afterSequence, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE + ": " + limit);
+        }
+        // 보관소로 옮겨진 메시지도 함께 조회한다. 양쪽에서 각각 구간의 앞쪽 limit개만 순번 순으로 읽어 합치면
+        // 합친 결과의 앞쪽 limit개가 정확하다. 보관분(limit개 이하)만 메모리에 두고 저장소 쪽은 스트림 그대로 흘려 보낸다.
+        List<Message> archived = messageArchive.readChannel(channelId, afterSequence, limit);
+        Stream<Message> hot = messageRepository.stream(Query.where(
+                        Criterion.eq("channelId", channelId),
+                        Criterion.gt("sequence", afterSequence))
+                .orderBy(Sort.asc("sequence"))
+                .limit(limit));
+        SequenceMerge merge = new SequenceMerge(archived, hot.iterator());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merge, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(hot::close)
+                .limit(limit)
+                .map(this::toMessageResponse);
     }
 
     @Override
     public MessageResponse update(UUID id, MessageUpdateRequest request) {
-        Message message = messageRepository.findById(id)
+        Message savedMessage = messageRepository.computeIfPresent(id, message -> {
+                    message.checkVersion(request.expectedVersion());
+                    message.update(request.content());
+                    return message;
+                })
                 .orElseThrow(() -> new NoSuchElementException("Message not found: " + id));
-        message.update(request.content());
-        Message savedMessage = messageRepository.save(message);
-        return toMessageResponse(savedMessage);
+        MessageResponse response = toMessageResponse(savedMessage);
+        channelEventBroker.publish(MessageEvent.updated(response));
+        return response;
     }
 
     @Override
@@ -78,15 +149,62 @@ public class BasicMessageService implements MessageService {
         Message message = messageRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("Message not found: " + id));
 
-        // 첨부파일 삭제
+        // 첨부파일과 Message를 동시에 삭제
+        List<CompletableFuture<Void>> deletes = new ArrayList<>();
         if (message.getAttachmentIds() != null) {
             for (UUID attachmentId : message.getAttachmentIds()) {
-                binaryContentRepository.deleteById(attachmentId);
+                deletes.add(binaryContentRepository.deleteByIdAsync(attachmentId));
             }
         }
+        deletes.add(messageRepository.deleteByIdAsync(id));
+        Futures.joinAll(deletes);
+        channelEventBroker.publish(MessageEvent.deleted(message.getChannelId(), id));
+    }
+
+    /**
+     * 순번 순으로 정렬된 보관 메시지 목록과 저장소 스트림을 순번 순으로 합친다.
+     * 옮기는 도중이라 양쪽에 있는 메시지(같은 id)는 저장소 쪽을 사용한다.
+     */
+    private static final class SequenceMerge implements Iterator<Message> {
+        private final List<Message> archived;
+        private final Iterator<Message> hot;
+        private int archivedIndex;
+        private Message nextHot;
+
+        SequenceMerge(List<Message> archived, Iterator<Message> hot) {
+            this.archived = archived;
+            this.hot = hot;
+        }
 
-        // Message 삭제
-        messageRepository.deleteById(id);
+        @Override
+        public boolean hasNext() {
+            return archivedIndex < archived.size() || nextHot != null || hot.hasNext();
+        }
+
+        @Override
+        public Message next() {
+            if (nextHot == null && hot.hasNext()) {
+                nextHot = hot.next();
+            }
+            while (archivedIndex < archived.size()) {
+                Message candidate = archived.get(archivedIndex);
+                if (nextHot != null && candidate.getId().equals(nextHot.getId())) {
+                    archivedIndex++;   // 저장소 쪽 사용
+                    continue;
+                }
+                if (nextHot == null || candidate.getSequence() < nextHot.getSequence()) {
+                    archivedIndex++;
+                    return candidate;
+                }
+                break;
+            }
+            if (nextHot == null) {
+                throw new NoSuchElementException();
+            }
+            Message result = nextHot;
+            nextHot = null;
+            return result;
+        }
     }
 
     private MessageResponse toMessageResponse(Message message) {
@@ -96,8 +214,10 @@ public class BasicMessageService implements MessageService {
                 message.getChannelId(),
                 message.getAuthorId(),
                 message.getAttachmentIds(),
+                message.getSequence(),
                 message.getCreatedAt(),
-                message.getUpdatedAt()
+                message.getUpdatedAt(),
+                message.getVersion()
         );
     }
 }
\ No newline at end of file
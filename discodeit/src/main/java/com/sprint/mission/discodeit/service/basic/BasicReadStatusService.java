@@ -57,10 +57,11 @@ public class BasicReadStatusService implements ReadStatusService {
 
     @Override
     public ReadStatus update(UUID id, ReadStatusUpdateRequest request) {
-        ReadStatus readStatus = readStatusRepository.findById(id)
+        return readStatusRepository.computeIfPresent(id, readStatus -> {
+                    readStatus.update(request.lastReadAt());
+                    return readStatus;
+                })
                 .orElseThrow(() -> new NoSuchElementException("ReadStatus not found: " + id));
-        readStatus.update(request.lastReadAt());
-        return readStatusRepository.save(readStatus);
     }
 
     @Override
@@ -10,14 +10,20 @@ import com.sprint.mission.discodeit.entity.UserStatus;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.repository.UserStatusRepository;
+import com.sprint.mission.discodeit.security.PasswordHasher;
+import com.sprint.mission.discodeit.security.SessionTokenStore;
 import com.sprint.mission.discodeit.service.UserService;
+import com.sprint.mission.discodeit.service.thumbnail.ThumbnailGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +31,9 @@ public class BasicUserService implements UserService {
     private final UserRepository userRepository;
     private final BinaryContentRepository binaryContentRepository;
     private final UserStatusRepository userStatusRepository;
+    private final PasswordHasher passwordHasher;
+    private final SessionTokenStore sessionTokenStore;
+    private final ThumbnailGenerator thumbnailGenerator;
 
     @Override
     public UserResponse create(UserCreateRequest request, BinaryContentCreateRequest profileRequest) {
@@ -37,38 +46,47 @@ public class BasicUserService implements UserService {
             throw new IllegalArgumentException("Email already exists: " + request.email());
         }
 
-        // 프로필 이미지 저장 (선택적)
-        UUID profileId = null;
+        // 프로필 이미지, User, UserStatus는 서로의 저장 결과가 필요 없으므로 (ID는 생성 시 정해짐) 동시에 저장한다
+        List<CompletableFuture<?>> writes = new ArrayList<>(3);
+        BinaryContent profile = null;
         if (profileRequest != null) {
-            BinaryContent profile = new BinaryContent(
+            profile = new BinaryContent(
                     profileRequest.fileName(),
                     profileRequest.contentType(),
                     profileRequest.data()
             );
-            profileId = binaryContentRepository.save(profile).getId();
+            writes.add(binaryContentRepository.saveAsync(profile));
         }
 
-        // User 생성
+        // User 생성 (비밀번호는 해시로 저장, 해시 계산 중에도 프로필 저장은 진행됨)
         User user = new User(
                 request.username(),
                 request.email(),
-                request.password(),
-                profileId
+                passwordHasher.hash(request.password()),
+                profile != null ? profile.getId() : null
         );
-        User savedUser = userRepository.save(user);
+        writes.add(userRepository.saveAsync(user));
 
         // UserStatus 생성
-        UserStatus userStatus = new UserStatus(savedUser.getId(), Instant.now());
-        userStatusRepository.save(userStatus);
+        UserStatus userStatus = new UserStatus(user.getId(), Instant.now());
+        writes.add(userStatusRepository.saveAsync(userStatus));
+        Futures.joinAll(writes);
+
+        if (profile != null) {
+            // 아바타용 축소본은 백그라운드에서 생성
+            thumbnailGenerator.enqueue(profile);
+        }
 
-        return toUserResponse(savedUser, true);
+        return toUserResponse(user, true);
     }
 
     @Override
     public UserResponse find(UUID id) {
-        User user = userRepository.findById(id)
+        // User와 UserStatus 조회를 겹쳐 실행
+        CompletableFuture<Optional<User>> found = userRepository.findByIdAsync(id);
+        boolean isOnline = getOnlineStatus(id);
+        User user = Futures.join(found)
                 .orElseThrow(() -> new NoSuchElementException("User not found: " + id));
-        boolean isOnline = getOnlineStatus(user.getId());
         return toUserResponse(user, isOnline);
     }
 
@@ -81,27 +99,37 @@ public class BasicUserService implements UserService {
 
     @Override
     public UserResponse update(UUID id, UserUpdateRequest request, BinaryContentCreateRequest profileRequest) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("User not found: " + id));
+        if (!userRepository.existsById(id)) {
+            throw new NoSuchElementException("User not found: " + id);
+        }
 
-        // 프로필 이미지 대체 (선택적)
-        UUID newProfileId = user.getProfileId();
+        // 새 프로필 이미지 저장 (선택적)
+        UUID newProfileId = null;
         if (profileRequest != null) {
-            // 기존 프로필 이미지 삭제
-            if (user.getProfileId() != null) {
-                binaryContentRepository.deleteById(user.getProfileId());
-            }
-            // 새 프로필 이미지 저장
             BinaryContent profile = new BinaryContent(
                     profileRequest.fileName(),
                     profileRequest.contentType(),
                     profileRequest.data()
             );
             newProfileId = binaryContentRepository.save(profile).getId();
+            thumbnailGenerator.enqueue(profile);
         }
+        // 해시는 비용이 크므로 재시도 밖에서 한 번만 계산
+        String passwordHash = request.password() != null ? passwordHasher.hash(request.password()) : null;
+
+        UUID profileId = newProfileId;
+        UUID[] replacedProfileId = new UUID[1];
+        User savedUser = userRepository.computeIfPresent(id, user -> {
+                    replacedProfileId[0] = user.getProfileId();
+                    user.update(request.username(), request.email(), passwordHash, profileId);
+                    return user;
+                })
+                .orElseThrow(() -> new NoSuchElementException("User not found: " + id));
 
-        user.update(request.username(), request.email(), request.password(), newProfileId);
-        User savedUser = userRepository.save(user);
+        // 대체된 기존 프로필 이미지 삭제
+        if (profileId != null && replacedProfileId[0] != null) {
+            thumbnailGenerator.deleteWithVariants(replacedProfileId[0]);
+        }
 
         boolean isOnline = getOnlineStatus(savedUser.getId());
         return toUserResponse(savedUser, isOnline);
@@ -112,14 +140,16 @@ public class BasicUserService implements UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("User not found: " + id));
 
-        // 프로필 이미지 삭제
+        // 프로필 이미지와 축소본 삭제
         if (user.getProfileId() != null) {
-            binaryContentRepository.deleteById(user.getProfileId());
+            thumbnailGenerator.deleteWithVariants(user.getProfileId());
         }
-        // UserStatus 삭제
+        // User 삭제와 UserStatus 삭제를 겹쳐 실행
+        CompletableFuture<Void> userDeleted = userRepository.deleteByIdAsync(id);
         userStatusRepository.deleteByUserId(id);
-        // User 삭제
-        userRepository.deleteById(id);
+        Futures.join(userDeleted);
+        // 남아 있는 로그인 세션 종료
+        sessionTokenStore.revokeAll(id);
     }
 
     private boolean getOnlineStatus(UUID userId) {
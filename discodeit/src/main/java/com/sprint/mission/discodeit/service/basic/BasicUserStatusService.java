@@ -53,18 +53,24 @@ public class BasicUserStatusService implements UserStatusService {
 
     @Override
     public UserStatus update(UUID id, UserStatusUpdateRequest request) {
-        UserStatus userStatus = userStatusRepository.findById(id)
+        return userStatusRepository.computeIfPresent(id, userStatus -> {
+                    userStatus.checkVersion(request.expectedVersion());
+                    userStatus.update(request.lastActiveAt());
+                    return userStatus;
+                })
                 .orElseThrow(() -> new NoSuchElementException("UserStatus not found: " + id));
-        userStatus.update(request.lastActiveAt());
-        return userStatusRepository.save(userStatus);
     }
 
     @Override
     public UserStatus updateByUserId(UUID userId, UserStatusUpdateRequest request) {
         UserStatus userStatus = userStatusRepository.findByUserId(userId)
                 .orElseThrow(() -> new NoSuchElementException("UserStatus not found for user: " + userId));
-        userStatus.update(request.lastActiveAt());
-        return userStatusRepository.save(userStatus);
+        return userStatusRepository.computeIfPresent(userStatus.getId(), current -> {
+                    current.checkVersion(request.expectedVersion());
+                    current.update(request.lastActiveAt());
+                    return current;
+                })
+                .orElseThrow(() -> new NoSuchElementException("UserStatus not found for user: " + userId));
     }
 
     @Override
@@ -0,0 +1,28 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 동시에 시작한 저장소 비동기 호출을 기다린다. 실패하면 원래 예외를 그대로 던져 GlobalExceptionHandler 매핑이 유지된다.
+ */
+final class Futures {
+    private Futures() {
+    }
+
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    static void joinAll(List<? extends CompletableFuture<?>> futures) {
+        join(CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)));
+    }
+}
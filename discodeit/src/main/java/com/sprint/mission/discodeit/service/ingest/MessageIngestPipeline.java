@@ -0,0 +1,260 @@
+package com.sprint.mission.discodeit.service.ingest;
+
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.query.Criterion;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.Sort;
+import com.sprint.mission.discodeit.service.retention.MessageArchive;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메시지 저장 파이프라인
+ * channelId 해시로 고정된 샤드에 메시지를 배정하고, 샤드마다 단일 writer 스레드가
+ * 링 버퍼(ArrayBlockingQueue)에서 배치로 꺼내 채널 내 순번을 부여한 뒤 한 번에 저장한다.
+ * 같은 채널의 메시지는 항상 같은 writer를 거치므로 순번이 엄격하게 증가한다.
+ */
+@Slf4j
+@Component
+public class MessageIngestPipeline {
+    // 대기열이 가득 찼을 때 락을 잡고 기다리는 최대 시간
+    private static final long OFFER_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final MessageRepository messageRepository;
+    private final MessageArchive messageArchive;
+    private final Shard[] shards;
+    private final int batchSize;
+    private final long enqueueTimeoutNanos;
+
+    public MessageIngestPipeline(
+            MessageRepository messageRepository,
+            MessageArchive messageArchive,
+            @Value("${discodeit.ingest.shards:0}") int shardCount,
+            @Value("${discodeit.ingest.ring-capacity:1024}") int ringCapacity,
+            @Value("${discodeit.ingest.batch-size:64}") int batchSize,
+            @Value("${discodeit.ingest.enqueue-timeout-ms:2000}") long enqueueTimeoutMillis
+    ) {
+        this.messageRepository = messageRepository;
+        this.messageArchive = messageArchive;
+        this.batchSize = batchSize;
+        this.enqueueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(enqueueTimeoutMillis);
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(i, ringCapacity);
+        }
+    }
+
+    /**
+     * 메시지를 채널 샤드에 넣는다. 링 버퍼가 가득 차면 자리가 날 때까지 호출 스레드가 대기하고,
+     * enqueue-timeout-ms 안에 자리가 나지 않으면 RejectedExecutionException으로 거절한다 (503, 클라이언트가 재시도).
+     */
+    public CompletableFuture<Message> submit(Message message) {
+        return shardOf(message.getChannelId()).enqueue(message);
+    }
+
+    /**
+     * 채널의 마지막 순번 캐시를 버린다. 채널이 다른 노드로 옮겨지거나 옮겨 올 때 호출하며,
+     * 다음 메시지는 저장소(가져온 메시지 포함)의 최대 순번부터 이어간다.
+     */
+    public void evictSequence(UUID channelId) {
+        shardOf(channelId).lastSequenceByChannel.remove(channelId);
+    }
+
+    /**
+     * 채널의 새 메시지를 거절하고(RejectedExecutionException), 그 전에 들어온 메시지가 모두 저장되면 완료되는 future를 돌려준다.
+     * 채널을 다른 노드로 넘기기 직전에 호출해 마지막 복사 뒤에 저장되는 메시지가 없게 한다. {@link #unfence}로 해제한다.
+     */
+    public CompletableFuture<Void> fence(UUID channelId) {
+        return shardOf(channelId).fence(channelId);
+    }
+
+    public void unfence(UUID channelId) {
+        shardOf(channelId).fenced.remove(channelId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Shard shard : shards) {
+            shard.stop();
+        }
+    }
+
+    private Shard shardOf(UUID channelId) {
+        return shards[Math.floorMod(spread(channelId), shards.length)];
+    }
+
+    private static int spread(UUID channelId) {
+        long bits = channelId.getMostSignificantBits() ^ channelId.getLeastSignificantBits();
+        int hash = (int) (bits ^ (bits >>> 32));
+        return hash ^ (hash >>> 16);
+    }
+
+    // message가 null이면 앞선 항목이 모두 처리되었음을 알리는 표시 (fence)
+    private record Entry(Message message, CompletableFuture<Message> future) {}
+
+    private class Shard implements Runnable {
+        private final BlockingQueue<Entry> ring;
+        private final Thread writer;
+        // writer 스레드가 갱신하고, 채널이 다른 노드로 옮겨지거나 돌아오면 다른 스레드가 지운다
+        private final Map<UUID, Long> lastSequenceByChannel = new ConcurrentHashMap<>();
+        private final Set<UUID> fenced = ConcurrentHashMap.newKeySet();
+        // 넣기(읽기 락)와 종료, fence(쓰기 락)를 배타적으로 만들어, 종료 후에 들어가 아무도 처리하지 않는 항목이나
+        // fence 표시 뒤에 들어가는 해당 채널의 메시지가 없게 한다
+        private final ReentrantReadWriteLock stopLock = new ReentrantReadWriteLock();
+        private volatile boolean running = true;
+
+        Shard(int index, int ringCapacity) {
+            this.ring = new ArrayBlockingQueue<>(ringCapacity);
+            this.writer = Thread.ofPlatform()
+                    .name("message-ingest-" + index)
+                    .daemon(true)
+                    .start(this);
+        }
+
+        CompletableFuture<Message> enqueue(Message message) {
+            return enqueue(new Entry(message, new CompletableFuture<>()));
+        }
+
+        private CompletableFuture<Message> enqueue(Entry entry) {
+            CompletableFuture<Message> future = entry.future();
+            long deadline = System.nanoTime() + enqueueTimeoutNanos;
+            try {
+                // 가득 차 있으면 종료나 fence가 락을 잡을 수 있도록 짧게 기다릴 때마다 락을 놓았다가 다시 시도
+                while (!offer(entry, deadline - System.nanoTime())) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        throw new RejectedExecutionException("Message ingest queue is full");
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+
+        CompletableFuture<Void> fence(UUID channelId) {
+            stopLock.writeLock().lock();
+            try {
+                fenced.add(channelId);
+            } finally {
+                stopLock.writeLock().unlock();
+            }
+            // 쓰기 락을 잡았다 놓았으므로 이 채널의 메시지는 모두 이미 링에 있거나 거절된다
+            return enqueue(new Entry(null, new CompletableFuture<>())).thenApply(ignored -> null);
+        }
+
+        private boolean offer(Entry entry, long remainingNanos) throws InterruptedException {
+            stopLock.readLock().lock();
+            try {
+                if (!running) {
+                    throw new RejectedExecutionException("Message ingest pipeline is shut down");
+                }
+                if (entry.message() != null && fenced.contains(entry.message().getChannelId())) {
+                    throw new RejectedExecutionException("Channel is moving to another node: " + entry.message().getChannelId());
+                }
+                return ring.offer(entry, Math.clamp(remainingNanos, 0, OFFER_SLICE_NANOS), TimeUnit.NANOSECONDS);
+            } finally {
+                stopLock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public void run() {
+            List<Entry> batch = new ArrayList<>(batchSize);
+            while (running || !ring.isEmpty()) {
+                try {
+                    batch.add(ring.take());
+                } catch (InterruptedException e) {
+                    // 종료 요청: 남은 항목은 아래 drainTo로 마저 처리
+                }
+                ring.drainTo(batch, batchSize - batch.size());
+                if (!batch.isEmpty()) {
+                    write(batch);
+                    batch.clear();
+                }
+            }
+        }
+
+        private void write(List<Entry> batch) {
+            List<Message> messages = new ArrayList<>(batch.size());
+            try {
+                for (Entry entry : batch) {
+                    Message message = entry.message();
+                    if (message == null) {
+                        continue;
+                    }
+                    message.assignSequence(nextSequence(message.getChannelId()));
+                    messages.add(message);
+                }
+                if (!messages.isEmpty()) {
+                    messageRepository.saveAll(messages);
+                }
+            } catch (Throwable e) {
+                // Error도 배치만 실패로 끝내고 writer는 계속 돈다 (writer가 죽으면 샤드의 모든 채널이 멈춘다)
+                log.error("Failed to write message batch of {}", batch.size(), e);
+                // 저장되지 않은 순번은 다음 조회 때 저장소 기준으로 다시 맞춘다
+                messages.forEach(message -> lastSequenceByChannel.remove(message.getChannelId()));
+                batch.forEach(entry -> {
+                    if (entry.message() != null) {
+                        entry.future().completeExceptionally(e);
+                    } else {
+                        entry.future().complete(null);   // 앞선 항목은 실패로 끝났고 이후에 저장될 일은 없다
+                    }
+                });
+                return;
+            }
+            batch.forEach(entry -> entry.future().complete(entry.message()));
+        }
+
+        private long nextSequence(UUID channelId) {
+            long next = lastSequenceByChannel.computeIfAbsent(channelId, this::loadLastSequence) + 1;
+            lastSequenceByChannel.put(channelId, next);
+            return next;
+        }
+
+        // 재시작 후 처음 보는 채널은 저장된(보관된 것 포함) 메시지의 최대 순번부터 이어간다
+        private long loadLastSequence(UUID channelId) {
+            long hot = messageRepository.findAll(Query.where(Criterion.eq("channelId", channelId))
+                            .orderBy(Sort.desc("sequence"))
+                            .limit(1))
+                    .stream()
+                    .mapToLong(Message::getSequence)
+                    .findFirst()
+                    .orElse(0L);
+            return Math.max(hot, messageArchive.lastSequence(channelId));
+        }
+
+        void stop() {
+            stopLock.writeLock().lock();
+            try {
+                running = false;
+            } finally {
+                stopLock.writeLock().unlock();
+            }
+            writer.interrupt();
+            try {
+                writer.join(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // writer가 시간 안에 끝나지 못했으면 남은 항목을 실패로 끝내 기다리는 호출자가 멈추지 않게 한다
+            List<Entry> leftovers = new ArrayList<>();
+            ring.drainTo(leftovers);
+            RejectedExecutionException rejected = new RejectedExecutionException("Message ingest pipeline is shut down");
+            leftovers.forEach(entry -> entry.future().completeExceptionally(rejected));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.sprint.mission.discodeit.service.partition;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 노드마다 virtualNodes개의 점을 64비트 해시 링에 두고, 키의 해시에서 시계 방향으로 처음 만나는 점의 노드가 키를 맡는다.
+ * 노드가 추가/제거되면 그 노드의 점 사이 구간만 주인이 바뀌므로 전체 키 중 약 1/N만 이동한다.
+ * 불변 객체이며 조회는 정렬된 primitive 배열의 이진 탐색이다.
+ */
+public final class ConsistentHashRing {
+    private final List<String> nodes;
+    private final long[] points;
+    private final String[] owners;
+
+    private ConsistentHashRing(List<String> nodes, long[] points, String[] owners) {
+        this.nodes = nodes;
+        this.points = points;
+        this.owners = owners;
+    }
+
+    public static ConsistentHashRing of(Collection<String> nodes, int virtualNodes) {
+        List<String> sortedNodes = nodes.stream().distinct().sorted().toList();
+        if (sortedNodes.isEmpty()) {
+            throw new IllegalArgumentException("Partition ring needs at least one node");
+        }
+        TreeMap<Long, String> ring = new TreeMap<>();
+        for (String node : sortedNodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                // 해시가 겹치면 이름 순으로 앞선 노드가 갖는다 (모든 노드에서 같은 결과)
+                ring.putIfAbsent(hash(node + "#" + i), node);
+            }
+        }
+        long[] points = new long[ring.size()];
+        String[] owners = new String[ring.size()];
+        int index = 0;
+        for (Map.Entry<Long, String> entry : ring.entrySet()) {
+            points[index] = entry.getKey();
+            owners[index] = entry.getValue();
+            index++;
+        }
+        return new ConsistentHashRing(sortedNodes, points, owners);
+    }
+
+    public String ownerOf(UUID key) {
+        long hash = mix(key.getMostSignificantBits() ^ Long.rotateLeft(key.getLeastSignificantBits(), 32));
+        int index = Arrays.binarySearch(points, hash);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    // FNV-1a 후 비트를 섞어 노드 이름이 비슷해도 점이 고르게 퍼지게 한다
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+}
@@ -0,0 +1,37 @@
+package com.sprint.mission.discodeit.service.partition;
+
+import com.sprint.mission.discodeit.exception.UntrustedPeerException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 노드 사이 API(/internal/partition)와 노드 목록 변경은 공유 비밀값을 가진 요청만 받는다.
+ * 이 API는 라우팅 없이 로컬 데이터를 바로 쓰고, 노드 목록 변경은 채널 데이터를 지정한 주소로 복사하기 때문이다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "discodeit.partition.enabled", havingValue = "true")
+public class PartitionAuthConfig implements WebMvcConfigurer {
+    private final PartitionRouter partitionRouter;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                boolean guarded = request.getRequestURI().startsWith("/internal/partition/")
+                        || !"GET".equals(request.getMethod());
+                if (guarded && !partitionRouter.isTrusted(request.getHeader(PartitionRouter.SECRET_HEADER))) {
+                    throw new UntrustedPeerException("Missing or invalid " + PartitionRouter.SECRET_HEADER + " header");
+                }
+                return true;
+            }
+        }).addPathPatterns("/internal/partition/**", "/api/partitions/**");
+    }
+}
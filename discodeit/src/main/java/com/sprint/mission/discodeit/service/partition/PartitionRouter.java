@@ -0,0 +1,436 @@
+package com.sprint.mission.discodeit.service.partition;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.dto.request.PartitionImportRequest;
+import com.sprint.mission.discodeit.dto.response.ErrorResponse;
+import com.sprint.mission.discodeit.dto.response.PartitionStatusResponse;
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.exception.RateLimitExceededException;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import com.sprint.mission.discodeit.repository.query.Criterion;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.Sort;
+import com.sprint.mission.discodeit.service.basic.BasicChannelService;
+import com.sprint.mission.discodeit.service.ingest.MessageIngestPipeline;
+import com.sprint.mission.discodeit.service.retention.MessageArchive;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * channelId 기준 파티셔닝
+ * 채널, 메시지, 읽음 상태, 첨부파일은 consistent hash ring에서 채널 ID의 주인 노드에만 저장된다.
+ * 다른 노드로 가야 하는 요청은 주인 노드의 /internal/partition API로 넘기고, 여러 노드에 걸친 조회는
+ * 모든 노드에 동시에 묻고 결과를 합친다 (scatter-gather).
+ * <p>
+ * 노드 목록이 바뀌면 각 노드는 더 이상 자기 것이 아닌 채널을 새 주인에게 복사하고, 링을 바꾼 뒤
+ * 채널의 새 메시지를 막고 그 사이의 쓰기까지 한 번 더 복사한 다음 로컬 데이터를 지운다 (import는 upsert라 두 번 보내도 안전).
+ * 복사는 메시지 순번 구간과 첨부파일 크기 단위로 나눠 여러 번 보낸다.
+ * <p>
+ * 노드 사이 요청과 노드 목록 변경은 {@link #SECRET_HEADER}에 공유 비밀값을 실어야 한다 ({@link PartitionAuthConfig}).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "discodeit.partition.enabled", havingValue = "true")
+public class PartitionRouter {
+    public static final String SECRET_HEADER = "X-Discodeit-Partition-Secret";
+    // 한 번의 import 요청에 담는 메시지 수와 첨부파일 크기
+    private static final int EXPORT_PAGE_SIZE = 256;
+    private static final long EXPORT_MAX_ATTACHMENT_BYTES = 4L * 1024 * 1024;
+
+    private final String self;
+    private final byte[] secret;
+    private final int virtualNodes;
+    private volatile ConsistentHashRing ring;
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService scatterExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder handedOffChannels = new LongAdder();
+    // 재배치는 HTTP 호출과 삭제 완료를 기다리므로, synchronized로 가상 스레드의 캐리어를 붙잡지 않도록 락을 쓴다
+    private final ReentrantLock rebalanceLock = new ReentrantLock();
+
+    private final ChannelRepository channelRepository;
+    private final MessageRepository messageRepository;
+    private final ReadStatusRepository readStatusRepository;
+    private final BinaryContentRepository binaryContentRepository;
+    private final MessageArchive messageArchive;
+    private final MessageIngestPipeline messageIngestPipeline;
+    private final BasicChannelService localChannelService;
+
+    public PartitionRouter(
+            @Value("${discodeit.partition.self:http://localhost:${server.port:8080}}") String self,
+            @Value("${discodeit.partition.nodes:}") List<String> nodes,
+            @Value("${discodeit.partition.virtual-nodes:128}") int virtualNodes,
+            @Value("${discodeit.partition.timeout-ms:5000}") long timeoutMillis,
+            @Value("${discodeit.partition.secret:}") String secret,
+            RestClient.Builder restClientBuilder,
+            ObjectMapper objectMapper,
+            ChannelRepository channelRepository,
+            MessageRepository messageRepository,
+            ReadStatusRepository readStatusRepository,
+            BinaryContentRepository binaryContentRepository,
+            MessageArchive messageArchive,
+            MessageIngestPipeline messageIngestPipeline,
+            BasicChannelService localChannelService
+    ) {
+        if (secret.isBlank()) {
+            throw new IllegalStateException("discodeit.partition.secret must be set when partitioning is enabled");
+        }
+        this.self = normalize(self);
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        this.virtualNodes = virtualNodes;
+        List<String> initialNodes = new ArrayList<>(nodes.stream().filter(node -> !node.isBlank()).map(PartitionRouter::normalize).toList());
+        if (!initialNodes.contains(this.self)) {
+            initialNodes.add(this.self);
+        }
+        this.ring = ConsistentHashRing.of(initialNodes, virtualNodes);
+        this.objectMapper = objectMapper;
+
+        // PATCH를 쓰므로 HttpURLConnection 대신 java.net.http 클라이언트를 사용
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+                HttpClient.newBuilder().connectTimeout(Duration.ofMillis(timeoutMillis)).build());
+        requestFactory.setReadTimeout(Duration.ofMillis(timeoutMillis));
+        this.restClient = restClientBuilder
+                .requestFactory(requestFactory)
+                .defaultHeader(SECRET_HEADER, secret)
+                .defaultStatusHandler(HttpStatusCode::isError, this::translateError)
+                .build();
+
+        this.channelRepository = channelRepository;
+        this.messageRepository = messageRepository;
+        this.readStatusRepository = readStatusRepository;
+        this.binaryContentRepository = binaryContentRepository;
+        this.messageArchive = messageArchive;
+        this.messageIngestPipeline = messageIngestPipeline;
+        this.localChannelService = localChannelService;
+    }
+
+    public boolean isLocal(UUID channelId) {
+        return self.equals(ownerOf(channelId));
+    }
+
+    public String ownerOf(UUID channelId) {
+        return ring.ownerOf(channelId);
+    }
+
+    /**
+     * 요청에 실린 비밀값이 이 노드의 값과 같은지 (길이 외에는 비교 시간으로 알 수 없게 비교)
+     */
+    public boolean isTrusted(String presented) {
+        return presented != null && MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public RestClient client() {
+        return restClient;
+    }
+
+    /**
+     * 다른 모든 노드에 동시에 요청하고 노드 순서대로 결과를 모은다. 한 노드라도 실패하면 예외를 던진다.
+     */
+    public <T> List<T> scatter(Function<String, T> call) {
+        List<CompletableFuture<T>> futures = otherNodes().stream()
+                .map(node -> CompletableFuture.supplyAsync(() -> call.apply(node), scatterExecutor))
+                .toList();
+        return futures.stream().map(PartitionRouter::join).toList();
+    }
+
+    /**
+     * 어느 노드에 있는지 모르는 데이터를 다른 모든 노드에 동시에 찾는다 (NoSuchElementException을 낸 노드는 건너뜀)
+     */
+    public <T> Optional<Located<T>> locate(Function<String, T> call) {
+        List<CompletableFuture<Located<T>>> futures = otherNodes().stream()
+                .map(node -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return new Located<>(node, call.apply(node));
+                    } catch (NoSuchElementException e) {
+                        return null;
+                    }
+                }, scatterExecutor))
+                .toList();
+        return futures.stream().map(PartitionRouter::join).filter(Objects::nonNull).findFirst();
+    }
+
+    public record Located<T>(String node, T value) {}
+
+    /**
+     * 모든 노드(기존 + 새 목록)에 새 노드 목록을 알리고 각 노드의 재배치가 끝날 때까지 기다린다
+     */
+    public PartitionStatusResponse changeNodes(List<String> nodes) {
+        List<String> normalized = nodes.stream().map(PartitionRouter::normalize).distinct().toList();
+        Set<String> targets = new TreeSet<>(ring.nodes());
+        targets.addAll(normalized);
+        List<CompletableFuture<Void>> futures = targets.stream()
+                .map(node -> CompletableFuture.runAsync(() -> {
+                    if (node.equals(self)) {
+                        rebalance(normalized);
+                    } else {
+                        restClient.put().uri(node + "/internal/partition/nodes")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(normalized)
+                                .retrieve()
+                                .toBodilessEntity();
+                    }
+                }, scatterExecutor))
+                .toList();
+        futures.forEach(PartitionRouter::join);
+        return status();
+    }
+
+    /**
+     * 이 노드의 링을 바꾸고, 주인이 바뀐 로컬 채널을 새 주인에게 넘긴다
+     */
+    public void rebalance(List<String> nodes) {
+        rebalanceLock.lock();
+        try {
+            rebalanceLocked(nodes);
+        } finally {
+            rebalanceLock.unlock();
+        }
+    }
+
+    private void rebalanceLocked(List<String> nodes) {
+        ConsistentHashRing next = ConsistentHashRing.of(nodes, virtualNodes);
+        // 1) 링을 바꾸기 전에 복사해 새 주인이 대부분의 데이터를 먼저 갖게 한다
+        movingChannels(next).forEach(channel -> transfer(next.ownerOf(channel.getId()), channel));
+        // 2) 이후 요청은 새 주인으로 간다
+        this.ring = next;
+        // 3) 옮길 채널은 링을 바꾼 뒤에 다시 모은다. 1)의 목록 이후에 만들어진 채널도 여기서 잡히고,
+        //    이보다 늦게 저장된 채널은 생성 요청이 새 링을 보고 직접 넘긴다 (RoutingChannelService)
+        List<Channel> moving = movingChannels(next);
+        // 4) 그 사이의 쓰기까지 다시 보내고 로컬에서 지운다
+        moving.forEach(channel -> handOffLocked(channel, next.ownerOf(channel.getId())));
+        log.info("Partition ring updated to {} nodes, handed off {} channels", next.nodes().size(), moving.size());
+    }
+
+    private List<Channel> movingChannels(ConsistentHashRing next) {
+        try (Stream<Channel> channels = channelRepository.streamAll()) {
+            return channels.filter(channel -> !self.equals(next.ownerOf(channel.getId()))).toList();
+        }
+    }
+
+    /**
+     * 로컬 채널 하나를 target 노드로 옮긴다 (재배치가 이미 옮겼으면 아무것도 하지 않는다)
+     */
+    public void handOff(UUID channelId, String target) {
+        rebalanceLock.lock();
+        try {
+            channelRepository.findById(channelId).ifPresent(channel -> handOffLocked(channel, target));
+        } finally {
+            rebalanceLock.unlock();
+        }
+    }
+
+    private void handOffLocked(Channel channel, String target) {
+        UUID channelId = channel.getId();
+        // 큐에 남은 메시지까지 저장된 뒤에 마지막으로 복사한다. 넘긴 뒤에도 늦게 도착한 메시지가 로컬에 저장되지 않도록
+        // fence는 그대로 두고, 채널이 다시 이 노드로 돌아오면(import) 푼다.
+        join(messageIngestPipeline.fence(channelId));
+        try {
+            // 그 사이 삭제된 채널은 다시 만들지 않는다
+            Channel current = channelRepository.findById(channelId).orElse(null);
+            if (current != null) {
+                transfer(target, current);
+                localChannelService.delete(channelId);
+                handedOffChannels.increment();
+            }
+        } catch (RuntimeException e) {
+            messageIngestPipeline.unfence(channelId);
+            throw e;
+        }
+        messageIngestPipeline.evictSequence(channelId);
+    }
+
+    /**
+     * 다른 노드가 넘긴 채널을 그대로 저장한다 (ID, 순번, 버전 유지)
+     */
+    public void importPartition(PartitionImportRequest partition) {
+        if (partition.channel() == null) {
+            throw new IllegalArgumentException("Channel partition without channel");
+        }
+        nullToEmpty(partition.attachments()).forEach(data -> binaryContentRepository.save(data.toBinaryContent()));
+        PartitionImportRequest.ChannelData channel = partition.channel();
+        channelRepository.save(new Channel(
+                channel.id(), channel.createdAt(), channel.updatedAt(), channel.type(), channel.name(),
+                channel.description(), channel.retentionDays(), channel.retentionAction(), channel.version()));
+        nullToEmpty(partition.readStatuses()).forEach(data -> readStatusRepository.save(new ReadStatus(
+                data.id(), data.createdAt(), data.updatedAt(), data.userId(), data.channelId(),
+                data.lastReadAt(), data.version())));
+        List<Message> messages = nullToEmpty(partition.messages()).stream()
+                .map(data -> new Message(
+                        data.id(), data.createdAt(), data.updatedAt(), data.content(), data.channelId(),
+                        data.authorId(), data.attachmentIds(), data.sequence(), data.version()))
+                .toList();
+        if (!messages.isEmpty()) {
+            messageRepository.saveAll(messages);
+        }
+        // 예전에 이 노드가 주인이었던 채널이면 넘길 때 건 fence를 풀고, 캐시된 순번이 가져온 메시지보다 작을 수 있으므로 버린다
+        messageIngestPipeline.unfence(channel.id());
+        messageIngestPipeline.evictSequence(channel.id());
+    }
+
+    public PartitionStatusResponse status() {
+        return new PartitionStatusResponse(
+                self,
+                ring.nodes(),
+                virtualNodes,
+                channelRepository.findAll().size(),
+                handedOffChannels.sum()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scatterExecutor.shutdownNow();
+    }
+
+    private List<String> otherNodes() {
+        return ring.nodes().stream().filter(node -> !node.equals(self)).toList();
+    }
+
+    /**
+     * 채널 하나를 여러 import 요청으로 나눠 보낸다. 채널과 읽음 상태, 보관된 메시지, 저장소의 메시지 순이며
+     * 메시지는 순번 순으로 EXPORT_PAGE_SIZE개씩, 첨부파일은 메시지보다 먼저 EXPORT_MAX_ATTACHMENT_BYTES 단위로 보낸다.
+     */
+    private void transfer(String target, Channel channel) {
+        UUID channelId = channel.getId();
+        PartitionImportRequest.ChannelData channelData = new PartitionImportRequest.ChannelData(
+                channelId, channel.getCreatedAt(), channel.getUpdatedAt(), channel.getVersion(),
+                channel.getType(), channel.getName(), channel.getDescription(),
+                channel.getRetentionDays(), channel.getRetentionAction());
+        List<PartitionImportRequest.ReadStatusData> readStatuses = readStatusRepository.findAllByChannelId(channelId).stream()
+                .map(status -> new PartitionImportRequest.ReadStatusData(
+                        status.getId(), status.getCreatedAt(), status.getUpdatedAt(), status.getVersion(),
+                        status.getUserId(), status.getChannelId(), status.getLastReadAt()))
+                .toList();
+        send(target, new PartitionImportRequest(channelData, List.of(), readStatuses, List.of()));
+
+        // 보관된 메시지도 함께 옮긴다 (새 주인의 보존 정책이 다시 보관함)
+        long afterSequence = 0;
+        List<Message> page;
+        do {
+            page = messageArchive.readChannel(channelId, afterSequence, EXPORT_PAGE_SIZE);
+            afterSequence = sendMessages(target, channelData, page, afterSequence);
+        } while (page.size() == EXPORT_PAGE_SIZE);
+
+        afterSequence = 0;
+        do {
+            page = messageRepository.findAll(Query.where(
+                            Criterion.eq("channelId", channelId),
+                            Criterion.gt("sequence", afterSequence))
+                    .orderBy(Sort.asc("sequence"))
+                    .limit(EXPORT_PAGE_SIZE));
+            afterSequence = sendMessages(target, channelData, page, afterSequence);
+        } while (page.size() == EXPORT_PAGE_SIZE);
+    }
+
+    // 메시지 한 페이지를 첨부파일과 함께 보내고 마지막 순번을 돌려준다. 첨부파일은 하나씩 읽어 크기 단위로 나눠 보낸다.
+    private long sendMessages(String target, PartitionImportRequest.ChannelData channelData, List<Message> messages, long afterSequence) {
+        if (messages.isEmpty()) {
+            return afterSequence;
+        }
+        List<PartitionImportRequest.AttachmentData> attachments = new ArrayList<>();
+        long attachmentBytes = 0;
+        for (Message message : messages) {
+            for (UUID attachmentId : nullToEmpty(message.getAttachmentIds())) {
+                BinaryContent attachment = binaryContentRepository.findById(attachmentId).orElse(null);
+                if (attachment == null) {
+                    continue;
+                }
+                long size = attachment.getData().length;
+                if (!attachments.isEmpty() && attachmentBytes + size > EXPORT_MAX_ATTACHMENT_BYTES) {
+                    send(target, new PartitionImportRequest(channelData, List.of(), List.of(), attachments));
+                    attachments = new ArrayList<>();
+                    attachmentBytes = 0;
+                }
+                attachments.add(PartitionImportRequest.AttachmentData.of(attachment));
+                attachmentBytes += size;
+            }
+        }
+        List<PartitionImportRequest.MessageData> messageData = messages.stream()
+                .map(message -> new PartitionImportRequest.MessageData(
+                        message.getId(), message.getCreatedAt(), message.getUpdatedAt(), message.getVersion(),
+                        message.getContent(), message.getChannelId(), message.getAuthorId(),
+                        message.getAttachmentIds(), message.getSequence()))
+                .toList();
+        send(target, new PartitionImportRequest(channelData, messageData, List.of(), attachments));
+        return messages.getLast().getSequence();
+    }
+
+    private void send(String target, PartitionImportRequest partition) {
+        restClient.post().uri(target + "/internal/partition/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(partition)
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list != null ? list : List.of();
+    }
+
+    // 다른 노드의 오류 응답을 이 노드에서 같은 상태 코드로 매핑되는 예외로 바꾼다
+    private void translateError(HttpRequest request, ClientHttpResponse response) throws IOException {
+        String message;
+        try {
+            message = objectMapper.readValue(response.getBody(), ErrorResponse.class).message();
+        } catch (IOException e) {
+            message = response.getStatusText();
+        }
+        throw switch (response.getStatusCode().value()) {
+            case 400 -> new IllegalArgumentException(message);
+            case 404 -> new NoSuchElementException(message);
+            case 409 -> new ConcurrentModificationException(message);
+            case 429 -> new RateLimitExceededException(message);
+            case 503 -> new RejectedExecutionException(message);
+            default -> new RestClientException("Partition node " + request.getURI().getAuthority()
+                    + " returned " + response.getStatusCode().value() + ": " + message);
+        };
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String normalize(String node) {
+        String trimmed = node.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
@@ -0,0 +1,102 @@
+package com.sprint.mission.discodeit.service.partition;
+
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.request.PartitionImportRequest;
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.service.BinaryContentService;
+import com.sprint.mission.discodeit.service.basic.BasicBinaryContentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 메시지 첨부파일은 채널 주인 노드에만 있으므로, 로컬에 없는 파일은 다른 노드들에 동시에 찾아 가진 노드에서 가져온다.
+ * 사용자 프로필 이미지처럼 나누지 않는 데이터는 로컬에서 바로 찾는다.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "discodeit.partition.enabled", havingValue = "true")
+public class RoutingBinaryContentService implements BinaryContentService {
+    private static final ParameterizedTypeReference<List<PartitionImportRequest.AttachmentData>> ATTACHMENT_LIST =
+            new ParameterizedTypeReference<>() {};
+
+    private final BasicBinaryContentService localBinaryContentService;
+    private final PartitionRouter partitionRouter;
+
+    @Override
+    public BinaryContent create(BinaryContentCreateRequest request) {
+        return localBinaryContentService.create(request);
+    }
+
+    @Override
+    public BinaryContent find(UUID id) {
+        try {
+            return localBinaryContentService.find(id);
+        } catch (NoSuchElementException e) {
+            return partitionRouter.locate(node -> findOn(node, id))
+                    .map(located -> located.value().toBinaryContent())
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    // 축소본은 프로필 이미지에만 만들어지므로 다른 노드에서 찾은 첨부파일은 원본을 내려준다
+    @Override
+    public BinaryContent findVariant(UUID id, int size) {
+        try {
+            return localBinaryContentService.findVariant(id, size);
+        } catch (NoSuchElementException e) {
+            return find(id);
+        }
+    }
+
+    @Override
+    public List<BinaryContent> findAllByIdIn(List<UUID> ids) {
+        List<BinaryContent> found = new ArrayList<>(localBinaryContentService.findAllByIdIn(ids));
+        Set<UUID> missing = new LinkedHashSet<>(ids);
+        found.forEach(binaryContent -> missing.remove(binaryContent.getId()));
+        if (!missing.isEmpty()) {
+            partitionRouter.scatter(node -> findAllOn(node, List.copyOf(missing))).stream()
+                    .flatMap(List::stream)
+                    .map(PartitionImportRequest.AttachmentData::toBinaryContent)
+                    .filter(binaryContent -> missing.remove(binaryContent.getId()))
+                    .forEach(found::add);
+        }
+        return found;
+    }
+
+    @Override
+    public void delete(UUID id) {
+        try {
+            localBinaryContentService.find(id);
+            localBinaryContentService.delete(id);
+        } catch (NoSuchElementException e) {
+            String node = partitionRouter.locate(candidate -> findOn(candidate, id))
+                    .map(PartitionRouter.Located::node)
+                    .orElseThrow(() -> e);
+            partitionRouter.client().delete()
+                    .uri(node + "/internal/partition/binaryContents/{binaryContentId}", id)
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+    }
+
+    private PartitionImportRequest.AttachmentData findOn(String node, UUID id) {
+        return partitionRouter.client().get()
+                .uri(node + "/internal/partition/binaryContents/{binaryContentId}", id)
+                .retrieve()
+                .body(PartitionImportRequest.AttachmentData.class);
+    }
+
+    private List<PartitionImportRequest.AttachmentData> findAllOn(String node, List<UUID> ids) {
+        return partitionRouter.client().get()
+                .uri(node + "/internal/partition/binaryContents?binaryContentIds={ids}",
+                        String.join(",", ids.stream().map(UUID::toString).toList()))
+                .retrieve()
+                .body(ATTACHMENT_LIST);
+    }
+}
@@ -0,0 +1,112 @@
+package com.sprint.mission.discodeit.service.partition;
+
+import com.sprint.mission.discodeit.dto.request.ChannelRetentionRequest;
+import com.sprint.mission.discodeit.dto.request.ChannelUpdateRequest;
+import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
+import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
+import com.sprint.mission.discodeit.dto.response.ChannelResponse;
+import com.sprint.mission.discodeit.service.ChannelService;
+import com.sprint.mission.discodeit.service.basic.BasicChannelService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 채널 ID의 주인 노드에서 처리하도록 요청을 보낸다. 주인이 이 노드면 BasicChannelService를 바로 호출한다.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "discodeit.partition.enabled", havingValue = "true")
+public class RoutingChannelService implements ChannelService {
+    private static final ParameterizedTypeReference<List<ChannelResponse>> CHANNEL_LIST = new ParameterizedTypeReference<>() {};
+
+    private final BasicChannelService localChannelService;
+    private final PartitionRouter partitionRouter;
+
+    @Override
+    public ChannelResponse createPublic(PublicChannelCreateRequest request) {
+        // 채널 ID는 생성 시점에 정해지므로 로컬에 만든 뒤 주인이 다르면 바로 넘긴다
+        return placed(localChannelService.createPublic(request));
+    }
+
+    @Override
+    public ChannelResponse createPrivate(PrivateChannelCreateRequest request) {
+        return placed(localChannelService.createPrivate(request));
+    }
+
+    @Override
+    public ChannelResponse find(UUID id) {
+        if (partitionRouter.isLocal(id)) {
+            return localChannelService.find(id);
+        }
+        return partitionRouter.client().get()
+                .uri(partitionRouter.ownerOf(id) + "/internal/partition/channels/{channelId}", id)
+                .retrieve()
+                .body(ChannelResponse.class);
+    }
+
+    @Override
+    public List<ChannelResponse> findAllByUserId(UUID userId) {
+        // 모든 노드에 동시에 묻고 합친다
+        List<List<ChannelResponse>> remote = partitionRouter.scatter(node -> partitionRouter.client().get()
+                .uri(node + "/internal/partition/channels?userId={userId}", userId)
+                .retrieve()
+                .body(CHANNEL_LIST));
+        List<ChannelResponse> channels = new ArrayList<>(localChannelService.findAllByUserId(userId));
+        remote.forEach(channels::addAll);
+        return channels;
+    }
+
+    @Override
+    public ChannelResponse update(UUID id, ChannelUpdateRequest request) {
+        if (partitionRouter.isLocal(id)) {
+            return localChannelService.update(id, request);
+        }
+        return partitionRouter.client().patch()
+                .uri(partitionRouter.ownerOf(id) + "/internal/partition/channels/{channelId}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .body(ChannelResponse.class);
+    }
+
+    @Override
+    public ChannelResponse updateRetention(UUID id, ChannelRetentionRequest request) {
+        if (partitionRouter.isLocal(id)) {
+            return localChannelService.updateRetention(id, request);
+        }
+        return partitionRouter.client().put()
+                .uri(partitionRouter.ownerOf(id) + "/internal/partition/channels/{channelId}/retention", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .body(ChannelResponse.class);
+    }
+
+    @Override
+    public void delete(UUID id) {
+        if (partitionRouter.isLocal(id)) {
+            localChannelService.delete(id);
+            return;
+        }
+        partitionRouter.client().delete()
+                .uri(partitionRouter.ownerOf(id) + "/internal/partition/channels/{channelId}", id)
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    private ChannelResponse placed(ChannelResponse created) {
+        if (!partitionRouter.isLocal(created.id())) {
+            partitionRouter.handOff(created.id(), partitionRouter.ownerOf(created.id()));
+        }
+        return created;
+    }
+}
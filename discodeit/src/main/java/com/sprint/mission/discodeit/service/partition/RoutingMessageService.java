@@ -0,0 +1,143 @@
+package com.sprint.mission.discodeit.service.partition;
+
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
+import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
+import com.sprint.mission.discodeit.dto.request.PartitionMessageCreateRequest;
+import com.sprint.mission.discodeit.dto.response.MessageResponse;
+import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.service.basic.BasicMessageService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * 메시지 요청을 채널 주인 노드로 보낸다.
+ * 메시지 ID만 있는 요청(find, update, delete)은 로컬에서 먼저 찾고, 없으면 다른 노드들에 동시에 찾아 가진 노드로 보낸다.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "discodeit.partition.enabled", havingValue = "true")
+public class RoutingMessageService implements MessageService {
+    private static final ParameterizedTypeReference<List<MessageResponse>> MESSAGE_LIST = new ParameterizedTypeReference<>() {};
+
+    private final BasicMessageService localMessageService;
+    private final PartitionRouter partitionRouter;
+    // 다른 노드로 넘기는 비동기 생성은 HTTP 응답을 기다리며 막히므로 공용 ForkJoinPool 대신 가상 스레드에서 실행한다
+    private final ExecutorService forwardExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Override
+    public MessageResponse create(MessageCreateRequest request, List<BinaryContentCreateRequest> attachmentRequests) {
+        if (partitionRouter.isLocal(request.channelId())) {
+            return localMessageService.create(request, attachmentRequests);
+        }
+        return forwardCreate(request, attachmentRequests);
+    }
+
+    @Override
+    public CompletableFuture<MessageResponse> createAsync(MessageCreateRequest request, List<BinaryContentCreateRequest> attachmentRequests) {
+        if (partitionRouter.isLocal(request.channelId())) {
+            return localMessageService.createAsync(request, attachmentRequests);
+        }
+        return CompletableFuture.supplyAsync(() -> forwardCreate(request, attachmentRequests), forwardExecutor);
+    }
+
+    @Override
+    public MessageResponse find(UUID id) {
+        try {
+            return localMessageService.find(id);
+        } catch (NoSuchElementException e) {
+            return partitionRouter.locate(node -> findOn(node, id))
+                    .map(PartitionRouter.Located::value)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    @Override
+    public List<MessageResponse> findAllByChannelId(UUID channelId, long afterSequence, int limit) {
+        if (partitionRouter.isLocal(channelId)) {
+            return localMessageService.findAllByChannelId(channelId, afterSequence, limit);
+        }
+        return partitionRouter.client().get()
+                .uri(partitionRouter.ownerOf(channelId) + "/internal/partition/messages?channelId={channelId}&afterSequence={afterSequence}&limit={limit}",
+                        channelId, afterSequence, limit)
+                .retrieve()
+                .body(MESSAGE_LIST);
+    }
+
+    @Override
+    public Stream<MessageResponse> streamAllByChannelId(UUID channelId, long afterSequence, int limit) {
+        if (partitionRouter.isLocal(channelId)) {
+            return localMessageService.streamAllByChannelId(channelId, afterSequence, limit);
+        }
+        return findAllByChannelId(channelId, afterSequence, limit).stream();
+    }
+
+    @Override
+    public MessageResponse update(UUID id, MessageUpdateRequest request) {
+        try {
+            return localMessageService.update(id, request);
+        } catch (NoSuchElementException e) {
+            String node = locateNode(id, e);
+            return partitionRouter.client().patch()
+                    .uri(node + "/internal/partition/messages/{messageId}", id)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(request)
+                    .retrieve()
+                    .body(MessageResponse.class);
+        }
+    }
+
+    @Override
+    public void delete(UUID id) {
+        try {
+            localMessageService.delete(id);
+        } catch (NoSuchElementException e) {
+            String node = locateNode(id, e);
+            partitionRouter.client().delete()
+                    .uri(node + "/internal/partition/messages/{messageId}", id)
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        forwardExecutor.shutdownNow();
+    }
+
+    private MessageResponse forwardCreate(MessageCreateRequest request, List<BinaryContentCreateRequest> attachmentRequests) {
+        return partitionRouter.client().post()
+                .uri(partitionRouter.ownerOf(request.channelId()) + "/internal/partition/messages")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new PartitionMessageCreateRequest(request, attachmentRequests))
+                .retrieve()
+                .body(MessageResponse.class);
+    }
+
+    private MessageResponse findOn(String node, UUID id) {
+        return partitionRouter.client().get()
+                .uri(node + "/internal/partition/messages/{messageId}", id)
+                .retrieve()
+                .body(MessageResponse.class);
+    }
+
+    private String locateNode(UUID id, NoSuchElementException notFound) {
+        return partitionRouter.locate(node -> findOn(node, id))
+                .map(PartitionRouter.Located::node)
+                .orElseThrow(() -> notFound);
+    }
+}
@@ -0,0 +1,197 @@
+package com.sprint.mission.discodeit.service.retention;
+
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.replication.ReplicationRole;
+import com.sprint.mission.discodeit.util.IdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보존 기간이 지난 메시지의 콜드 보관소
+ * <pre>
+ * {archive-directory}/{channelId}/{yyyy-MM-dd}_{최대 순번}_{segment id}.seg.gz
+ * </pre>
+ * 채널별, 작성일(UTC)별로 나눈 gzip 세그먼트에 직렬화된 Message를 담는다. 세그먼트는 한 번 쓰면 바꾸지 않으며
+ * (임시 파일에 쓴 뒤 원자적 이동), 파일 이름에 최대 순번을 넣어 세그먼트를 열지 않고도 채널의 마지막 순번을 알 수 있다.
+ * <p>
+ * 순번은 작성 순서대로 부여되고 보존 정책은 오래된 것부터 옮기므로, (작성일, 최대 순번) 순으로 놓은 세그먼트는 순번 구간도 그 순서다.
+ * 구간 조회는 이 순서를 이용해 필요한 세그먼트만 푼다.
+ * <p>
+ * 세그먼트는 이 노드의 디스크에만 있고 변경 피드로 복제되지 않는다. 리더에서 보관하면 팔로워에는 삭제로만 전달되므로
+ * 리더에서는 보관소를 쓰지 않는다 ({@link #isAvailable()}).
+ */
+@Slf4j
+@Component
+public class MessageArchive {
+    private static final String EXTENSION = ".seg.gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 작성일, 그다음 최대 순번 (이름 문자열 순서로는 순번 자릿수가 달라지면 어긋난다)
+    private static final Comparator<Path> SEGMENT_ORDER = Comparator
+            .comparing((Path segment) -> segment.getFileName().toString().split("_")[0])
+            .thenComparingLong(MessageArchive::maxSequenceOf);
+
+    private final Path directory;
+    private final boolean available;
+
+    public MessageArchive(
+            @Value("${discodeit.retention.archive-directory:.discodeit/archive}") String directory,
+            @Value("${discodeit.replication.role:none}") ReplicationRole replicationRole
+    ) {
+        this.directory = Paths.get(directory);
+        this.available = replicationRole != ReplicationRole.LEADER;
+    }
+
+    /**
+     * 이 노드에서 ARCHIVE 보존 정책을 쓸 수 있는지 (복제 리더가 아닐 때만)
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * 메시지를 작성일별 세그먼트로 나눠 기록한다. 반환된 뒤에는 원본 저장소에서 지워도 된다.
+     */
+    public void append(UUID channelId, List<Message> messages) {
+        Map<LocalDate, List<Message>> byDay = messages.stream()
+                .collect(Collectors.groupingBy(
+                        message -> LocalDate.ofInstant(message.getCreatedAt(), ZoneOffset.UTC),
+                        TreeMap::new,
+                        Collectors.toList()
+                ));
+        Path channelDirectory = directory.resolve(channelId.toString());
+        try {
+            Files.createDirectories(channelDirectory);
+            for (Map.Entry<LocalDate, List<Message>> entry : byDay.entrySet()) {
+                writeSegment(channelDirectory, entry.getKey(), entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 순번이 afterSequence보다 큰 보관 메시지를 순번 순으로 최대 limit개 읽는다.
+     * 최대 순번이 afterSequence 이하인 세그먼트는 열지 않고, limit개를 채우면 뒤의 세그먼트도 열지 않는다.
+     */
+    public List<Message> readChannel(UUID channelId, long afterSequence, int limit) {
+        List<Message> messages = new ArrayList<>();
+        for (Path segment : segments(channelId)) {
+            if (messages.size() >= limit) {
+                break;
+            }
+            if (maxSequenceOf(segment) <= afterSequence) {
+                continue;
+            }
+            List<Message> read = new ArrayList<>();
+            readSegment(segment, read);
+            read.stream().filter(message -> message.getSequence() > afterSequence).forEach(messages::add);
+        }
+        messages.sort(Comparator.comparingLong(Message::getSequence));
+        return messages.size() > limit ? new ArrayList<>(messages.subList(0, limit)) : messages;
+    }
+
+    /**
+     * 보관된 메시지 중 가장 큰 순번 (세그먼트 이름만 확인)
+     */
+    public long lastSequence(UUID channelId) {
+        return segments(channelId).stream()
+                .mapToLong(MessageArchive::maxSequenceOf)
+                .max()
+                .orElse(0L);
+    }
+
+    /**
+     * 보관된 메시지의 첨부파일 ID (채널을 지울 때 함께 지운다). 세그먼트를 하나씩 읽고 ID만 남긴다.
+     */
+    public List<UUID> attachmentIds(UUID channelId) {
+        List<UUID> attachmentIds = new ArrayList<>();
+        for (Path segment : segments(channelId)) {
+            List<Message> messages = new ArrayList<>();
+            readSegment(segment, messages);
+            messages.stream()
+                    .filter(message -> message.getAttachmentIds() != null)
+                    .forEach(message -> attachmentIds.addAll(message.getAttachmentIds()));
+        }
+        return attachmentIds;
+    }
+
+    public void deleteChannel(UUID channelId) {
+        Path channelDirectory = directory.resolve(channelId.toString());
+        if (Files.notExists(channelDirectory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.list(channelDirectory)) {
+            for (Path path : paths.toList()) {
+                Files.deleteIfExists(path);
+            }
+            Files.deleteIfExists(channelDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Path> segments(UUID channelId) {
+        Path channelDirectory = directory.resolve(channelId.toString());
+        if (Files.notExists(channelDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.list(channelDirectory)) {
+            return paths
+                    .filter(path -> path.getFileName().toString().endsWith(EXTENSION))
+                    .sorted(SEGMENT_ORDER)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeSegment(Path channelDirectory, LocalDate day, List<Message> messages) throws IOException {
+        long maxSequence = messages.stream().mapToLong(Message::getSequence).max().orElse(0L);
+        Path target = channelDirectory.resolve(day + "_" + maxSequence + "_" + IdGenerator.next() + EXTENSION);
+        Path temp = Files.createTempFile(channelDirectory, day.toString(), ".tmp");
+        try {
+            try (ObjectOutputStream out = new ObjectOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE))) {
+                out.writeInt(messages.size());
+                for (Message message : messages) {
+                    out.writeObject(message);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        log.debug("Archived {} messages into {}", messages.size(), target);
+    }
+
+    private static void readSegment(Path segment, List<Message> into) {
+        try (ObjectInputStream in = new ObjectInputStream(
+                new GZIPInputStream(Files.newInputStream(segment), BUFFER_SIZE))) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                into.add((Message) in.readObject());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Cannot deserialize " + segment, e);
+        }
+    }
+
+    private static long maxSequenceOf(Path segment) {
+        String[] parts = segment.getFileName().toString().split("_");
+        return parts.length == 3 ? Long.parseLong(parts[1]) : 0L;
+    }
+}
@@ -0,0 +1,136 @@
+package com.sprint.mission.discodeit.service.retention;
+
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.RetentionAction;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.query.Criterion;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.Sort;
+import com.sprint.mission.discodeit.replication.ReplicationRole;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 채널별 메시지 보존 정책 실행
+ * 전용 스레드 하나가 주기적으로 보존 기간이 지난 메시지를 삭제하거나 보관소로 옮긴다.
+ * 한 번 실행할 때 처리하는 메시지 수와 한 번에 기록하는 묶음 크기를 제한해 I/O가 몰리지 않게 하고,
+ * 남은 메시지는 다음 실행에서 이어서 처리한다.
+ */
+@Slf4j
+@Component
+public class MessageRetentionJob {
+    private final ChannelRepository channelRepository;
+    private final MessageRepository messageRepository;
+    private final BinaryContentRepository binaryContentRepository;
+    private final MessageArchive messageArchive;
+    private final int maxMessagesPerRun;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+
+    public MessageRetentionJob(
+            ChannelRepository channelRepository,
+            MessageRepository messageRepository,
+            BinaryContentRepository binaryContentRepository,
+            MessageArchive messageArchive,
+            @Value("${discodeit.retention.interval-minutes:60}") long intervalMinutes,
+            @Value("${discodeit.retention.max-messages-per-run:10000}") int maxMessagesPerRun,
+            @Value("${discodeit.retention.batch-size:500}") int batchSize,
+            @Value("${discodeit.replication.role:none}") ReplicationRole replicationRole
+    ) {
+        this.channelRepository = channelRepository;
+        this.messageRepository = messageRepository;
+        this.binaryContentRepository = binaryContentRepository;
+        this.messageArchive = messageArchive;
+        this.maxMessagesPerRun = maxMessagesPerRun;
+        this.batchSize = batchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("message-retention").daemon(true).factory());
+        // 팔로워는 리더에서 실행된 삭제를 복제받는다
+        if (intervalMinutes > 0 && replicationRole != ReplicationRole.FOLLOWER) {
+            scheduler.scheduleWithFixedDelay(this::runSafely, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * 보존 정책이 있는 채널을 돌며 만료된 메시지를 처리하고 처리한 메시지 수를 돌려준다
+     */
+    public int run() {
+        int budget = maxMessagesPerRun;
+        int processed = 0;
+        // 보존 정책이 있는 채널만 먼저 모으고 스트림을 닫은 뒤 처리한다
+        // (jdbc에서는 열린 스트림이 커넥션 하나를 붙잡으므로, 그 상태로 다른 커넥션으로 지우면 풀이 고갈될 수 있다)
+        List<Channel> channels;
+        try (Stream<Channel> all = channelRepository.streamAll()) {
+            channels = all.filter(Channel::hasRetention).toList();
+        }
+        Iterator<Channel> iterator = channels.iterator();
+        while (budget > 0 && iterator.hasNext()) {
+            int count = expire(iterator.next(), budget);
+            budget -= count;
+            processed += count;
+        }
+        if (processed > 0) {
+            log.info("Retention processed {} messages{}", processed, budget <= 0 ? " (budget exhausted, continuing next run)" : "");
+        }
+        return processed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void runSafely() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.error("Message retention run failed", e);
+        }
+    }
+
+    private int expire(Channel channel, int budget) {
+        // 리더로 바뀌기 전에 설정된 ARCHIVE 정책은 실행하지 않는다 (보관하면 팔로워에서는 메시지가 사라진다)
+        if (channel.getRetentionAction() == RetentionAction.ARCHIVE && !messageArchive.isAvailable()) {
+            log.warn("Skipping ARCHIVE retention of channel {} on a replication leader", channel.getId());
+            return 0;
+        }
+        Instant cutoff = Instant.now().minus(Duration.ofDays(channel.getRetentionDays()));
+        List<Message> expired = messageRepository.findAll(Query.where(
+                        Criterion.eq("channelId", channel.getId()),
+                        Criterion.lt("createdAt", cutoff))
+                .orderBy(Sort.asc("sequence"))
+                .limit(budget));
+
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            List<Message> batch = expired.subList(from, Math.min(expired.size(), from + batchSize));
+            if (channel.getRetentionAction() == RetentionAction.ARCHIVE) {
+                // 보관소에 먼저 기록한 뒤 지운다 (중간에 멈추면 다음 조회에서 id 기준으로 중복 제거)
+                messageArchive.append(channel.getId(), batch);
+            } else {
+                batch.forEach(this::deleteAttachments);
+            }
+            batch.forEach(message -> messageRepository.deleteById(message.getId()));
+        }
+        return expired.size();
+    }
+
+    private void deleteAttachments(Message message) {
+        if (message.getAttachmentIds() != null) {
+            message.getAttachmentIds().forEach(binaryContentRepository::deleteById);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.sprint.mission.discodeit.service.thumbnail;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로필 이미지 축소본(variant) 생성기
+ * 원본 저장 후 백그라운드 풀에서 javax.imageio로 디코딩해 설정된 크기(긴 변 기준)마다 축소본을 만들고
+ * (투명도가 있으면 PNG, 없으면 JPEG),
+ * 원본 ID를 참조하는 BinaryContent로 저장한다. 대기열이 가득 차면 생성을 건너뛰며, 그 경우 조회 시 원본을 내려준다.
+ * 축소본 ID는 {@link BinaryContent#variantId}로 원본 ID와 크기에서 정해지므로, 설정된 크기마다 ID로 바로 조회/삭제한다.
+ * (설정에서 뺀 크기의 축소본은 찾지 않는다)
+ * <p>
+ * 디코딩 전에 헤더의 가로/세로만 읽어 max-pixels를 넘으면 건너뛰고, 가장 큰 축소본의 두 배 해상도까지만 건너뛰며 읽어
+ * 작은 파일이 큰 이미지로 풀리는 경우에도 메모리를 일정하게 쓴다.
+ */
+@Slf4j
+@Component
+public class ThumbnailGenerator {
+    private final BinaryContentRepository binaryContentRepository;
+    private final int[] sizes;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    public ThumbnailGenerator(
+            BinaryContentRepository binaryContentRepository,
+            @Value("${discodeit.thumbnail.sizes:64,256}") int[] sizes,
+            @Value("${discodeit.thumbnail.threads:2}") int threads,
+            @Value("${discodeit.thumbnail.queue-capacity:256}") int queueCapacity,
+            @Value("${discodeit.thumbnail.max-pixels:40000000}") long maxPixels
+    ) {
+        this.binaryContentRepository = binaryContentRepository;
+        this.sizes = Arrays.stream(sizes).filter(size -> size > 0).sorted().distinct().toArray();
+        this.maxPixels = maxPixels;
+        AtomicInteger index = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> Thread.ofPlatform()
+                        .name("thumbnail-" + index.getAndIncrement())
+                        .daemon(true)
+                        .unstarted(task)
+        );
+    }
+
+    /**
+     * 이미지면 축소본 생성을 예약한다. 호출 스레드는 기다리지 않는다.
+     */
+    public void enqueue(BinaryContent original) {
+        if (original == null || original.isVariant() || !isImage(original.getContentType()) || sizes.length == 0) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(original));
+        } catch (RejectedExecutionException e) {
+            log.warn("Thumbnail queue is full, skipped variants for {}", original.getId());
+        }
+    }
+
+    /**
+     * 요청한 크기 이상인 축소본 중 가장 작은 것, 없으면 원본
+     */
+    public BinaryContent selectBestFit(BinaryContent original, int size) {
+        for (int variantSize : sizes) {
+            if (variantSize < size) {
+                continue;
+            }
+            Optional<BinaryContent> variant = binaryContentRepository.findById(BinaryContent.variantId(original.getId(), variantSize));
+            if (variant.isPresent()) {
+                return variant.get();
+            }
+        }
+        return original;
+    }
+
+    /**
+     * 원본과 그 축소본을 함께 삭제한다
+     */
+    public void deleteWithVariants(UUID originalId) {
+        for (int size : sizes) {
+            binaryContentRepository.deleteById(BinaryContent.variantId(originalId, size));
+        }
+        binaryContentRepository.deleteById(originalId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void generate(BinaryContent original) {
+        BufferedImage source;
+        try {
+            source = decode(original);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Cannot decode image {}: {}", original.getId(), e.getMessage());
+            return;
+        } catch (OutOfMemoryError e) {
+            // 풀 스레드가 죽지 않도록 이 이미지만 건너뛴다
+            log.warn("Not enough memory to decode image {}, skipped variants", original.getId());
+            return;
+        }
+        if (source == null) {
+            return;   // ImageIO가 지원하지 않는 형식이거나 너무 큰 이미지
+        }
+
+        int longestSide = Math.max(source.getWidth(), source.getHeight());
+        boolean alpha = source.getColorModel().hasAlpha();
+        String format = alpha ? "png" : "jpeg";
+        List<BinaryContent> variants = new ArrayList<>(sizes.length);
+        for (int size : sizes) {
+            if (size >= longestSide) {
+                break;   // 원본보다 큰 축소본은 만들지 않는다
+            }
+            try {
+                variants.add(new BinaryContent(
+                        variantFileName(original.getFileName(), size, alpha ? "png" : "jpg"),
+                        "image/" + format,
+                        encode(resize(source, size, alpha), format),
+                        original.getId(),
+                        size
+                ));
+            } catch (IOException e) {
+                log.warn("Failed to encode {}px variant of {}", size, original.getId(), e);
+            }
+        }
+
+        // 생성 중에 원본이 삭제됐으면 저장하지 않는다
+        if (!variants.isEmpty() && binaryContentRepository.existsById(original.getId())) {
+            variants.forEach(binaryContentRepository::save);
+        }
+    }
+
+    private BufferedImage decode(BinaryContent original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(original.getData()))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("Image {} is {}x{} pixels, over the {} pixel limit, skipped variants",
+                            original.getId(), width, height, maxPixels);
+                    return null;
+                }
+                // 계단식 축소의 품질을 위해 가장 큰 축소본의 두 배 이상은 남긴다
+                int step = Math.max(1, Math.max(width, height) / (sizes[sizes.length - 1] * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변을 size로 맞추되, 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 줄인다
+    private static BufferedImage resize(BufferedImage source, int size, boolean alpha) {
+        double scale = (double) size / Math.max(source.getWidth(), source.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private static String variantFileName(String fileName, int size, String extension) {
+        String base = fileName == null ? "image" : fileName;
+        int dot = base.lastIndexOf('.');
+        if (dot > 0) {
+            base = base.substring(0, dot);
+        }
+        return base + "@" + size + "." + extension;
+    }
+
+    private static boolean isImage(String contentType) {
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("image/");
+    }
+}
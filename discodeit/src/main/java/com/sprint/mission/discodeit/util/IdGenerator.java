@@ -0,0 +1,46 @@
+package com.sprint.mission.discodeit.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 생성 시각 순으로 정렬되는 UUID (RFC 9562 UUIDv7 레이아웃) 발급기
+ * <pre>
+ *  48bit unix millis | 4bit version(7) | 12bit 카운터 | 2bit variant | 62bit 난수
+ * </pre>
+ * 같은 밀리초 안에서는 12bit 카운터를 올리고, 카운터가 넘치면 다음 밀리초 값을 미리 사용하므로
+ * JVM 안에서 발급 순서대로 엄격히 증가한다. 상태는 AtomicLong 하나이고 CAS로 갱신하며(락 없음),
+ * 난수는 SecureRandom 대신 ThreadLocalRandom을 사용한다.
+ * <p>
+ * {@link UUID#compareTo}는 msb를 부호 있는 long으로 비교하는데, 최상위 비트가 켜지는 것은
+ * 서기 6000년대 이후이므로 id 정렬이 곧 생성 시각 정렬이 된다. 기존 랜덤(v4) id와도 섞여서 동작한다.
+ */
+public final class IdGenerator {
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    // (unix millis << 12) | counter
+    private static final AtomicLong lastTimestamp = new AtomicLong();
+
+    private IdGenerator() {
+    }
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long previous;
+        long next;
+        do {
+            previous = lastTimestamp.get();
+            next = Math.max(now, previous + 1);
+        } while (!lastTimestamp.compareAndSet(previous, next));
+
+        long millis = next >>> COUNTER_BITS;
+        long counter = next & ((1L << COUNTER_BITS) - 1);
+        long msb = (millis << 16) | VERSION_7 | counter;
+        long lsb = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(msb, lsb);
+    }
+}
@@ -0,0 +1,72 @@
+-- discodeit.repository.type=jdbc 스키마 (부팅 시 실행, 이미 있으면 그대로 둔다)
+
+CREATE TABLE IF NOT EXISTS users (
+    id          UUID PRIMARY KEY,
+    created_at  TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+    updated_at  TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+    version     BIGINT NOT NULL,
+    username    VARCHAR(255),
+    email       VARCHAR(255),
+    password    VARCHAR(255),
+    profile_id  UUID
+);
+CREATE INDEX IF NOT EXISTS ix_users_username ON users (username);
+CREATE INDEX IF NOT EXISTS ix_users_email ON users (email);
+
+CREATE TABLE IF NOT EXISTS user_statuses (
+    id              UUID PRIMARY KEY,
+    created_at      TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+    updated_at      TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+    version         BIGINT NOT NULL,
+    user_id         UUID NOT NULL,
+    last_active_at  TIMESTAMP(9) WITH TIME ZONE
+);
+CREATE INDEX IF NOT EXISTS ix_user_statuses_user_id ON user_statuses (user_id);
+
+CREATE TABLE IF NOT EXISTS channels (
+    id                UUID PRIMARY KEY,
+    created_at        TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+    updated_at        TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+    version           BIGINT NOT NULL,
+    type              VARCHAR(16) NOT NULL,
+    name              VARCHAR(255),
+    description       VARCHAR(1024),
+    retention_days    INT,
+    retention_action  VARCHAR(16)
+);
+CREATE INDEX IF NOT EXISTS ix_channels_type ON channels (type);
+
+CREATE TABLE IF NOT EXISTS read_statuses (
+    id            UUID PRIMARY KEY,
+    created_at    TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+    updated_at    TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+    version       BIGINT NOT NULL,
+    user_id       UUID NOT NULL,
+    channel_id    UUID NOT NULL,
+    last_read_at  TIMESTAMP(9) WITH TIME ZONE
+);
+CREATE INDEX IF NOT EXISTS ix_read_statuses_user_channel ON read_statuses (user_id, channel_id);
+CREATE INDEX IF NOT EXISTS ix_read_statuses_channel_id ON read_statuses (channel_id);
+
+CREATE TABLE IF NOT EXISTS messages (
+    id              UUID PRIMARY KEY,
+    created_at      TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+    updated_at      TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+    version         BIGINT NOT NULL,
+    content         CHARACTER LARGE OBJECT,
+    channel_id      UUID,
+    author_id       UUID,
+    attachment_ids  UUID ARRAY,
+    sequence        BIGINT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS ix_messages_channel_sequence ON messages (channel_id, sequence);
+
+CREATE TABLE IF NOT EXISTS binary_contents (
+    id            UUID PRIMARY KEY,
+    created_at    TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+    file_name     VARCHAR(1024),
+    content_type  VARCHAR(255),
+    data          BINARY LARGE OBJECT,
+    original_id   UUID,
+    variant_size  INT NOT NULL
+);
@@ -0,0 +1,198 @@
+package com.sprint.mission.discodeit.event;
+
+import com.sprint.mission.discodeit.entity.EntityType;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChangeFeedTest {
+
+    @Test
+    void sequencesStartAtOneWithoutGaps() {
+        ChangeFeed feed = new ChangeFeed(16, Long.MAX_VALUE);
+
+        for (int i = 1; i <= 5; i++) {
+            assertThat(publish(feed).sequence()).isEqualTo(i);
+        }
+        assertThat(feed.lastSequence()).isEqualTo(5);
+        assertThat(feed.oldestSequence()).isEqualTo(1);
+    }
+
+    @Test
+    void readReturnsEventsAfterOffsetUpToMax() throws InterruptedException {
+        ChangeFeed feed = new ChangeFeed(16, Long.MAX_VALUE);
+        for (int i = 0; i < 10; i++) {
+            publish(feed);
+        }
+
+        ChangeBatch batch = feed.read(3, 4, Duration.ZERO);
+
+        assertThat(batch.events()).extracting(ChangeEvent::sequence).containsExactly(4L, 5L, 6L, 7L);
+        assertThat(batch.skipped()).isZero();
+    }
+
+    @Test
+    void readReportsEventsPushedOutOfRing() throws InterruptedException {
+        // 용량 4의 링에 10개를 넣으면 1~6은 밀려난다
+        ChangeFeed feed = new ChangeFeed(4, Long.MAX_VALUE);
+        for (int i = 0; i < 10; i++) {
+            publish(feed);
+        }
+        assertThat(feed.oldestSequence()).isEqualTo(7);
+
+        ChangeBatch batch = feed.read(0, 100, Duration.ZERO);
+
+        assertThat(batch.events()).extracting(ChangeEvent::sequence).containsExactly(7L, 8L, 9L, 10L);
+        assertThat(batch.skipped()).isEqualTo(6);
+        assertThat(feed.stats().skippedEvents()).isEqualTo(6);
+
+        // 남아 있는 구간 안에서 읽으면 건너뛴 것이 없다
+        assertThat(feed.read(8, 100, Duration.ZERO).skipped()).isZero();
+    }
+
+    @Test
+    void readTimesOutWhenNothingNew() throws InterruptedException {
+        ChangeFeed feed = new ChangeFeed(16, Long.MAX_VALUE);
+        publish(feed);
+
+        long start = System.nanoTime();
+        ChangeBatch batch = feed.read(1, 10, Duration.ofMillis(50));
+
+        assertThat(batch.events()).isEmpty();
+        assertThat(batch.skipped()).isZero();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(40));
+    }
+
+    @Test
+    void readWakesUpOnPublish() throws Exception {
+        ChangeFeed feed = new ChangeFeed(16, Long.MAX_VALUE);
+
+        CompletableFuture<ChangeBatch> pending = CompletableFuture.supplyAsync(() -> {
+            try {
+                return feed.read(0, 10, Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        TimeUnit.MILLISECONDS.sleep(50);
+        publish(feed);
+
+        assertThat(pending.get(5, TimeUnit.SECONDS).events()).extracting(ChangeEvent::sequence).containsExactly(1L);
+    }
+
+    @Test
+    void consumerKeepsItsOwnOffset() throws InterruptedException {
+        ChangeFeed feed = new ChangeFeed(16, Long.MAX_VALUE);
+        for (int i = 0; i < 5; i++) {
+            publish(feed);
+        }
+        ChangeFeed.Consumer consumer = feed.subscribe("test", 2);
+
+        assertThat(consumer.lag()).isEqualTo(3);
+        assertThat(consumer.poll(2, Duration.ZERO).events()).extracting(ChangeEvent::sequence).containsExactly(3L, 4L);
+        assertThat(consumer.offset()).isEqualTo(4);
+        assertThat(consumer.lag()).isEqualTo(1);
+
+        consumer.seek(0);
+        assertThat(consumer.poll(10, Duration.ZERO).events()).hasSize(5);
+        assertThat(feed.stats().consumerOffsets()).containsEntry("test", 5L);
+    }
+
+    @Test
+    void consumerNamesAreUniqueUntilClosed() {
+        ChangeFeed feed = new ChangeFeed(16, Long.MAX_VALUE);
+        ChangeFeed.Consumer consumer = feed.subscribe("test", 0);
+
+        assertThatThrownBy(() -> feed.subscribe("test", 0)).isInstanceOf(IllegalArgumentException.class);
+
+        consumer.close();
+        assertThat(feed.subscribe("test", 0)).isNotNull();
+    }
+
+    @Test
+    void eventKeepsEntityAsPublished() {
+        ChangeFeed feed = new ChangeFeed(16, Long.MAX_VALUE);
+        ArrayList<String> entity = new ArrayList<>(List.of("before"));
+
+        ChangeEvent event = feed.publish(EntityType.USER, ChangeType.SAVED, UUID.randomUUID(), entity);
+        entity.set(0, "after");
+
+        assertThat(event.entity()).isEqualTo(List.of("before"));
+        // 꺼낼 때마다 새 사본이라 소비자끼리도 영향을 주지 않는다
+        assertThat(event.entity()).isNotSameAs(event.entity());
+    }
+
+    @Test
+    void deletedEventHasNoEntity() {
+        ChangeFeed feed = new ChangeFeed(16, Long.MAX_VALUE);
+
+        ChangeEvent event = feed.publish(EntityType.USER, ChangeType.DELETED, UUID.randomUUID(), null);
+
+        assertThat(event.payload()).isNull();
+        assertThat(event.entity()).isNull();
+    }
+
+    @Test
+    void evictsOldestEventsOverByteLimit() throws InterruptedException {
+        byte[] large = new byte[10_000];
+        ChangeFeed feed = new ChangeFeed(16, 25_000);
+
+        for (int i = 0; i < 5; i++) {
+            feed.publish(EntityType.USER, ChangeType.SAVED, UUID.randomUUID(), large);
+        }
+
+        // 이벤트 수는 여유가 있어도 바이트 한도 때문에 최근 2개만 남는다
+        assertThat(feed.oldestSequence()).isEqualTo(4);
+        assertThat(feed.stats().retainedBytes()).isLessThanOrEqualTo(25_000);
+        ChangeBatch batch = feed.read(0, 100, Duration.ZERO);
+        assertThat(batch.events()).extracting(ChangeEvent::sequence).containsExactly(4L, 5L);
+        assertThat(batch.skipped()).isEqualTo(3);
+    }
+
+    @Test
+    void keepsNewestEventEvenIfLargerThanLimit() {
+        ChangeFeed feed = new ChangeFeed(16, 1_000);
+
+        feed.publish(EntityType.USER, ChangeType.SAVED, UUID.randomUUID(), new byte[10_000]);
+
+        assertThat(feed.oldestSequence()).isEqualTo(1);
+        assertThat(feed.lastSequence()).isEqualTo(1);
+    }
+
+    @Test
+    void referenceOnlyTypesKeepIdWithoutPayload() {
+        ChangeFeed feed = new ChangeFeed(16, Long.MAX_VALUE);
+        UUID id = UUID.randomUUID();
+
+        ChangeEvent event = feed.publish(EntityType.BINARY_CONTENT, ChangeType.SAVED, id, new byte[10_000]);
+
+        assertThat(event.payload()).isNull();
+        assertThat(event.entityId()).isEqualTo(id);
+        assertThat(event.withEntity("current").entity()).isEqualTo("current");
+        assertThat(event.withEntity(null).type()).isEqualTo(ChangeType.DELETED);
+    }
+
+    @Test
+    void entityRejectsClassesOutsideAllowList() {
+        ChangeFeed feed = new ChangeFeed(16, Long.MAX_VALUE);
+
+        ChangeEvent event = feed.publish(EntityType.USER, ChangeType.SAVED, UUID.randomUUID(),
+                new Attribute("name", "value"));
+
+        assertThatThrownBy(event::entity).isInstanceOf(UncheckedIOException.class);
+    }
+
+    private static ChangeEvent publish(ChangeFeed feed) {
+        return feed.publish(EntityType.USER, ChangeType.SAVED, UUID.randomUUID(), "entity");
+    }
+}
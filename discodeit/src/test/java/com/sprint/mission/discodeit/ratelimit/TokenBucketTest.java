@@ -0,0 +1,65 @@
+package com.sprint.mission.discodeit.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @Test
+    void allowsBurstThenRejects() {
+        TokenBucket bucket = new TokenBucket(1, 3);
+
+        assertThat(bucket.tryAcquire(1)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isFalse();
+    }
+
+    @Test
+    void rejectsRequestLargerThanBurst() {
+        TokenBucket bucket = new TokenBucket(1, 3);
+
+        assertThat(bucket.tryAcquire(4)).isFalse();
+        // 거절된 요청은 아무것도 소비하지 않는다
+        assertThat(bucket.tryAcquire(3)).isTrue();
+    }
+
+    @Test
+    void releaseReturnsUnits() {
+        TokenBucket bucket = new TokenBucket(1, 2);
+        assertThat(bucket.tryAcquire(2)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isFalse();
+
+        bucket.release(1);
+
+        assertThat(bucket.tryAcquire(1)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isFalse();
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        // 10ms마다 하나
+        TokenBucket bucket = new TokenBucket(100, 2);
+        assertThat(bucket.tryAcquire(2)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isFalse();
+
+        TimeUnit.MILLISECONDS.sleep(30);
+
+        assertThat(bucket.tryAcquire(2)).isTrue();
+    }
+
+    @Test
+    void idleOnlyWhenFull() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(100, 5);
+        assertThat(bucket.isIdle(System.nanoTime())).isTrue();
+
+        assertThat(bucket.tryAcquire(1)).isTrue();
+        assertThat(bucket.isIdle(System.nanoTime())).isFalse();
+
+        TimeUnit.MILLISECONDS.sleep(20);
+        assertThat(bucket.isIdle(System.nanoTime())).isTrue();
+    }
+}
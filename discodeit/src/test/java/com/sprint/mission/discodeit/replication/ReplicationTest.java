@@ -0,0 +1,201 @@
+package com.sprint.mission.discodeit.replication;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.EntityType;
+import com.sprint.mission.discodeit.event.ChangeFeed;
+import com.sprint.mission.discodeit.event.ChangeType;
+import com.sprint.mission.discodeit.repository.file.FileBinaryContentRepository;
+import com.sprint.mission.discodeit.repository.file.FileChannelRepository;
+import com.sprint.mission.discodeit.repository.file.FileMessageRepository;
+import com.sprint.mission.discodeit.repository.file.FileReadStatusRepository;
+import com.sprint.mission.discodeit.repository.file.FileUserRepository;
+import com.sprint.mission.discodeit.repository.file.FileUserStatusRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationTest {
+    private static final String SECRET = "s3cret";
+
+    @TempDir
+    Path directory;
+
+    private final ExecutorService scanExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ChangeFeed changeFeed = new ChangeFeed(1024, Long.MAX_VALUE);
+    private final List<AutoCloseable> running = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (AutoCloseable closeable : running.reversed()) {
+            closeable.close();
+        }
+        scanExecutor.shutdownNow();
+    }
+
+    @Test
+    void followerAppliesSnapshotThenChanges() throws Exception {
+        Stores leaderStores = stores("leader");
+        Stores followerStores = stores("follower");
+        Channel kept = saveChannel(leaderStores, "kept");
+        Channel removedLater = saveChannel(leaderStores, "removed-later");
+        // 리더에 없는 로컬 엔티티는 스냅샷 적용 후 지워진다
+        Channel stale = followerStores.channels.save(new Channel(ChannelType.PUBLIC, "stale", "d"));
+        int port = freePort();
+        startLeader(leaderStores, port, SECRET);
+        ReplicationFollower follower = startFollower(followerStores, port, SECRET);
+
+        // 스냅샷 도중에도 엔티티가 보이므로 SnapshotEnd가 반영된 시점(적용한 sequence)을 기다린다
+        await(() -> follower.status().connected() && follower.status().appliedSequence() == changeFeed.lastSequence()
+                && followerStores.channels.existsById(kept.getId()));
+        assertThat(followerStores.channels.findAll()).extracting(Channel::getId)
+                .containsExactlyInAnyOrder(kept.getId(), removedLater.getId());
+        assertThat(followerStores.channels.existsById(stale.getId())).isFalse();
+
+        Channel added = saveChannel(leaderStores, "added");
+        leaderStores.channels.deleteById(removedLater.getId());
+        changeFeed.publish(EntityType.CHANNEL, ChangeType.DELETED, removedLater.getId(), null);
+        // 첨부파일은 피드에 id만 남고, 리더가 보내는 시점에 저장소에서 읽는다
+        BinaryContent attachment = leaderStores.binaryContents.save(new BinaryContent("a.bin", "application/octet-stream", new byte[]{4, 5, 6}));
+        changeFeed.publish(EntityType.BINARY_CONTENT, ChangeType.SAVED, attachment.getId(), attachment);
+
+        await(() -> follower.status().appliedSequence() == changeFeed.lastSequence());
+        assertThat(followerStores.channels.findAll()).extracting(Channel::getId)
+                .containsExactlyInAnyOrder(kept.getId(), added.getId());
+        assertThat(followerStores.binaryContents.findById(attachment.getId())).hasValueSatisfying(found ->
+                assertThat(found.getData()).containsExactly(4, 5, 6));
+    }
+
+    @Test
+    void followerWithWrongSecretReceivesNothing() throws Exception {
+        Stores leaderStores = stores("leader");
+        Stores followerStores = stores("follower");
+        saveChannel(leaderStores, "private");
+        int port = freePort();
+        startLeader(leaderStores, port, SECRET);
+        ReplicationFollower follower = startFollower(followerStores, port, "wrong");
+
+        Thread.sleep(1_000);
+
+        assertThat(follower.status().connected()).isFalse();
+        assertThat(followerStores.channels.findAll()).isEmpty();
+    }
+
+    @Test
+    void impostorLeaderNeverReceivesSecretOrProof() throws Exception {
+        Stores followerStores = stores("follower");
+        try (ServerSocket impostor = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            CompletableFuture<byte[]> received = CompletableFuture.supplyAsync(() -> {
+                try (Socket socket = impostor.accept()) {
+                    socket.setSoTimeout(5_000);
+                    InputStream in = socket.getInputStream();
+                    new DataInputStream(in).readFully(new byte[ReplicationHandshake.NONCE_BYTES]);
+                    // 비밀값을 모르므로 아무 값이나 증명이라고 보낸다
+                    byte[] forged = new byte[ReplicationHandshake.NONCE_BYTES + ReplicationHandshake.PROOF_BYTES];
+                    new Random(1).nextBytes(forged);
+                    socket.getOutputStream().write(forged);
+                    socket.getOutputStream().flush();
+                    ByteArrayOutputStream rest = new ByteArrayOutputStream();
+                    in.transferTo(rest);
+                    return rest.toByteArray();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            startFollower(followerStores, impostor.getLocalPort(), SECRET);
+
+            // 팔로워는 리더 증명이 틀리면 더 보내지 않고 연결을 끊는다
+            assertThat(received.get(10, TimeUnit.SECONDS)).isEmpty();
+        }
+    }
+
+    @Test
+    void proofsAreBoundToRoleAndNonces() {
+        byte[] secret = SECRET.getBytes(StandardCharsets.UTF_8);
+        byte[] followerNonce = ReplicationHandshake.nonce();
+        byte[] leaderNonce = ReplicationHandshake.nonce();
+
+        byte[] leaderProof = ReplicationHandshake.leaderProof(secret, followerNonce, leaderNonce);
+
+        assertThat(ReplicationHandshake.matches(ReplicationHandshake.leaderProof(secret, followerNonce, leaderNonce), leaderProof)).isTrue();
+        assertThat(ReplicationHandshake.matches(ReplicationHandshake.followerProof(secret, followerNonce, leaderNonce), leaderProof)).isFalse();
+        assertThat(ReplicationHandshake.matches(ReplicationHandshake.leaderProof(secret, ReplicationHandshake.nonce(), leaderNonce), leaderProof)).isFalse();
+        assertThat(ReplicationHandshake.matches(ReplicationHandshake.leaderProof("other".getBytes(StandardCharsets.UTF_8), followerNonce, leaderNonce), leaderProof)).isFalse();
+    }
+
+    private void startLeader(Stores stores, int port, String secret) throws IOException {
+        ReplicationLeader leader = new ReplicationLeader(changeFeed, stores.users, stores.channels, stores.messages,
+                stores.readStatuses, stores.userStatuses, stores.binaryContents, true, "127.0.0.1", port, secret, 512, 100);
+        leader.start();
+        running.add(leader::shutdown);
+    }
+
+    private ReplicationFollower startFollower(Stores stores, int port, String secret) {
+        ReplicationFollower follower = new ReplicationFollower(stores.users, stores.channels, stores.messages,
+                stores.readStatuses, stores.userStatuses, stores.binaryContents, "127.0.0.1", port, secret, 100, 100);
+        follower.start();
+        running.add(follower::shutdown);
+        return follower;
+    }
+
+    private Channel saveChannel(Stores stores, String name) {
+        Channel channel = stores.channels.save(new Channel(ChannelType.PUBLIC, name, "d"));
+        changeFeed.publish(EntityType.CHANNEL, ChangeType.SAVED, channel.getId(), channel);
+        return channel;
+    }
+
+    private Stores stores(String name) {
+        String storage = directory.resolve(name).toString();
+        return new Stores(
+                new FileUserRepository(storage, scanExecutor, 0.01),
+                new FileUserStatusRepository(storage, scanExecutor, 0.01),
+                new FileChannelRepository(storage, scanExecutor),
+                new FileReadStatusRepository(storage, scanExecutor),
+                new FileMessageRepository(storage, scanExecutor),
+                new FileBinaryContentRepository(storage, scanExecutor, false, 512));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private record Stores(
+            FileUserRepository users,
+            FileUserStatusRepository userStatuses,
+            FileChannelRepository channels,
+            FileReadStatusRepository readStatuses,
+            FileMessageRepository messages,
+            FileBinaryContentRepository binaryContents
+    ) {}
+}
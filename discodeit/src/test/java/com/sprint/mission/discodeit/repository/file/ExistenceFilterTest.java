@@ -0,0 +1,101 @@
+package com.sprint.mission.discodeit.repository.file;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExistenceFilterTest {
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private record Item(UUID id, String name) {
+    }
+
+    private final List<Item> stored = new CopyOnWriteArrayList<>();
+
+    @Test
+    void buildsFromExistingEntities() {
+        for (int i = 0; i < 100; i++) {
+            stored.add(new Item(UUID.randomUUID(), "name-" + i));
+        }
+
+        ExistenceFilter<Item> filter = newFilter();
+
+        for (Item item : stored) {
+            assertThat(filter.mightContain("id", item.id())).isTrue();
+            assertThat(filter.mightContain("name", item.name())).isTrue();
+        }
+        assertThat(falsePositiveRate(filter)).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    void addedEntitiesAreVisibleImmediately() {
+        ExistenceFilter<Item> filter = newFilter();
+        Item item = new Item(UUID.randomUUID(), "added");
+
+        filter.add(item);
+
+        assertThat(filter.mightContain("id", item.id())).isTrue();
+        assertThat(filter.mightContain("name", "added")).isTrue();
+    }
+
+    @Test
+    void rebuildsLargerWithoutLosingKeys() throws InterruptedException {
+        ExistenceFilter<Item> filter = newFilter();
+
+        // 최소 용량(1024)을 넘겨 백그라운드 재구성을 일으킨다. 저장소처럼 저장한 뒤 추가한다.
+        for (int i = 0; i < 3_000; i++) {
+            Item item = new Item(UUID.randomUUID(), "name-" + i);
+            stored.add(item);
+            filter.add(item);
+        }
+
+        // 재구성 전후 어느 때에도 추가한 키를 없다고 하지 않는다
+        // (재구성 중에 용량을 다시 넘기면 다음 추가에서 재구성하므로 저장을 조금씩 이어간다)
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        double rate;
+        do {
+            Item item = new Item(UUID.randomUUID(), "late");
+            stored.add(item);
+            filter.add(item);
+            for (Item existing : stored) {
+                assertThat(filter.mightContain("id", existing.id())).isTrue();
+            }
+            rate = falsePositiveRate(filter);
+        } while (rate >= FALSE_POSITIVE_RATE * 2 && System.nanoTime() < deadline);
+
+        // 용량을 넘긴 상태의 오탐률은 목표보다 훨씬 높으므로, 목표 근처로 돌아왔다면 더 크게 다시 만든 것이다
+        assertThat(rate).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    void rejectsInvalidFalsePositiveRate() {
+        assertThatThrownBy(() -> new ExistenceFilter<>("items", Map.of("id", Item::id), stored::stream, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ExistenceFilter<>("items", Map.of("id", Item::id), stored::stream, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ExistenceFilter<Item> newFilter() {
+        Map<String, Function<Item, ?>> fields = Map.of("id", Item::id, "name", Item::name);
+        return new ExistenceFilter<>("items", fields, stored::stream, FALSE_POSITIVE_RATE);
+    }
+
+    private static double falsePositiveRate(ExistenceFilter<Item> filter) {
+        int probes = 20_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("id", UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+        return (double) falsePositives / probes;
+    }
+}
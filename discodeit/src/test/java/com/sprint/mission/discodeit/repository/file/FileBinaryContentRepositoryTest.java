@@ -0,0 +1,130 @@
+package com.sprint.mission.discodeit.repository.file;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileBinaryContentRepositoryTest {
+    private static final int MIN_BYTES = 512;
+
+    @TempDir
+    Path directory;
+
+    private final ExecutorService scanExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        scanExecutor.shutdownNow();
+    }
+
+    @Test
+    void compressesCompressibleContent() throws IOException {
+        FileBinaryContentRepository repository = repository(true);
+        byte[] text = "hello discodeit ".repeat(1_000).getBytes(StandardCharsets.UTF_8);
+
+        BinaryContent saved = repository.save(new BinaryContent("a.txt", "text/plain; charset=utf-8", text));
+
+        assertThat(isGzip(payload(saved.getId()))).isTrue();
+        assertThat(Files.size(payload(saved.getId()))).isLessThan(text.length / 10);
+        assertThat(repository.findById(saved.getId()).orElseThrow().getData()).isEqualTo(text);
+    }
+
+    @Test
+    void skipsAlreadyCompressedContentTypes() throws IOException {
+        FileBinaryContentRepository repository = repository(true);
+        byte[] compressible = new byte[4_096];
+
+        BinaryContent png = repository.save(new BinaryContent("a.png", "image/png", compressible));
+        BinaryContent video = repository.save(new BinaryContent("a.mp4", "Video/MP4", compressible));
+
+        // 내용이 압축될 수 있어도 형식만 보고 원본 그대로 둔다
+        assertStoredRaw(png.getId(), compressible.length);
+        assertStoredRaw(video.getId(), compressible.length);
+        assertThat(repository.findById(png.getId()).orElseThrow().getData()).isEqualTo(compressible);
+    }
+
+    @Test
+    void skipsContentBelowMinimumSize() throws IOException {
+        FileBinaryContentRepository repository = repository(true);
+        byte[] small = new byte[MIN_BYTES - 1];
+
+        BinaryContent saved = repository.save(new BinaryContent("a.txt", "text/plain", small));
+
+        assertStoredRaw(saved.getId(), small.length);
+    }
+
+    @Test
+    void keepsOriginalWhenCompressionDoesNotShrink() throws IOException {
+        FileBinaryContentRepository repository = repository(true);
+        byte[] random = new byte[8_192];
+        new Random(1).nextBytes(random);
+
+        BinaryContent saved = repository.save(new BinaryContent("a.bin", "application/octet-stream", random));
+
+        assertStoredRaw(saved.getId(), random.length);
+        assertThat(repository.findById(saved.getId()).orElseThrow().getData()).isEqualTo(random);
+    }
+
+    @Test
+    void storesRawWhenCompressionDisabled() throws IOException {
+        FileBinaryContentRepository repository = repository(false);
+        byte[] text = "a".repeat(4_096).getBytes(StandardCharsets.UTF_8);
+
+        BinaryContent saved = repository.save(new BinaryContent("a.txt", "text/plain", text));
+
+        assertStoredRaw(saved.getId(), text.length);
+    }
+
+    @Test
+    void readsLegacySingleFileFormat() throws IOException {
+        BinaryContent legacy = new BinaryContent("old.txt", "text/plain", new byte[]{1, 2, 3});
+        Path legacyFile = directory.resolve("BinaryContent").resolve(legacy.getId() + ".ser");
+        Files.createDirectories(legacyFile.getParent());
+        try (ObjectOutputStream oos = new ObjectOutputStream(Files.newOutputStream(legacyFile))) {
+            oos.writeObject(legacy);
+        }
+
+        FileBinaryContentRepository repository = repository(true);
+
+        assertThat(repository.findById(legacy.getId())).hasValueSatisfying(found -> {
+            assertThat(found.getFileName()).isEqualTo("old.txt");
+            assertThat(found.getData()).containsExactly(1, 2, 3);
+        });
+    }
+
+    private FileBinaryContentRepository repository(boolean compressionEnabled) {
+        return new FileBinaryContentRepository(directory.toString(), scanExecutor, compressionEnabled, MIN_BYTES);
+    }
+
+    private void assertStoredRaw(UUID id, int size) throws IOException {
+        assertThat(isGzip(payload(id))).isFalse();
+        assertThat(Files.size(payload(id))).isEqualTo(size);
+    }
+
+    private Path payload(UUID id) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(path -> path.getFileName().toString().equals(id + ".bin"))
+                    .findFirst()
+                    .orElseThrow();
+        }
+    }
+
+    private static boolean isGzip(Path path) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        return bytes.length >= 2 && (bytes[0] & 0xFF) == 0x1F && (bytes[1] & 0xFF) == 0x8B;
+    }
+}
@@ -0,0 +1,144 @@
+package com.sprint.mission.discodeit.repository.file;
+
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.repository.query.Criterion;
+import com.sprint.mission.discodeit.repository.query.Query;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileMessageRepositoryTest {
+    private static final int MESSAGES = 1_000;
+
+    @TempDir
+    Path directory;
+
+    private final CountingExecutor scanExecutor = new CountingExecutor(Executors.newFixedThreadPool(2));
+    private final UUID channelId = UUID.randomUUID();
+    private final UUID otherChannelId = UUID.randomUUID();
+    private FileMessageRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new FileMessageRepository(directory.toString(), scanExecutor);
+        for (int i = 0; i < MESSAGES; i++) {
+            repository.save(message(i % 2 == 0 ? channelId : otherChannelId, i));
+        }
+        scanExecutor.submitted.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scanExecutor.shutdownNow();
+    }
+
+    @Test
+    void streamReadsFilesOnDemand() {
+        try (Stream<Message> messages = repository.streamAll()) {
+            assertThat(messages.limit(5).toList()).hasSize(5);
+        }
+
+        // 미리 읽어 두는 창만큼만 읽고 나머지 파일은 건드리지 않는다
+        assertThat(scanExecutor.submitted.get()).isLessThan(MESSAGES / 2);
+    }
+
+    @Test
+    void closingStreamMidwayStopsReading() {
+        Stream<Message> messages = repository.streamAll();
+        Iterator<Message> iterator = messages.iterator();
+        iterator.next();
+        messages.close();
+        int afterClose = scanExecutor.submitted.get();
+
+        assertThat(afterClose).isLessThan(MESSAGES);
+        assertThat(scanExecutor.submitted.get()).isEqualTo(afterClose);
+    }
+
+    @Test
+    void fullStreamMatchesListVariants() {
+        try (Stream<Message> messages = repository.streamAll()) {
+            assertThat(messages.map(Message::getId)).containsExactlyInAnyOrderElementsOf(
+                    repository.findAll().stream().map(Message::getId).toList());
+        }
+        try (Stream<Message> messages = repository.streamAllByChannelId(channelId)) {
+            List<Message> channelMessages = messages.toList();
+            assertThat(channelMessages).hasSize(MESSAGES / 2).allMatch(message -> message.getChannelId().equals(channelId));
+            assertThat(channelMessages).extracting(Message::getId).containsExactlyInAnyOrderElementsOf(
+                    repository.findAllByChannelId(channelId).stream().map(Message::getId).toList());
+        }
+    }
+
+    @Test
+    void queryStreamStopsAtFirstMatch() {
+        Message target = repository.save(message(channelId, MESSAGES));
+        scanExecutor.submitted.set(0);
+
+        try (Stream<Message> found = repository.stream(Query.where(Criterion.eq("id", target.getId())))) {
+            assertThat(found.map(Message::getId)).containsExactly(target.getId());
+        }
+        // id 조건은 스캔 없이 파일 하나만 읽는다
+        assertThat(scanExecutor.submitted.get()).isZero();
+    }
+
+    private static Message message(UUID channelId, long sequence) {
+        Instant now = Instant.now();
+        return new Message(UUID.randomUUID(), now, now, "message " + sequence, channelId, UUID.randomUUID(),
+                List.of(), sequence, 0);
+    }
+
+    // 스캔 풀에 맡긴 파일 읽기 수를 센다
+    private static final class CountingExecutor extends AbstractExecutorService {
+        private final ExecutorService delegate;
+        private final AtomicInteger submitted = new AtomicInteger();
+
+        private CountingExecutor(ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            submitted.incrementAndGet();
+            delegate.execute(command);
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
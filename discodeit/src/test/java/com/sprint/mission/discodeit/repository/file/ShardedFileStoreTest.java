@@ -0,0 +1,316 @@
+package com.sprint.mission.discodeit.repository.file;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardedFileStoreTest {
+    private record Item(UUID id, String name) implements Serializable {
+    }
+
+    @TempDir
+    Path directory;
+
+    private final ExecutorService scanExecutor = Executors.newFixedThreadPool(4);
+    private final List<ExecutorService> gatedExecutors = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        scanExecutor.shutdownNow();
+        gatedExecutors.forEach(ExecutorService::shutdownNow);
+    }
+
+    @Test
+    void spreadsFilesAcrossHashedShardDirectories() throws IOException {
+        ShardedFileStore<Item> store = newStore();
+        List<Item> items = items(1_000);
+        items.forEach(item -> store.write(item.id(), item));
+
+        try (Stream<Path> entries = Files.list(directory)) {
+            List<Path> shards = entries.toList();
+            // 최상위에는 샤드 디렉토리만 있고 파일은 없다
+            assertThat(shards).allMatch(Files::isDirectory);
+            assertThat(shards.size()).isGreaterThan(200);
+        }
+        for (Item item : items) {
+            Path path = store.resolvePath(item.id());
+            assertThat(path.getParent().getParent()).isEqualTo(directory);
+            assertThat(path).exists();
+        }
+    }
+
+    @Test
+    void migratesFlatLayoutInPlace() throws IOException {
+        List<Item> items = items(50);
+        Files.createDirectories(directory);
+        for (Item item : items) {
+            writeLegacy(directory.resolve(item.id() + ".ser"), item);
+        }
+        Files.writeString(directory.resolve("notes.ser"), "not an entity");
+
+        ShardedFileStore<Item> store = newStore();
+
+        for (Item item : items) {
+            assertThat(directory.resolve(item.id() + ".ser")).doesNotExist();
+            assertThat(store.read(item.id())).contains(item);
+        }
+        // 엔티티 파일이 아닌 것은 그대로 둔다
+        assertThat(directory.resolve("notes.ser")).exists();
+        assertThat(store.readAll()).containsExactlyInAnyOrderElementsOf(items);
+    }
+
+    @Test
+    void reopeningMigratedStoreKeepsEntities() {
+        List<Item> items = items(20);
+        ShardedFileStore<Item> first = newStore();
+        items.forEach(item -> first.write(item.id(), item));
+
+        assertThat(newStore().readAll()).containsExactlyInAnyOrderElementsOf(items);
+    }
+
+    @Test
+    void fullScanReadsEveryShard() {
+        ShardedFileStore<Item> store = newStore();
+        List<Item> items = items(2_000);
+        items.forEach(item -> store.write(item.id(), item));
+        store.delete(items.getFirst().id());
+
+        assertThat(store.readAll()).containsExactlyInAnyOrderElementsOf(items.subList(1, items.size()));
+        assertThat(store.exists(items.getFirst().id())).isFalse();
+    }
+
+    @Test
+    void scanOrderFollowsShardAndFileNameOrder() throws IOException {
+        ShardedFileStore<Item> store = newStore();
+        items(500).forEach(item -> store.write(item.id(), item));
+        List<UUID> expected;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            // 샤드 이름이 두 자리 16진수라 전체 경로의 사전순이 곧 (샤드 번호, 파일 이름) 순이다
+            expected = paths.filter(Files::isRegularFile)
+                    .sorted()
+                    .map(path -> path.getFileName().toString().replace(".ser", ""))
+                    .map(UUID::fromString)
+                    .toList();
+        }
+
+        assertThat(store.readAll()).extracting(Item::id).containsExactlyElementsOf(expected);
+        assertThat(store.readAll()).extracting(Item::id).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void corruptFileFailsTheScan() throws IOException {
+        ShardedFileStore<Item> store = newStore();
+        List<Item> items = items(100);
+        items.forEach(item -> store.write(item.id(), item));
+        Files.writeString(store.resolvePath(items.get(50).id()), "not serialized");
+
+        assertThatThrownBy(store::readAll).isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void scanSkipsFilesDeletedAfterListing() throws Exception {
+        GatedExecutor gated = gated(1);
+        ShardedFileStore<Item> store = new ShardedFileStore<>(directory, Item.class, gated);
+        List<Item> items = items(1_000);
+        items.forEach(item -> store.write(item.id(), item));
+
+        CompletableFuture<List<Item>> scanned = CompletableFuture.supplyAsync(store::readAll);
+        // 목록을 읽고 읽기를 맡겼지만 아직 실행되지 않은 상태에서 모두 지운다
+        awaitSubmitted(gated, 1);
+        items.forEach(item -> store.delete(item.id()));
+        gated.open();
+
+        assertThat(scanned.get(10, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    @Test
+    void scanKeepsBoundedReadsInFlight() {
+        GatedExecutor gated = gated(2);
+        ShardedFileStore<Item> store = new ShardedFileStore<>(directory, Item.class, gated);
+        items(1_000).forEach(item -> store.write(item.id(), item));
+        gated.open();
+
+        try (Stream<Item> scan = store.stream()) {
+            Iterator<Item> iterator = scan.iterator();
+            iterator.next();
+            // 첫 항목을 꺼낼 때까지 미리 맡긴 읽기는 창 크기를 넘지 않는다
+            assertThat(gated.submitted.get()).isLessThanOrEqualTo(256);
+            iterator.forEachRemaining(item -> {
+            });
+        }
+        assertThat(gated.submitted.get()).isEqualTo(1_000);
+        assertThat(gated.maxActive.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void syncWriteWinsOverEarlierAsyncWrite() {
+        ShardedFileStore<Item> store = newStore();
+        UUID id = UUID.randomUUID();
+        // 큰 값의 비동기 쓰기는 뒤의 동기 쓰기보다 늦게 끝날 수 있다
+        CompletableFuture<Item> slow = store.writeAsync(id, new Item(id, large()));
+        store.write(id, new Item(id, "sync"));
+        slow.join();
+
+        assertThat(store.read(id)).hasValueSatisfying(item -> assertThat(item.name()).isEqualTo("sync"));
+    }
+
+    @Test
+    void computeIfPresentWinsOverAsyncWriteStartedInsideIt() {
+        ShardedFileStore<Item> store = newStore();
+        UUID id = UUID.randomUUID();
+        store.write(id, new Item(id, "v0"));
+        List<CompletableFuture<Item>> inFlight = new ArrayList<>();
+
+        // 락을 쥔 동안 시작한 비동기 쓰기는 교체하려면 이 갱신이 끝나기를 기다려야 한다
+        store.computeIfPresent(id, current -> {
+            inFlight.add(store.writeAsync(id, new Item(id, "async")));
+            return new Item(id, "computed");
+        });
+        inFlight.getFirst().join();
+
+        assertThat(store.read(id)).hasValueSatisfying(item -> assertThat(item.name()).isEqualTo("computed"));
+    }
+
+    @Test
+    void laterAsyncWriteWinsOverEarlierOne() {
+        ShardedFileStore<Item> store = newStore();
+        UUID id = UUID.randomUUID();
+
+        CompletableFuture<Item> slow = store.writeAsync(id, new Item(id, large()));
+        CompletableFuture<Item> fast = store.writeAsync(id, new Item(id, "later"));
+        CompletableFuture.allOf(slow, fast).join();
+
+        assertThat(store.read(id)).hasValueSatisfying(item -> assertThat(item.name()).isEqualTo("later"));
+    }
+
+    @Test
+    void deleteWinsOverInFlightAsyncWrite() {
+        ShardedFileStore<Item> store = newStore();
+        UUID id = UUID.randomUUID();
+
+        CompletableFuture<Item> slow = store.writeAsync(id, new Item(id, large()));
+        store.delete(id);
+        slow.join();
+
+        assertThat(store.exists(id)).isFalse();
+    }
+
+    private ShardedFileStore<Item> newStore() {
+        return new ShardedFileStore<>(directory, Item.class, scanExecutor);
+    }
+
+    private GatedExecutor gated(int threads) {
+        GatedExecutor executor = new GatedExecutor(threads);
+        gatedExecutors.add(executor);
+        return executor;
+    }
+
+    private static void awaitSubmitted(GatedExecutor executor, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (executor.submitted.get() < count) {
+            assertThat(System.nanoTime()).as("scan did not start in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static String large() {
+        return "x".repeat(8 * 1024 * 1024);
+    }
+
+    private static List<Item> items(int count) {
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Item(UUID.randomUUID(), "item-" + i));
+        }
+        return items;
+    }
+
+    private static void writeLegacy(Path path, Item item) throws IOException {
+        try (ObjectOutputStream oos = new ObjectOutputStream(Files.newOutputStream(path))) {
+            oos.writeObject(item);
+        }
+    }
+
+    // open() 전까지 맡은 작업을 실행하지 않고, 맡은 수와 동시에 실행된 최대 수를 센다
+    private static final class GatedExecutor extends AbstractExecutorService {
+        private final ExecutorService delegate;
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final AtomicInteger submitted = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger maxActive = new AtomicInteger();
+
+        private GatedExecutor(int threads) {
+            this.delegate = Executors.newFixedThreadPool(threads);
+        }
+
+        void open() {
+            gate.countDown();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            submitted.incrementAndGet();
+            delegate.execute(() -> {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    command.run();
+                } finally {
+                    active.decrementAndGet();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.sprint.mission.discodeit.repository.jcf;
+
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JCFChannelRepositoryTest {
+    // 스냅샷을 켜지 않으면 기록하지 않으므로 디렉터리는 만들어지지 않는다
+    private final JCFChannelRepository repository = new JCFChannelRepository(new JCFOperationLog("unused"));
+
+    @Test
+    void computeIfPresentAdvancesVersionWithoutTouchingStoredInstance() {
+        Channel channel = repository.save(new Channel(ChannelType.PUBLIC, "before", "d"));
+
+        Channel updated = repository.computeIfPresent(channel.getId(), current -> {
+            current.update("after", null);
+            return current;
+        }).orElseThrow();
+
+        assertThat(updated.getVersion()).isEqualTo(1);
+        assertThat(updated.getName()).isEqualTo("after");
+        // 이전에 읽어 간 인스턴스는 바뀌지 않는다
+        assertThat(channel.getName()).isEqualTo("before");
+        assertThat(channel.getVersion()).isZero();
+    }
+
+    @Test
+    void staleExpectedVersionIsRejectedAndKeepsWinner() {
+        Channel channel = repository.save(new Channel(ChannelType.PUBLIC, "original", "d"));
+        long readVersion = channel.getVersion();
+
+        repository.computeIfPresent(channel.getId(), current -> {
+            current.checkVersion(readVersion);
+            current.update("first", null);
+            return current;
+        });
+
+        // 같은 버전을 읽은 두 번째 수정은 거절된다
+        assertThatThrownBy(() -> repository.computeIfPresent(channel.getId(), current -> {
+            current.checkVersion(readVersion);
+            current.update("second", null);
+            return current;
+        })).isInstanceOf(ConcurrentModificationException.class);
+
+        Channel stored = repository.findById(channel.getId()).orElseThrow();
+        assertThat(stored.getName()).isEqualTo("first");
+        assertThat(stored.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentEditorsRetryWithoutLosingUpdates() throws Exception {
+        Channel channel = repository.save(new Channel(ChannelType.PUBLIC, "0", "d"));
+        UUID id = channel.getId();
+        int editors = 8;
+        int editsPerEditor = 200;
+
+        ExecutorService executor = Executors.newFixedThreadPool(editors);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < editors; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int edit = 0; edit < editsPerEditor; edit++) {
+                        // 읽은 값을 바탕으로 고치고, 그 사이 바뀌었으면 다시 읽는다
+                        while (true) {
+                            Channel read = repository.findById(id).orElseThrow();
+                            int next = Integer.parseInt(read.getName()) + 1;
+                            try {
+                                repository.computeIfPresent(id, current -> {
+                                    current.checkVersion(read.getVersion());
+                                    current.update(String.valueOf(next), null);
+                                    return current;
+                                });
+                                break;
+                            } catch (ConcurrentModificationException e) {
+                                // 다른 편집자가 먼저 고쳤다
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Channel stored = repository.findById(id).orElseThrow();
+        assertThat(stored.getName()).isEqualTo(String.valueOf(editors * editsPerEditor));
+        assertThat(stored.getVersion()).isEqualTo(editors * editsPerEditor);
+    }
+
+    @Test
+    void nullExpectedVersionSkipsCheck() {
+        Channel channel = repository.save(new Channel(ChannelType.PUBLIC, "a", "d"));
+        repository.computeIfPresent(channel.getId(), current -> current);
+
+        Channel updated = repository.computeIfPresent(channel.getId(), current -> {
+            current.checkVersion(null);
+            current.update("b", null);
+            return current;
+        }).orElseThrow();
+
+        assertThat(updated.getName()).isEqualTo("b");
+        assertThat(updated.getVersion()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,125 @@
+package com.sprint.mission.discodeit.repository.jcf;
+
+import com.sprint.mission.discodeit.entity.Message;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JCFMessageRepositoryTest {
+    private static final int SLAB_MB = 1;
+
+    private final UUID channelId = UUID.randomUUID();
+    private final UUID authorId = UUID.randomUUID();
+
+    @Test
+    void roundTripsAllFieldsInEveryMode() {
+        Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        List<UUID> attachmentIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        for (OffHeapMode mode : OffHeapMode.values()) {
+            JCFMessageRepository repository = repository(mode);
+            Message message = new Message(UUID.randomUUID(), createdAt, createdAt.plusSeconds(1), "안녕 discodeit 👋",
+                    channelId, authorId, attachmentIds, 7, 3);
+
+            repository.save(message);
+
+            assertThat(repository.findById(message.getId())).as(mode.name()).hasValueSatisfying(found -> {
+                assertThat(found.getContent()).isEqualTo("안녕 discodeit 👋");
+                assertThat(found.getChannelId()).isEqualTo(channelId);
+                assertThat(found.getAuthorId()).isEqualTo(authorId);
+                assertThat(found.getAttachmentIds()).containsExactlyElementsOf(attachmentIds);
+                assertThat(found.getCreatedAt()).isEqualTo(createdAt);
+                assertThat(found.getUpdatedAt()).isEqualTo(createdAt.plusSeconds(1));
+                assertThat(found.getSequence()).isEqualTo(7);
+                assertThat(found.getVersion()).isEqualTo(3);
+            });
+        }
+    }
+
+    @Test
+    void storesContentLargerThanSlab() {
+        // 슬랩보다 큰 본문은 그 크기만큼의 슬랩을 따로 만든다
+        String large = "가".repeat(SLAB_MB << 20);
+        for (OffHeapMode mode : OffHeapMode.values()) {
+            JCFMessageRepository repository = repository(mode);
+            Message message = repository.save(message(large));
+
+            assertThat(repository.findById(message.getId()).orElseThrow().getContent()).as(mode.name()).isEqualTo(large);
+        }
+    }
+
+    @Test
+    void computeIfPresentReplacesStoredRecord() {
+        for (OffHeapMode mode : OffHeapMode.values()) {
+            JCFMessageRepository repository = repository(mode);
+            Message message = repository.save(message("before"));
+
+            Message updated = repository.computeIfPresent(message.getId(), current -> {
+                current.checkVersion(0L);
+                current.update("after");
+                return current;
+            }).orElseThrow();
+
+            assertThat(updated.getVersion()).as(mode.name()).isEqualTo(1);
+            assertThat(repository.findById(message.getId()).orElseThrow().getContent()).isEqualTo("after");
+            // 이전에 읽어 간 인스턴스와 슬랩의 이전 영역은 바뀌지 않는다
+            assertThat(message.getContent()).isEqualTo("before");
+            assertThatThrownBy(() -> repository.computeIfPresent(message.getId(), current -> {
+                current.checkVersion(0L);
+                return current;
+            })).isInstanceOf(ConcurrentModificationException.class);
+        }
+    }
+
+    @Test
+    void deleteRemovesMessageFromChannelIndex() {
+        for (OffHeapMode mode : OffHeapMode.values()) {
+            JCFMessageRepository repository = repository(mode);
+            Message kept = repository.save(message("kept"));
+            Message deleted = repository.save(message("deleted"));
+            Message other = repository.save(new Message("other", UUID.randomUUID(), authorId, List.of()));
+
+            repository.deleteById(deleted.getId());
+
+            assertThat(repository.findById(deleted.getId())).as(mode.name()).isEmpty();
+            assertThat(repository.existsById(deleted.getId())).isFalse();
+            assertThat(repository.findAllByChannelId(channelId)).extracting(Message::getId).containsExactly(kept.getId());
+
+            repository.deleteAllByChannelId(channelId);
+            assertThat(repository.findAllByChannelId(channelId)).isEmpty();
+            assertThat(repository.findAll()).extracting(Message::getId).containsExactly(other.getId());
+        }
+    }
+
+    @Test
+    void slabAllocatorStartsNewSlabWhenFull() {
+        OffHeapSlabs slabs = new OffHeapSlabs(64);
+
+        OffHeapSlabs.Region first = slabs.allocate(40);
+        OffHeapSlabs.Region second = slabs.allocate(40);
+        OffHeapSlabs.Region oversized = slabs.allocate(100);
+
+        // 남은 공간이 모자라면 새 슬랩을 만들고, 슬랩보다 큰 요청은 그 크기의 슬랩을 받는다
+        assertThat(slabs.writtenBytes()).isEqualTo(180);
+        assertThat(slabs.reservedBytes()).isEqualTo(64 + 64 + 100);
+        assertThat(first.offset()).isZero();
+        assertThat(second.offset()).isZero();
+        assertThat(second.slab()).isNotSameAs(first.slab());
+        assertThat(oversized.slab().capacity()).isEqualTo(100);
+        assertThatThrownBy(() -> new OffHeapSlabs(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static JCFMessageRepository repository(OffHeapMode mode) {
+        return new JCFMessageRepository(new JCFOperationLog("unused"), mode, SLAB_MB);
+    }
+
+    private Message message(String content) {
+        return new Message(content, channelId, authorId, List.of());
+    }
+}
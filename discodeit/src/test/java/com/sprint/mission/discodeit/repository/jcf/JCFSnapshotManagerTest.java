@@ -0,0 +1,158 @@
+package com.sprint.mission.discodeit.repository.jcf;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.entity.UserStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JCFSnapshotManagerTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void restoresEveryEntityTypeFromSnapshot() throws IOException {
+        Node before = start();
+        User user = before.users.save(new User("alice", "alice@example.com", "secret", null));
+        UserStatus status = before.userStatuses.save(new UserStatus(user.getId(), Instant.now()));
+        Channel channel = before.channels.save(new Channel(ChannelType.PUBLIC, "general", "d"));
+        ReadStatus readStatus = before.readStatuses.save(new ReadStatus(user.getId(), channel.getId(), Instant.now()));
+        BinaryContent attachment = before.binaryContents.save(new BinaryContent("a.txt", "text/plain", new byte[]{1, 2, 3}));
+        Message message = before.messages.save(new Message("hello", channel.getId(), user.getId(), List.of(attachment.getId())));
+        before.snapshotManager.shutdown();
+
+        Node after = start();
+
+        assertThat(after.users.findByUsername("alice")).hasValueSatisfying(restored ->
+                assertThat(restored.getId()).isEqualTo(user.getId()));
+        assertThat(after.userStatuses.findByUserId(user.getId())).hasValueSatisfying(restored ->
+                assertThat(restored.getId()).isEqualTo(status.getId()));
+        assertThat(after.channels.findById(channel.getId())).hasValueSatisfying(restored ->
+                assertThat(restored.getName()).isEqualTo("general"));
+        assertThat(after.readStatuses.findById(readStatus.getId())).isPresent();
+        assertThat(after.binaryContents.findById(attachment.getId())).hasValueSatisfying(restored ->
+                assertThat(restored.getData()).containsExactly(1, 2, 3));
+        assertThat(after.messages.findById(message.getId())).hasValueSatisfying(restored -> {
+            assertThat(restored.getContent()).isEqualTo("hello");
+            assertThat(restored.getAttachmentIds()).containsExactly(attachment.getId());
+        });
+        after.snapshotManager.shutdown();
+    }
+
+    @Test
+    void replaysOperationLogWrittenAfterLastSnapshot() throws IOException {
+        Node before = start();
+        Channel kept = before.channels.save(new Channel(ChannelType.PUBLIC, "kept", "d"));
+        Channel removed = before.channels.save(new Channel(ChannelType.PUBLIC, "removed", "d"));
+        before.snapshotManager.snapshot();
+
+        // 스냅샷 이후의 변경은 로그에만 남는다
+        Channel added = before.channels.save(new Channel(ChannelType.PUBLIC, "added", "d"));
+        before.channels.computeIfPresent(kept.getId(), current -> {
+            current.update("renamed", null);
+            return current;
+        });
+        before.channels.deleteById(removed.getId());
+        crash(before);
+
+        Node after = start();
+
+        assertThat(after.channels.findAll()).extracting(Channel::getName).containsExactlyInAnyOrder("renamed", "added");
+        assertThat(after.channels.findById(added.getId())).isPresent();
+        assertThat(after.channels.findById(removed.getId())).isEmpty();
+        after.snapshotManager.shutdown();
+    }
+
+    @Test
+    void ignoresTruncatedLastLogRecord() throws IOException {
+        Node before = start();
+        Channel first = before.channels.save(new Channel(ChannelType.PUBLIC, "first", "d"));
+        Channel second = before.channels.save(new Channel(ChannelType.PUBLIC, "second", "d"));
+        crash(before);
+
+        // 마지막 레코드를 쓰던 중 멈춘 것처럼 끝을 잘라낸다
+        Path segment = lastSegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        Node after = start();
+
+        assertThat(after.channels.findById(first.getId())).isPresent();
+        assertThat(after.channels.findById(second.getId())).isEmpty();
+        after.snapshotManager.shutdown();
+    }
+
+    @Test
+    void snapshotRemovesOperationLogsItCovers() throws IOException {
+        Node node = start();
+        node.channels.save(new Channel(ChannelType.PUBLIC, "a", "d"));
+        node.snapshotManager.snapshot();
+        node.channels.save(new Channel(ChannelType.PUBLIC, "b", "d"));
+        node.snapshotManager.snapshot();
+
+        // 최신 스냅샷 이후의 세그먼트만 남는다
+        assertThat(node.operationLog.segmentsFrom(0)).hasSize(1);
+        node.snapshotManager.shutdown();
+    }
+
+    private Node start() throws IOException {
+        JCFOperationLog operationLog = new JCFOperationLog(directory.toString());
+        Node node = new Node(operationLog);
+        node.snapshotManager.recover();
+        return node;
+    }
+
+    // 종료 시 스냅샷 없이 멈춘 상황: 버퍼에 남은 로그만 내보내고 기록을 멈춘다
+    private static void crash(Node node) throws IOException {
+        node.operationLog.flush();
+        node.operationLog.close();
+    }
+
+    private Path lastSegment() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> path.getFileName().toString().startsWith("oplog-"))
+                    .max(Path::compareTo)
+                    .orElseThrow();
+        }
+    }
+
+    private final class Node {
+        final JCFOperationLog operationLog;
+        final JCFUserRepository users;
+        final JCFUserStatusRepository userStatuses;
+        final JCFChannelRepository channels;
+        final JCFReadStatusRepository readStatuses;
+        final JCFMessageRepository messages;
+        final JCFBinaryContentRepository binaryContents;
+        final JCFSnapshotManager snapshotManager;
+
+        Node(JCFOperationLog operationLog) {
+            this.operationLog = operationLog;
+            this.users = new JCFUserRepository(operationLog);
+            this.userStatuses = new JCFUserStatusRepository(operationLog);
+            this.channels = new JCFChannelRepository(operationLog);
+            this.readStatuses = new JCFReadStatusRepository(operationLog);
+            this.messages = new JCFMessageRepository(operationLog, OffHeapMode.NONE, 1);
+            this.binaryContents = new JCFBinaryContentRepository(operationLog);
+            // 주기 스냅샷은 테스트 중에 돌지 않도록 길게 둔다
+            this.snapshotManager = new JCFSnapshotManager(users, channels, messages, readStatuses, userStatuses,
+                    binaryContents, operationLog, directory.toString(), 3600, true);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.sprint.mission.discodeit.repository.jcf;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * UuidMap과 HashMap, ConcurrentHashMap의 단일 스레드 처리 시간과 항목당 힙 사용량 비교
+ * <p>
+ * 기본 test 태스크에서는 빠지며 {@code gradle benchmark}로 실행한다 (결과는 표준 출력).
+ * 키 수는 {@code -Dbenchmark.keys=}로 바꿀 수 있고, 고정 시드의 같은 키로 워밍업 후 여러 번 재서 중앙값을 낸다.
+ * <ul>
+ *     <li>put: 빈 맵에 모든 키 삽입 (확장 포함)</li>
+ *     <li>get hit / get miss: 있는 키, 없는 키 조회 (조회용 UUID는 미리 만들어 둔다)</li>
+ *     <li>remove: 모든 키 삭제</li>
+ *     <li>bytes/entry: 맵을 채운 뒤 GC 후 늘어난 힙 / 키 수 (맵이 UUID 키 객체를 붙잡는 비용 포함)</li>
+ * </ul>
+ */
+@Tag("benchmark")
+class UuidMapBenchmark {
+    private static final int KEYS = Integer.getInteger("benchmark.keys", 1_000_000);
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final Object VALUE = new Object();
+
+    private final UUID[] keys = uuids(KEYS, 1);
+    private final UUID[] missing = uuids(KEYS, 2);
+    // 결과를 버리지 않게 해 JIT가 조회를 없애지 못하게 한다
+    private long sink;
+
+    @Test
+    void compareWithJdkMaps() {
+        System.out.printf("%nUuidMap benchmark: %,d keys, %d warmup + %d measured rounds (median), java %s%n",
+                KEYS, WARMUP_ROUNDS, MEASURED_ROUNDS, Runtime.version());
+        System.out.printf("%-18s %10s %10s %10s %10s %12s%n",
+                "map", "put ns", "hit ns", "miss ns", "remove ns", "bytes/entry");
+
+        report("UuidMap", new UuidMapTarget());
+        report("HashMap", new JdkMapTarget(() -> new HashMap<>()));
+        report("ConcurrentHashMap", new JdkMapTarget(() -> new ConcurrentHashMap<>()));
+        System.out.println("(sink " + (sink & 1) + ")");
+    }
+
+    private void report(String name, Target target) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round(target);
+        }
+        double[][] rounds = new double[MEASURED_ROUNDS][];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            rounds[i] = round(target);
+        }
+        double[] median = new double[4];
+        for (int op = 0; op < median.length; op++) {
+            double[] samples = new double[MEASURED_ROUNDS];
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                samples[i] = rounds[i][op];
+            }
+            Arrays.sort(samples);
+            median[op] = samples[MEASURED_ROUNDS / 2];
+        }
+        System.out.printf("%-18s %10.1f %10.1f %10.1f %10.1f %12.1f%n",
+                name, median[0], median[1], median[2], median[3], bytesPerEntry(target));
+    }
+
+    // 한 번의 측정: put, get hit, get miss, remove 각각의 연산당 나노초
+    private double[] round(Target target) {
+        target.reset();
+        long start = System.nanoTime();
+        target.putAll(keys);
+        long put = System.nanoTime();
+        sink += target.getAll(keys);
+        long hit = System.nanoTime();
+        sink += target.getAll(missing);
+        long miss = System.nanoTime();
+        target.removeAll(keys);
+        long remove = System.nanoTime();
+        return new double[]{
+                (double) (put - start) / KEYS,
+                (double) (hit - put) / KEYS,
+                (double) (miss - hit) / KEYS,
+                (double) (remove - miss) / KEYS
+        };
+    }
+
+    // 실제 저장소처럼 키 UUID를 맵 밖에서 붙잡지 않도록 새로 만든 UUID로 채운다
+    private double bytesPerEntry(Target target) {
+        target.reset();
+        long before = usedHeap();
+        for (UUID key : keys) {
+            target.put(new UUID(key.getMostSignificantBits(), key.getLeastSignificantBits()));
+        }
+        long after = usedHeap();
+        sink += target.getAll(keys);
+        target.reset();
+        return (double) (after - before) / KEYS;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static UUID[] uuids(int count, long seed) {
+        Random random = new Random(seed);
+        UUID[] uuids = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            uuids[i] = new UUID(random.nextLong(), random.nextLong());
+        }
+        return uuids;
+    }
+
+    private interface Target {
+        void reset();
+
+        void put(UUID key);
+
+        void putAll(UUID[] keys);
+
+        long getAll(UUID[] keys);
+
+        void removeAll(UUID[] keys);
+    }
+
+    // 각 구현의 루프를 따로 두어 호출 지점이 한 맵 타입만 보게 한다
+    private static final class UuidMapTarget implements Target {
+        private UuidMap<Object> map;
+
+        @Override
+        public void reset() {
+            map = new UuidMap<>();
+        }
+
+        @Override
+        public void put(UUID key) {
+            map.put(key, VALUE);
+        }
+
+        @Override
+        public void putAll(UUID[] keys) {
+            for (UUID key : keys) {
+                map.put(key, VALUE);
+            }
+        }
+
+        @Override
+        public long getAll(UUID[] keys) {
+            long found = 0;
+            for (UUID key : keys) {
+                if (map.get(key) != null) {
+                    found++;
+                }
+            }
+            return found;
+        }
+
+        @Override
+        public void removeAll(UUID[] keys) {
+            for (UUID key : keys) {
+                map.remove(key);
+            }
+        }
+    }
+
+    private static final class JdkMapTarget implements Target {
+        private final Supplier<Map<UUID, Object>> factory;
+        private Map<UUID, Object> map;
+
+        private JdkMapTarget(Supplier<Map<UUID, Object>> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public void reset() {
+            map = factory.get();
+        }
+
+        @Override
+        public void put(UUID key) {
+            map.put(key, VALUE);
+        }
+
+        @Override
+        public void putAll(UUID[] keys) {
+            for (UUID key : keys) {
+                map.put(key, VALUE);
+            }
+        }
+
+        @Override
+        public long getAll(UUID[] keys) {
+            long found = 0;
+            for (UUID key : keys) {
+                if (map.get(key) != null) {
+                    found++;
+                }
+            }
+            return found;
+        }
+
+        @Override
+        public void removeAll(UUID[] keys) {
+            for (UUID key : keys) {
+                map.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.sprint.mission.discodeit.repository.jcf;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidMapTest {
+
+    @Test
+    void putGetAndRemove() {
+        UuidMap<String> map = new UuidMap<>();
+        UUID key = UUID.randomUUID();
+
+        map.put(key, "a");
+        assertThat(map.get(key)).isEqualTo("a");
+        assertThat(map.containsKey(key)).isTrue();
+        // 같은 두 long을 가진 다른 UUID 인스턴스로도 찾는다
+        assertThat(map.get(new UUID(key.getMostSignificantBits(), key.getLeastSignificantBits()))).isEqualTo("a");
+
+        assertThat(map.remove(key)).isEqualTo("a");
+        assertThat(map.get(key)).isNull();
+        assertThat(map.containsKey(key)).isFalse();
+        assertThat(map.remove(key)).isNull();
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    void computeFollowsMapSemantics() {
+        UuidMap<Integer> map = new UuidMap<>();
+        UUID key = UUID.randomUUID();
+
+        assertThat(map.computeIfPresent(key, (k, v) -> v + 1)).isNull();
+        assertThat(map.containsKey(key)).isFalse();
+
+        assertThat(map.compute(key, (k, v) -> v == null ? 1 : v + 1)).isEqualTo(1);
+        assertThat(map.compute(key, (k, v) -> v == null ? 1 : v + 1)).isEqualTo(2);
+        assertThat(map.computeIfPresent(key, (k, v) -> v * 10)).isEqualTo(20);
+
+        // null을 돌려주면 지운다
+        assertThat(map.computeIfPresent(key, (k, v) -> null)).isNull();
+        assertThat(map.containsKey(key)).isFalse();
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        UuidMap<Integer> map = new UuidMap<>();
+        Map<UUID, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        // 키 공간을 작게 잡아 덮어쓰기, 삭제 후 재삽입(tombstone 재사용), 여러 번의 확장을 모두 거치게 한다
+        List<UUID> keys = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            keys.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        for (int i = 0; i < 200_000; i++) {
+            UUID key = keys.get(random.nextInt(keys.size()));
+            int value = random.nextInt();
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    map.put(key, value);
+                    expected.put(key, value);
+                }
+                case 2 -> assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+                default -> assertThat(map.get(key)).isEqualTo(expected.get(key));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        Map<UUID, Integer> entries = map.mapEntries((msb, lsb, value) -> Map.entry(new UUID(msb, lsb), value))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        assertThat(entries).isEqualTo(expected);
+        assertThat(map.values().toList()).containsExactlyInAnyOrderElementsOf(expected.values());
+    }
+
+    @Test
+    void mapEntriesSkipsNullResults() {
+        UuidMap<Integer> map = new UuidMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(UUID.randomUUID(), i);
+        }
+
+        assertThat(map.mapEntries((msb, lsb, value) -> value % 2 == 0 ? value : null).count()).isEqualTo(50);
+    }
+
+    @Test
+    void concurrentComputesOnSameKeysAreNotLost() throws Exception {
+        UuidMap<Integer> map = new UuidMap<>();
+        List<UUID> keys = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            keys.add(UUID.randomUUID());
+        }
+        int threads = 4;
+        int rounds = 2_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < rounds; i++) {
+                        for (UUID key : keys) {
+                            map.compute(key, (k, v) -> v == null ? 1 : v + 1);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (UUID key : keys) {
+            assertThat(map.get(key)).isEqualTo(threads * rounds);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.sprint.mission.discodeit.repository.jdbc;
+
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.repository.query.Criterion;
+import com.sprint.mission.discodeit.repository.query.Query;
+import com.sprint.mission.discodeit.repository.query.QueryPlan;
+import com.sprint.mission.discodeit.repository.query.Sort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JdbcMessageRepositoryTest {
+    private JdbcTemplate jdbcTemplate;
+    private JdbcMessageRepository repository;
+    private final UUID channelId = UUID.randomUUID();
+    private final UUID authorId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 새 메모리 DB에 운영과 같은 스키마를 만든다
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("jdbc/schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new JdbcMessageRepository(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void savesAndReadsBackAllColumns() {
+        UUID attachmentId = UUID.randomUUID();
+        Message message = message(1, List.of(attachmentId));
+
+        repository.save(message);
+
+        assertThat(repository.findById(message.getId())).hasValueSatisfying(found -> {
+            assertThat(found.getContent()).isEqualTo(message.getContent());
+            assertThat(found.getChannelId()).isEqualTo(channelId);
+            assertThat(found.getAuthorId()).isEqualTo(authorId);
+            assertThat(found.getAttachmentIds()).containsExactly(attachmentId);
+            assertThat(found.getSequence()).isEqualTo(1);
+            assertThat(found.getCreatedAt()).isEqualTo(message.getCreatedAt());
+        });
+        assertThat(repository.existsById(message.getId())).isTrue();
+        assertThat(repository.findById(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void channelQueriesUseChannelSequenceIndexInOrder() {
+        List<Message> batch = new ArrayList<>();
+        for (int sequence = 5; sequence >= 1; sequence--) {
+            batch.add(message(sequence, List.of()));
+        }
+        repository.saveAll(batch);
+
+        assertThat(repository.findAllByChannelId(channelId))
+                .extracting(Message::getSequence).containsExactly(1L, 2L, 3L, 4L, 5L);
+
+        Query page = Query.where(Criterion.eq("channelId", channelId), Criterion.gt("sequence", 2L))
+                .orderBy(Sort.asc("sequence"))
+                .limit(2);
+        assertThat(repository.findAll(page)).extracting(Message::getSequence).containsExactly(3L, 4L);
+        try (Stream<Message> stream = repository.stream(page)) {
+            assertThat(stream.map(Message::getSequence)).containsExactly(3L, 4L);
+        }
+
+        QueryPlan plan = repository.explain(page);
+        assertThat(plan.strategy()).isEqualTo(QueryPlan.Strategy.INDEX);
+        assertThat(plan.index()).isEqualTo("ix_messages_channel_sequence");
+    }
+
+    @Test
+    void latestMessageQueryReadsIndexBackwards() {
+        Instant now = Instant.now();
+        // 다른 노드에서 옮겨 온 메시지처럼 createdAt 순서가 sequence 순서와 다를 수 있다
+        repository.save(new Message(UUID.randomUUID(), now, now, "first", channelId, authorId, List.of(), 1, 0));
+        Message latest = repository.save(new Message(UUID.randomUUID(), now.minusSeconds(60), now, "latest",
+                channelId, authorId, List.of(), 2, 0));
+        Query query = Query.where(Criterion.eq("channelId", channelId)).orderBy(Sort.desc("sequence")).limit(1);
+
+        assertThat(repository.findAll(query)).extracting(Message::getId).containsExactly(latest.getId());
+        assertThat(repository.explain(query).index()).isEqualTo("ix_messages_channel_sequence");
+    }
+
+    @Test
+    void explainReportsIdLookupAndFullScan() {
+        assertThat(repository.explain(Query.where(Criterion.eq("id", UUID.randomUUID()))).strategy())
+                .isEqualTo(QueryPlan.Strategy.ID_LOOKUP);
+        // author_id에는 인덱스가 없다
+        assertThat(repository.explain(Query.where(Criterion.eq("authorId", authorId))).strategy())
+                .isEqualTo(QueryPlan.Strategy.FULL_SCAN);
+        assertThatThrownBy(() -> repository.findAll(Query.where(Criterion.eq("content", "x"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void computeIfPresentAdvancesVersionAndRejectsStaleUpdate() {
+        Message message = repository.save(message(1, List.of()));
+
+        Message updated = repository.computeIfPresent(message.getId(), current -> {
+            current.checkVersion(0L);
+            current.update("edited");
+            return current;
+        }).orElseThrow();
+
+        assertThat(updated.getVersion()).isEqualTo(1);
+        assertThatThrownBy(() -> repository.computeIfPresent(message.getId(), current -> {
+            current.checkVersion(0L);
+            current.update("stale");
+            return current;
+        })).isInstanceOf(ConcurrentModificationException.class);
+        assertThat(repository.findById(message.getId()).orElseThrow().getContent()).isEqualTo("edited");
+        assertThat(repository.computeIfPresent(UUID.randomUUID(), current -> current)).isEmpty();
+    }
+
+    @Test
+    void deletesByIdAndByChannel() {
+        Message first = repository.save(message(1, List.of()));
+        repository.save(message(2, List.of()));
+        Message other = repository.save(new Message(UUID.randomUUID(), Instant.now(), Instant.now(), "other",
+                UUID.randomUUID(), authorId, List.of(), 1, 0));
+
+        repository.deleteById(first.getId());
+        assertThat(repository.findAllByChannelId(channelId)).extracting(Message::getSequence).containsExactly(2L);
+
+        repository.deleteAllByChannelId(channelId);
+        assertThat(repository.findAllByChannelId(channelId)).isEmpty();
+        assertThat(repository.existsById(other.getId())).isTrue();
+    }
+
+    private Message message(long sequence, List<UUID> attachmentIds) {
+        Instant now = Instant.now();
+        return new Message(UUID.randomUUID(), now, now, "message " + sequence, channelId, authorId,
+                attachmentIds, sequence, 0);
+    }
+}
@@ -0,0 +1,90 @@
+package com.sprint.mission.discodeit.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHasherTest {
+    // 테스트가 빨리 끝나도록 반복 횟수를 낮춘다
+    private final PasswordHasher hasher = new PasswordHasher(1_000, 2, 16);
+
+    @AfterEach
+    void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Test
+    void hashedPasswordMatchesOnlyOriginal() {
+        String hash = hasher.hash("correct horse");
+
+        assertThat(hash).startsWith("pbkdf2$1000$").doesNotContain("correct horse");
+        assertThat(hasher.matches("correct horse", hash)).isTrue();
+        assertThat(hasher.matches("wrong horse", hash)).isFalse();
+    }
+
+    @Test
+    void samePasswordGetsDifferentSalts() {
+        assertThat(hasher.hash("password")).isNotEqualTo(hasher.hash("password"));
+    }
+
+    @Test
+    void legacyPlainTextPasswordStillMatchesAndNeedsRehash() {
+        assertThat(hasher.matches("plain", "plain")).isTrue();
+        assertThat(hasher.matches("other", "plain")).isFalse();
+        assertThat(hasher.needsRehash("plain")).isTrue();
+        assertThat(hasher.needsRehash(hasher.hash("plain"))).isFalse();
+    }
+
+    @Test
+    void weakerHashNeedsRehash() {
+        PasswordHasher weaker = new PasswordHasher(500, 1, 4);
+        try {
+            String hash = weaker.hash("password");
+            assertThat(hasher.needsRehash(hash)).isTrue();
+            // 반복 횟수는 저장된 값을 따르므로 기존 해시도 계속 검증된다
+            assertThat(hasher.matches("password", hash)).isTrue();
+        } finally {
+            weaker.shutdown();
+        }
+    }
+
+    @Test
+    void missingUserNeverMatches() {
+        assertThat(hasher.matches("dummy", null)).isFalse();
+    }
+
+    @Test
+    void rejectsWhenPoolAndQueueAreFull() throws Exception {
+        // 스레드 1개, 대기열 1칸: 해시 하나가 도는 동안 둘째는 대기열에 들어가고 나머지는 바로 거절된다
+        PasswordHasher saturated = new PasswordHasher(2_000_000, 1, 1);
+        ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(callers.submit(() -> saturated.hash("password")));
+            }
+            int rejected = 0;
+            for (Future<String> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(RejectedExecutionException.class);
+                    rejected++;
+                }
+            }
+            assertThat(rejected).isGreaterThanOrEqualTo(1);
+        } finally {
+            callers.shutdownNow();
+            saturated.shutdown();
+        }
+    }
+}
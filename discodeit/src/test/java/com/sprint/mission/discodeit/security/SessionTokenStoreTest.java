@@ -0,0 +1,60 @@
+package com.sprint.mission.discodeit.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionTokenStoreTest {
+    private final SessionTokenStore store = new SessionTokenStore(60);
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    void issuedTokenResolvesToUser() {
+        UUID userId = UUID.randomUUID();
+
+        String token = store.issue(userId);
+
+        assertThat(token).hasSizeGreaterThanOrEqualTo(43);
+        assertThat(store.issue(userId)).isNotEqualTo(token);
+        assertThat(store.resolve(token)).contains(userId);
+        assertThat(store.resolve("unknown")).isEmpty();
+        assertThat(store.resolve(null)).isEmpty();
+    }
+
+    @Test
+    void revokedTokensStopResolving() {
+        UUID userId = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        String first = store.issue(userId);
+        String second = store.issue(userId);
+        String other = store.issue(otherId);
+
+        store.revoke(first);
+        assertThat(store.resolve(first)).isEmpty();
+        assertThat(store.resolve(second)).contains(userId);
+
+        store.revokeAll(userId);
+        assertThat(store.resolve(second)).isEmpty();
+        assertThat(store.resolve(other)).contains(otherId);
+    }
+
+    @Test
+    void expiredTokenIsRejected() throws InterruptedException {
+        SessionTokenStore expiring = new SessionTokenStore(0);
+        try {
+            String token = expiring.issue(UUID.randomUUID());
+            Thread.sleep(5);
+
+            assertThat(expiring.resolve(token)).isEmpty();
+        } finally {
+            expiring.shutdown();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.dto.request.LoginRequest;
+import com.sprint.mission.discodeit.dto.response.LoginResponse;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.repository.jcf.JCFOperationLog;
+import com.sprint.mission.discodeit.repository.jcf.JCFUserRepository;
+import com.sprint.mission.discodeit.repository.jcf.JCFUserStatusRepository;
+import com.sprint.mission.discodeit.security.PasswordHasher;
+import com.sprint.mission.discodeit.security.SessionTokenStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BasicAuthServiceTest {
+    // 스냅샷을 켜지 않으면 기록하지 않으므로 디렉터리는 만들어지지 않는다
+    private final JCFOperationLog operationLog = new JCFOperationLog("unused");
+    private final JCFUserRepository userRepository = new JCFUserRepository(operationLog);
+    private final PasswordHasher passwordHasher = new PasswordHasher(1_000, 1, 16);
+    private final SessionTokenStore sessionTokenStore = new SessionTokenStore(60);
+    private final BasicAuthService authService = new BasicAuthService(userRepository,
+            new JCFUserStatusRepository(operationLog), passwordHasher, sessionTokenStore);
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+        sessionTokenStore.shutdown();
+    }
+
+    @Test
+    void loginIssuesTokenForFollowUpRequests() {
+        User user = userRepository.save(new User("alice", "alice@example.com", passwordHasher.hash("secret"), null));
+
+        LoginResponse response = authService.login(new LoginRequest("alice", "secret"));
+
+        assertThat(response.user().id()).isEqualTo(user.getId());
+        assertThat(authService.findByToken(response.token()).id()).isEqualTo(user.getId());
+
+        authService.logout(response.token());
+        assertThatThrownBy(() -> authService.findByToken(response.token()))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void wrongPasswordAndUnknownUserAreRejectedAlike() {
+        userRepository.save(new User("alice", "alice@example.com", passwordHasher.hash("secret"), null));
+
+        assertThatThrownBy(() -> authService.login(new LoginRequest("alice", "wrong")))
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("Invalid username or password");
+        assertThatThrownBy(() -> authService.login(new LoginRequest("nobody", "secret")))
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("Invalid username or password");
+    }
+
+    @Test
+    void plainTextPasswordIsRehashedOnLogin() {
+        User user = userRepository.save(new User("legacy", "legacy@example.com", "plain", null));
+
+        authService.login(new LoginRequest("legacy", "plain"));
+
+        String stored = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        assertThat(stored).startsWith("pbkdf2$");
+        assertThat(passwordHasher.needsRehash(stored)).isFalse();
+        // 다시 해시한 뒤에도 같은 비밀번호로 로그인된다
+        assertThat(authService.login(new LoginRequest("legacy", "plain")).user().id()).isEqualTo(user.getId());
+    }
+}
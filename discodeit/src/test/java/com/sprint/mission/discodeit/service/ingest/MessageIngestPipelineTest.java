@@ -0,0 +1,207 @@
+package com.sprint.mission.discodeit.service.ingest;
+
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.replication.ReplicationRole;
+import com.sprint.mission.discodeit.repository.file.FileMessageRepository;
+import com.sprint.mission.discodeit.service.retention.MessageArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MessageIngestPipelineTest {
+    @TempDir
+    Path directory;
+
+    private final ExecutorService scanExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    // saveAll 직전에 실행할 동작 (막거나 실패시키는 테스트에서 설정)
+    private final AtomicReference<Runnable> beforeSave = new AtomicReference<>(() -> {});
+    private FileMessageRepository messageRepository;
+    private MessageArchive messageArchive;
+    private MessageIngestPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        messageRepository = new FileMessageRepository(directory.resolve("storage").toString(), scanExecutor) {
+            @Override
+            public List<Message> saveAll(List<Message> messages) {
+                beforeSave.get().run();
+                return super.saveAll(messages);
+            }
+        };
+        messageArchive = new MessageArchive(directory.resolve("archive").toString(), ReplicationRole.NONE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+        scanExecutor.shutdownNow();
+    }
+
+    @Test
+    void sequencesFollowSubmitOrderPerChannel() {
+        pipeline = pipeline(4, 1024, 2_000);
+        List<UUID> channels = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        Map<UUID, List<CompletableFuture<Message>>> submitted = new LinkedHashMap<>();
+
+        for (int i = 0; i < 300; i++) {
+            UUID channelId = channels.get(i % channels.size());
+            submitted.computeIfAbsent(channelId, id -> new ArrayList<>()).add(pipeline.submit(message(channelId)));
+        }
+
+        submitted.forEach((channelId, futures) -> {
+            for (int i = 0; i < futures.size(); i++) {
+                assertThat(futures.get(i).join().getSequence()).isEqualTo(i + 1);
+            }
+            assertThat(messageRepository.findAllByChannelId(channelId)).hasSize(futures.size());
+        });
+    }
+
+    @Test
+    void concurrentSubmittersGetGaplessUniqueSequences() throws Exception {
+        pipeline = pipeline(2, 64, 10_000);
+        UUID channelId = UUID.randomUUID();
+        int submitters = 8;
+        int perSubmitter = 50;
+
+        ExecutorService executor = Executors.newFixedThreadPool(submitters);
+        List<Future<List<Long>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < submitters; i++) {
+                results.add(executor.submit(() -> {
+                    List<CompletableFuture<Message>> futures = new ArrayList<>();
+                    for (int n = 0; n < perSubmitter; n++) {
+                        futures.add(pipeline.submit(message(channelId)));
+                    }
+                    return futures.stream().map(future -> future.join().getSequence()).toList();
+                }));
+            }
+            Set<Long> sequences = new TreeSet<>();
+            for (Future<List<Long>> result : results) {
+                List<Long> own = result.get();
+                // 한 제출자의 메시지는 제출한 순서대로 순번이 커진다
+                assertThat(own).isSorted();
+                sequences.addAll(own);
+            }
+            assertThat(sequences).hasSize(submitters * perSubmitter);
+            assertThat(sequences).first().isEqualTo(1L);
+            assertThat(sequences).last().isEqualTo((long) submitters * perSubmitter);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void continuesAfterStoredAndArchivedSequences() {
+        UUID hotChannel = UUID.randomUUID();
+        UUID archivedChannel = UUID.randomUUID();
+        messageRepository.save(stored(hotChannel, 41));
+        messageArchive.append(archivedChannel, List.of(stored(archivedChannel, 70)));
+        pipeline = pipeline(1, 16, 2_000);
+
+        assertThat(pipeline.submit(message(hotChannel)).join().getSequence()).isEqualTo(42);
+        assertThat(pipeline.submit(message(archivedChannel)).join().getSequence()).isEqualTo(71);
+    }
+
+    @Test
+    void shutdownWritesQueuedMessagesAndRejectsNewOnes() {
+        pipeline = pipeline(1, 1024, 2_000);
+        UUID channelId = UUID.randomUUID();
+        List<CompletableFuture<Message>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(pipeline.submit(message(channelId)));
+        }
+
+        pipeline.shutdown();
+
+        // 종료 전에 들어간 메시지는 모두 저장된다
+        futures.forEach(future -> assertThat(future).isCompleted());
+        assertThat(futures.getLast().join().getSequence()).isEqualTo(100);
+        assertThat(messageRepository.findAllByChannelId(channelId)).hasSize(100);
+        assertThatThrownBy(() -> pipeline.submit(message(channelId)))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void rejectsWhenQueueStaysFull() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        beforeSave.set(() -> {
+            writing.countDown();
+            await(release);
+        });
+        pipeline = pipeline(1, 1, 100);
+        UUID channelId = UUID.randomUUID();
+
+        // 첫 메시지는 writer가 꺼내 저장 중에 멈추고, 두 번째가 대기열을 채운다
+        CompletableFuture<Message> first = pipeline.submit(message(channelId));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Message> second = pipeline.submit(message(channelId));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> pipeline.submit(message(channelId)))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90));
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getSequence()).isEqualTo(1);
+        assertThat(second.get(5, TimeUnit.SECONDS).getSequence()).isEqualTo(2);
+    }
+
+    @Test
+    void writerSurvivesErrorAndFailsOnlyThatBatch() throws Exception {
+        beforeSave.set(() -> {
+            throw new StackOverflowError("simulated");
+        });
+        pipeline = pipeline(1, 16, 2_000);
+        UUID channelId = UUID.randomUUID();
+
+        CompletableFuture<Message> failed = pipeline.submit(message(channelId));
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(StackOverflowError.class);
+
+        beforeSave.set(() -> {});
+        // 실패한 배치의 순번은 저장소 기준으로 다시 맞춰 빈틈이 생기지 않는다
+        assertThat(pipeline.submit(message(channelId)).get(5, TimeUnit.SECONDS).getSequence()).isEqualTo(1);
+    }
+
+    private MessageIngestPipeline pipeline(int shards, int ringCapacity, long enqueueTimeoutMillis) {
+        return new MessageIngestPipeline(messageRepository, messageArchive, shards, ringCapacity, 16, enqueueTimeoutMillis);
+    }
+
+    private static Message message(UUID channelId) {
+        return new Message("hello", channelId, UUID.randomUUID(), List.of());
+    }
+
+    private static Message stored(UUID channelId, long sequence) {
+        Instant now = Instant.now();
+        return new Message(UUID.randomUUID(), now, now, "stored", channelId, UUID.randomUUID(), List.of(), sequence, 0);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.sprint.mission.discodeit.service.partition;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsistentHashRingTest {
+    private static final int VIRTUAL_NODES = 128;
+    private static final List<String> NODES = List.of("http://a:8080", "http://b:8080", "http://c:8080");
+
+    @Test
+    void singleNodeOwnsEverything() {
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of("http://a:8080"), VIRTUAL_NODES);
+
+        for (UUID key : keys(1_000)) {
+            assertThat(ring.ownerOf(key)).isEqualTo("http://a:8080");
+        }
+    }
+
+    @Test
+    void ownershipDoesNotDependOnNodeOrderOrDuplicates() {
+        ConsistentHashRing ring = ConsistentHashRing.of(NODES, VIRTUAL_NODES);
+        ConsistentHashRing reordered = ConsistentHashRing.of(
+                List.of("http://c:8080", "http://a:8080", "http://b:8080", "http://a:8080"), VIRTUAL_NODES);
+
+        assertThat(reordered.nodes()).isEqualTo(ring.nodes());
+        for (UUID key : keys(10_000)) {
+            assertThat(reordered.ownerOf(key)).isEqualTo(ring.ownerOf(key));
+        }
+    }
+
+    @Test
+    void keysAreSpreadAcrossNodes() {
+        ConsistentHashRing ring = ConsistentHashRing.of(NODES, VIRTUAL_NODES);
+        Map<String, Integer> counts = new HashMap<>();
+        int total = 30_000;
+
+        for (UUID key : keys(total)) {
+            counts.merge(ring.ownerOf(key), 1, Integer::sum);
+        }
+
+        // 노드당 기대값 1/3에서 크게 벗어나지 않는다
+        assertThat(counts).containsOnlyKeys(NODES);
+        counts.values().forEach(count -> assertThat(count).isBetween(total / 3 * 7 / 10, total / 3 * 13 / 10));
+    }
+
+    @Test
+    void addingNodeMovesOnlyItsShareToIt() {
+        ConsistentHashRing before = ConsistentHashRing.of(NODES, VIRTUAL_NODES);
+        List<String> grown = new ArrayList<>(NODES);
+        grown.add("http://d:8080");
+        ConsistentHashRing after = ConsistentHashRing.of(grown, VIRTUAL_NODES);
+        int total = 40_000;
+        int moved = 0;
+
+        for (UUID key : keys(total)) {
+            String previous = before.ownerOf(key);
+            String next = after.ownerOf(key);
+            if (!previous.equals(next)) {
+                // 주인이 바뀐 키는 모두 새 노드로 간다
+                assertThat(next).isEqualTo("http://d:8080");
+                moved++;
+            }
+        }
+
+        // 약 1/4만 이동한다
+        assertThat(moved).isBetween(total / 4 * 7 / 10, total / 4 * 13 / 10);
+    }
+
+    @Test
+    void rejectsEmptyNodeList() {
+        assertThatThrownBy(() -> ConsistentHashRing.of(List.of(), VIRTUAL_NODES))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<UUID> keys(int count) {
+        Random random = new Random(7);
+        List<UUID> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        return keys;
+    }
+}
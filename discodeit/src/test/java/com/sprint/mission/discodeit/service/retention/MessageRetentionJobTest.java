@@ -0,0 +1,163 @@
+package com.sprint.mission.discodeit.service.retention;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.RetentionAction;
+import com.sprint.mission.discodeit.replication.ReplicationRole;
+import com.sprint.mission.discodeit.repository.file.FileBinaryContentRepository;
+import com.sprint.mission.discodeit.repository.file.FileChannelRepository;
+import com.sprint.mission.discodeit.repository.file.FileMessageRepository;
+import com.sprint.mission.discodeit.repository.file.FileReadStatusRepository;
+import com.sprint.mission.discodeit.service.basic.BasicChannelService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageRetentionJobTest {
+    private static final Instant OLD = Instant.now().minus(Duration.ofDays(30));
+
+    @TempDir
+    Path directory;
+
+    private final ExecutorService scanExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private FileChannelRepository channelRepository;
+    private FileMessageRepository messageRepository;
+    private FileBinaryContentRepository binaryContentRepository;
+    private MessageArchive messageArchive;
+    private final UUID authorId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        String storage = directory.resolve("storage").toString();
+        channelRepository = new FileChannelRepository(storage, scanExecutor);
+        messageRepository = new FileMessageRepository(storage, scanExecutor);
+        binaryContentRepository = new FileBinaryContentRepository(storage, scanExecutor, false, 512);
+        messageArchive = archive(ReplicationRole.NONE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scanExecutor.shutdownNow();
+    }
+
+    @Test
+    void archiveMovesExpiredMessagesAndKeepsAttachments() {
+        Channel channel = channel(7, RetentionAction.ARCHIVE);
+        BinaryContent attachment = attachment();
+        Message expired1 = message(channel, 1, OLD, List.of(attachment.getId()));
+        Message expired2 = message(channel, 2, OLD, List.of());
+        Message recent = message(channel, 3, Instant.now(), List.of());
+
+        int processed = job(messageArchive, 10_000).run();
+
+        assertThat(processed).isEqualTo(2);
+        assertThat(messageRepository.findAllByChannelId(channel.getId()))
+                .extracting(Message::getId).containsExactly(recent.getId());
+        assertThat(messageArchive.readChannel(channel.getId(), 0, 10))
+                .extracting(Message::getId).containsExactly(expired1.getId(), expired2.getId());
+        assertThat(messageArchive.lastSequence(channel.getId())).isEqualTo(2);
+        // 보관된 메시지에서 계속 참조하므로 첨부파일은 남긴다
+        assertThat(binaryContentRepository.existsById(attachment.getId())).isTrue();
+    }
+
+    @Test
+    void deleteRemovesExpiredMessagesWithAttachments() {
+        Channel channel = channel(7, RetentionAction.DELETE);
+        BinaryContent attachment = attachment();
+        message(channel, 1, OLD, List.of(attachment.getId()));
+        Message recent = message(channel, 2, Instant.now(), List.of());
+
+        job(messageArchive, 10_000).run();
+
+        assertThat(messageRepository.findAllByChannelId(channel.getId()))
+                .extracting(Message::getId).containsExactly(recent.getId());
+        assertThat(binaryContentRepository.existsById(attachment.getId())).isFalse();
+        assertThat(messageArchive.readChannel(channel.getId(), 0, 10)).isEmpty();
+    }
+
+    @Test
+    void budgetLimitsOneRunAndNextRunContinues() {
+        Channel channel = channel(1, RetentionAction.ARCHIVE);
+        for (int sequence = 1; sequence <= 5; sequence++) {
+            message(channel, sequence, OLD, List.of());
+        }
+        MessageRetentionJob job = job(messageArchive, 3);
+
+        assertThat(job.run()).isEqualTo(3);
+        assertThat(messageRepository.findAllByChannelId(channel.getId())).hasSize(2);
+
+        assertThat(job.run()).isEqualTo(2);
+        assertThat(messageRepository.findAllByChannelId(channel.getId())).isEmpty();
+        assertThat(messageArchive.readChannel(channel.getId(), 0, 10))
+                .extracting(Message::getSequence).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void archiveIsSkippedOnReplicationLeader() {
+        MessageArchive leaderArchive = archive(ReplicationRole.LEADER);
+        Channel channel = channel(1, RetentionAction.ARCHIVE);
+        message(channel, 1, OLD, List.of());
+
+        assertThat(job(leaderArchive, 10_000).run()).isZero();
+        assertThat(messageRepository.findAllByChannelId(channel.getId())).hasSize(1);
+    }
+
+    @Test
+    void channelDeleteRemovesAttachmentsOfArchivedMessages() {
+        Channel channel = channel(1, RetentionAction.ARCHIVE);
+        BinaryContent archivedAttachment = attachment();
+        BinaryContent hotAttachment = attachment();
+        message(channel, 1, OLD, List.of(archivedAttachment.getId()));
+        message(channel, 2, Instant.now(), List.of(hotAttachment.getId()));
+        job(messageArchive, 10_000).run();
+        assertThat(messageArchive.attachmentIds(channel.getId())).containsExactly(archivedAttachment.getId());
+
+        BasicChannelService channelService = new BasicChannelService(channelRepository,
+                new FileReadStatusRepository(directory.resolve("storage").toString(), scanExecutor),
+                messageRepository, binaryContentRepository, messageArchive);
+        channelService.delete(channel.getId());
+
+        assertThat(binaryContentRepository.existsById(archivedAttachment.getId())).isFalse();
+        assertThat(binaryContentRepository.existsById(hotAttachment.getId())).isFalse();
+        assertThat(messageArchive.readChannel(channel.getId(), 0, 10)).isEmpty();
+        assertThat(messageRepository.findAllByChannelId(channel.getId())).isEmpty();
+    }
+
+    private MessageArchive archive(ReplicationRole role) {
+        return new MessageArchive(directory.resolve("archive").toString(), role);
+    }
+
+    // 주기 실행은 끄고 run()을 직접 호출한다
+    private MessageRetentionJob job(MessageArchive archive, int maxMessagesPerRun) {
+        return new MessageRetentionJob(channelRepository, messageRepository, binaryContentRepository, archive,
+                0, maxMessagesPerRun, 2, ReplicationRole.NONE);
+    }
+
+    private Channel channel(int retentionDays, RetentionAction action) {
+        Channel channel = new Channel(ChannelType.PUBLIC, "channel", "description");
+        channel.updateRetention(retentionDays, action);
+        return channelRepository.save(channel);
+    }
+
+    private Message message(Channel channel, long sequence, Instant createdAt, List<UUID> attachmentIds) {
+        return messageRepository.save(new Message(UUID.randomUUID(), createdAt, createdAt, "message " + sequence,
+                channel.getId(), authorId, attachmentIds, sequence, 0));
+    }
+
+    private BinaryContent attachment() {
+        return binaryContentRepository.save(new BinaryContent("file.txt", "text/plain", new byte[]{1, 2, 3}));
+    }
+}